@@ -38,6 +38,8 @@ dependencies {
     // Cache & Redis (Task 90)
     implementation("org.springframework.boot:spring-boot-starter-cache")
     implementation("org.springframework.boot:spring-boot-starter-data-redis")
+    implementation("com.github.ben-manes.caffeine:caffeine")
+    implementation("com.fasterxml.jackson.dataformat:jackson-dataformat-smile")
 
     // Neo4j GraphDB (Phase 9 - Task 106)
     implementation("org.springframework.boot:spring-boot-starter-data-neo4j")
@@ -45,9 +47,6 @@ dependencies {
     // pgvector for Vector DB (Phase 7 - Task 101)
     implementation("com.pgvector:pgvector:0.1.4")
 
-    // OpenAI API for embeddings (Phase 7 - Task 102)
-    implementation("com.theokanning.openai-gpt3-java:service:0.18.2")
-
     // JWT
     implementation("io.jsonwebtoken:jjwt-api:0.12.3")
     runtimeOnly("io.jsonwebtoken:jjwt-impl:0.12.3")
@@ -65,16 +64,41 @@ dependencies {
 }
 
 // UTF-8 encoding for Java compilation
+// JDK Vector API (검색 재정렬 SIMD 연산)
 tasks.withType<JavaCompile> {
     options.encoding = "UTF-8"
+    options.compilerArgs.add("--add-modules=jdk.incubator.vector")
+}
+
+tasks.named<org.springframework.boot.gradle.tasks.run.BootRun>("bootRun") {
+    jvmArgs("--add-modules=jdk.incubator.vector")
 }
 
 tasks.withType<Test> {
     useJUnitPlatform()
     systemProperty("file.encoding", "UTF-8")
+    jvmArgs("--add-modules=jdk.incubator.vector")
     finalizedBy(tasks.jacocoTestReport) // 테스트 실행 후 자동으로 리포트 생성
 }
 
+// 할당량/시간 측정 벤치마크(@Tag("benchmark"))는 기본 test에서 제외하고 ./gradlew benchmark로 따로 실행
+tasks.test {
+    useJUnitPlatform {
+        excludeTags("benchmark")
+    }
+}
+
+tasks.register<Test>("benchmark") {
+    description = "Runs tests tagged as benchmark."
+    group = "verification"
+    testClassesDirs = sourceSets.test.get().output.classesDirs
+    classpath = sourceSets.test.get().runtimeClasspath
+    useJUnitPlatform {
+        includeTags("benchmark")
+    }
+    setFinalizedBy(emptyList<Any>()) // 커버리지 리포트는 test 기준
+}
+
 tasks.jacocoTestReport {
     dependsOn(tasks.test) // 테스트가 먼저 실행되도록
     reports {
@@ -0,0 +1,15 @@
+package com.jwyoo.api.cache;
+
+/**
+ * 캐시 값과 소프트 만료 시각
+ * 소프트 만료가 지나면 값은 그대로 내보내되 백그라운드에서 한 번만 다시 적재한다.
+ * 하드 만료는 Redis TTL이 맡는다.
+ *
+ * @param softExpiresAt 소프트 만료 시각 (epoch millis, 0이면 이미 지난 것으로 봄)
+ */
+public record CacheEnvelope(Object value, long softExpiresAt) {
+
+    boolean isStale(long nowMillis) {
+        return nowMillis >= softExpiresAt;
+    }
+}
@@ -0,0 +1,55 @@
+package com.jwyoo.api.cache;
+
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+/**
+ * {@link CacheEnvelope} 직렬화기 (캐시별 값 직렬화기를 감쌈)
+ *
+ * 형식: 'E' + 소프트 만료 시각(8바이트) + 값 직렬화기의 출력.
+ * 'E'로 시작하지 않는 값(소프트 만료 도입 전에 기록된 값)은 값만 읽어 돌려주며,
+ * {@link TwoTierCache}는 이를 이미 소프트 만료된 값으로 보고 백그라운드에서 다시 적재한다.
+ */
+public class CacheEnvelopeSerializer implements RedisSerializer<Object> {
+
+    static final byte FORMAT_ENVELOPE = 'E';
+    private static final int HEADER_LENGTH = 1 + Long.BYTES;
+
+    private final RedisSerializer<Object> valueSerializer;
+
+    public CacheEnvelopeSerializer(RedisSerializer<Object> valueSerializer) {
+        this.valueSerializer = valueSerializer;
+    }
+
+    @Override
+    public byte[] serialize(Object value) throws SerializationException {
+        if (!(value instanceof CacheEnvelope envelope)) {
+            return valueSerializer.serialize(value);
+        }
+        byte[] payload = valueSerializer.serialize(envelope.value());
+        if (payload == null) {
+            return null;
+        }
+        return ByteBuffer.allocate(HEADER_LENGTH + payload.length)
+            .put(FORMAT_ENVELOPE)
+            .putLong(envelope.softExpiresAt())
+            .put(payload)
+            .array();
+    }
+
+    @Override
+    public Object deserialize(byte[] bytes) throws SerializationException {
+        if (bytes == null || bytes.length == 0) {
+            return null;
+        }
+        if (bytes[0] != FORMAT_ENVELOPE || bytes.length < HEADER_LENGTH) {
+            return valueSerializer.deserialize(bytes);
+        }
+        long softExpiresAt = ByteBuffer.wrap(bytes, 1, Long.BYTES).getLong();
+        Object value = valueSerializer.deserialize(Arrays.copyOfRange(bytes, HEADER_LENGTH, bytes.length));
+        return value != null ? new CacheEnvelope(value, softExpiresAt) : null;
+    }
+}
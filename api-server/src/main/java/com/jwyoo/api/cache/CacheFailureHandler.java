@@ -0,0 +1,39 @@
+package com.jwyoo.api.cache;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.interceptor.CacheErrorHandler;
+
+/**
+ * 캐시 오류 처리기 (로그만 남기고 요청은 계속 처리)
+ *
+ * Redis 장애는 {@link TwoTierCache}가 회로 차단기로 먼저 걸러내므로, 여기까지 오는 것은
+ * 직렬화 오류 등 그 밖의 캐시 오류이다. 조회 오류는 미스로, 쓰기/삭제 오류는 무시로 처리된다.
+ * 기본 처리기(SimpleCacheErrorHandler)는 예외를 그대로 던져 캐시 오류가 API 오류가 된다.
+ */
+@Slf4j
+public class CacheFailureHandler implements CacheErrorHandler {
+
+    @Override
+    public void handleCacheGetError(RuntimeException exception, Cache cache, Object key) {
+        log.warn("Cache get failed (treated as miss): cache={}, key={}, error={}",
+            cache.getName(), key, exception.getMessage());
+    }
+
+    @Override
+    public void handleCachePutError(RuntimeException exception, Cache cache, Object key, Object value) {
+        log.warn("Cache put failed (ignored): cache={}, key={}, error={}",
+            cache.getName(), key, exception.getMessage());
+    }
+
+    @Override
+    public void handleCacheEvictError(RuntimeException exception, Cache cache, Object key) {
+        log.warn("Cache evict failed (ignored): cache={}, key={}, error={}",
+            cache.getName(), key, exception.getMessage());
+    }
+
+    @Override
+    public void handleCacheClearError(RuntimeException exception, Cache cache) {
+        log.warn("Cache clear failed (ignored): cache={}, error={}", cache.getName(), exception.getMessage());
+    }
+}
@@ -0,0 +1,113 @@
+package com.jwyoo.api.cache;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 노드 간 L1 캐시 무효화 (Redis pub/sub)
+ *
+ * 메시지 형식: {노드ID}|{evict|put|evictPrefix|clear}|{캐시 이름}|{키 또는 키 접두사}
+ * put은 캐시 쓰기 알림으로, 받는 쪽은 L1 사본만 비우고 진행 중인 적재는 취소하지 않는다.
+ * 자기 노드가 보낸 메시지는 무시한다 (발행 전에 이미 로컬에 반영됨).
+ * Spring 캐시(TwoTierCache) 외의 노드 로컬 캐시도 {@link LocalCacheRegion}으로 등록하면 같은 채널을 쓴다.
+ * 발행 실패는 로그만 남긴다. 다른 노드의 L1은 local-ttl이 지나면 저절로 만료된다.
+ * Redis 회로가 열려 있으면 발행하지 않는다 (요청이 Redis 타임아웃만큼 기다리지 않도록).
+ */
+@Slf4j
+public class CacheInvalidationBus implements MessageListener {
+
+    public static final String CHANNEL = "cache:invalidate";
+
+    static final String OP_EVICT = "evict";
+    static final String OP_PUT = "put";
+    static final String OP_EVICT_PREFIX = "evictPrefix";
+    static final String OP_CLEAR = "clear";
+
+    private final StringRedisTemplate redisTemplate;
+    private final RedisCircuitBreaker circuitBreaker;
+    private final String nodeId = UUID.randomUUID().toString();
+    private final Map<String, LocalCacheRegion> regions = new ConcurrentHashMap<>();
+
+    public CacheInvalidationBus(StringRedisTemplate redisTemplate, RedisCircuitBreaker circuitBreaker) {
+        this.redisTemplate = redisTemplate;
+        this.circuitBreaker = circuitBreaker;
+    }
+
+    public void register(LocalCacheRegion region) {
+        regions.put(region.getName(), region);
+    }
+
+    String nodeId() {
+        return nodeId;
+    }
+
+    public void publishEvict(String cacheName, String key) {
+        publish(OP_EVICT, cacheName, key);
+    }
+
+    public void publishPut(String cacheName, String key) {
+        publish(OP_PUT, cacheName, key);
+    }
+
+    public void publishEvictPrefix(String cacheName, String prefix) {
+        publish(OP_EVICT_PREFIX, cacheName, prefix);
+    }
+
+    public void publishClear(String cacheName) {
+        publish(OP_CLEAR, cacheName, "");
+    }
+
+    private void publish(String op, String cacheName, String key) {
+        if (!circuitBreaker.allowRequest()) {
+            return;
+        }
+        try {
+            redisTemplate.convertAndSend(CHANNEL, String.join("|", nodeId, op, cacheName, key));
+            circuitBreaker.recordSuccess();
+        } catch (DataAccessException e) {
+            circuitBreaker.recordFailure(e);
+            log.warn("Cache invalidation publish failed: cache={}, op={}, key={}, error={}",
+                cacheName, op, key, e.getMessage());
+        } catch (RuntimeException e) {
+            log.warn("Cache invalidation publish failed: cache={}, op={}, key={}, error={}",
+                cacheName, op, key, e.getMessage());
+        }
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        // 키에 '|'가 들어 있어도 마지막 필드로 남도록 4개로만 나눔
+        String[] parts = body.split("\\|", 4);
+        if (parts.length < 4) {
+            log.warn("Malformed cache invalidation message: {}", body);
+            return;
+        }
+        if (nodeId.equals(parts[0])) {
+            return;
+        }
+
+        LocalCacheRegion region = regions.get(parts[2]);
+        if (region == null) {
+            return;
+        }
+        if (OP_CLEAR.equals(parts[1])) {
+            region.clearLocal();
+        } else if (OP_EVICT.equals(parts[1])) {
+            region.evictLocal(parts[3]);
+        } else if (OP_PUT.equals(parts[1])) {
+            region.evictLocalCopy(parts[3]);
+        } else if (OP_EVICT_PREFIX.equals(parts[1])) {
+            region.evictLocalPrefix(parts[3]);
+        }
+        log.debug("Cache invalidation received: cache={}, op={}, key={}", parts[2], parts[1], parts[3]);
+    }
+}
@@ -0,0 +1,78 @@
+package com.jwyoo.api.cache;
+
+import org.springframework.core.env.Environment;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 캐시별 만료/크기 설정
+ * cache.{이름}.* 값이 있으면 그 값을, 없으면 cache.default.* 값을 사용한다.
+ *
+ * @param ttl          L2(Redis) 하드 만료 시간 (지나면 값이 없어져 원본에서 적재)
+ * @param softTtl      소프트 만료 시간 (지나면 옛 값을 내보내며 백그라운드에서 한 번만 다시 적재)
+ * @param localTtl     L1(로컬) 만료 시간 (무효화 메시지 유실 시 다른 노드가 옛 값을 보는 최대 시간)
+ * @param localMaxSize L1 최대 항목 수
+ * @param ttlJitter    만료 시간에 더하는 무작위 비율 (0.1이면 0~10% 연장, 같은 시각에 쓴 항목이 함께 만료되지 않도록)
+ */
+public record CacheSpec(Duration ttl, Duration softTtl, Duration localTtl, long localMaxSize, double ttlJitter) {
+
+    static final Duration DEFAULT_TTL = Duration.ofMinutes(10);
+    static final Duration DEFAULT_SOFT_TTL = Duration.ofMinutes(5);
+    static final Duration DEFAULT_LOCAL_TTL = Duration.ofMinutes(1);
+    static final long DEFAULT_LOCAL_MAX_SIZE = 1000;
+    static final double DEFAULT_TTL_JITTER = 0.1;
+
+    public CacheSpec {
+        if (softTtl.compareTo(ttl) > 0) {
+            // 소프트 만료가 하드 만료보다 늦으면 옛 값을 내보낼 기회가 없음
+            softTtl = ttl;
+        }
+        if (localTtl.compareTo(ttl) > 0) {
+            // 로컬 항목이 Redis 항목보다 오래 살면 만료된 값을 계속 내보내게 됨
+            localTtl = ttl;
+        }
+        localMaxSize = Math.max(1, localMaxSize);
+        ttlJitter = Math.max(0.0, ttlJitter);
+    }
+
+    public static CacheSpec resolve(Environment environment, String cacheName) {
+        Duration ttl = property(environment, cacheName, "ttl", Duration.class, DEFAULT_TTL);
+        Duration softTtl = property(environment, cacheName, "soft-ttl", Duration.class, DEFAULT_SOFT_TTL);
+        Duration localTtl = property(environment, cacheName, "local-ttl", Duration.class, DEFAULT_LOCAL_TTL);
+        Long localMaxSize = property(environment, cacheName, "local-max-size", Long.class, DEFAULT_LOCAL_MAX_SIZE);
+        Double ttlJitter = property(environment, cacheName, "ttl-jitter", Double.class, DEFAULT_TTL_JITTER);
+        return new CacheSpec(ttl, softTtl, localTtl, localMaxSize, ttlJitter);
+    }
+
+    /**
+     * 무작위로 늘린 하드 만료 시간 (Redis 항목별 TTL)
+     */
+    public Duration jitteredTtl() {
+        return jitter(ttl);
+    }
+
+    /**
+     * 무작위로 늘린 소프트 만료 시간 (하드 만료보다 길어지지 않음)
+     */
+    public Duration jitteredSoftTtl() {
+        Duration soft = jitter(softTtl);
+        return soft.compareTo(ttl) > 0 ? ttl : soft;
+    }
+
+    private Duration jitter(Duration base) {
+        if (ttlJitter == 0.0) {
+            return base;
+        }
+        long extraMillis = (long) (base.toMillis() * ttlJitter * ThreadLocalRandom.current().nextDouble());
+        return base.plusMillis(extraMillis);
+    }
+
+    private static <T> T property(Environment environment, String cacheName, String key, Class<T> type, T defaultValue) {
+        T value = environment.getProperty("cache." + cacheName + "." + key, type);
+        if (value != null) {
+            return value;
+        }
+        return environment.getProperty("cache.default." + key, type, defaultValue);
+    }
+}
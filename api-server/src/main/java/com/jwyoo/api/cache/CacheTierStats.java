@@ -0,0 +1,32 @@
+package com.jwyoo.api.cache;
+
+/**
+ * 2단계 캐시 통계 (캐시 이름별, 서버 기동 이후 누적)
+ *
+ * @param localHits             L1(로컬) 적중 수
+ * @param remoteHits            L1 미스 후 L2(Redis) 적중 수
+ * @param misses                두 계층 모두 미스 (원본 조회)
+ * @param localHitRate          localHits / 전체 조회, 조회가 없으면 0
+ * @param hitRate               (localHits + remoteHits) / 전체 조회, 조회가 없으면 0
+ * @param localSize             현재 L1 항목 수 (추정치)
+ * @param invalidationsReceived 다른 노드에서 받은 무효화 메시지 수
+ * @param staleHits             소프트 만료가 지난 값을 내보낸 수 (적중 수에 포함)
+ * @param refreshes             백그라운드 재적재 성공 수
+ * @param coalescedLoads        진행 중인 적재를 기다려 원본 조회를 생략한 미스 수
+ * @param remoteBypasses        Redis 회로가 열렸거나 Redis 오류로 L2를 건너뛴 호출 수
+ */
+public record CacheTierStats(
+    String name,
+    long localHits,
+    long remoteHits,
+    long misses,
+    double localHitRate,
+    double hitRate,
+    long localSize,
+    long invalidationsReceived,
+    long staleHits,
+    long refreshes,
+    long coalescedLoads,
+    long remoteBypasses
+) {
+}
@@ -0,0 +1,112 @@
+package com.jwyoo.api.cache;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.smile.databind.SmileMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.List;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.Inflater;
+import java.util.zip.InflaterInputStream;
+
+/**
+ * 캐시 값 직렬화기 (Jackson Smile 바이너리 + 임계값 이상 deflate 압축)
+ *
+ * 캐시마다 값 타입을 고정하므로 타입 정보를 값에 싣지 않는다 (default typing 미사용).
+ * 첫 바이트가 형식을 나타낸다: 'S' = Smile 그대로, 'Z' = Smile을 deflate 압축.
+ * 알 수 없는 형식(이전 버전이 JSON으로 기록한 값 등)은 캐시 미스로 처리해 원본에서 다시 적재한다.
+ */
+@Slf4j
+public class CompactCacheSerializer<T> implements RedisSerializer<T> {
+
+    static final byte FORMAT_PLAIN = 'S';
+    static final byte FORMAT_DEFLATE = 'Z';
+
+    private static final ObjectMapper SMILE_MAPPER = SmileMapper.builder()
+        .addModule(new JavaTimeModule())
+        .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+        .build();
+
+    private final JavaType type;
+    private final int compressionThreshold;
+
+    /**
+     * @param type                 캐시 값 타입 (예: List&lt;EpisodeListItem&gt;)
+     * @param compressionThreshold 이 크기(바이트) 이상인 Smile 값만 압축
+     */
+    public CompactCacheSerializer(JavaType type, int compressionThreshold) {
+        this.type = type;
+        this.compressionThreshold = Math.max(0, compressionThreshold);
+    }
+
+    /**
+     * 목록 값 직렬화기 (List&lt;elementType&gt;)
+     */
+    public static <E> CompactCacheSerializer<Object> forListOf(Class<E> elementType, int compressionThreshold) {
+        return new CompactCacheSerializer<>(
+            SMILE_MAPPER.getTypeFactory().constructCollectionType(List.class, elementType),
+            compressionThreshold);
+    }
+
+    @Override
+    public byte[] serialize(T value) throws SerializationException {
+        if (value == null) {
+            return null;
+        }
+        try {
+            byte[] smile = SMILE_MAPPER.writeValueAsBytes(value);
+            if (smile.length < compressionThreshold) {
+                byte[] plain = new byte[smile.length + 1];
+                plain[0] = FORMAT_PLAIN;
+                System.arraycopy(smile, 0, plain, 1, smile.length);
+                return plain;
+            }
+
+            ByteArrayOutputStream out = new ByteArrayOutputStream(smile.length / 4 + 16);
+            out.write(FORMAT_DEFLATE);
+            Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+            try (DeflaterOutputStream deflated = new DeflaterOutputStream(out, deflater)) {
+                deflated.write(smile);
+            } finally {
+                deflater.end();
+            }
+            return out.toByteArray();
+        } catch (IOException e) {
+            throw new SerializationException("Could not write cache value: " + e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public T deserialize(byte[] bytes) throws SerializationException {
+        if (bytes == null || bytes.length == 0) {
+            return null;
+        }
+        try {
+            if (bytes[0] == FORMAT_PLAIN) {
+                return SMILE_MAPPER.readValue(bytes, 1, bytes.length - 1, type);
+            }
+            if (bytes[0] == FORMAT_DEFLATE) {
+                Inflater inflater = new Inflater();
+                try (InputStream in = new InflaterInputStream(new ByteArrayInputStream(bytes, 1, bytes.length - 1), inflater)) {
+                    return SMILE_MAPPER.readValue(in, type);
+                } finally {
+                    inflater.end();
+                }
+            }
+        } catch (IOException e) {
+            throw new SerializationException("Could not read cache value: " + e.getMessage(), e);
+        }
+        log.debug("Unknown cache value format (treated as miss): firstByte={}", bytes[0]);
+        return null;
+    }
+}
@@ -0,0 +1,28 @@
+package com.jwyoo.api.cache;
+
+/**
+ * 노드 로컬 캐시 영역 (CacheInvalidationBus로 다른 노드의 무효화 메시지를 받음)
+ *
+ * 메시지로 받은 무효화는 로컬 항목만 지우고 다시 발행하지 않는다.
+ * 키 형식은 영역마다 정하며, 발행한 쪽과 같은 형식으로 해석한다.
+ */
+public interface LocalCacheRegion {
+
+    /**
+     * 영역 이름 (메시지의 캐시 이름 필드)
+     */
+    String getName();
+
+    void evictLocal(String key);
+
+    /**
+     * 다른 노드가 이 키에 새 값을 기록함 (원본 변경이 아닌 캐시 채우기, 기본은 evictLocal과 같음)
+     */
+    default void evictLocalCopy(String key) {
+        evictLocal(key);
+    }
+
+    void evictLocalPrefix(String prefix);
+
+    void clearLocal();
+}
@@ -0,0 +1,31 @@
+package com.jwyoo.api.cache;
+
+import com.jwyoo.api.service.ProjectService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.cache.interceptor.KeyGenerator;
+import org.springframework.stereotype.Component;
+
+import java.lang.reflect.Method;
+
+/**
+ * 현재 프로젝트 기준 캐시 키 생성기
+ * 키 형식: p{프로젝트ID}:{메서드 이름}[:{인자}...]
+ *
+ * 프로젝트 ID는 요청당 한 번만 조회한다 ({@link ProjectService#getCurrentProjectId()}).
+ */
+@Component("projectKeyGenerator")
+@RequiredArgsConstructor
+public class ProjectCacheKeyGenerator implements KeyGenerator {
+
+    private final ProjectService projectService;
+
+    @Override
+    public Object generate(Object target, Method method, Object... params) {
+        StringBuilder key = new StringBuilder(ProjectCacheRegions.prefix(projectService.getCurrentProjectId()))
+            .append(method.getName());
+        for (Object param : params) {
+            key.append(':').append(param);
+        }
+        return key.toString();
+    }
+}
@@ -0,0 +1,48 @@
+package com.jwyoo.api.cache;
+
+import com.jwyoo.api.event.TransactionCallbacks;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+
+/**
+ * 프로젝트 단위 캐시 영역
+ *
+ * 프로젝트별 캐시 키는 "p{프로젝트ID}:"로 시작하므로({@link ProjectCacheKeyGenerator}),
+ * 쓰기 후에는 해당 프로젝트 접두사의 항목만 비운다. 다른 프로젝트(사용자)의 항목은 유지된다.
+ * 캐시가 꺼져 있으면(CacheManager 빈 없음) 아무 일도 하지 않는다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ProjectCacheRegions {
+
+    private final ObjectProvider<CacheManager> cacheManagerProvider;
+
+    public static String prefix(Long projectId) {
+        return "p" + projectId + ":";
+    }
+
+    /**
+     * 프로젝트 영역 비우기 (트랜잭션 안이면 커밋 후 반영, 롤백되면 비우지 않음)
+     */
+    public void evict(String cacheName, Long projectId) {
+        TransactionCallbacks.afterCommit(() -> {
+            CacheManager cacheManager = cacheManagerProvider.getIfAvailable();
+            if (cacheManager == null) {
+                return;
+            }
+            Cache cache = cacheManager.getCache(cacheName);
+            if (cache instanceof TwoTierCache twoTierCache) {
+                twoTierCache.evictPrefix(prefix(projectId));
+            } else if (cache != null) {
+                // 접두사 삭제를 지원하지 않는 캐시는 전체 비우기로 대신함
+                cache.clear();
+            }
+            log.debug("Project cache region evicted: cache={}, projectId={}", cacheName, projectId);
+        });
+    }
+}
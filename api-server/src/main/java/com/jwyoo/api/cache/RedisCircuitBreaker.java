@@ -0,0 +1,137 @@
+package com.jwyoo.api.cache;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 캐시 계층의 Redis 회로 차단기
+ *
+ * 연속 실패가 failureThreshold에 이르면 열리고(OPEN), 열린 동안 캐시는 Redis를 건너뛰고 L1만 쓴다.
+ * 요청이 Redis 타임아웃(spring.data.redis.timeout)만큼 기다리지 않도록 하는 것이 목적이다.
+ * 열리면 probeInterval마다 백그라운드에서 Redis를 확인(HALF_OPEN)하고, 성공하면 닫은 뒤(CLOSED)
+ * 복구 리스너(건너뛴 삭제 재적용, L1 비우기)를 실행한다.
+ */
+@Slf4j
+public class RedisCircuitBreaker {
+
+    public enum State {
+        CLOSED, OPEN, HALF_OPEN
+    }
+
+    private final Runnable healthCheck;
+    private final int failureThreshold;
+    private final Duration probeInterval;
+    private final ScheduledExecutorService probeExecutor;
+    private final List<Runnable> recoveryListeners = new CopyOnWriteArrayList<>();
+
+    private final AtomicReference<State> state = new AtomicReference<>(State.CLOSED);
+    private final AtomicInteger consecutiveFailures = new AtomicInteger();
+    private final LongAdder opens = new LongAdder();
+    private volatile LocalDateTime lastOpenedAt;
+
+    /**
+     * @param healthCheck      Redis 확인 (예외 없이 끝나면 정상)
+     * @param failureThreshold 회로를 여는 연속 실패 수
+     * @param probeInterval    열린 동안 확인 주기
+     */
+    public RedisCircuitBreaker(Runnable healthCheck, int failureThreshold, Duration probeInterval) {
+        this.healthCheck = healthCheck;
+        this.failureThreshold = Math.max(1, failureThreshold);
+        this.probeInterval = probeInterval;
+        this.probeExecutor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "redis-circuit-probe");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Redis를 호출해도 되는지 (닫혀 있을 때만)
+     */
+    public boolean allowRequest() {
+        return state.get() == State.CLOSED;
+    }
+
+    public void recordSuccess() {
+        if (consecutiveFailures.get() != 0) {
+            consecutiveFailures.set(0);
+        }
+    }
+
+    public void recordFailure(RuntimeException e) {
+        if (consecutiveFailures.incrementAndGet() >= failureThreshold
+                && state.compareAndSet(State.CLOSED, State.OPEN)) {
+            opens.increment();
+            lastOpenedAt = LocalDateTime.now();
+            log.warn("Redis circuit opened (cache bypasses Redis): failures={}, error={}",
+                consecutiveFailures.get(), e.getMessage());
+            scheduleProbe();
+        }
+    }
+
+    /**
+     * 복구(회로가 닫힘) 시 실행할 작업 등록
+     */
+    public void onRecovery(Runnable listener) {
+        recoveryListeners.add(listener);
+    }
+
+    private void scheduleProbe() {
+        try {
+            probeExecutor.schedule(this::probe, probeInterval.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (RuntimeException e) {
+            // 종료 중
+            log.debug("Redis circuit probe not scheduled: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Redis 확인 (열려 있을 때만), 실패하면 다음 확인을 예약
+     */
+    void probe() {
+        if (!state.compareAndSet(State.OPEN, State.HALF_OPEN)) {
+            return;
+        }
+        try {
+            healthCheck.run();
+        } catch (RuntimeException e) {
+            state.set(State.OPEN);
+            log.debug("Redis circuit probe failed: {}", e.getMessage());
+            scheduleProbe();
+            return;
+        }
+
+        consecutiveFailures.set(0);
+        state.set(State.CLOSED);
+        log.info("Redis circuit closed (Redis reachable again)");
+        for (Runnable listener : recoveryListeners) {
+            try {
+                listener.run();
+            } catch (RuntimeException e) {
+                log.warn("Redis recovery listener failed: {}", e.getMessage());
+            }
+        }
+    }
+
+    public State state() {
+        return state.get();
+    }
+
+    public RedisCircuitStats stats() {
+        return new RedisCircuitStats(state.get(), consecutiveFailures.get(), opens.sum(), lastOpenedAt);
+    }
+
+    public void shutdown() {
+        probeExecutor.shutdownNow();
+    }
+}
@@ -0,0 +1,19 @@
+package com.jwyoo.api.cache;
+
+import java.time.LocalDateTime;
+
+/**
+ * Redis 회로 차단기 상태
+ *
+ * @param state               CLOSED(정상) / OPEN(Redis 건너뜀) / HALF_OPEN(복구 확인 중)
+ * @param consecutiveFailures 현재 연속 실패 수
+ * @param opens               서버 기동 이후 회로가 열린 횟수
+ * @param lastOpenedAt        마지막으로 열린 시각 (없으면 null)
+ */
+public record RedisCircuitStats(
+    RedisCircuitBreaker.State state,
+    int consecutiveFailures,
+    long opens,
+    LocalDateTime lastOpenedAt
+) {
+}
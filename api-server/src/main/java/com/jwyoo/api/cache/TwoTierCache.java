@@ -0,0 +1,479 @@
+package com.jwyoo.api.cache;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.support.AbstractValueAdaptingCache;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.cache.RedisCache;
+import org.springframework.data.redis.serializer.RedisSerializer;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * L1(로컬 Caffeine) + L2(Redis) 2단계 캐시
+ *
+ * 조회는 L1 → L2 순서이며 L2 적중 값(Redis에서 역직렬화된 사본)을 L1에 채운다.
+ * 쓰기는 L2에만 기록하고 L1은 비운다. 메서드가 돌려준 값은 영속성 컨텍스트에 묶인 엔티티일 수 있어
+ * 요청 간에 공유하지 않고, 다음 조회 때 L2 사본으로 채운다.
+ * 쓰기/삭제 후에는 다른 노드의 L1을 비우도록 무효화 메시지를 발행한다.
+ * L1 키는 캐시 키의 문자열 표현이다 (Redis 키와 같은 기준).
+ *
+ * 값은 소프트 만료 시각과 함께 {@link CacheEnvelope}로 기록한다 (하드 만료는 Redis TTL).
+ * 적재 함수가 있는 조회({@code @Cacheable(sync = true)})에서
+ * - 소프트 만료가 지난 값은 그대로 돌려주고, 백그라운드에서 키당 한 번만 다시 적재한다.
+ * - 두 계층 모두 미스면 키당 한 요청만 적재하고, 같은 키의 동시 요청은 그 적재를 기다려 L2 사본을 읽는다.
+ * 적재 합치기는 노드 단위이다 (노드 수만큼의 적재는 허용).
+ * 적재 중에 그 키가 삭제(이 노드의 evict/evictPrefix/clear 또는 다른 노드의 무효화 메시지)되면 적재한 값을 기록하지 않는다.
+ * 적재가 쓰기 커밋 전에 원본을 읽고 커밋 후 삭제보다 늦게 기록하면 옛 값이 하드 만료까지 남기 때문이다.
+ * 취소는 키 단위(접두사 삭제는 그 접두사 키만)이고, 기록과 취소는 적재 항목 단위로 직렬화되어 확인 후 기록 사이에 끼어들 수 없다.
+ * 쓰기(put)는 다른 노드에 put 메시지를 보내 L1 사본만 비우며, 그 노드의 진행 중인 적재는 취소하지 않는다.
+ *
+ * Redis 호출은 {@link RedisCircuitBreaker}를 거친다. 회로가 열려 있거나 Redis 오류가 나면 L2를 건너뛴다.
+ * - 조회: L1만 보고, 없으면 미스(원본 조회)
+ * - 쓰기: L2 대신 L1에 L2와 같은 방식으로 직렬화/역직렬화한 사본을 채움 (local-ttl 동안 원본 조회를 줄임)
+ * - 삭제: L1만 비우고 L2 삭제는 미뤄 두었다가 복구 시 다시 적용 (많이 쌓이면 캐시 전체 삭제로 바꿈)
+ * 복구 시에는 장애 중 놓친 다른 노드의 무효화가 있을 수 있으므로 L1을 비운다.
+ */
+@Slf4j
+public class TwoTierCache extends AbstractValueAdaptingCache implements LocalCacheRegion {
+
+    private final String name;
+    private final com.github.benmanes.caffeine.cache.Cache<String, CacheEnvelope> local;
+    private final Cache remote;
+    private final CacheSpec spec;
+    private final CacheInvalidationBus invalidationBus;
+    private final Executor refreshExecutor;
+    private final RedisCircuitBreaker circuitBreaker;
+    private final RedisSerializer<Object> valueSerializer;
+    // 진행 중인 적재 (키 → 적재 항목), 같은 키의 적재를 하나로 합치고 삭제 시 그 키의 적재만 취소
+    private final Map<String, Flight> inFlight = new ConcurrentHashMap<>();
+
+    private final LongAdder localHits = new LongAdder();
+    private final LongAdder remoteHits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder invalidationsReceived = new LongAdder();
+    private final LongAdder staleHits = new LongAdder();
+    private final LongAdder refreshes = new LongAdder();
+    private final LongAdder coalescedLoads = new LongAdder();
+    private final LongAdder remoteBypasses = new LongAdder();
+
+    // Redis를 못 쓰는 동안 건너뛴 L2 삭제 (복구 시 다시 적용)
+    private final Set<Object> pendingEvictions = ConcurrentHashMap.newKeySet();
+    private final Set<String> pendingPrefixEvictions = ConcurrentHashMap.newKeySet();
+    private final AtomicBoolean pendingClear = new AtomicBoolean();
+
+    static final int MAX_PENDING_EVICTIONS = 10_000;
+
+    /**
+     * @param valueSerializer L2 값 직렬화기 (Redis를 못 쓰는 동안 L1에 채울 사본을 만들 때 사용)
+     */
+    public TwoTierCache(String name, Cache remote, CacheSpec spec, CacheInvalidationBus invalidationBus,
+                        Executor refreshExecutor, RedisCircuitBreaker circuitBreaker,
+                        RedisSerializer<Object> valueSerializer) {
+        super(false);
+        this.name = name;
+        this.remote = remote;
+        this.spec = spec;
+        this.invalidationBus = invalidationBus;
+        this.refreshExecutor = refreshExecutor;
+        this.circuitBreaker = circuitBreaker;
+        this.valueSerializer = valueSerializer;
+        this.local = Caffeine.newBuilder()
+            .maximumSize(spec.localMaxSize())
+            .expireAfterWrite(spec.localTtl())
+            .build();
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return local;
+    }
+
+    @Override
+    protected Object lookup(Object key) {
+        CacheEnvelope envelope = lookupEnvelope(key);
+        return envelope != null ? envelope.value() : null;
+    }
+
+    private CacheEnvelope lookupEnvelope(Object key) {
+        String localKey = key.toString();
+        CacheEnvelope envelope = local.getIfPresent(localKey);
+        if (envelope != null) {
+            localHits.increment();
+            return envelope;
+        }
+
+        ValueWrapper wrapper = callRemote(() -> remote.get(key), null);
+        if (wrapper != null && wrapper.get() != null) {
+            remoteHits.increment();
+            // 소프트 만료 도입 전에 기록된 값은 이미 소프트 만료된 것으로 봄
+            envelope = wrapper.get() instanceof CacheEnvelope stored ? stored : new CacheEnvelope(wrapper.get(), 0);
+            local.put(localKey, envelope);
+            return envelope;
+        }
+
+        misses.increment();
+        return null;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        CacheEnvelope envelope = lookupEnvelope(key);
+        if (envelope != null) {
+            if (envelope.isStale(System.currentTimeMillis())) {
+                staleHits.increment();
+                refreshAsync(key, valueLoader);
+            }
+            return (T) fromStoreValue(envelope.value());
+        }
+        return (T) load(key, valueLoader);
+    }
+
+    /**
+     * 미스 적재 (키당 한 요청만 적재, 나머지는 결과를 기다림)
+     */
+    private Object load(Object key, Callable<?> valueLoader) {
+        String localKey = key.toString();
+        Flight flight = new Flight();
+        Flight running = inFlight.putIfAbsent(localKey, flight);
+        if (running != null) {
+            coalescedLoads.increment();
+            Object loaded;
+            try {
+                loaded = running.result.join();
+            } catch (CompletionException e) {
+                throw new ValueRetrievalException(key, valueLoader, e.getCause());
+            }
+            // 적재한 요청의 값(엔티티일 수 있음)을 공유하지 않도록 L2 사본을 읽음
+            ValueWrapper copy = callRemote(() -> remote.get(key), null);
+            return copy != null && copy.get() instanceof CacheEnvelope stored ? stored.value() : loaded;
+        }
+
+        try {
+            Object loaded = valueLoader.call();
+            putUnlessCancelled(key, loaded, flight);
+            flight.result.complete(loaded);
+            return loaded;
+        } catch (Exception e) {
+            flight.result.completeExceptionally(e);
+            throw new ValueRetrievalException(key, valueLoader, e);
+        } finally {
+            inFlight.remove(localKey, flight);
+        }
+    }
+
+    /**
+     * 소프트 만료된 값의 백그라운드 재적재 (같은 키의 적재가 진행 중이면 생략)
+     * 실패하면 옛 값을 하드 만료까지 계속 내보낸다.
+     */
+    private void refreshAsync(Object key, Callable<?> valueLoader) {
+        String localKey = key.toString();
+        Flight flight = new Flight();
+        if (inFlight.putIfAbsent(localKey, flight) != null) {
+            return;
+        }
+        try {
+            refreshExecutor.execute(() -> {
+                try {
+                    Object loaded = valueLoader.call();
+                    putUnlessCancelled(key, loaded, flight);
+                    refreshes.increment();
+                    flight.result.complete(loaded);
+                } catch (Exception e) {
+                    log.warn("Cache refresh failed (serving stale value): cache={}, key={}, error={}",
+                        name, localKey, e.getMessage());
+                    flight.result.completeExceptionally(e);
+                } finally {
+                    inFlight.remove(localKey, flight);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            log.warn("Cache refresh rejected (serving stale value): cache={}, key={}", name, localKey);
+            inFlight.remove(localKey, flight);
+            flight.result.completeExceptionally(e);
+        }
+    }
+
+    /**
+     * 적재 시작 이후 그 키의 삭제가 없었을 때만 기록
+     * 삭제가 있었으면 적재 값은 그 삭제를 일으킨 쓰기 이전 원본일 수 있으므로 버리고, 다음 조회가 다시 적재한다.
+     */
+    private void putUnlessCancelled(Object key, Object value, Flight flight) {
+        if (!flight.runUnlessCancelled(() -> put(key, value))) {
+            log.debug("Loaded value discarded (evicted while loading): cache={}, key={}", name, key);
+        }
+    }
+
+    /**
+     * 진행 중인 적재 항목
+     * 취소와 (확인 후) 기록은 이 항목의 모니터로 직렬화된다. 기록 중에 들어온 삭제는 기록이 끝난 뒤
+     * 취소하고 이어서 L2/L1을 지우므로, 삭제보다 늦게 기록되는 적재 값은 없다.
+     */
+    private static final class Flight {
+
+        final CompletableFuture<Object> result = new CompletableFuture<>();
+        private boolean cancelled;
+
+        synchronized void cancel() {
+            cancelled = true;
+        }
+
+        synchronized boolean runUnlessCancelled(Runnable write) {
+            if (cancelled) {
+                return false;
+            }
+            write.run();
+            return true;
+        }
+    }
+
+    private void cancelLoad(String localKey) {
+        Flight flight = inFlight.get(localKey);
+        if (flight != null) {
+            flight.cancel();
+        }
+    }
+
+    private void cancelLoadsWithPrefix(String prefix) {
+        inFlight.forEach((localKey, flight) -> {
+            if (localKey.startsWith(prefix)) {
+                flight.cancel();
+            }
+        });
+    }
+
+    private void cancelAllLoads() {
+        inFlight.values().forEach(Flight::cancel);
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        if (value == null) {
+            evict(key);
+            return;
+        }
+        String localKey = key.toString();
+        long softExpiresAt = System.currentTimeMillis() + spec.jitteredSoftTtl().toMillis();
+        CacheEnvelope envelope = new CacheEnvelope(value, softExpiresAt);
+        if (runRemote(() -> remote.put(key, envelope))) {
+            local.invalidate(localKey);
+        } else {
+            putLocalCopy(localKey, envelope);
+        }
+        invalidationBus.publishPut(name, localKey);
+    }
+
+    @Override
+    public void evict(Object key) {
+        String localKey = key.toString();
+        cancelLoad(localKey);
+        if (!runRemote(() -> remote.evict(key))) {
+            deferEviction(() -> pendingEvictions.add(key));
+        }
+        local.invalidate(localKey);
+        invalidationBus.publishEvict(name, localKey);
+    }
+
+    @Override
+    public void clear() {
+        cancelAllLoads();
+        if (!runRemote(remote::clear)) {
+            pendingClear.set(true);
+        }
+        local.invalidateAll();
+        invalidationBus.publishClear(name);
+    }
+
+    /**
+     * 키 접두사가 같은 항목만 두 계층에서 비움 (프로젝트 단위 무효화)
+     * L2는 Redis 키 패턴 삭제(SCAN + DEL)로 지운다.
+     */
+    public void evictPrefix(String prefix) {
+        cancelLoadsWithPrefix(prefix);
+        if (!runRemote(() -> removeRemotePrefix(prefix))) {
+            deferEviction(() -> pendingPrefixEvictions.add(prefix));
+        }
+        removeLocalPrefix(prefix);
+        invalidationBus.publishEvictPrefix(name, prefix);
+    }
+
+    private void removeRemotePrefix(String prefix) {
+        if (remote instanceof RedisCache redisCache) {
+            redisCache.clear(prefix + "*");
+        } else if (remote.getNativeCache() instanceof Map<?, ?> map) {
+            map.keySet().removeIf(key -> key.toString().startsWith(prefix));
+        } else {
+            remote.clear();
+        }
+    }
+
+    /**
+     * L2를 못 쓰는 동안의 쓰기: L2에서 읽은 것과 같은 사본을 L1에 채움 (요청 간에 원래 값을 공유하지 않음)
+     */
+    private void putLocalCopy(String localKey, CacheEnvelope envelope) {
+        try {
+            if (valueSerializer.deserialize(valueSerializer.serialize(envelope)) instanceof CacheEnvelope copy) {
+                local.put(localKey, copy);
+                return;
+            }
+        } catch (RuntimeException e) {
+            log.debug("Local cache copy failed: cache={}, key={}, error={}", name, localKey, e.getMessage());
+        }
+        local.invalidate(localKey);
+    }
+
+    private void deferEviction(Runnable record) {
+        if (pendingClear.get()) {
+            return;
+        }
+        if (pendingEvictions.size() + pendingPrefixEvictions.size() >= MAX_PENDING_EVICTIONS) {
+            pendingClear.set(true);
+            pendingEvictions.clear();
+            pendingPrefixEvictions.clear();
+            return;
+        }
+        record.run();
+    }
+
+    /**
+     * Redis 복구 시 호출: 미뤄 둔 L2 삭제를 다시 적용하고 L1을 비움
+     */
+    void recover() {
+        // 장애 중 놓친 다른 노드의 무효화가 어느 키인지 모르므로 모두 취소
+        cancelAllLoads();
+        if (pendingClear.getAndSet(false)) {
+            pendingEvictions.clear();
+            pendingPrefixEvictions.clear();
+            if (!runRemote(remote::clear)) {
+                pendingClear.set(true);
+            }
+        } else {
+            for (String prefix : List.copyOf(pendingPrefixEvictions)) {
+                pendingPrefixEvictions.remove(prefix);
+                if (!runRemote(() -> removeRemotePrefix(prefix))) {
+                    deferEviction(() -> pendingPrefixEvictions.add(prefix));
+                }
+            }
+            for (Object key : List.copyOf(pendingEvictions)) {
+                pendingEvictions.remove(key);
+                if (!runRemote(() -> remote.evict(key))) {
+                    deferEviction(() -> pendingEvictions.add(key));
+                }
+            }
+        }
+        local.invalidateAll();
+        log.info("Two-tier cache recovered: name={}, pendingEvictions={}, pendingPrefixEvictions={}, pendingClear={}",
+            name, pendingEvictions.size(), pendingPrefixEvictions.size(), pendingClear.get());
+    }
+
+    /**
+     * L2 호출 (회로가 열려 있거나 Redis 오류면 fallback, Redis 오류는 회로 차단기에 기록)
+     * 직렬화 오류 등 Redis 장애가 아닌 예외는 그대로 던진다 (CacheErrorHandler가 처리).
+     */
+    private <T> T callRemote(Supplier<T> call, T fallback) {
+        if (!circuitBreaker.allowRequest()) {
+            remoteBypasses.increment();
+            return fallback;
+        }
+        try {
+            T result = call.get();
+            circuitBreaker.recordSuccess();
+            return result;
+        } catch (DataAccessException e) {
+            circuitBreaker.recordFailure(e);
+            remoteBypasses.increment();
+            log.debug("Redis cache call failed (bypassed): cache={}, error={}", name, e.getMessage());
+            return fallback;
+        }
+    }
+
+    private boolean runRemote(Runnable call) {
+        return callRemote(() -> {
+            call.run();
+            return true;
+        }, false);
+    }
+
+    /**
+     * 다른 노드의 무효화 메시지 반영 (L1만 비움, 다시 발행하지 않음)
+     */
+    @Override
+    public void evictLocal(String localKey) {
+        cancelLoad(localKey);
+        invalidationsReceived.increment();
+        local.invalidate(localKey);
+    }
+
+    /**
+     * 다른 노드의 쓰기 메시지 반영 (L1 사본만 비우고 이 노드의 진행 중인 적재는 유지)
+     * 다른 노드의 적재 결과 기록일 뿐 원본이 바뀐 것은 아니므로 이 노드의 적재 값도 유효하다.
+     */
+    @Override
+    public void evictLocalCopy(String localKey) {
+        invalidationsReceived.increment();
+        local.invalidate(localKey);
+    }
+
+    /**
+     * 다른 노드의 접두사 무효화 메시지 반영 (L1만 비움, 다시 발행하지 않음)
+     */
+    @Override
+    public void evictLocalPrefix(String prefix) {
+        cancelLoadsWithPrefix(prefix);
+        invalidationsReceived.increment();
+        removeLocalPrefix(prefix);
+    }
+
+    private void removeLocalPrefix(String prefix) {
+        local.asMap().keySet().removeIf(key -> key.startsWith(prefix));
+    }
+
+    /**
+     * 다른 노드의 전체 무효화 메시지 반영 (L1만 비움, 다시 발행하지 않음)
+     */
+    @Override
+    public void clearLocal() {
+        cancelAllLoads();
+        invalidationsReceived.increment();
+        local.invalidateAll();
+    }
+
+    public CacheTierStats stats() {
+        long localCount = localHits.sum();
+        long remoteCount = remoteHits.sum();
+        long missCount = misses.sum();
+        long total = localCount + remoteCount + missCount;
+        return new CacheTierStats(
+            name,
+            localCount,
+            remoteCount,
+            missCount,
+            total == 0 ? 0.0 : (double) localCount / total,
+            total == 0 ? 0.0 : (double) (localCount + remoteCount) / total,
+            local.estimatedSize(),
+            invalidationsReceived.sum(),
+            staleHits.sum(),
+            refreshes.sum(),
+            coalescedLoads.sum(),
+            remoteBypasses.sum()
+        );
+    }
+}
@@ -0,0 +1,166 @@
+package com.jwyoo.api.cache;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.support.AbstractCacheManager;
+import org.springframework.core.env.Environment;
+import org.springframework.data.redis.cache.BatchStrategies;
+import org.springframework.data.redis.cache.RedisCacheConfiguration;
+import org.springframework.data.redis.cache.RedisCacheManager;
+import org.springframework.data.redis.cache.RedisCacheWriter;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.serializer.RedisSerializationContext;
+import org.springframework.data.redis.serializer.RedisSerializer;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Executor;
+
+/**
+ * L1(로컬 Caffeine) + L2(Redis) 2단계 캐시 매니저
+ *
+ * cache.names에 적힌 캐시는 기동 시 만들고, 그 밖의 이름은 처음 쓰일 때 기본 설정으로 만든다.
+ * 캐시별 TTL/크기는 {@link CacheSpec} 참고.
+ * 값 직렬화기를 따로 지정한 캐시는 그 직렬화기로, 나머지는 기본 값 직렬화기로 Redis에 기록한다.
+ * 어느 쪽이든 소프트 만료 시각을 함께 싣도록 {@link CacheEnvelopeSerializer}로 감싼다.
+ * Redis TTL(하드 만료)은 항목마다 무작위로 조금씩 늘려 같은 시각에 쓴 항목이 함께 만료되지 않게 한다.
+ * Redis 회로가 다시 닫히면 모든 캐시의 미뤄 둔 삭제를 적용하고 L1을 비운다.
+ */
+@Slf4j
+public class TwoTierCacheManager extends AbstractCacheManager {
+
+    private static final int SCAN_BATCH_SIZE = 1000;
+
+    private final RedisCacheManager redisCacheManager;
+    private final RedisCacheConfiguration defaultConfiguration;
+    private final CacheInvalidationBus invalidationBus;
+    private final Environment environment;
+    private final RedisSerializer<Object> defaultValueSerializer;
+    private final Map<String, RedisSerializer<Object>> valueSerializers;
+    private final Executor refreshExecutor;
+    private final RedisCircuitBreaker circuitBreaker;
+    private final Collection<String> cacheNames;
+
+    /**
+     * @param defaultValueSerializer 값 직렬화기를 지정하지 않은 캐시의 직렬화기
+     * @param valueSerializers       캐시 이름별 값 직렬화기
+     * @param refreshExecutor        소프트 만료 값의 백그라운드 재적재 실행기
+     * @param circuitBreaker         Redis 회로 차단기 (열린 동안 L2를 건너뜀)
+     */
+    public TwoTierCacheManager(
+            RedisConnectionFactory connectionFactory,
+            RedisCacheConfiguration defaultConfiguration,
+            CacheInvalidationBus invalidationBus,
+            Environment environment,
+            Collection<String> cacheNames,
+            RedisSerializer<Object> defaultValueSerializer,
+            Map<String, RedisSerializer<Object>> valueSerializers,
+            Executor refreshExecutor,
+            RedisCircuitBreaker circuitBreaker
+    ) {
+        this.defaultValueSerializer = defaultValueSerializer;
+        this.invalidationBus = invalidationBus;
+        this.environment = environment;
+        this.valueSerializers = Map.copyOf(valueSerializers);
+        this.refreshExecutor = refreshExecutor;
+        this.circuitBreaker = circuitBreaker;
+        // 이름을 정하지 않고 처음 쓰이는 캐시도 소프트 만료/TTL 분산이 적용되도록 기본 설정부터 맞춤
+        this.defaultConfiguration = withSpec(defaultConfiguration, CacheSpec.resolve(environment, "default"),
+            new CacheEnvelopeSerializer(defaultValueSerializer));
+        // 직렬화기를 지정한 캐시는 기동 시 만들어야 기본 직렬화기로 생성되지 않음
+        Set<String> names = new LinkedHashSet<>(cacheNames);
+        names.addAll(valueSerializers.keySet());
+        this.cacheNames = List.copyOf(names);
+
+        Map<String, RedisCacheConfiguration> configurations = new LinkedHashMap<>();
+        for (String cacheName : this.cacheNames) {
+            configurations.put(cacheName, redisConfiguration(cacheName));
+        }
+        // 접두사 삭제가 KEYS로 Redis를 막지 않도록 SCAN 기반 삭제 사용
+        RedisCacheWriter cacheWriter = RedisCacheWriter.nonLockingRedisCacheWriter(
+            connectionFactory, BatchStrategies.scan(SCAN_BATCH_SIZE));
+        this.redisCacheManager = RedisCacheManager.builder(cacheWriter)
+            .cacheDefaults(this.defaultConfiguration)
+            .withInitialCacheConfigurations(configurations)
+            .build();
+        // 빈으로 등록하지 않으므로 초기 캐시를 직접 적재
+        this.redisCacheManager.afterPropertiesSet();
+        circuitBreaker.onRecovery(this::recover);
+    }
+
+    @Override
+    protected Collection<? extends Cache> loadCaches() {
+        List<Cache> caches = new ArrayList<>(cacheNames.size());
+        for (String cacheName : cacheNames) {
+            caches.add(createCache(cacheName));
+        }
+        return caches;
+    }
+
+    @Override
+    protected Cache getMissingCache(String name) {
+        return createCache(name);
+    }
+
+    private TwoTierCache createCache(String name) {
+        CacheSpec spec = CacheSpec.resolve(environment, name);
+        Cache remote = redisCacheManager.getCache(name);
+        TwoTierCache cache = new TwoTierCache(name, remote, spec, invalidationBus, refreshExecutor,
+            circuitBreaker, envelopeSerializer(name));
+        invalidationBus.register(cache);
+        log.info("Two-tier cache created: name={}, ttl={}, softTtl={}, ttlJitter={}, localTtl={}, localMaxSize={}",
+            name, spec.ttl(), spec.softTtl(), spec.ttlJitter(), spec.localTtl(), spec.localMaxSize());
+        return cache;
+    }
+
+    private RedisCacheConfiguration redisConfiguration(String cacheName) {
+        return withSpec(defaultConfiguration, CacheSpec.resolve(environment, cacheName), envelopeSerializer(cacheName));
+    }
+
+    private RedisSerializer<Object> envelopeSerializer(String cacheName) {
+        return new CacheEnvelopeSerializer(valueSerializers.getOrDefault(cacheName, defaultValueSerializer));
+    }
+
+    private static RedisCacheConfiguration withSpec(
+            RedisCacheConfiguration configuration,
+            CacheSpec spec,
+            RedisSerializer<Object> valueSerializer
+    ) {
+        return configuration
+            .entryTtl((RedisCacheWriter.TtlFunction) (key, value) -> spec.jitteredTtl())
+            .serializeValuesWith(RedisSerializationContext.SerializationPair.fromSerializer(valueSerializer));
+    }
+
+    /**
+     * Redis 복구 시 모든 캐시에 미뤄 둔 삭제 적용, L1 비우기
+     */
+    private void recover() {
+        for (String name : getCacheNames()) {
+            if (getCache(name) instanceof TwoTierCache cache) {
+                cache.recover();
+            }
+        }
+    }
+
+    public RedisCircuitBreaker circuitBreaker() {
+        return circuitBreaker;
+    }
+
+    /**
+     * 캐시별 계층 통계
+     */
+    public List<CacheTierStats> stats() {
+        List<CacheTierStats> stats = new ArrayList<>();
+        for (String name : getCacheNames()) {
+            if (getCache(name) instanceof TwoTierCache cache) {
+                stats.add(cache.stats());
+            }
+        }
+        return stats;
+    }
+}
@@ -7,38 +7,160 @@ import com.fasterxml.jackson.databind.jsontype.BasicPolymorphicTypeValidator;
 import com.fasterxml.jackson.databind.jsontype.PolymorphicTypeValidator;
 import com.fasterxml.jackson.datatype.hibernate6.Hibernate6Module;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.jwyoo.api.cache.CacheFailureHandler;
+import com.jwyoo.api.cache.CacheInvalidationBus;
+import com.jwyoo.api.cache.CompactCacheSerializer;
+import com.jwyoo.api.cache.RedisCircuitBreaker;
+import com.jwyoo.api.cache.TwoTierCacheManager;
+import com.jwyoo.api.dto.CharacterListItem;
+import com.jwyoo.api.dto.EpisodeListItem;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.cache.annotation.CachingConfigurer;
 import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.interceptor.CacheErrorHandler;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
 import org.springframework.data.redis.cache.RedisCacheConfiguration;
-import org.springframework.data.redis.cache.RedisCacheManager;
+import org.springframework.data.redis.connection.RedisConnection;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
 import org.springframework.data.redis.serializer.RedisSerializationContext;
+import org.springframework.data.redis.serializer.RedisSerializer;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
+import org.springframework.security.concurrent.DelegatingSecurityContextExecutor;
 
 import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * Redis 캐싱 설정
  * Task 90: API 응답 캐싱
  *
+ * L1(노드 로컬 Caffeine) + L2(Redis) 2단계 캐시. 쓰기/삭제는 Redis pub/sub으로 다른 노드의 L1에 전파된다.
+ * 캐시별 TTL/로컬 크기는 cache.default.* / cache.{이름}.* 설정을 따른다.
+ * 소프트 만료(cache.{이름}.soft-ttl)가 지난 값은 그대로 응답하고 백그라운드에서 다시 적재한다.
+ * Redis 장애 시 회로 차단기가 열려 L2를 건너뛰고(L1만 사용), 백그라운드 확인으로 복구되면 다시 쓴다.
+ * 그 밖의 캐시 오류는 로그만 남기고 요청은 원본 조회로 계속 처리한다.
+ *
  * Note: This entire configuration is only active when spring.cache.type=redis
  * For tests with spring.cache.type=none, Spring Boot's default NoOpCacheManager is used
  */
 @Configuration
 @EnableCaching
 @ConditionalOnProperty(name = "spring.cache.type", havingValue = "redis")
-public class CacheConfig {
+public class CacheConfig implements CachingConfigurer {
+
+    /**
+     * 캐시 오류가 API 오류가 되지 않도록 로그만 남김
+     */
+    @Override
+    public CacheErrorHandler errorHandler() {
+        return new CacheFailureHandler();
+    }
+
+    /**
+     * 캐시 계층의 Redis 회로 차단기
+     * - cache.redis.failure-threshold: 회로를 여는 연속 실패 수
+     * - cache.redis.probe-interval: 열린 동안 PING 확인 주기
+     */
+    @Bean(destroyMethod = "shutdown")
+    public RedisCircuitBreaker redisCircuitBreaker(
+            RedisConnectionFactory connectionFactory,
+            @Value("${cache.redis.failure-threshold:3}") int failureThreshold,
+            @Value("${cache.redis.probe-interval:5s}") Duration probeInterval
+    ) {
+        return new RedisCircuitBreaker(() -> {
+            try (RedisConnection connection = connectionFactory.getConnection()) {
+                connection.ping();
+            }
+        }, failureThreshold, probeInterval);
+    }
+
+    /**
+     * 노드 간 L1 무효화 메시지 발행/수신
+     */
+    @Bean
+    public CacheInvalidationBus cacheInvalidationBus(
+            StringRedisTemplate stringRedisTemplate,
+            RedisCircuitBreaker redisCircuitBreaker
+    ) {
+        return new CacheInvalidationBus(stringRedisTemplate, redisCircuitBreaker);
+    }
+
+    @Bean
+    public RedisMessageListenerContainer cacheInvalidationListenerContainer(
+            RedisConnectionFactory connectionFactory,
+            CacheInvalidationBus cacheInvalidationBus
+    ) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        container.addMessageListener(cacheInvalidationBus, new ChannelTopic(CacheInvalidationBus.CHANNEL));
+        return container;
+    }
+
+    /**
+     * 소프트 만료 값의 백그라운드 재적재 스레드 (키당 한 작업만 제출됨)
+     */
+    @Bean(destroyMethod = "shutdown")
+    public ExecutorService cacheRefreshExecutor(@Value("${cache.refresh-threads:2}") int threads) {
+        AtomicInteger sequence = new AtomicInteger();
+        return Executors.newFixedThreadPool(Math.max(1, threads), runnable -> {
+            Thread thread = new Thread(runnable, "cache-refresh-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
 
     /**
-     * Redis Cache Manager 설정
-     * - TTL: 10분 (자주 조회되는 데이터)
-     * - JSON 직렬화 사용
+     * 2단계 Cache Manager 설정
+     * - L2 TTL: cache.{이름}.ttl (기본 10분, cache.{이름}.ttl-jitter 비율만큼 무작위 연장)
+     * - 소프트 만료: cache.{이름}.soft-ttl (기본 5분)
+     * - L1: cache.{이름}.local-ttl / local-max-size
+     * - 목록 캐시(episodes, characters): Smile + 압축, 그 밖의 캐시: JSON
      */
     @Bean
-    public RedisCacheManager cacheManager(RedisConnectionFactory connectionFactory) {
+    public TwoTierCacheManager cacheManager(
+            RedisConnectionFactory connectionFactory,
+            CacheInvalidationBus cacheInvalidationBus,
+            Environment environment,
+            @Value("${cache.names:episodes,characters}") List<String> cacheNames,
+            @Value("${cache.compression-threshold:1024}") int compressionThreshold,
+            ExecutorService cacheRefreshExecutor,
+            RedisCircuitBreaker redisCircuitBreaker
+    ) {
+        // Redis 캐시 설정 (TTL과 값 직렬화기는 캐시별로 TwoTierCacheManager가 지정)
+        RedisCacheConfiguration cacheConfig = RedisCacheConfiguration.defaultCacheConfig()
+                .serializeKeysWith(
+                        RedisSerializationContext.SerializationPair.fromSerializer(new StringRedisSerializer())
+                )
+                .disableCachingNullValues(); // null 값은 캐시하지 않음
+
+        // 목록 캐시: 불변 DTO를 Smile 바이너리로 기록 (타입 정보 없음, 임계값 이상 압축)
+        Map<String, RedisSerializer<Object>> valueSerializers = Map.of(
+                "episodes", CompactCacheSerializer.forListOf(EpisodeListItem.class, compressionThreshold),
+                "characters", CompactCacheSerializer.forListOf(CharacterListItem.class, compressionThreshold)
+        );
+
+        // 재적재는 요청 스레드 밖에서 실행되므로 현재 사용자(프로젝트 결정에 필요)를 넘겨줌
+        return new TwoTierCacheManager(
+                connectionFactory, cacheConfig, cacheInvalidationBus, environment, cacheNames,
+                typedJsonSerializer(), valueSerializers,
+                new DelegatingSecurityContextExecutor(cacheRefreshExecutor), redisCircuitBreaker);
+    }
+
+    /**
+     * 값 타입을 지정하지 않은 캐시의 기본 직렬화기 (JSON + 타입 정보)
+     */
+    static GenericJackson2JsonRedisSerializer typedJsonSerializer() {
         // Jackson ObjectMapper 설정 (LocalDateTime 등 Java 8 time 지원)
         ObjectMapper objectMapper = new ObjectMapper();
         objectMapper.registerModule(new JavaTimeModule());
@@ -55,21 +177,6 @@ public class CacheConfig {
                 .build();
         objectMapper.activateDefaultTyping(ptv, ObjectMapper.DefaultTyping.NON_FINAL, JsonTypeInfo.As.PROPERTY);
 
-        // Redis 캐시 설정
-        RedisCacheConfiguration cacheConfig = RedisCacheConfiguration.defaultCacheConfig()
-                .entryTtl(Duration.ofMinutes(10)) // 캐시 만료 시간 10분
-                .serializeKeysWith(
-                        RedisSerializationContext.SerializationPair.fromSerializer(new StringRedisSerializer())
-                )
-                .serializeValuesWith(
-                        RedisSerializationContext.SerializationPair.fromSerializer(
-                                new GenericJackson2JsonRedisSerializer(objectMapper)
-                        )
-                )
-                .disableCachingNullValues(); // null 값은 캐시하지 않음
-
-        return RedisCacheManager.builder(connectionFactory)
-                .cacheDefaults(cacheConfig)
-                .build();
+        return new GenericJackson2JsonRedisSerializer(objectMapper);
     }
 }
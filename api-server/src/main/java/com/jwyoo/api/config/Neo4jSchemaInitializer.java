@@ -0,0 +1,161 @@
+package com.jwyoo.api.config;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.data.neo4j.core.Neo4jClient;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 애플리케이션 시작 시 Neo4j 제약조건/인덱스를 생성하고 확인합니다. (IF NOT EXISTS)
+ * 문장별로 실행하므로 하나가 실패해도(예: 기존 데이터 중복으로 유일성 제약 생성 실패) 나머지는 생성되며,
+ * 마지막에 SHOW CONSTRAINTS/INDEXES로 누락되었거나 ONLINE이 아닌 항목을 경고로 남깁니다.
+ * Neo4j에 연결할 수 없으면 경고만 남기고 기동은 계속합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class Neo4jSchemaInitializer implements ApplicationRunner {
+
+    /**
+     * 스키마 항목 (name은 SHOW CONSTRAINTS/INDEXES 결과와 비교할 이름)
+     */
+    record SchemaItem(String name, String statement) {
+    }
+
+    /**
+     * 유일성 제약 (제약마다 백킹 인덱스가 함께 생성됨)
+     * - rdbId: 동기화 MERGE/findByRdbId 조회
+     * - (projectId, characterId): 프로젝트 내 캐릭터 ID 조회
+     * - GraphVersion/GraphSyncCheckpoint: 버전·체크포인트 MERGE
+     */
+    static final List<SchemaItem> CONSTRAINTS = List.of(
+        new SchemaItem("character_rdb_id",
+            "CREATE CONSTRAINT character_rdb_id IF NOT EXISTS FOR (c:Character) REQUIRE c.rdbId IS UNIQUE"),
+        new SchemaItem("character_project_character_id",
+            "CREATE CONSTRAINT character_project_character_id IF NOT EXISTS "
+                + "FOR (c:Character) REQUIRE (c.projectId, c.characterId) IS UNIQUE"),
+        new SchemaItem("concept_rdb_id",
+            "CREATE CONSTRAINT concept_rdb_id IF NOT EXISTS FOR (c:Concept) REQUIRE c.rdbId IS UNIQUE"),
+        new SchemaItem("scene_rdb_id",
+            "CREATE CONSTRAINT scene_rdb_id IF NOT EXISTS FOR (s:Scene) REQUIRE s.rdbId IS UNIQUE"),
+        new SchemaItem("graph_version_project_id",
+            "CREATE CONSTRAINT graph_version_project_id IF NOT EXISTS FOR (v:GraphVersion) REQUIRE v.projectId IS UNIQUE"),
+        new SchemaItem("graph_sync_checkpoint_scope",
+            "CREATE CONSTRAINT graph_sync_checkpoint_scope IF NOT EXISTS FOR (c:GraphSyncCheckpoint) REQUIRE c.scope IS UNIQUE")
+    );
+
+    /**
+     * 조회 인덱스
+     * - projectId: 프로젝트 단위 조회 (캐릭터 목록, 분석용 그래프 적재, 개념 목록)
+     * - (projectId, 카운터): 캐릭터 연결 통계 top-k 조회 (projectId 일치 + 카운터 정렬)
+     * - Episode.rdbId: 에피소드 MERGE/연관 개념 조회 (기존 배포에 같은 이름의 인덱스가 있어 유일성 제약 대신 인덱스 유지)
+     * - Episode.projectId: 프로젝트 에피소드 재동기화 시 그래프에만 남은 에피소드 조회
+     * - Scene.episodeId: 에피소드에서 사라진 장면 삭제
+     */
+    static final List<SchemaItem> INDEXES = List.of(
+        new SchemaItem("character_project_id",
+            "CREATE INDEX character_project_id IF NOT EXISTS FOR (c:Character) ON (c.projectId)"),
+        new SchemaItem("character_project_neighbor_count",
+            "CREATE INDEX character_project_neighbor_count IF NOT EXISTS FOR (c:Character) ON (c.projectId, c.neighborCount)"),
+        new SchemaItem("character_project_relationship_count",
+            "CREATE INDEX character_project_relationship_count IF NOT EXISTS FOR (c:Character) ON (c.projectId, c.relationshipCount)"),
+        new SchemaItem("character_project_closeness_sum",
+            "CREATE INDEX character_project_closeness_sum IF NOT EXISTS FOR (c:Character) ON (c.projectId, c.closenessSum)"),
+        new SchemaItem("concept_project_id",
+            "CREATE INDEX concept_project_id IF NOT EXISTS FOR (c:Concept) ON (c.projectId)"),
+        new SchemaItem("episode_rdb_id",
+            "CREATE INDEX episode_rdb_id IF NOT EXISTS FOR (e:Episode) ON (e.rdbId)"),
+        new SchemaItem("episode_project_id",
+            "CREATE INDEX episode_project_id IF NOT EXISTS FOR (e:Episode) ON (e.projectId)"),
+        new SchemaItem("scene_episode_id",
+            "CREATE INDEX scene_episode_id IF NOT EXISTS FOR (s:Scene) ON (s.episodeId)")
+    );
+
+    private final Neo4jClient neo4jClient;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        try {
+            int applied = apply();
+            List<String> missing = verify();
+            if (missing.isEmpty()) {
+                log.info("Neo4j schema initialized: {}/{} statements applied, all online",
+                    applied, CONSTRAINTS.size() + INDEXES.size());
+            } else {
+                log.warn("Neo4j 스키마 항목이 없거나 ONLINE 상태가 아닙니다: {}", missing);
+            }
+        } catch (Exception e) {
+            log.warn("Neo4j 스키마 초기화를 건너뜁니다: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 제약조건 → 인덱스 순서로 생성 (항목별 실패는 경고 후 계속)
+     *
+     * @return 성공한 문장 수
+     */
+    int apply() {
+        int applied = 0;
+        for (SchemaItem item : CONSTRAINTS) {
+            applied += execute(item);
+        }
+        for (SchemaItem item : INDEXES) {
+            applied += execute(item);
+        }
+        return applied;
+    }
+
+    /**
+     * 선언된 항목 중 존재하지 않거나 ONLINE이 아닌 항목 이름
+     */
+    public List<String> verify() {
+        Set<String> constraints = new HashSet<>(neo4jClient.query("SHOW CONSTRAINTS YIELD name RETURN name")
+            .fetchAs(String.class)
+            .all());
+
+        Set<String> onlineIndexes = new HashSet<>();
+        for (Map<String, Object> index : neo4jClient.query("SHOW INDEXES YIELD name, state RETURN name, state")
+                .fetch()
+                .all()) {
+            if ("ONLINE".equals(index.get("state"))) {
+                onlineIndexes.add((String) index.get("name"));
+            }
+        }
+
+        // 유일성 제약의 백킹 인덱스는 제약과 같은 이름으로 생성됨
+        List<String> missing = new ArrayList<>();
+        for (SchemaItem item : CONSTRAINTS) {
+            if (!constraints.contains(item.name()) || !onlineIndexes.contains(item.name())) {
+                missing.add(item.name());
+            }
+        }
+        for (SchemaItem item : INDEXES) {
+            if (!onlineIndexes.contains(item.name())) {
+                missing.add(item.name());
+            }
+        }
+        return missing;
+    }
+
+    private int execute(SchemaItem item) {
+        try {
+            neo4jClient.query(item.statement()).run();
+            return 1;
+        } catch (DataAccessResourceFailureException e) {
+            // 연결 실패는 항목 문제가 아니므로 전체 초기화 중단
+            throw e;
+        } catch (Exception e) {
+            log.warn("Neo4j 스키마 항목 생성 실패: name={}, error={}", item.name(), e.getMessage());
+            return 0;
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package com.jwyoo.api.controller;
+
+import com.jwyoo.api.cache.CacheTierStats;
+import com.jwyoo.api.cache.TwoTierCacheManager;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.CrossOrigin;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * API 응답 캐시(L1 로컬 + L2 Redis) 상태 조회 컨트롤러
+ * 캐시가 꺼져 있으면(spring.cache.type != redis) 빈 목록을 돌려준다.
+ */
+@Slf4j
+@RestController
+@RequestMapping("/cache")
+@RequiredArgsConstructor
+@CrossOrigin(origins = "*")
+public class CacheController {
+
+    private final ObjectProvider<TwoTierCacheManager> cacheManagerProvider;
+
+    /**
+     * 캐시별 계층 통계 (L1/L2 적중 수, 적중률, L1 크기, 받은 무효화 수)와 Redis 회로 상태
+     * GET /cache/stats
+     */
+    @GetMapping("/stats")
+    public ResponseEntity<Map<String, Object>> getCacheStats() {
+        log.info("GET /cache/stats - Fetching two-tier cache stats");
+
+        TwoTierCacheManager cacheManager = cacheManagerProvider.getIfAvailable();
+        List<CacheTierStats> stats = cacheManager != null ? cacheManager.stats() : List.of();
+
+        Map<String, Object> response = new LinkedHashMap<>();
+        response.put("enabled", cacheManager != null);
+        response.put("caches", stats);
+        response.put("count", stats.size());
+        if (cacheManager != null) {
+            response.put("redis", cacheManager.circuitBreaker().stats());
+        }
+
+        return ResponseEntity.ok(response);
+    }
+}
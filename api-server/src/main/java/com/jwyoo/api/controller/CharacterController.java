@@ -1,16 +1,19 @@
 package com.jwyoo.api.controller;
 
 import com.jwyoo.api.dto.CharacterDto;
+import com.jwyoo.api.dto.CharacterListItem;
+import com.jwyoo.api.dto.ResourceVersion;
 import com.jwyoo.api.dto.SpeakingProfileDto;
 import com.jwyoo.api.entity.Character;
 import com.jwyoo.api.service.CharacterService;
+import com.jwyoo.api.service.ResourceVersionService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
-import java.util.stream.Collectors;
 
 @RestController
 @RequestMapping("/characters")
@@ -18,16 +21,23 @@ import java.util.stream.Collectors;
 public class CharacterController {
 
     private final CharacterService characterService;
+    private final ResourceVersionService resourceVersionService;
 
     @GetMapping
-    public List<CharacterDto> getAllCharacters() {
-        return characterService.getAllCharacters().stream()
-            .map(CharacterDto::fromEntity)
-            .collect(Collectors.toList());
+    public List<CharacterListItem> getAllCharacters(WebRequest webRequest) {
+        ResourceVersion version = resourceVersionService.characterList();
+        if (version != null && webRequest.checkNotModified(version.etag(), version.lastModified())) {
+            return null;
+        }
+        return characterService.getAllCharacters();
     }
 
     @GetMapping("/{id}")
-    public CharacterDto getCharacterById(@PathVariable Long id) {
+    public CharacterDto getCharacterById(@PathVariable Long id, WebRequest webRequest) {
+        ResourceVersion version = resourceVersionService.character(id);
+        if (version != null && webRequest.checkNotModified(version.etag(), version.lastModified())) {
+            return null;
+        }
         return CharacterDto.fromEntity(characterService.getCharacterById(id));
     }
 
@@ -6,8 +6,8 @@ import com.jwyoo.api.dto.SemanticSearchRequest;
 import com.jwyoo.api.dto.SemanticSearchResponse;
 import com.jwyoo.api.entity.Concept;
 import com.jwyoo.api.entity.RagVector;
-import com.jwyoo.api.graph.node.ConceptNode;
-import com.jwyoo.api.graph.repository.ConceptNodeRepository;
+import com.jwyoo.api.graph.service.ConceptSimilarityService;
+import com.jwyoo.api.service.ConceptSearchService;
 import com.jwyoo.api.service.ConceptService;
 import com.jwyoo.api.service.RagVectorService;
 import jakarta.validation.Valid;
@@ -33,8 +33,9 @@ import java.util.stream.Collectors;
 public class ConceptController {
 
     private final ConceptService conceptService;
-    private final ConceptNodeRepository conceptNodeRepository;
+    private final ConceptSearchService conceptSearchService;
     private final RagVectorService ragVectorService;
+    private final ConceptSimilarityService conceptSimilarityService;
 
     /**
      * 개념 생성
@@ -142,25 +143,27 @@ public class ConceptController {
             @RequestParam(defaultValue = "10") Integer limit) {
         log.info("GET /concepts/{}/similar - minSimilarity={}, limit={}", id, minSimilarity, limit);
 
-        // RDB ID를 Neo4j ID로 변환
-        Concept concept = conceptService.getConceptById(id);
-        ConceptNode conceptNode = conceptNodeRepository.findByRdbId(concept.getId())
-            .orElseThrow(() -> new IllegalArgumentException("ConceptNode not found for rdbId: " + concept.getId()));
+        List<ConceptResponse> responses = conceptSearchService.findSimilar(id, minSimilarity, limit);
 
-        // Neo4j에서 유사한 개념 찾기
-        List<ConceptNode> similarNodes = conceptNodeRepository.findSimilarConcepts(
-            conceptNode.getId(), minSimilarity, limit
-        );
+        return ResponseEntity.ok(responses);
+    }
 
-        // Neo4j ID → RDB Concept 변환
-        List<ConceptResponse> responses = similarNodes.stream()
-            .map(node -> {
-                Concept c = conceptService.getConceptById(node.getRdbId());
-                return ConceptResponse.from(c);
-            })
-            .collect(Collectors.toList());
+    /**
+     * 개념 유사도 관계 재계산 (VectorDB 임베딩 → GraphDB RELATES_TO)
+     * POST /concepts/similarity/refresh?projectId={projectId}
+     *
+     * 임베딩이 바뀐 개념 기준 k-최근접 이웃 계산을 백그라운드로 예약하고 즉시 반환 (202 Accepted)
+     */
+    @PostMapping("/similarity/refresh")
+    public ResponseEntity<Map<String, Object>> refreshSimilarity(@RequestParam Long projectId) {
+        log.info("POST /concepts/similarity/refresh - projectId={}", projectId);
 
-        return ResponseEntity.ok(responses);
+        boolean scheduled = conceptSimilarityService.schedule(projectId);
+
+        return ResponseEntity.accepted().body(Map.of(
+            "projectId", projectId,
+            "scheduled", scheduled
+        ));
     }
 
     /**
@@ -198,7 +201,7 @@ public class ConceptController {
      * 하이브리드 검색 (GraphDB + VectorDB)
      * POST /concepts/hybrid-search
      *
-     * GraphDB에서 관계된 개념을 찾고, VectorDB에서 의미적으로 유사한 개념을 찾아 병합
+     * GraphDB에서 관계된 개념과 VectorDB에서 의미적으로 유사한 개념을 동시에 찾아 순위 병합(results)
      */
     @PostMapping("/hybrid-search")
     public ResponseEntity<Map<String, Object>> hybridSearch(
@@ -208,47 +211,43 @@ public class ConceptController {
         log.info("POST /concepts/hybrid-search - conceptId={}, minSimilarity={}, limit={}",
             conceptId, minSimilarity, limit);
 
-        Concept concept = conceptService.getConceptById(conceptId);
+        ConceptSearchService.HybridResult hybrid = conceptSearchService.hybridSearch(conceptId, minSimilarity, limit);
 
         Map<String, Object> result = new HashMap<>();
-        result.put("concept", ConceptResponse.from(concept));
-
-        // 1. GraphDB에서 관계된 개념 찾기
-        ConceptNode conceptNode = conceptNodeRepository.findByRdbId(concept.getId())
-            .orElseThrow(() -> new IllegalArgumentException("ConceptNode not found"));
+        result.put("concept", hybrid.concept());
+        result.put("graph_related", hybrid.graphRelated());
+        result.put("vector_similar", hybrid.vectorSimilar());
+        result.put("results", hybrid.results());
 
-        List<ConceptNode> graphResults = conceptNodeRepository.findSimilarConcepts(
-            conceptNode.getId(), minSimilarity, limit
-        );
+        return ResponseEntity.ok(result);
+    }
 
-        List<ConceptResponse> graphResponses = graphResults.stream()
-            .map(node -> {
-                Concept c = conceptService.getConceptById(node.getRdbId());
-                return ConceptResponse.from(c);
-            })
-            .collect(Collectors.toList());
+    /**
+     * 에피소드에 속한 개념 조회 (GraphDB)
+     * GET /concepts/episode/{episodeId}
+     */
+    @GetMapping("/episode/{episodeId}")
+    public ResponseEntity<List<ConceptResponse>> getConceptsByEpisode(@PathVariable Long episodeId) {
+        log.info("GET /concepts/episode/{}", episodeId);
 
-        result.put("graph_related", graphResponses);
+        List<ConceptResponse> responses = conceptSearchService.findByEpisode(episodeId);
 
-        // 2. VectorDB에서 의미적으로 유사한 개념 찾기
-        String searchQuery = concept.getName() + ": " + concept.getDescription();
-        List<RagVector> vectorResults = ragVectorService.searchSimilarByType(
-            searchQuery, "concept", limit
-        );
+        return ResponseEntity.ok(responses);
+    }
 
-        List<Map<String, Object>> vectorResponses = vectorResults.stream()
-            .filter(ragVector -> !ragVector.getSourceId().equals(conceptId)) // 자기 자신 제외
-            .map(ragVector -> {
-                Map<String, Object> item = new HashMap<>();
-                item.put("conceptId", ragVector.getSourceId());
-                item.put("textChunk", ragVector.getTextChunk());
-                return item;
-            })
-            .collect(Collectors.toList());
+    /**
+     * 캐릭터와 연관된 개념 조회 (GraphDB, 캐릭터가 대사로 등장한 에피소드의 개념)
+     * GET /concepts/character/{characterId}?limit={limit}
+     */
+    @GetMapping("/character/{characterId}")
+    public ResponseEntity<List<ConceptResponse>> getConceptsByCharacter(
+            @PathVariable Long characterId,
+            @RequestParam(defaultValue = "20") Integer limit) {
+        log.info("GET /concepts/character/{} - limit={}", characterId, limit);
 
-        result.put("vector_similar", vectorResponses);
+        List<ConceptResponse> responses = conceptSearchService.findByCharacter(characterId, limit);
 
-        return ResponseEntity.ok(result);
+        return ResponseEntity.ok(responses);
     }
 
     /**
@@ -261,14 +260,7 @@ public class ConceptController {
             @RequestParam(defaultValue = "10") Integer limit) {
         log.info("GET /concepts/top - projectId={}, limit={}", projectId, limit);
 
-        List<ConceptNode> topNodes = conceptNodeRepository.findTopConceptsByImportance(projectId, limit);
-
-        List<ConceptResponse> responses = topNodes.stream()
-            .map(node -> {
-                Concept c = conceptService.getConceptById(node.getRdbId());
-                return ConceptResponse.from(c);
-            })
-            .collect(Collectors.toList());
+        List<ConceptResponse> responses = conceptSearchService.findTop(projectId, limit);
 
         return ResponseEntity.ok(responses);
     }
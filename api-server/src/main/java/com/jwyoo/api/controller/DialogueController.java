@@ -1,5 +1,6 @@
 package com.jwyoo.api.controller;
 
+import com.jwyoo.api.dto.ResourceVersion;
 import com.jwyoo.api.dto.SuggestRequest;
 import com.jwyoo.api.entity.Character;
 import com.jwyoo.api.entity.Dialogue;
@@ -11,6 +12,7 @@ import com.jwyoo.api.repository.DialogueRepository;
 import com.jwyoo.api.repository.SceneRepository;
 import com.jwyoo.api.service.LlmClient;
 import com.jwyoo.api.service.ProjectService;
+import com.jwyoo.api.service.ResourceVersionService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -18,6 +20,7 @@ import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.http.codec.ServerSentEvent;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 import reactor.core.publisher.Flux;
 
 import java.util.List;
@@ -37,6 +40,7 @@ public class DialogueController {
     private final SceneRepository sceneRepository;
     private final CharacterRepository characterRepository;
     private final ProjectService projectService;
+    private final ResourceVersionService resourceVersionService;
 
     /**
      * LLM을 통한 대사 제안
@@ -157,8 +161,12 @@ public class DialogueController {
      * 특정 대사 조회
      */
     @GetMapping("/{id}")
-    public ResponseEntity<Dialogue> getDialogue(@PathVariable Long id) {
+    public ResponseEntity<Dialogue> getDialogue(@PathVariable Long id, WebRequest webRequest) {
         log.info("GET /dialogue/{} - Fetching dialogue", id);
+        ResourceVersion version = resourceVersionService.dialogue(id);
+        if (version != null && webRequest.checkNotModified(version.etag(), version.lastModified())) {
+            return null;
+        }
 
         Dialogue dialogue = dialogueRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("대사", id));
@@ -170,8 +178,12 @@ public class DialogueController {
      * 장면의 대사 목록 조회 (순서대로)
      */
     @GetMapping("/scene/{sceneId}")
-    public ResponseEntity<List<Dialogue>> getDialoguesByScene(@PathVariable Long sceneId) {
+    public ResponseEntity<List<Dialogue>> getDialoguesByScene(@PathVariable Long sceneId, WebRequest webRequest) {
         log.info("GET /dialogue/scene/{} - Fetching dialogues by scene", sceneId);
+        ResourceVersion version = resourceVersionService.dialoguesOfScene(sceneId);
+        if (version != null && webRequest.checkNotModified(version.etag(), version.lastModified())) {
+            return null;
+        }
 
         List<Dialogue> dialogues = dialogueRepository.findBySceneIdOrderByDialogueOrderAsc(sceneId);
 
@@ -2,13 +2,16 @@ package com.jwyoo.api.controller;
 
 import com.jwyoo.api.dto.EpisodeDto;
 import com.jwyoo.api.dto.PlotAnalysisDto;
+import com.jwyoo.api.dto.ResourceVersion;
 import com.jwyoo.api.entity.Episode;
 import com.jwyoo.api.service.EpisodeService;
 import com.jwyoo.api.service.PlotAnalysisService;
+import com.jwyoo.api.service.ResourceVersionService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import org.springframework.http.HttpStatus;
 
@@ -25,25 +28,31 @@ public class EpisodeController {
 
     private final EpisodeService episodeService;
     private final PlotAnalysisService plotAnalysisService;
+    private final ResourceVersionService resourceVersionService;
 
     /**
      * 에피소드 목록 조회 (현재 프로젝트)
+     * ETag/Last-Modified를 붙이고, 바뀌지 않았으면 목록을 조회하지 않고 304
      */
     @GetMapping
-    public List<Map<String, Object>> getEpisodes() {
+    public List<Map<String, Object>> getEpisodes(WebRequest webRequest) {
+        ResourceVersion version = resourceVersionService.episodeList();
+        if (version != null && webRequest.checkNotModified(version.etag(), version.lastModified())) {
+            return null;
+        }
         return episodeService.getAllEpisodes().stream()
             .map(episode -> {
                 Map<String, Object> map = new HashMap<>();
-                map.put("id", episode.getId());
-                map.put("title", episode.getTitle());
-                map.put("description", episode.getDescription() != null ? episode.getDescription() : "");
-                map.put("episodeOrder", episode.getEpisodeOrder());
-                map.put("scriptText", episode.getScriptText());
-                map.put("scriptFormat", episode.getScriptFormat());
-                map.put("analysisStatus", episode.getAnalysisStatus());
-                map.put("llmProvider", episode.getLlmProvider());
-                map.put("createdAt", episode.getCreatedAt());
-                map.put("updatedAt", episode.getUpdatedAt());
+                map.put("id", episode.id());
+                map.put("title", episode.title());
+                map.put("description", episode.description() != null ? episode.description() : "");
+                map.put("episodeOrder", episode.episodeOrder());
+                map.put("scriptText", episode.scriptText());
+                map.put("scriptFormat", episode.scriptFormat());
+                map.put("analysisStatus", episode.analysisStatus());
+                map.put("llmProvider", episode.llmProvider());
+                map.put("createdAt", episode.createdAt());
+                map.put("updatedAt", episode.updatedAt());
                 return map;
             })
             .collect(Collectors.toList());
@@ -51,10 +60,15 @@ public class EpisodeController {
 
     /**
      * 에피소드 상세 조회
+     * 대본 원문을 읽기 전에 ETag로 비교해, 바뀌지 않았으면 304
      */
     @GetMapping("/{id}")
-    public ResponseEntity<Episode> getEpisode(@PathVariable Long id) {
+    public ResponseEntity<Episode> getEpisode(@PathVariable Long id, WebRequest webRequest) {
         log.info("GET /episodes/{} - Fetching episode details", id);
+        ResourceVersion version = resourceVersionService.episode(id);
+        if (version != null && webRequest.checkNotModified(version.etag(), version.lastModified())) {
+            return null;
+        }
         Episode episode = episodeService.getEpisodeById(id);
         return ResponseEntity.ok(episode);
     }
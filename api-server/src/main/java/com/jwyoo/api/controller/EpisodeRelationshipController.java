@@ -1,16 +1,20 @@
 package com.jwyoo.api.controller;
 
 import com.jwyoo.api.entity.EpisodeRelationship;
+import com.jwyoo.api.graph.service.CharacterCooccurrenceService;
+import com.jwyoo.api.graph.service.EpisodeRelationshipGraphService;
+import com.jwyoo.api.graph.service.GraphStreamWriter;
 import com.jwyoo.api.service.EpisodeRelationshipService;
 import com.jwyoo.api.service.ProjectService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
 import java.util.Map;
-import java.util.stream.Collectors;
 
 /**
  * 에피소드별 캐릭터 관계 REST API 컨트롤러
@@ -24,45 +28,61 @@ public class EpisodeRelationshipController {
 
     private final EpisodeRelationshipService episodeRelationshipService;
     private final ProjectService projectService;
+    private final EpisodeRelationshipGraphService episodeRelationshipGraphService;
+    private final GraphStreamWriter graphStreamWriter;
 
     /**
      * 특정 에피소드의 관계 그래프 조회
+     * 노드 좌표(x, y)는 프로젝트 그래프 서버 배치 기준이라 에피소드를 넘겨도 캐릭터 위치가 유지됨
+     * (그래프 저장소에 아직 동기화되지 않은 캐릭터는 좌표 없음)
+     * 에피소드 관계가 바뀔 때까지 캐시된 결과를 반환
+     *
+     * @param source 엣지 소스: relationship(LLM 추출 관계, 기본) | cooccurrence(같은 장면 대사 동시 등장)
      */
     @GetMapping("/episode/{episodeId}/graph")
-    public ResponseEntity<Map<String, Object>> getEpisodeGraph(@PathVariable Long episodeId) {
-        log.info("GET /episode-relationships/episode/{}/graph - Fetching relationship graph", episodeId);
-
-        List<EpisodeRelationship> relationships = episodeRelationshipService.getRelationshipsByEpisodeAndProject(
-            episodeId,
-            projectService.getCurrentProject()
-        );
+    public ResponseEntity<Map<String, Object>> getEpisodeGraph(
+        @PathVariable Long episodeId,
+        @RequestParam(defaultValue = CharacterCooccurrenceService.SOURCE_RELATIONSHIP) String source
+    ) {
+        log.info("GET /episode-relationships/episode/{}/graph?source={} - Fetching relationship graph", episodeId, source);
 
-        // 노드 (캐릭터) 추출
-        var nodes = relationships.stream()
-            .flatMap(r -> java.util.stream.Stream.of(
-                Map.of("id", r.getFromCharacter().getId(), "label", r.getFromCharacter().getName()),
-                Map.of("id", r.getToCharacter().getId(), "label", r.getToCharacter().getName())
-            ))
-            .distinct()
-            .collect(Collectors.toList());
-
-        // 엣지 (관계) 변환
-        var edges = relationships.stream()
-            .map(r -> Map.of(
-                "id", r.getId(),
-                "source", r.getFromCharacter().getId(),
-                "target", r.getToCharacter().getId(),
-                "label", r.getRelationType(),
-                "closeness", r.getCloseness() != null ? r.getCloseness() : 0.0
-            ))
-            .collect(Collectors.toList());
+        EpisodeRelationshipGraphService.EpisodeGraph graph = episodeRelationshipGraphService.getEpisodeGraph(
+            projectService.getCurrentProject().getId(), episodeId, CharacterCooccurrenceService.isCooccurrence(source));
 
         return ResponseEntity.ok(Map.of(
-            "nodes", nodes,
-            "edges", edges
+            "nodes", graph.nodes(),
+            "edges", graph.edges(),
+            "layoutVersion", graph.layoutVersion(),
+            "source", source.toLowerCase()
         ));
     }
 
+    /**
+     * 특정 에피소드의 관계 그래프를 NDJSON으로 스트리밍
+     * 줄마다 {"type": "meta" | "node" | "edge", "data": {...}}
+     */
+    @GetMapping(value = "/episode/{episodeId}/graph/stream", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamEpisodeGraph(
+        @PathVariable Long episodeId,
+        @RequestParam(defaultValue = CharacterCooccurrenceService.SOURCE_RELATIONSHIP) String source
+    ) {
+        log.info("GET /episode-relationships/episode/{}/graph/stream?source={} - Streaming relationship graph", episodeId, source);
+
+        EpisodeRelationshipGraphService.EpisodeGraph graph = episodeRelationshipGraphService.getEpisodeGraph(
+            projectService.getCurrentProject().getId(), episodeId, CharacterCooccurrenceService.isCooccurrence(source));
+        Map<String, Object> meta = Map.of(
+            "episodeId", episodeId,
+            "source", source.toLowerCase(),
+            "layoutVersion", graph.layoutVersion(),
+            "nodeCount", graph.nodes().size(),
+            "edgeCount", graph.edges().size()
+        );
+
+        return ResponseEntity.ok()
+            .contentType(MediaType.APPLICATION_NDJSON)
+            .body(graphStreamWriter.stream(meta, graph.nodes(), graph.edges()));
+    }
+
     /**
      * 특정 에피소드의 모든 관계 조회
      */
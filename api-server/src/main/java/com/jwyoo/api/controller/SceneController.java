@@ -1,16 +1,19 @@
 package com.jwyoo.api.controller;
 
+import com.jwyoo.api.dto.ResourceVersion;
 import com.jwyoo.api.entity.Character;
 import com.jwyoo.api.entity.Dialogue;
 import com.jwyoo.api.entity.Scene;
 import com.jwyoo.api.entity.ScenarioVersion;
 import com.jwyoo.api.service.LlmClient;
+import com.jwyoo.api.service.ResourceVersionService;
 import com.jwyoo.api.service.SceneService;
 import com.jwyoo.api.service.ScenarioVersionService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.HashMap;
 import java.util.List;
@@ -26,6 +29,7 @@ public class SceneController {
     private final SceneService sceneService;
     private final LlmClient llmClient;
     private final ScenarioVersionService scenarioVersionService;
+    private final ResourceVersionService resourceVersionService;
 
     @GetMapping
     public ResponseEntity<List<Scene>> getAllScenes() {
@@ -34,8 +38,12 @@ public class SceneController {
     }
 
     @GetMapping("/{id}")
-    public ResponseEntity<Map<String, Object>> getScene(@PathVariable Long id) {
+    public ResponseEntity<Map<String, Object>> getScene(@PathVariable Long id, WebRequest webRequest) {
         log.info("GET /scenes/{} - Fetching scene", id);
+        ResourceVersion version = resourceVersionService.scene(id);
+        if (version != null && webRequest.checkNotModified(version.etag(), version.lastModified())) {
+            return null;
+        }
         Scene scene = sceneService.getSceneById(id);
         List<Character> participants = sceneService.getParticipants(scene);
         Map<String, Object> response = new HashMap<>();
@@ -45,14 +53,22 @@ public class SceneController {
     }
 
     @GetMapping("/episode/{episodeId}")
-    public ResponseEntity<List<Scene>> getScenesByEpisode(@PathVariable Long episodeId) {
+    public ResponseEntity<List<Scene>> getScenesByEpisode(@PathVariable Long episodeId, WebRequest webRequest) {
         log.info("GET /scenes/episode/{} - Fetching scenes by episode", episodeId);
+        ResourceVersion version = resourceVersionService.scenesOfEpisode(episodeId);
+        if (version != null && webRequest.checkNotModified(version.etag(), version.lastModified())) {
+            return null;
+        }
         return ResponseEntity.ok(sceneService.getScenesByEpisodeId(episodeId));
     }
 
     @GetMapping("/{id}/dialogues")
-    public ResponseEntity<List<Dialogue>> getDialogues(@PathVariable Long id) {
+    public ResponseEntity<List<Dialogue>> getDialogues(@PathVariable Long id, WebRequest webRequest) {
         log.info("GET /scenes/{}/dialogues - Fetching dialogues", id);
+        ResourceVersion version = resourceVersionService.dialoguesOfScene(id);
+        if (version != null && webRequest.checkNotModified(version.etag(), version.lastModified())) {
+            return null;
+        }
         return ResponseEntity.ok(sceneService.getDialogues(id));
     }
 
@@ -4,6 +4,8 @@ import com.jwyoo.api.dto.SemanticSearchRequest;
 import com.jwyoo.api.dto.SemanticSearchResponse;
 import com.jwyoo.api.entity.RagVector;
 import com.jwyoo.api.service.RagVectorService;
+import com.jwyoo.api.service.SearchRerankService;
+import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.ResponseEntity;
@@ -25,17 +27,23 @@ public class SearchController {
     private final RagVectorService ragVectorService;
 
     /**
-     * 의미 기반 검색 (Vector Similarity)
+     * 의미 기반 검색 (Vector Similarity + MMR 재정렬)
      *
-     * @param request 검색 요청 (query, limit)
-     * @return 유사도 기반 검색 결과
+     * @param request 검색 요청 (query, limit, lambda), lambda가 0.0~1.0 밖이면 400
+     * @return 유사도 기반 검색 결과 (근접 중복 제거)
      */
     @PostMapping("/semantic")
-    public ResponseEntity<List<SemanticSearchResponse>> searchSemantic(@RequestBody SemanticSearchRequest request) {
-        log.info("Semantic search request: query={}, limit={}", request.getQuery(), request.getLimit());
+    public ResponseEntity<List<SemanticSearchResponse>> searchSemantic(@Valid @RequestBody SemanticSearchRequest request) {
+        log.info("Semantic search request: query={}, limit={}, lambda={}",
+            request.getQuery(), request.getLimit(), request.getLambda());
 
         int limit = request.getLimit() != null ? request.getLimit() : 10;
-        List<RagVector> results = ragVectorService.searchSimilar(request.getQuery(), limit);
+        List<SearchRerankService.ScoredVector> results = ragVectorService.searchSimilarDiverse(
+            request.getQuery(),
+            null,
+            limit,
+            request.getLambda()
+        );
 
         List<SemanticSearchResponse> response = results.stream()
             .map(this::toResponse)
@@ -49,22 +57,23 @@ public class SearchController {
      * 타입별 의미 검색 (dialogue, scene, episode, character)
      *
      * @param request 검색 요청
-     * @return 유사도 기반 검색 결과 (타입 필터 적용)
+     * @return 유사도 기반 검색 결과 (타입 필터 + MMR 재정렬 적용)
      */
     @PostMapping("/semantic/by-type")
-    public ResponseEntity<List<SemanticSearchResponse>> searchSemanticByType(@RequestBody SemanticSearchRequest request) {
-        log.info("Semantic search by type: query={}, sourceType={}, limit={}",
-            request.getQuery(), request.getSourceType(), request.getLimit());
+    public ResponseEntity<List<SemanticSearchResponse>> searchSemanticByType(@Valid @RequestBody SemanticSearchRequest request) {
+        log.info("Semantic search by type: query={}, sourceType={}, limit={}, lambda={}",
+            request.getQuery(), request.getSourceType(), request.getLimit(), request.getLambda());
 
         if (request.getSourceType() == null || request.getSourceType().isBlank()) {
             return ResponseEntity.badRequest().build();
         }
 
         int limit = request.getLimit() != null ? request.getLimit() : 10;
-        List<RagVector> results = ragVectorService.searchSimilarByType(
+        List<SearchRerankService.ScoredVector> results = ragVectorService.searchSimilarDiverse(
             request.getQuery(),
             request.getSourceType(),
-            limit
+            limit,
+            request.getLambda()
         );
 
         List<SemanticSearchResponse> response = results.stream()
@@ -118,4 +127,13 @@ public class SearchController {
             .createdAt(vector.getCreatedAt())
             .build();
     }
+
+    /**
+     * 재정렬 결과를 Response DTO로 변환 (유사도 포함)
+     */
+    private SemanticSearchResponse toResponse(SearchRerankService.ScoredVector scored) {
+        SemanticSearchResponse response = toResponse(scored.vector());
+        response.setSimilarity(scored.similarity());
+        return response;
+    }
 }
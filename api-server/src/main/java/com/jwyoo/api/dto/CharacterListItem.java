@@ -0,0 +1,17 @@
+package com.jwyoo.api.dto;
+
+/**
+ * 캐릭터 목록 항목 (목록 API 응답과 캐시 값)
+ * 엔티티 대신 캐시에 저장하는 불변 값이다. 필드는 {@link CharacterDto}의 응답 필드와 같다.
+ */
+public record CharacterListItem(
+    Long id,
+    String characterId,
+    String name,
+    String description,
+    String personality,
+    String speakingStyle,
+    String vocabulary,
+    String toneKeywords
+) {
+}
@@ -0,0 +1,21 @@
+package com.jwyoo.api.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * 에피소드 목록 항목 (목록 API 응답과 캐시 값)
+ * 엔티티 대신 캐시에 저장하는 불변 값이다. 분석 결과(analysisResult)와 연관관계는 담지 않는다.
+ */
+public record EpisodeListItem(
+    Long id,
+    String title,
+    String description,
+    Integer episodeOrder,
+    String scriptText,
+    String scriptFormat,
+    String analysisStatus,
+    String llmProvider,
+    LocalDateTime createdAt,
+    LocalDateTime updatedAt
+) {
+}
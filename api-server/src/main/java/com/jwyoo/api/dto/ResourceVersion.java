@@ -0,0 +1,35 @@
+package com.jwyoo.api.dto;
+
+import org.springframework.util.DigestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+/**
+ * 응답 검증자 (강한 ETag + Last-Modified)
+ * 응답을 만드는 행들의 {@link VersionStamp}에서 계산하므로 본문을 조회/직렬화하지 않고도 구할 수 있다.
+ *
+ * @param etag         따옴표를 포함한 강한 ETag
+ * @param lastModified Last-Modified (epoch millis, 알 수 없으면 -1)
+ */
+public record ResourceVersion(String etag, long lastModified) {
+
+    /**
+     * @param representation 응답 형식 이름 (형식이 바뀌면 버전을 올려 이전 ETag를 무효화, 예: "episode:v1")
+     * @param stamps         응답을 만드는 행 집합의 버전 요약
+     */
+    public static ResourceVersion of(String representation, VersionStamp... stamps) {
+        StringBuilder source = new StringBuilder(representation);
+        LocalDateTime latest = null;
+        for (VersionStamp stamp : stamps) {
+            source.append('|').append(stamp.count())
+                .append(':').append(stamp.idSum())
+                .append(':').append(stamp.lastModified());
+            latest = VersionStamp.latest(latest, stamp.lastModified());
+        }
+        String hash = DigestUtils.md5DigestAsHex(source.toString().getBytes(StandardCharsets.UTF_8));
+        long lastModified = latest != null ? latest.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli() : -1;
+        return new ResourceVersion("\"" + hash + "\"", lastModified);
+    }
+}
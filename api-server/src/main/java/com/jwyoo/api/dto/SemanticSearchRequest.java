@@ -1,5 +1,7 @@
 package com.jwyoo.api.dto;
 
+import jakarta.validation.constraints.DecimalMax;
+import jakarta.validation.constraints.DecimalMin;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -33,4 +35,12 @@ public class SemanticSearchRequest {
      * 결과 개수 제한 (기본값: 10)
      */
     private Integer limit;
+
+    /**
+     * MMR 관련도 가중치 (0.0 ~ 1.0, 기본값: search.rerank.lambda)
+     * 1.0이면 유사도 순, 낮을수록 중복 결과를 더 강하게 배제
+     */
+    @DecimalMin(value = "0.0", message = "lambda는 0.0 이상이어야 합니다")
+    @DecimalMax(value = "1.0", message = "lambda는 1.0 이하여야 합니다")
+    private Double lambda;
 }
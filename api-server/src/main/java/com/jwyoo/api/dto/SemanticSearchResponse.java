@@ -41,6 +41,11 @@ public class SemanticSearchResponse {
      */
     private String metadata;
 
+    /**
+     * 쿼리와의 코사인 유사도 (MMR 재정렬 결과에만 포함)
+     */
+    private Float similarity;
+
     /**
      * 생성 시간
      */
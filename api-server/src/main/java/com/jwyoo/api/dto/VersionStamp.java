@@ -0,0 +1,45 @@
+package com.jwyoo.api.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * 행 집합의 버전 요약 (ETag/Last-Modified 계산용 집계 조회 결과)
+ * 행을 추가/삭제하면 count와 idSum이, 수정하면 lastModified(updatedAt 최댓값)가 바뀐다.
+ *
+ * @param count        행 수
+ * @param idSum        id 합 (삭제와 추가가 겹쳐도 바뀌도록)
+ * @param lastModified 행과 응답에 함께 실리는 연관 행의 updatedAt 중 가장 늦은 값 (행이 없으면 null)
+ */
+public record VersionStamp(Long count, Long idSum, LocalDateTime lastModified) {
+
+    public VersionStamp {
+        count = count != null ? count : 0L;
+        idSum = idSum != null ? idSum : 0L;
+    }
+
+    /**
+     * 연관 행(예: 대사의 캐릭터) 하나의 수정 시각까지 반영
+     */
+    public VersionStamp(Long count, Long idSum, LocalDateTime lastModified, LocalDateTime relatedModified) {
+        this(count, idSum, latest(lastModified, relatedModified));
+    }
+
+    /**
+     * 연관 행 둘(예: 대사의 캐릭터와 그 프로젝트)의 수정 시각까지 반영
+     */
+    public VersionStamp(Long count, Long idSum, LocalDateTime lastModified,
+                        LocalDateTime relatedModified, LocalDateTime secondRelatedModified) {
+        this(count, idSum, latest(latest(lastModified, relatedModified), secondRelatedModified));
+    }
+
+    public boolean isEmpty() {
+        return count == 0;
+    }
+
+    static LocalDateTime latest(LocalDateTime a, LocalDateTime b) {
+        if (a == null) {
+            return b;
+        }
+        return b == null || a.isAfter(b) ? a : b;
+    }
+}
@@ -0,0 +1,68 @@
+package com.jwyoo.api.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 에피소드별 캐릭터 동시 등장(co-occurrence) 집계
+ * 같은 장면에서 둘 다 대사를 한 캐릭터 쌍마다 한 행 (characterAId < characterBId)
+ * 대사 데이터에서 파생되는 값이라 FK 없이 ID만 저장하고, 대사/장면이 바뀐 에피소드 단위로 다시 계산한다.
+ */
+@Entity
+@Table(name = "character_cooccurrences", uniqueConstraints = {
+    @UniqueConstraint(name = "uk_cooccurrence_episode_pair", columnNames = {"episode_id", "character_a_id", "character_b_id"})
+}, indexes = {
+    @Index(name = "idx_cooccurrence_project", columnList = "project_id")
+})
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class CharacterCooccurrence {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "project_id", nullable = false)
+    private Long projectId;
+
+    @Column(name = "episode_id", nullable = false)
+    private Long episodeId;
+
+    /**
+     * 쌍 중 ID가 작은 캐릭터
+     */
+    @Column(name = "character_a_id", nullable = false)
+    private Long characterAId;
+
+    /**
+     * 쌍 중 ID가 큰 캐릭터
+     */
+    @Column(name = "character_b_id", nullable = false)
+    private Long characterBId;
+
+    /**
+     * 두 캐릭터가 함께 대사를 한 장면 수
+     */
+    @Column(nullable = false)
+    private Integer sceneCount;
+
+    /**
+     * 함께 등장한 장면에서 두 캐릭터가 한 대사 수 합계
+     */
+    @Column(nullable = false)
+    private Integer lineCount;
+
+    @Column(nullable = false)
+    private LocalDateTime updatedAt;
+
+    @PrePersist
+    @PreUpdate
+    protected void onSave() {
+        updatedAt = LocalDateTime.now();
+    }
+}
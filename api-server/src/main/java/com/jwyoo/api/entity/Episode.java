@@ -12,6 +12,10 @@ import java.util.List;
     @Index(name = "idx_episode_project_id", columnList = "project_id"),
     @Index(name = "idx_episode_order_project", columnList = "episodeOrder,project_id")
 })
+@EntityListeners({
+    com.jwyoo.api.graph.event.EpisodeTimelineEventListener.class,
+    com.jwyoo.api.graph.event.EpisodeGraphSyncEventListener.class
+})
 @Getter
 @Setter
 @NoArgsConstructor
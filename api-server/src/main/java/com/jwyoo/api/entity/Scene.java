@@ -13,6 +13,7 @@ import java.util.List;
     @Index(name = "idx_scene_episode_id", columnList = "episode_id"),
     @Index(name = "idx_scene_number_episode", columnList = "sceneNumber,episode_id")
 })
+@EntityListeners(com.jwyoo.api.graph.event.EpisodeGraphSyncEventListener.class)
 @Getter
 @Setter
 @NoArgsConstructor
@@ -1,12 +1,15 @@
 package com.jwyoo.api.event;
 
 import com.jwyoo.api.entity.Concept;
+import com.jwyoo.api.graph.service.ConceptSimilarityService;
 import com.jwyoo.api.graph.service.ConceptSyncService;
+import com.jwyoo.api.graph.service.EpisodeGraphSyncService;
 import com.jwyoo.api.service.RagVectorService;
 import jakarta.persistence.PostPersist;
 import jakarta.persistence.PostRemove;
 import jakarta.persistence.PostUpdate;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.Lazy;
 import org.springframework.stereotype.Component;
@@ -21,6 +24,8 @@ public class ConceptSyncEventListener {
 
     private ConceptSyncService conceptSyncService;
     private RagVectorService ragVectorService;
+    private ConceptSimilarityService conceptSimilarityService;
+    private ObjectProvider<EpisodeGraphSyncService> episodeGraphSyncService;
 
     /**
      * @Lazy 주입으로 순환 의존성 방지
@@ -35,6 +40,19 @@ public class ConceptSyncEventListener {
         this.ragVectorService = ragVectorService;
     }
 
+    @Autowired
+    public void setConceptSimilarityService(@Lazy ConceptSimilarityService conceptSimilarityService) {
+        this.conceptSimilarityService = conceptSimilarityService;
+    }
+
+    /**
+     * Neo4j 저장소에서만 등록되므로 있을 때만 사용
+     */
+    @Autowired
+    public void setEpisodeGraphSyncService(ObjectProvider<EpisodeGraphSyncService> episodeGraphSyncService) {
+        this.episodeGraphSyncService = episodeGraphSyncService;
+    }
+
     /**
      * Concept 생성 시 Neo4j 동기화 및 임베딩 생성
      */
@@ -46,6 +64,7 @@ public class ConceptSyncEventListener {
         if (conceptSyncService != null) {
             conceptSyncService.syncConcept(concept);
         }
+        requestEpisodeGraphRefresh(concept);
 
         // 2. 임베딩 생성 (Concept 설명 기반)
         if (ragVectorService != null && concept.getDescription() != null && !concept.getDescription().isBlank()) {
@@ -53,6 +72,7 @@ public class ConceptSyncEventListener {
                 String embeddingText = concept.getName() + ": " + concept.getDescription();
                 ragVectorService.saveEmbedding("concept", concept.getId(), embeddingText, null);
                 log.info("Embedding generated for concept: id={}", concept.getId());
+                requestSimilarityRefresh(concept);
             } catch (Exception e) {
                 log.error("Failed to generate embedding for concept: id={}", concept.getId(), e);
             }
@@ -70,6 +90,7 @@ public class ConceptSyncEventListener {
         if (conceptSyncService != null) {
             conceptSyncService.syncConcept(concept);
         }
+        requestEpisodeGraphRefresh(concept);
 
         // 2. 임베딩 재생성
         if (ragVectorService != null && concept.getDescription() != null && !concept.getDescription().isBlank()) {
@@ -81,6 +102,7 @@ public class ConceptSyncEventListener {
                 String embeddingText = concept.getName() + ": " + concept.getDescription();
                 ragVectorService.saveEmbedding("concept", concept.getId(), embeddingText, null);
                 log.info("Embedding regenerated for concept: id={}", concept.getId());
+                requestSimilarityRefresh(concept);
             } catch (Exception e) {
                 log.error("Failed to regenerate embedding for concept: id={}", concept.getId(), e);
             }
@@ -104,9 +126,28 @@ public class ConceptSyncEventListener {
             try {
                 ragVectorService.deleteEmbedding("concept", concept.getId());
                 log.info("Embedding deleted for concept: id={}", concept.getId());
+                requestSimilarityRefresh(concept);
             } catch (Exception e) {
                 log.error("Failed to delete embedding for concept: id={}", concept.getId(), e);
             }
         }
     }
+
+    /**
+     * 임베딩이 바뀌었으므로 프로젝트 개념 유사도 관계 갱신 예약 (커밋 후 백그라운드)
+     */
+    private void requestSimilarityRefresh(Concept concept) {
+        if (conceptSimilarityService != null && concept.getProject() != null) {
+            conceptSimilarityService.requestRefresh(concept.getProject().getId());
+        }
+    }
+
+    /**
+     * 개념이 속한 에피소드의 CONTAINS / 캐릭터→개념 관계 갱신 예약 (커밋 후 백그라운드)
+     */
+    private void requestEpisodeGraphRefresh(Concept concept) {
+        if (episodeGraphSyncService != null && concept.getEpisode() != null) {
+            episodeGraphSyncService.ifAvailable(service -> service.requestRefresh(concept.getEpisode().getId()));
+        }
+    }
 }
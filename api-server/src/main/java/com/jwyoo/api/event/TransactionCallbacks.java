@@ -0,0 +1,28 @@
+package com.jwyoo.api.event;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 트랜잭션 커밋 후 실행 유틸리티
+ * 엔티티 리스너/서비스에서 캐시 폐기나 그래프 동기화 예약을 커밋 이후로 미룰 때 사용
+ * (롤백되면 실행하지 않고, 트랜잭션 밖이면 바로 실행)
+ */
+public final class TransactionCallbacks {
+
+    private TransactionCallbacks() {
+    }
+
+    public static void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+}
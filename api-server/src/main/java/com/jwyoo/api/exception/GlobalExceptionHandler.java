@@ -33,6 +33,24 @@ public class GlobalExceptionHandler {
         return buildErrorResponse(HttpStatus.NOT_FOUND, ex.getMessage(), null);
     }
 
+    /**
+     * 그래프 동기화 잠금 충돌 처리
+     */
+    @ExceptionHandler(GraphSyncLockedException.class)
+    public ResponseEntity<Map<String, Object>> handleGraphSyncLocked(GraphSyncLockedException ex) {
+        log.warn("Graph sync locked: {}", ex.getMessage());
+        return buildErrorResponse(HttpStatus.CONFLICT, ex.getMessage(), null);
+    }
+
+    /**
+     * 잘못된 그래프 엣지 소스 파라미터 처리
+     */
+    @ExceptionHandler(InvalidGraphSourceException.class)
+    public ResponseEntity<Map<String, Object>> handleInvalidGraphSource(InvalidGraphSourceException ex) {
+        log.warn("Invalid graph source: {}", ex.getMessage());
+        return buildErrorResponse(HttpStatus.BAD_REQUEST, ex.getMessage(), null);
+    }
+
     /**
      * Validation 예외 처리
      */
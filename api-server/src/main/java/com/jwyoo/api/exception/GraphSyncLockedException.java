@@ -0,0 +1,11 @@
+package com.jwyoo.api.exception;
+
+/**
+ * 다른 노드가 같은 범위의 그래프 동기화를 진행 중일 때 발생하는 예외
+ */
+public class GraphSyncLockedException extends RuntimeException {
+
+    public GraphSyncLockedException(String scope) {
+        super(String.format("다른 서버에서 그래프 동기화가 진행 중입니다. (%s)", scope));
+    }
+}
@@ -0,0 +1,11 @@
+package com.jwyoo.api.exception;
+
+/**
+ * 그래프 엣지 소스(?source=) 값이 허용 목록에 없을 때 발생하는 예외
+ */
+public class InvalidGraphSourceException extends IllegalArgumentException {
+
+    public InvalidGraphSourceException(String source) {
+        super(String.format("지원하지 않는 그래프 소스입니다: %s (relationship, cooccurrence 중 하나)", source));
+    }
+}
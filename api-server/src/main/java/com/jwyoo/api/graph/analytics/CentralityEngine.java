@@ -0,0 +1,217 @@
+package com.jwyoo.api.graph.analytics;
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * CSR 그래프 중심성 계산 엔진 (fork/join 병렬)
+ *
+ * - Betweenness: Brandes 알고리즘 (무가중치 BFS, 정확값, 무방향이므로 /2)
+ * - Closeness: 도달 가능한 노드 수 / 거리 합 (= 1 / 평균 거리, 기존 Cypher 정의와 동일)
+ * - PageRank: closeness 합을 가중치로 한 power iteration
+ *
+ * Betweenness와 Closeness는 같은 BFS에서 함께 계산하며, 시작 노드 구간을 나눠 병렬 처리
+ */
+public class CentralityEngine {
+
+    static final double DAMPING = 0.85;
+    static final double TOLERANCE = 1e-9;
+    static final int MAX_ITERATIONS = 100;
+
+    private final ForkJoinPool pool;
+
+    public CentralityEngine(ForkJoinPool pool) {
+        this.pool = pool;
+    }
+
+    public CentralityScores compute(CsrGraph graph) {
+        long start = System.nanoTime();
+        int n = graph.nodeCount();
+
+        double[] closeness = new double[n];
+        double[] betweenness = n == 0
+            ? new double[0]
+            : pool.invoke(new BrandesTask(graph, closeness, 0, n, splitThreshold(n)));
+        for (int v = 0; v < n; v++) {
+            betweenness[v] /= 2.0;
+        }
+
+        double[] pageRank = pageRank(graph);
+
+        long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+        return new CentralityScores(graph, betweenness, closeness, pageRank, elapsedMillis);
+    }
+
+    private int splitThreshold(int n) {
+        return Math.max(1, n / (pool.getParallelism() * 4));
+    }
+
+    /**
+     * 시작 노드 구간 [from, to)에 대한 Brandes 누적 (구간별 부분합을 병합)
+     */
+    private static final class BrandesTask extends RecursiveTask<double[]> {
+
+        private final CsrGraph graph;
+        private final double[] closeness;
+        private final int from;
+        private final int to;
+        private final int threshold;
+
+        BrandesTask(CsrGraph graph, double[] closeness, int from, int to, int threshold) {
+            this.graph = graph;
+            this.closeness = closeness;
+            this.from = from;
+            this.to = to;
+            this.threshold = threshold;
+        }
+
+        @Override
+        protected double[] compute() {
+            if (to - from <= threshold) {
+                return computeDirectly();
+            }
+
+            int mid = (from + to) >>> 1;
+            BrandesTask left = new BrandesTask(graph, closeness, from, mid, threshold);
+            BrandesTask right = new BrandesTask(graph, closeness, mid, to, threshold);
+            left.fork();
+            double[] partial = right.compute();
+            double[] other = left.join();
+            for (int v = 0; v < partial.length; v++) {
+                partial[v] += other[v];
+            }
+            return partial;
+        }
+
+        private double[] computeDirectly() {
+            int n = graph.nodeCount();
+            int[] offsets = graph.offsets();
+            int[] neighbors = graph.neighbors();
+
+            double[] centrality = new double[n];
+            int[] distance = new int[n];
+            double[] sigma = new double[n];
+            double[] delta = new double[n];
+            int[] order = new int[n];
+            Arrays.fill(distance, -1);
+
+            for (int s = from; s < to; s++) {
+                // BFS (order는 큐이자 방문 순서 스택)
+                int head = 0;
+                int tail = 0;
+                order[tail++] = s;
+                distance[s] = 0;
+                sigma[s] = 1.0;
+                long distanceSum = 0;
+
+                while (head < tail) {
+                    int v = order[head++];
+                    int nextDistance = distance[v] + 1;
+                    for (int i = offsets[v]; i < offsets[v + 1]; i++) {
+                        int w = neighbors[i];
+                        if (distance[w] < 0) {
+                            distance[w] = nextDistance;
+                            distanceSum += nextDistance;
+                            order[tail++] = w;
+                        }
+                        if (distance[w] == nextDistance) {
+                            sigma[w] += sigma[v];
+                        }
+                    }
+                }
+
+                int reachable = tail - 1;
+                closeness[s] = distanceSum > 0 ? (double) reachable / distanceSum : 0.0;
+
+                // 의존도 역전파 (후속 노드 기준으로 계산하여 선행자 목록 불필요)
+                for (int k = tail - 1; k >= 0; k--) {
+                    int v = order[k];
+                    int nextDistance = distance[v] + 1;
+                    double dependency = 0.0;
+                    for (int i = offsets[v]; i < offsets[v + 1]; i++) {
+                        int w = neighbors[i];
+                        if (distance[w] == nextDistance) {
+                            dependency += sigma[v] / sigma[w] * (1.0 + delta[w]);
+                        }
+                    }
+                    delta[v] = dependency;
+                    if (v != s) {
+                        centrality[v] += dependency;
+                    }
+                }
+
+                // 방문한 노드만 초기화
+                for (int k = 0; k < tail; k++) {
+                    int v = order[k];
+                    distance[v] = -1;
+                    sigma[v] = 0.0;
+                    delta[v] = 0.0;
+                }
+            }
+            return centrality;
+        }
+    }
+
+    /**
+     * 가중 PageRank (pull 방식, 반복마다 노드 구간 병렬)
+     * 가중치 합이 0인 노드는 이웃에게 균등 분배, 고립 노드는 전체에 균등 분배
+     */
+    double[] pageRank(CsrGraph graph) {
+        int n = graph.nodeCount();
+        if (n == 0) {
+            return new double[0];
+        }
+
+        int[] offsets = graph.offsets();
+        int[] neighbors = graph.neighbors();
+        double[] weights = graph.weights();
+
+        double[] outWeight = new double[n];
+        for (int v = 0; v < n; v++) {
+            for (int i = offsets[v]; i < offsets[v + 1]; i++) {
+                outWeight[v] += Math.max(0.0, weights[i]);
+            }
+        }
+
+        double[] rank = new double[n];
+        double[] next = new double[n];
+        Arrays.fill(rank, 1.0 / n);
+        int threshold = splitThreshold(n);
+
+        for (int iteration = 0; iteration < MAX_ITERATIONS; iteration++) {
+            double danglingMass = 0.0;
+            for (int v = 0; v < n; v++) {
+                if (offsets[v + 1] == offsets[v]) {
+                    danglingMass += rank[v];
+                }
+            }
+            double base = (1.0 - DAMPING) / n + DAMPING * danglingMass / n;
+
+            double[] current = rank;
+            double[] target = next;
+            pool.invoke(new RangeAction(0, n, threshold, v -> {
+                double sum = 0.0;
+                for (int i = offsets[v]; i < offsets[v + 1]; i++) {
+                    int u = neighbors[i];
+                    double share = outWeight[u] > 0.0
+                        ? Math.max(0.0, weights[i]) / outWeight[u]
+                        : 1.0 / (offsets[u + 1] - offsets[u]);
+                    sum += current[u] * share;
+                }
+                target[v] = base + DAMPING * sum;
+            }));
+
+            double diff = 0.0;
+            for (int v = 0; v < n; v++) {
+                diff += Math.abs(next[v] - rank[v]);
+            }
+            rank = next;
+            next = current;
+            if (diff < TOLERANCE) {
+                break;
+            }
+        }
+        return rank;
+    }
+}
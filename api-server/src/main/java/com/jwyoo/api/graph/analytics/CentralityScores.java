@@ -0,0 +1,100 @@
+package com.jwyoo.api.graph.analytics;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+/**
+ * 한 그래프 버전에 대한 중심성 계산 결과 (노드 인덱스는 CsrGraph 기준)
+ */
+public final class CentralityScores {
+
+    /**
+     * 지표 종류 (key는 API 응답 필드명)
+     */
+    public enum Metric {
+        DEGREE("degreeCentrality"),
+        BETWEENNESS("betweennessCentrality"),
+        CLOSENESS("closenessCentrality"),
+        PAGE_RANK("pageRank"),
+        WEIGHTED_DEGREE("weightedDegree");
+
+        private final String key;
+
+        Metric(String key) {
+            this.key = key;
+        }
+
+        public String getKey() {
+            return key;
+        }
+    }
+
+    private final CsrGraph graph;
+    private final double[] betweenness;
+    private final double[] closeness;
+    private final double[] pageRank;
+    private final long computeMillis;
+
+    CentralityScores(CsrGraph graph, double[] betweenness, double[] closeness, double[] pageRank, long computeMillis) {
+        this.graph = graph;
+        this.betweenness = betweenness;
+        this.closeness = closeness;
+        this.pageRank = pageRank;
+        this.computeMillis = computeMillis;
+    }
+
+    public CsrGraph getGraph() {
+        return graph;
+    }
+
+    public long getComputeMillis() {
+        return computeMillis;
+    }
+
+    public double score(Metric metric, int v) {
+        return switch (metric) {
+            case DEGREE -> graph.degree(v);
+            case BETWEENNESS -> betweenness[v];
+            case CLOSENESS -> closeness[v];
+            case PAGE_RANK -> pageRank[v];
+            case WEIGHTED_DEGREE -> graph.weightedDegree(v);
+        };
+    }
+
+    /**
+     * 지표 상위 limit개 (동점이면 이름순)
+     * 관계가 하나도 없는 캐릭터는 제외 (기존 Cypher 집계 결과와 동일)
+     */
+    public List<Map<String, Object>> top(Metric metric, int limit) {
+        List<Map<String, Object>> rows = new ArrayList<>(Math.min(limit, graph.nodeCount()));
+
+        IntStream.range(0, graph.nodeCount())
+            .filter(v -> graph.degree(v) > 0)
+            .boxed()
+            .sorted(Comparator.<Integer>comparingDouble(v -> score(metric, v)).reversed()
+                .thenComparing(v -> graph.name(v), Comparator.nullsLast(Comparator.naturalOrder())))
+            .limit(limit)
+            .forEach(v -> rows.add(row(metric, v)));
+
+        return rows;
+    }
+
+    private Map<String, Object> row(Metric metric, int v) {
+        Map<String, Object> row = new LinkedHashMap<>();
+        row.put("characterId", graph.characterId(v));
+        row.put("name", graph.name(v));
+        if (metric == Metric.DEGREE) {
+            row.put(metric.getKey(), graph.degree(v));
+        } else {
+            row.put(metric.getKey(), score(metric, v));
+        }
+        if (metric == Metric.WEIGHTED_DEGREE) {
+            row.put("relationshipCount", graph.relationshipCount(v));
+        }
+        return row;
+    }
+}
@@ -0,0 +1,192 @@
+package com.jwyoo.api.graph.analytics;
+
+import com.jwyoo.api.service.VectorMath;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
+
+/**
+ * 개념 임베딩 k-최근접 이웃 (코사인 유사도, fork/join 병렬)
+ * 벡터를 생성 시 L2 정규화해 두므로 쌍 유사도는 내적 한 번
+ *
+ * 임베딩이 바뀐 개념만 다시 계산할 수 있도록, 바뀐 개념 때문에 top-k가 달라지는 다른 개념도 함께 찾는다.
+ * (바뀐 개념이 기존 이웃이었거나, 기존 k번째 이웃보다 가까워진 경우)
+ */
+public final class ConceptKnn {
+
+    /**
+     * 이웃 개념 (RDB Concept.id, 코사인 유사도)
+     */
+    public record Neighbor(long rdbId, double similarity) {
+    }
+
+    private final long[] rdbIds;
+    private final float[][] vectors;
+    private final Map<Long, Integer> indexByRdbId;
+
+    /**
+     * @param rdbIds     개념 RDB ID
+     * @param embeddings rdbIds와 같은 순서의 임베딩 (원본은 변경하지 않음)
+     */
+    public ConceptKnn(long[] rdbIds, float[][] embeddings) {
+        if (rdbIds.length != embeddings.length) {
+            throw new IllegalArgumentException("rdbIds and embeddings must have the same length");
+        }
+        this.rdbIds = rdbIds.clone();
+        this.vectors = new float[embeddings.length][];
+        this.indexByRdbId = new HashMap<>(rdbIds.length * 2);
+        for (int i = 0; i < rdbIds.length; i++) {
+            vectors[i] = normalize(embeddings[i]);
+            indexByRdbId.put(rdbIds[i], i);
+        }
+    }
+
+    public int size() {
+        return rdbIds.length;
+    }
+
+    public long rdbId(int index) {
+        return rdbIds[index];
+    }
+
+    /**
+     * RDB ID의 인덱스, 없으면 -1
+     */
+    public int indexOf(long rdbId) {
+        Integer index = indexByRdbId.get(rdbId);
+        return index != null ? index : -1;
+    }
+
+    double similarity(int a, int b) {
+        return VectorMath.dot(vectors[a], vectors[b]);
+    }
+
+    /**
+     * index 개념의 top-k 이웃 (자기 자신 제외, 유사도 내림차순, minSimilarity 미만 제외)
+     */
+    public List<Neighbor> nearest(int index, int k, double minSimilarity) {
+        int[] top = new int[k];
+        double[] topSimilarity = new double[k];
+        int count = 0;
+
+        for (int other = 0; other < rdbIds.length; other++) {
+            if (other == index) {
+                continue;
+            }
+            double similarity = similarity(index, other);
+            if (similarity < minSimilarity || (count == k && similarity <= topSimilarity[k - 1])) {
+                continue;
+            }
+
+            // k가 작으므로 정렬 배열에 삽입
+            int position = count < k ? count++ : k - 1;
+            while (position > 0 && topSimilarity[position - 1] < similarity) {
+                top[position] = top[position - 1];
+                topSimilarity[position] = topSimilarity[position - 1];
+                position--;
+            }
+            top[position] = other;
+            topSimilarity[position] = similarity;
+        }
+
+        List<Neighbor> neighbors = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            neighbors.add(new Neighbor(rdbIds[top[i]], topSimilarity[i]));
+        }
+        return neighbors;
+    }
+
+    /**
+     * 여러 개념의 top-k 이웃 (대상 구간 병렬)
+     *
+     * @return 대상 개념 RDB ID → 이웃
+     */
+    public Map<Long, List<Neighbor>> nearest(int[] targets, int k, double minSimilarity, ForkJoinPool pool) {
+        @SuppressWarnings("unchecked")
+        List<Neighbor>[] results = new List[targets.length];
+        if (targets.length > 0) {
+            pool.invoke(new RangeAction(0, targets.length, splitThreshold(targets.length, pool),
+                t -> results[t] = nearest(targets[t], k, minSimilarity)));
+        }
+
+        Map<Long, List<Neighbor>> neighbors = new HashMap<>(targets.length * 2);
+        for (int t = 0; t < targets.length; t++) {
+            neighbors.put(rdbIds[targets[t]], results[t]);
+        }
+        return neighbors;
+    }
+
+    /**
+     * 다시 계산해야 하는 개념 인덱스 (오름차순)
+     * - 임베딩이 바뀐(또는 새) 개념
+     * - 기존 이웃 중 임베딩이 바뀌었거나 사라진 개념이 있는 개념
+     * - 바뀐 개념과의 유사도가 기존 k번째 이웃보다 높은(이웃이 k개 미만이면 minSimilarity 이상인) 개념
+     *
+     * @param changed 임베딩이 바뀐 개념 RDB ID
+     * @param current 개념별 현재 저장된 이웃 (없으면 이웃 없음)
+     */
+    public int[] affected(Set<Long> changed, Map<Long, List<Neighbor>> current,
+                          int k, double minSimilarity, ForkJoinPool pool) {
+        int n = rdbIds.length;
+        int[] changedIndexes = changed.stream()
+            .mapToInt(this::indexOf)
+            .filter(index -> index >= 0)
+            .toArray();
+
+        boolean[] recompute = new boolean[n];
+        if (n > 0) {
+            pool.invoke(new RangeAction(0, n, splitThreshold(n, pool), v -> {
+                if (changed.contains(rdbIds[v])) {
+                    recompute[v] = true;
+                    return;
+                }
+                recompute[v] = isAffected(v, current.getOrDefault(rdbIds[v], List.of()),
+                    changed, changedIndexes, k, minSimilarity);
+            }));
+        }
+
+        return IntStream.range(0, n).filter(v -> recompute[v]).toArray();
+    }
+
+    private boolean isAffected(int v, List<Neighbor> neighbors, Set<Long> changed,
+                               int[] changedIndexes, int k, double minSimilarity) {
+        if (neighbors.size() > k) {
+            return true;
+        }
+        boolean full = neighbors.size() == k;
+        double kthSimilarity = Double.POSITIVE_INFINITY;
+        for (Neighbor neighbor : neighbors) {
+            if (changed.contains(neighbor.rdbId()) || indexOf(neighbor.rdbId()) < 0) {
+                return true;
+            }
+            kthSimilarity = Math.min(kthSimilarity, neighbor.similarity());
+        }
+        for (int c : changedIndexes) {
+            double similarity = similarity(v, c);
+            if (full ? similarity > kthSimilarity : similarity >= minSimilarity) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static int splitThreshold(int n, ForkJoinPool pool) {
+        return Math.max(1, n / (pool.getParallelism() * 4));
+    }
+
+    private static float[] normalize(float[] embedding) {
+        float norm = VectorMath.norm(embedding);
+        float[] normalized = new float[embedding.length];
+        if (norm > 0f) {
+            for (int i = 0; i < embedding.length; i++) {
+                normalized[i] = embedding[i] / norm;
+            }
+        }
+        return normalized;
+    }
+}
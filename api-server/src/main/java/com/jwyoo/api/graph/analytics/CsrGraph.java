@@ -0,0 +1,220 @@
+package com.jwyoo.api.graph.analytics;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 프로젝트 캐릭터 그래프의 CSR(Compressed Sparse Row) 투영
+ * 무방향 그래프로 취급하며, 같은 캐릭터 쌍 사이의 에피소드별 관계는 하나의 이웃으로 합치고 closeness는 가중치로 합산
+ * (closeness가 없는 관계는 엣지 가중치 1.0, weightedDegree 집계에서는 0으로 취급)
+ *
+ * 노드 v의 이웃은 neighbors[offsets[v] .. offsets[v + 1]) 구간 (이웃 인덱스 오름차순)
+ */
+public final class CsrGraph {
+
+    static final double DEFAULT_EDGE_WEIGHT = 1.0;
+
+    /**
+     * 노드 행 (Neo4j Character 노드)
+     */
+    public record NodeRow(long rdbId, String characterId, String name) {
+    }
+
+    /**
+     * 엣지 행 (INTERACTS_WITH 관계 하나, closeness가 없으면 null)
+     */
+    public record EdgeRow(long fromRdbId, long toRdbId, Double closeness) {
+    }
+
+    private final long[] rdbIds;
+    private final String[] characterIds;
+    private final String[] names;
+    private final int[] offsets;
+    private final int[] neighbors;
+    private final double[] weights;
+
+    /**
+     * 원본 관계 기준 집계 (중복 제거 전): 관계 개수, closeness 합
+     */
+    private final int[] relationshipCounts;
+    private final double[] weightedDegrees;
+
+    private final Map<String, Integer> characterIndex;
+
+    private CsrGraph(long[] rdbIds, String[] characterIds, String[] names,
+                     int[] offsets, int[] neighbors, double[] weights,
+                     int[] relationshipCounts, double[] weightedDegrees) {
+        this.rdbIds = rdbIds;
+        this.characterIds = characterIds;
+        this.names = names;
+        this.offsets = offsets;
+        this.neighbors = neighbors;
+        this.weights = weights;
+        this.relationshipCounts = relationshipCounts;
+        this.weightedDegrees = weightedDegrees;
+        this.characterIndex = new HashMap<>(characterIds.length * 2);
+        for (int v = 0; v < characterIds.length; v++) {
+            if (characterIds[v] != null) {
+                characterIndex.putIfAbsent(characterIds[v], v);
+            }
+        }
+    }
+
+    /**
+     * 노드/엣지 행으로 CSR 구성
+     * 노드 목록에 없는 캐릭터를 가리키는 엣지와 자기 자신으로의 엣지는 제외
+     */
+    public static CsrGraph build(List<NodeRow> nodes, List<EdgeRow> edges) {
+        int n = nodes.size();
+        long[] rdbIds = new long[n];
+        String[] characterIds = new String[n];
+        String[] names = new String[n];
+        Map<Long, Integer> index = new HashMap<>(n * 2);
+        for (int i = 0; i < n; i++) {
+            NodeRow node = nodes.get(i);
+            rdbIds[i] = node.rdbId();
+            characterIds[i] = node.characterId();
+            names[i] = node.name();
+            index.put(node.rdbId(), i);
+        }
+
+        int[] relationshipCounts = new int[n];
+        double[] weightedDegrees = new double[n];
+
+        // 1) 유효 엣지 수집 및 양방향 차수 계산
+        int[] from = new int[edges.size()];
+        int[] to = new int[edges.size()];
+        double[] weight = new double[edges.size()];
+        int[] rawDegree = new int[n];
+        int m = 0;
+        for (EdgeRow edge : edges) {
+            Integer u = index.get(edge.fromRdbId());
+            Integer v = index.get(edge.toRdbId());
+            if (u == null || v == null || u.equals(v)) {
+                continue;
+            }
+            from[m] = u;
+            to[m] = v;
+            weight[m] = edge.closeness() != null ? edge.closeness() : DEFAULT_EDGE_WEIGHT;
+            m++;
+
+            double closeness = edge.closeness() != null ? edge.closeness() : 0.0;
+            rawDegree[u]++;
+            rawDegree[v]++;
+            relationshipCounts[u]++;
+            relationshipCounts[v]++;
+            weightedDegrees[u] += closeness;
+            weightedDegrees[v] += closeness;
+        }
+
+        // 2) 양방향 인접 배열 채우기 (중복 포함)
+        int[] rawOffsets = new int[n + 1];
+        for (int v = 0; v < n; v++) {
+            rawOffsets[v + 1] = rawOffsets[v] + rawDegree[v];
+        }
+        int[] cursor = Arrays.copyOf(rawOffsets, n);
+        int[] rawNeighbors = new int[rawOffsets[n]];
+        double[] rawWeights = new double[rawOffsets[n]];
+        for (int e = 0; e < m; e++) {
+            int u = from[e];
+            int v = to[e];
+            rawNeighbors[cursor[u]] = v;
+            rawWeights[cursor[u]++] = weight[e];
+            rawNeighbors[cursor[v]] = u;
+            rawWeights[cursor[v]++] = weight[e];
+        }
+
+        // 3) 노드별로 이웃을 정렬하고 같은 이웃을 하나로 합침
+        int[] offsets = new int[n + 1];
+        int[] neighbors = new int[rawNeighbors.length];
+        double[] weights = new double[rawNeighbors.length];
+        int written = 0;
+        for (int v = 0; v < n; v++) {
+            offsets[v] = written;
+            int start = rawOffsets[v];
+            int length = rawOffsets[v + 1] - start;
+
+            // (이웃 << 32 | 원래 위치)로 묶어 정렬하면 가중치를 따로 정렬하지 않아도 됨
+            long[] keys = new long[length];
+            for (int i = 0; i < length; i++) {
+                keys[i] = ((long) rawNeighbors[start + i] << 32) | i;
+            }
+            Arrays.sort(keys);
+
+            int previous = -1;
+            for (long key : keys) {
+                int neighbor = (int) (key >>> 32);
+                double w = rawWeights[start + (int) key];
+                if (neighbor == previous) {
+                    weights[written - 1] += w;
+                } else {
+                    neighbors[written] = neighbor;
+                    weights[written] = w;
+                    written++;
+                    previous = neighbor;
+                }
+            }
+        }
+        offsets[n] = written;
+
+        return new CsrGraph(rdbIds, characterIds, names, offsets,
+            Arrays.copyOf(neighbors, written), Arrays.copyOf(weights, written),
+            relationshipCounts, weightedDegrees);
+    }
+
+    public int nodeCount() {
+        return rdbIds.length;
+    }
+
+    /**
+     * 무방향 엣지 개수 (중복 제거 후)
+     */
+    public int edgeCount() {
+        return neighbors.length / 2;
+    }
+
+    public int degree(int v) {
+        return offsets[v + 1] - offsets[v];
+    }
+
+    int[] offsets() {
+        return offsets;
+    }
+
+    int[] neighbors() {
+        return neighbors;
+    }
+
+    double[] weights() {
+        return weights;
+    }
+
+    /**
+     * characterId의 노드 인덱스 (없으면 -1)
+     */
+    public int indexOf(String characterId) {
+        return characterIndex.getOrDefault(characterId, -1);
+    }
+
+    public long rdbId(int v) {
+        return rdbIds[v];
+    }
+
+    public String characterId(int v) {
+        return characterIds[v];
+    }
+
+    public String name(int v) {
+        return names[v];
+    }
+
+    public int relationshipCount(int v) {
+        return relationshipCounts[v];
+    }
+
+    public double weightedDegree(int v) {
+        return weightedDegrees[v];
+    }
+}
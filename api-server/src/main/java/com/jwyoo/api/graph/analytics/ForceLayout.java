@@ -0,0 +1,397 @@
+package com.jwyoo.api.graph.analytics;
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * CSR 그래프 force-directed 배치 (Fruchterman-Reingold + Barnes-Hut)
+ *
+ * - 반발력: 반복마다 쿼드트리를 만들고, 멀리 있는 셀(셀 크기 / 거리 < theta)은 질량 중심 하나로 근사 (O(n log n))
+ * - 인력: CSR 이웃 방향으로 d² / k × 엣지 가중치(closeness 합, 범위 제한)
+ * - 중심 인력: 연결되지 않은 컴포넌트가 멀리 흩어지지 않도록 원점 방향으로 약하게
+ *
+ * 노드별 힘 계산과 이동은 노드 구간을 나눠 fork/join 병렬 처리 (쿼드트리는 읽기 전용).
+ * 시작 위치와 지터는 rdbId로 정해지므로 같은 입력이면 같은 결과가 나오고,
+ * 이전 배치가 있으면 새 노드만 이웃 근처에 놓고, 기존 노드는 적은 반복 동안 이동 한도를 줄여 거의 제자리에 둔다.
+ */
+public class ForceLayout {
+
+    /**
+     * 이상적인 엣지 길이 (좌표 단위)
+     */
+    static final double IDEAL_LENGTH = 100.0;
+    static final double GRAVITY = 0.1;
+    /**
+     * warm start 시 이전 배치에 있던 노드의 이동 한도 비율 (새 노드는 1.0)
+     */
+    static final double SETTLED_MOBILITY = 0.02;
+    static final double MIN_EDGE_WEIGHT = 0.1;
+    static final double MAX_EDGE_WEIGHT = 3.0;
+    static final double MIN_DISTANCE_SQUARED = 1e-4;
+    static final double GOLDEN_ANGLE = Math.PI * (3.0 - Math.sqrt(5.0));
+
+    private final ForkJoinPool pool;
+    private final int iterations;
+    private final int warmIterations;
+    private final double theta;
+
+    public ForceLayout(ForkJoinPool pool, int iterations, int warmIterations, double theta) {
+        this.pool = pool;
+        this.iterations = Math.max(1, iterations);
+        this.warmIterations = Math.max(1, warmIterations);
+        this.theta = theta;
+    }
+
+    /**
+     * 그래프 배치 계산
+     *
+     * @param previous 이전 버전 배치 (없으면 null, 있으면 warm start)
+     */
+    public GraphLayout compute(CsrGraph graph, GraphLayout previous) {
+        long start = System.nanoTime();
+        int n = graph.nodeCount();
+        long[] rdbIds = new long[n];
+        for (int v = 0; v < n; v++) {
+            rdbIds[v] = graph.rdbId(v);
+        }
+        double[] x = new double[n];
+        double[] y = new double[n];
+        double[] mobility = new double[n];
+        Arrays.fill(mobility, 1.0);
+
+        boolean warm = previous != null && initialFromPrevious(graph, previous, x, y, mobility);
+        if (!warm) {
+            initialSpiral(x, y);
+        }
+
+        int rounds = warm ? warmIterations : iterations;
+        if (n > 1) {
+            // cold start는 전체 폭의 1/10 정도에서, warm start는 엣지 길이 정도에서 식히기 시작
+            double startTemperature = warm ? IDEAL_LENGTH : IDEAL_LENGTH * Math.sqrt(n);
+            run(graph, x, y, mobility, rounds, startTemperature);
+            if (!warm) {
+                recenter(x, y);
+            }
+        }
+
+        long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+        return new GraphLayout(rdbIds, x, y, n > 1 ? rounds : 0, warm, elapsedMillis);
+    }
+
+    private void run(CsrGraph graph, double[] x, double[] y, double[] mobility, int rounds, double startTemperature) {
+        int n = graph.nodeCount();
+        int[] offsets = graph.offsets();
+        int[] neighbors = graph.neighbors();
+        double[] weights = graph.weights();
+        double[] fx = new double[n];
+        double[] fy = new double[n];
+        double k2 = IDEAL_LENGTH * IDEAL_LENGTH;
+        double theta2 = theta * theta;
+        int threshold = Math.max(16, n / (pool.getParallelism() * 4));
+        QuadTree tree = new QuadTree(n);
+
+        for (int round = 0; round < rounds; round++) {
+            tree.build(x, y);
+            double temperature = startTemperature * (1.0 - (double) round / rounds) + 1.0;
+
+            pool.invoke(new RangeAction(0, n, threshold, v -> {
+                double px = x[v];
+                double py = y[v];
+                double[] repulsion = tree.repulsion(v, px, py, theta2);
+                double forceX = repulsion[0] * k2;
+                double forceY = repulsion[1] * k2;
+
+                for (int i = offsets[v]; i < offsets[v + 1]; i++) {
+                    int u = neighbors[i];
+                    double dx = x[u] - px;
+                    double dy = y[u] - py;
+                    double d = Math.sqrt(dx * dx + dy * dy);
+                    double weight = Math.min(MAX_EDGE_WEIGHT, Math.max(MIN_EDGE_WEIGHT, weights[i]));
+                    // (d² / k) × 단위 벡터 = d × (dx, dy) / k
+                    forceX += dx * d / IDEAL_LENGTH * weight;
+                    forceY += dy * d / IDEAL_LENGTH * weight;
+                }
+
+                forceX -= GRAVITY * px;
+                forceY -= GRAVITY * py;
+                fx[v] = forceX;
+                fy[v] = forceY;
+            }));
+
+            pool.invoke(new RangeAction(0, n, threshold, v -> {
+                double length = Math.sqrt(fx[v] * fx[v] + fy[v] * fy[v]);
+                if (length > 0.0) {
+                    double step = Math.min(length, temperature * mobility[v]) / length;
+                    x[v] += fx[v] * step;
+                    y[v] += fy[v] * step;
+                }
+            }));
+        }
+    }
+
+    /**
+     * 이전 배치 좌표를 복사하고 새 노드는 이미 놓인 이웃들의 평균 위치 근처에 배치
+     *
+     * @return 이전 배치와 겹치는 노드가 하나라도 있으면 true
+     */
+    private static boolean initialFromPrevious(CsrGraph graph, GraphLayout previous,
+                                               double[] x, double[] y, double[] mobility) {
+        int n = graph.nodeCount();
+        boolean[] placed = new boolean[n];
+        int reused = 0;
+        double sumX = 0.0;
+        double sumY = 0.0;
+        for (int v = 0; v < n; v++) {
+            GraphLayout.Point point = previous.position(graph.rdbId(v));
+            if (point != null) {
+                x[v] = point.x();
+                y[v] = point.y();
+                placed[v] = true;
+                mobility[v] = SETTLED_MOBILITY;
+                reused++;
+                sumX += point.x();
+                sumY += point.y();
+            }
+        }
+        if (reused == 0) {
+            return false;
+        }
+
+        int[] offsets = graph.offsets();
+        int[] neighbors = graph.neighbors();
+        double centerX = sumX / reused;
+        double centerY = sumY / reused;
+        double outerRadius = IDEAL_LENGTH * Math.sqrt(n);
+        for (int v = 0; v < n; v++) {
+            if (placed[v]) {
+                continue;
+            }
+            double angle = jitterAngle(graph.rdbId(v));
+            int count = 0;
+            double nx = 0.0;
+            double ny = 0.0;
+            for (int i = offsets[v]; i < offsets[v + 1]; i++) {
+                int u = neighbors[i];
+                if (placed[u]) {
+                    nx += x[u];
+                    ny += y[u];
+                    count++;
+                }
+            }
+            if (count > 0) {
+                x[v] = nx / count + Math.cos(angle) * IDEAL_LENGTH * 0.5;
+                y[v] = ny / count + Math.sin(angle) * IDEAL_LENGTH * 0.5;
+            } else {
+                x[v] = centerX + Math.cos(angle) * outerRadius;
+                y[v] = centerY + Math.sin(angle) * outerRadius;
+            }
+            placed[v] = true;
+        }
+        return true;
+    }
+
+    /**
+     * 해바라기(phyllotaxis) 나선 배치: 노드 순서만으로 정해지고 서로 겹치지 않음
+     */
+    private static void initialSpiral(double[] x, double[] y) {
+        for (int v = 0; v < x.length; v++) {
+            double radius = IDEAL_LENGTH * 0.5 * Math.sqrt(v + 0.5);
+            double angle = v * GOLDEN_ANGLE;
+            x[v] = radius * Math.cos(angle);
+            y[v] = radius * Math.sin(angle);
+        }
+    }
+
+    private static void recenter(double[] x, double[] y) {
+        double meanX = Arrays.stream(x).average().orElse(0.0);
+        double meanY = Arrays.stream(y).average().orElse(0.0);
+        for (int v = 0; v < x.length; v++) {
+            x[v] -= meanX;
+            y[v] -= meanY;
+        }
+    }
+
+    private static double jitterAngle(long rdbId) {
+        long mixed = rdbId * 0x9E3779B97F4A7C15L;
+        return ((mixed >>> 11) * 0x1.0p-53) * 2.0 * Math.PI;
+    }
+
+    /**
+     * 배열 기반 쿼드트리 (셀마다 질량과 질량 중심, 자식 4개는 연속 인덱스)
+     * 반복마다 같은 배열을 재사용해 다시 만든다.
+     */
+    static final class QuadTree {
+
+        private static final int EMPTY = -1;
+        private static final int INTERNAL = -2;
+        private static final int MAX_DEPTH = 48;
+
+        private double[] centerX;
+        private double[] centerY;
+        private double[] half;
+        private double[] mass;
+        private double[] massX;
+        private double[] massY;
+        private int[] firstChild;
+        private int[] body;
+        private int size;
+
+        QuadTree(int expectedBodies) {
+            allocate(Math.max(16, expectedBodies * 4));
+        }
+
+        void build(double[] x, double[] y) {
+            double minX = Double.POSITIVE_INFINITY;
+            double minY = Double.POSITIVE_INFINITY;
+            double maxX = Double.NEGATIVE_INFINITY;
+            double maxY = Double.NEGATIVE_INFINITY;
+            for (int v = 0; v < x.length; v++) {
+                minX = Math.min(minX, x[v]);
+                minY = Math.min(minY, y[v]);
+                maxX = Math.max(maxX, x[v]);
+                maxY = Math.max(maxY, y[v]);
+            }
+            size = 0;
+            int root = newCell((minX + maxX) / 2.0, (minY + maxY) / 2.0,
+                Math.max(maxX - minX, maxY - minY) / 2.0 + 1.0);
+            for (int v = 0; v < x.length; v++) {
+                insert(root, v, x, y);
+            }
+        }
+
+        /**
+         * 노드 v가 받는 반발력 / k² (Σ mass × (p - c) / d²)
+         */
+        double[] repulsion(int v, double px, double py, double theta2) {
+            double forceX = 0.0;
+            double forceY = 0.0;
+            int[] stack = new int[MAX_DEPTH * 4 + 8];
+            int top = 0;
+            stack[top++] = 0;
+            while (top > 0) {
+                int cell = stack[--top];
+                double m = mass[cell];
+                if (m == 0.0) {
+                    continue;
+                }
+                double cx = massX[cell] / m;
+                double cy = massY[cell] / m;
+                double dx = px - cx;
+                double dy = py - cy;
+                double d2 = dx * dx + dy * dy;
+                boolean leaf = firstChild[cell] < 0;
+                if (leaf || 4.0 * half[cell] * half[cell] < theta2 * d2) {
+                    if (leaf && body[cell] == v) {
+                        // 자기 자신 (같은 칸에 합쳐진 다른 노드가 있으면 그만큼만)
+                        m -= 1.0;
+                        if (m <= 0.0) {
+                            continue;
+                        }
+                    }
+                    if (d2 < MIN_DISTANCE_SQUARED) {
+                        continue;
+                    }
+                    forceX += m * dx / d2;
+                    forceY += m * dy / d2;
+                } else {
+                    int child = firstChild[cell];
+                    stack[top++] = child;
+                    stack[top++] = child + 1;
+                    stack[top++] = child + 2;
+                    stack[top++] = child + 3;
+                }
+            }
+            return new double[] {forceX, forceY};
+        }
+
+        private void insert(int root, int v, double[] x, double[] y) {
+            int cell = root;
+            for (int depth = 0; ; depth++) {
+                if (firstChild[cell] >= 0) {
+                    addMass(cell, x[v], y[v]);
+                    cell = firstChild[cell] + quadrant(cell, x[v], y[v]);
+                    continue;
+                }
+                if (body[cell] == EMPTY) {
+                    body[cell] = v;
+                    addMass(cell, x[v], y[v]);
+                    return;
+                }
+                if (depth >= MAX_DEPTH) {
+                    // 거의 같은 위치의 노드는 나누지 않고 한 칸에 합침
+                    addMass(cell, x[v], y[v]);
+                    return;
+                }
+
+                // 잎을 4칸으로 나누고 기존 노드를 자식으로 내림 (질량은 이미 반영됨)
+                int existing = body[cell];
+                body[cell] = INTERNAL;
+                int child = split(cell);
+                int existingChild = child + quadrant(cell, x[existing], y[existing]);
+                body[existingChild] = existing;
+                mass[existingChild] = mass[cell];
+                massX[existingChild] = massX[cell];
+                massY[existingChild] = massY[cell];
+            }
+        }
+
+        private void addMass(int cell, double px, double py) {
+            mass[cell] += 1.0;
+            massX[cell] += px;
+            massY[cell] += py;
+        }
+
+        private int quadrant(int cell, double px, double py) {
+            return (px >= centerX[cell] ? 1 : 0) + (py >= centerY[cell] ? 2 : 0);
+        }
+
+        private int split(int cell) {
+            double quarter = half[cell] / 2.0;
+            int child = newCell(centerX[cell] - quarter, centerY[cell] - quarter, quarter);
+            newCell(centerX[cell] + quarter, centerY[cell] - quarter, quarter);
+            newCell(centerX[cell] - quarter, centerY[cell] + quarter, quarter);
+            newCell(centerX[cell] + quarter, centerY[cell] + quarter, quarter);
+            firstChild[cell] = child;
+            return child;
+        }
+
+        private int newCell(double cx, double cy, double h) {
+            if (size == centerX.length) {
+                grow();
+            }
+            int cell = size++;
+            centerX[cell] = cx;
+            centerY[cell] = cy;
+            half[cell] = h;
+            mass[cell] = 0.0;
+            massX[cell] = 0.0;
+            massY[cell] = 0.0;
+            firstChild[cell] = -1;
+            body[cell] = EMPTY;
+            return cell;
+        }
+
+        private void allocate(int capacity) {
+            centerX = new double[capacity];
+            centerY = new double[capacity];
+            half = new double[capacity];
+            mass = new double[capacity];
+            massX = new double[capacity];
+            massY = new double[capacity];
+            firstChild = new int[capacity];
+            body = new int[capacity];
+        }
+
+        private void grow() {
+            int capacity = centerX.length * 2;
+            centerX = Arrays.copyOf(centerX, capacity);
+            centerY = Arrays.copyOf(centerY, capacity);
+            half = Arrays.copyOf(half, capacity);
+            mass = Arrays.copyOf(mass, capacity);
+            massX = Arrays.copyOf(massX, capacity);
+            massY = Arrays.copyOf(massY, capacity);
+            firstChild = Arrays.copyOf(firstChild, capacity);
+            body = Arrays.copyOf(body, capacity);
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package com.jwyoo.api.graph.analytics;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 한 그래프 버전의 2D 배치 결과 (노드 인덱스는 CsrGraph 기준, 좌표 단위는 이상적인 엣지 길이 기준)
+ * 다음 버전 배치의 시작 위치(warm start)로 재사용하므로 노드는 rdbId로도 찾을 수 있다.
+ */
+public final class GraphLayout {
+
+    /**
+     * 노드 좌표
+     */
+    public record Point(double x, double y) {
+    }
+
+    private final long[] rdbIds;
+    private final double[] x;
+    private final double[] y;
+    private final Map<Long, Integer> index;
+    private final int iterations;
+    private final boolean warmStarted;
+    private final long computeMillis;
+
+    GraphLayout(long[] rdbIds, double[] x, double[] y, int iterations, boolean warmStarted, long computeMillis) {
+        this.rdbIds = rdbIds;
+        this.x = x;
+        this.y = y;
+        this.iterations = iterations;
+        this.warmStarted = warmStarted;
+        this.computeMillis = computeMillis;
+        this.index = new HashMap<>(rdbIds.length * 2);
+        for (int v = 0; v < rdbIds.length; v++) {
+            index.put(rdbIds[v], v);
+        }
+    }
+
+    public int nodeCount() {
+        return rdbIds.length;
+    }
+
+    public long rdbId(int v) {
+        return rdbIds[v];
+    }
+
+    public double x(int v) {
+        return x[v];
+    }
+
+    public double y(int v) {
+        return y[v];
+    }
+
+    /**
+     * rdbId의 좌표 (배치에 없는 노드면 null)
+     */
+    public Point position(long rdbId) {
+        Integer v = index.get(rdbId);
+        return v != null ? new Point(x[v], y[v]) : null;
+    }
+
+    public int getIterations() {
+        return iterations;
+    }
+
+    public boolean isWarmStarted() {
+        return warmStarted;
+    }
+
+    public long getComputeMillis() {
+        return computeMillis;
+    }
+}
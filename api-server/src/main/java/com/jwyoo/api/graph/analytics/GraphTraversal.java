@@ -0,0 +1,182 @@
+package com.jwyoo.api.graph.analytics;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * CSR 그래프 위의 제한된 BFS 탐색
+ * 깊이(maxDepth)와 방문 노드 수(nodeBudget) 두 가지로 작업량을 제한하여 응답 시간을 예측 가능하게 유지
+ * (방문 노드 수 = 큐에 들어간 노드 수, 시작 노드 포함)
+ */
+public final class GraphTraversal {
+
+    /**
+     * 이웃 탐색 결과 (시작 노드 제외, 거리 오름차순)
+     */
+    public record Neighborhood(int[] nodes, int[] distances, boolean truncated) {
+    }
+
+    /**
+     * 경로 탐색 결과 (경로가 없으면 path는 null)
+     * truncated가 true면 제한에 걸려 중단된 것이므로 더 긴 경로가 존재할 수 있음
+     */
+    public record PathResult(int[] path, int visited, boolean truncated) {
+        public boolean found() {
+            return path != null;
+        }
+    }
+
+    private final CsrGraph graph;
+
+    public GraphTraversal(CsrGraph graph) {
+        this.graph = graph;
+    }
+
+    /**
+     * source에서 maxDepth 단계 이내의 노드
+     */
+    public Neighborhood neighborhood(int source, int maxDepth, int nodeBudget) {
+        int[] offsets = graph.offsets();
+        int[] neighbors = graph.neighbors();
+        int[] distance = new int[graph.nodeCount()];
+        Arrays.fill(distance, -1);
+
+        int[] queue = new int[graph.nodeCount()];
+        int head = 0;
+        int tail = 0;
+        queue[tail++] = source;
+        distance[source] = 0;
+        boolean truncated = false;
+
+        search:
+        while (head < tail) {
+            int v = queue[head++];
+            if (distance[v] == maxDepth) {
+                continue;
+            }
+            for (int i = offsets[v]; i < offsets[v + 1]; i++) {
+                int w = neighbors[i];
+                if (distance[w] < 0) {
+                    if (tail >= nodeBudget) {
+                        truncated = true;
+                        break search;
+                    }
+                    distance[w] = distance[v] + 1;
+                    queue[tail++] = w;
+                }
+            }
+        }
+
+        int[] nodes = Arrays.copyOfRange(queue, 1, tail);
+        int[] distances = new int[nodes.length];
+        for (int i = 0; i < nodes.length; i++) {
+            distances[i] = distance[nodes[i]];
+        }
+        return new Neighborhood(nodes, distances, truncated);
+    }
+
+    /**
+     * 양방향 BFS 최단 경로 (홉 수 기준)
+     * 매 단계 더 작은 프런티어 쪽을 한 레벨 확장하고, 두 탐색이 만나면 그 레벨의 만남 중 가장 짧은 경로를 선택
+     * 경로 길이는 확장한 레벨 수를 넘지 않으므로 maxDepth 레벨까지만 확장
+     */
+    public PathResult shortestPath(int source, int target, int maxDepth, int nodeBudget) {
+        if (source == target) {
+            return new PathResult(new int[]{source}, 1, false);
+        }
+
+        int[] offsets = graph.offsets();
+        int[] neighbors = graph.neighbors();
+        int n = graph.nodeCount();
+
+        // 각 방향 탐색 트리의 부모와 거리 (-1: 미방문)
+        int[] forwardParent = new int[n];
+        int[] backwardParent = new int[n];
+        int[] forwardDistance = new int[n];
+        int[] backwardDistance = new int[n];
+        Arrays.fill(forwardDistance, -1);
+        Arrays.fill(backwardDistance, -1);
+        forwardParent[source] = source;
+        forwardDistance[source] = 0;
+        backwardParent[target] = target;
+        backwardDistance[target] = 0;
+
+        List<Integer> forwardFrontier = new ArrayList<>(List.of(source));
+        List<Integer> backwardFrontier = new ArrayList<>(List.of(target));
+        int visited = 2;
+
+        for (int level = 0; level < maxDepth && !forwardFrontier.isEmpty() && !backwardFrontier.isEmpty(); level++) {
+            boolean forward = forwardFrontier.size() <= backwardFrontier.size();
+            List<Integer> frontier = forward ? forwardFrontier : backwardFrontier;
+            int[] parent = forward ? forwardParent : backwardParent;
+            int[] distance = forward ? forwardDistance : backwardDistance;
+            int[] otherDistance = forward ? backwardDistance : forwardDistance;
+
+            List<Integer> next = new ArrayList<>();
+            int bestLength = Integer.MAX_VALUE;
+            int meetFrom = -1;
+            int meetAt = -1;
+
+            for (int v : frontier) {
+                for (int i = offsets[v]; i < offsets[v + 1]; i++) {
+                    int w = neighbors[i];
+                    if (otherDistance[w] >= 0) {
+                        int length = distance[v] + 1 + otherDistance[w];
+                        if (length < bestLength) {
+                            bestLength = length;
+                            meetFrom = v;
+                            meetAt = w;
+                        }
+                    } else if (distance[w] < 0 && meetAt < 0) {
+                        if (visited >= nodeBudget) {
+                            return new PathResult(null, visited, true);
+                        }
+                        parent[w] = v;
+                        distance[w] = distance[v] + 1;
+                        next.add(w);
+                        visited++;
+                    }
+                }
+            }
+
+            if (meetAt >= 0) {
+                int forwardEnd = forward ? meetFrom : meetAt;
+                int backwardStart = forward ? meetAt : meetFrom;
+                return new PathResult(joinPath(forwardParent, forwardEnd, backwardParent, backwardStart), visited, false);
+            }
+
+            if (forward) {
+                forwardFrontier = next;
+            } else {
+                backwardFrontier = next;
+            }
+        }
+
+        // 한쪽 탐색이 더 나아갈 곳이 없으면 경로가 없는 것이고, 그렇지 않으면 깊이 제한에 걸린 것
+        boolean exhausted = forwardFrontier.isEmpty() || backwardFrontier.isEmpty();
+        return new PathResult(null, visited, !exhausted);
+    }
+
+    /**
+     * source → forwardEnd (정방향 트리) + backwardStart → target (역방향 트리)
+     */
+    private static int[] joinPath(int[] forwardParent, int forwardEnd, int[] backwardParent, int backwardStart) {
+        List<Integer> path = new ArrayList<>();
+        for (int v = forwardEnd; ; v = forwardParent[v]) {
+            path.add(v);
+            if (forwardParent[v] == v) {
+                break;
+            }
+        }
+        Collections.reverse(path);
+        for (int v = backwardStart; ; v = backwardParent[v]) {
+            path.add(v);
+            if (backwardParent[v] == v) {
+                break;
+            }
+        }
+        return path.stream().mapToInt(Integer::intValue).toArray();
+    }
+}
@@ -0,0 +1,34 @@
+package com.jwyoo.api.graph.analytics;
+
+import java.util.concurrent.RecursiveAction;
+import java.util.function.IntConsumer;
+
+/**
+ * 인덱스 구간 [from, to)을 나눠 병렬 실행
+ */
+final class RangeAction extends RecursiveAction {
+
+    private final int from;
+    private final int to;
+    private final int threshold;
+    private final IntConsumer body;
+
+    RangeAction(int from, int to, int threshold, IntConsumer body) {
+        this.from = from;
+        this.to = to;
+        this.threshold = threshold;
+        this.body = body;
+    }
+
+    @Override
+    protected void compute() {
+        if (to - from <= threshold) {
+            for (int v = from; v < to; v++) {
+                body.accept(v);
+            }
+            return;
+        }
+        int mid = (from + to) >>> 1;
+        invokeAll(new RangeAction(from, mid, threshold, body), new RangeAction(mid, to, threshold, body));
+    }
+}
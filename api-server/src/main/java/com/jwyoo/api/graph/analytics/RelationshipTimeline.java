@@ -0,0 +1,297 @@
+package com.jwyoo.api.graph.analytics;
+
+import com.jwyoo.api.exception.ResourceNotFoundException;
+import com.jwyoo.api.graph.dto.TimelineCharacterRow;
+import com.jwyoo.api.graph.dto.TimelineEdgeRow;
+import com.jwyoo.api.graph.dto.TimelineEpisodeRow;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 프로젝트 관계 타임라인 스냅샷 (불변)
+ *
+ * episodeOrder 순으로 정렬된 에피소드별 관계 델타(Segment)와, 이를 누적한 에피소드별 상태
+ * (누적 관계 수, 누적 캐릭터 쌍 수, 새 쌍 수)를 배열로 보관한다.
+ * 캐릭터/캐릭터 쌍별로는 전체 관계 배열의 위치 인덱스만 들고 있어 타임라인 조회는 스캔/정렬 없이 처리된다.
+ *
+ * 에피소드 하나의 관계가 바뀌면 withSegment로 해당 Segment만 교체한 새 스냅샷을 만든다.
+ */
+public final class RelationshipTimeline {
+
+    /**
+     * 에피소드 하나의 관계 델타
+     */
+    public record Segment(TimelineEpisodeRow episode, List<TimelineEdgeRow> edges) {
+    }
+
+    /**
+     * 방향 무관 캐릭터 쌍 (작은 ID가 first)
+     */
+    private record Pair(long first, long second) {
+        static Pair of(long a, long b) {
+            return a <= b ? new Pair(a, b) : new Pair(b, a);
+        }
+    }
+
+    private final List<Segment> segments;
+    private final Map<Long, TimelineCharacterRow> characters;
+    private final Map<String, Long> characterIdIndex = new HashMap<>();
+    private final Map<Long, Integer> episodeIndex = new HashMap<>();
+
+    // 전체 관계를 에피소드 순서로 펼친 배열과 에피소드별 시작 위치
+    private final TimelineEdgeRow[] entries;
+    private final int[] entryEpisode;
+    private final int[] segmentOffsets;
+
+    // 에피소드별 누적 상태
+    private final int[] cumulativeEdges;
+    private final int[] cumulativePairs;
+    private final int[] newPairs;
+
+    // 캐릭터/쌍별 관계 위치
+    private final Map<Long, int[]> characterEntries;
+    private final Map<Pair, int[]> pairEntries;
+    private final List<Pair> pairsByFirstAppearance;
+
+    private RelationshipTimeline(List<Segment> segments, Map<Long, TimelineCharacterRow> characters) {
+        this.segments = segments;
+        this.characters = characters;
+        characters.values().forEach(c -> characterIdIndex.put(c.characterId(), c.id()));
+
+        int k = segments.size();
+        int total = segments.stream().mapToInt(segment -> segment.edges().size()).sum();
+        entries = new TimelineEdgeRow[total];
+        entryEpisode = new int[total];
+        segmentOffsets = new int[k + 1];
+        cumulativeEdges = new int[k];
+        cumulativePairs = new int[k];
+        newPairs = new int[k];
+
+        Map<Long, List<Integer>> byCharacter = new HashMap<>();
+        Map<Pair, List<Integer>> byPair = new LinkedHashMap<>();
+
+        int position = 0;
+        for (int i = 0; i < k; i++) {
+            Segment segment = segments.get(i);
+            episodeIndex.put(segment.episode().id(), i);
+            segmentOffsets[i] = position;
+            int created = 0;
+
+            for (TimelineEdgeRow edge : segment.edges()) {
+                entries[position] = edge;
+                entryEpisode[position] = i;
+
+                byCharacter.computeIfAbsent(edge.fromCharacterId(), id -> new ArrayList<>()).add(position);
+                if (!edge.toCharacterId().equals(edge.fromCharacterId())) {
+                    byCharacter.computeIfAbsent(edge.toCharacterId(), id -> new ArrayList<>()).add(position);
+                }
+
+                Pair pair = Pair.of(edge.fromCharacterId(), edge.toCharacterId());
+                List<Integer> pairList = byPair.get(pair);
+                if (pairList == null) {
+                    // LinkedHashMap 삽입 순서 = 첫 등장 순서
+                    pairList = new ArrayList<>();
+                    byPair.put(pair, pairList);
+                    created++;
+                }
+                pairList.add(position);
+                position++;
+            }
+
+            newPairs[i] = created;
+            cumulativeEdges[i] = position;
+            cumulativePairs[i] = (i > 0 ? cumulativePairs[i - 1] : 0) + created;
+        }
+        segmentOffsets[k] = position;
+
+        characterEntries = toArrays(byCharacter);
+        pairEntries = toArrays(byPair);
+        pairsByFirstAppearance = List.copyOf(byPair.keySet());
+    }
+
+    /**
+     * 에피소드/캐릭터/관계 행으로 전체 스냅샷 구성
+     */
+    public static RelationshipTimeline build(List<TimelineEpisodeRow> episodes,
+                                             List<TimelineCharacterRow> characters,
+                                             List<TimelineEdgeRow> edges) {
+        Map<Long, List<TimelineEdgeRow>> edgesByEpisode = new HashMap<>();
+        for (TimelineEdgeRow edge : edges) {
+            edgesByEpisode.computeIfAbsent(edge.episodeId(), id -> new ArrayList<>()).add(edge);
+        }
+
+        List<Segment> segments = new ArrayList<>(episodes.size());
+        for (TimelineEpisodeRow episode : episodes) {
+            segments.add(new Segment(episode, List.copyOf(edgesByEpisode.getOrDefault(episode.id(), List.of()))));
+        }
+
+        Map<Long, TimelineCharacterRow> characterMap = new HashMap<>();
+        characters.forEach(c -> characterMap.put(c.id(), c));
+        return new RelationshipTimeline(List.copyOf(segments), Map.copyOf(characterMap));
+    }
+
+    /**
+     * 에피소드 하나의 관계만 교체한 새 스냅샷 (다른 Segment는 공유)
+     *
+     * @return 교체된 스냅샷, 스냅샷에 없는 에피소드면 null (전체 재구성 필요)
+     */
+    public RelationshipTimeline withSegment(Long episodeId, List<TimelineEdgeRow> edges) {
+        Integer index = episodeIndex.get(episodeId);
+        if (index == null) {
+            return null;
+        }
+        List<Segment> replaced = new ArrayList<>(segments);
+        replaced.set(index, new Segment(segments.get(index).episode(), List.copyOf(edges)));
+        return new RelationshipTimeline(List.copyOf(replaced), characters);
+    }
+
+    public boolean containsEpisode(Long episodeId) {
+        return episodeIndex.containsKey(episodeId);
+    }
+
+    public int episodeCount() {
+        return segments.size();
+    }
+
+    public int relationshipCount() {
+        return entries.length;
+    }
+
+    /**
+     * 에피소드 범위(episodeOrder 기준, 양 끝 포함)의 관계 델타
+     */
+    public List<Map<String, Object>> range(Long startEpisodeId, Long endEpisodeId) {
+        int start = indexOf(startEpisodeId);
+        int end = indexOf(endEpisodeId);
+        if (start > end) {
+            throw new IllegalArgumentException("Start episode must not come after end episode");
+        }
+        return rows(segmentOffsets[start], segmentOffsets[end + 1]);
+    }
+
+    /**
+     * 캐릭터 하나의 관계 변화 (에피소드 순서)
+     */
+    public List<Map<String, Object>> characterEvolution(String characterId) {
+        Long rdbId = characterIdIndex.get(characterId);
+        if (rdbId == null) {
+            return List.of();
+        }
+        return rows(characterEntries.getOrDefault(rdbId, new int[0]));
+    }
+
+    /**
+     * 두 캐릭터 간 관계 변화 (방향 무관, 에피소드 순서)
+     */
+    public List<Map<String, Object>> pairTimeline(String char1Id, String char2Id) {
+        Long first = characterIdIndex.get(char1Id);
+        Long second = characterIdIndex.get(char2Id);
+        if (first == null || second == null) {
+            return List.of();
+        }
+        return rows(pairEntries.getOrDefault(Pair.of(first, second), new int[0]));
+    }
+
+    /**
+     * 에피소드 네트워크 밀도 (해당 에피소드 단독 + 해당 에피소드까지 누적)
+     */
+    public Map<String, Object> density(Long episodeId) {
+        int index = indexOf(episodeId);
+        int totalNodes = characters.size();
+        double possiblePairs = totalNodes * (totalNodes - 1) / 2.0;
+        int episodeEdges = segmentOffsets[index + 1] - segmentOffsets[index];
+
+        Map<String, Object> density = new LinkedHashMap<>();
+        density.put("episodeOrder", segments.get(index).episode().episodeOrder());
+        density.put("totalNodes", totalNodes);
+        density.put("totalEdges", episodeEdges);
+        density.put("density", possiblePairs > 0 ? episodeEdges / possiblePairs : 0.0);
+        density.put("newPairs", newPairs[index]);
+        density.put("cumulativeEdges", cumulativeEdges[index]);
+        density.put("cumulativePairs", cumulativePairs[index]);
+        density.put("cumulativeDensity", possiblePairs > 0 ? cumulativePairs[index] / possiblePairs : 0.0);
+        return density;
+    }
+
+    /**
+     * 캐릭터 쌍별 첫 등장 에피소드와 상호작용 횟수 (첫 등장 순서)
+     */
+    public List<Map<String, Object>> newRelationships() {
+        List<Map<String, Object>> rows = new ArrayList<>(pairsByFirstAppearance.size());
+        for (Pair pair : pairsByFirstAppearance) {
+            int[] positions = pairEntries.get(pair);
+            Segment first = segments.get(entryEpisode[positions[0]]);
+
+            Map<String, Object> row = new LinkedHashMap<>();
+            row.put("char1", characterIdOf(pair.first()));
+            row.put("char2", characterIdOf(pair.second()));
+            row.put("firstAppearance", first.episode().id());
+            row.put("firstEpisodeOrder", first.episode().episodeOrder());
+            row.put("interactionCount", positions.length);
+            rows.add(row);
+        }
+        return rows;
+    }
+
+    private int indexOf(Long episodeId) {
+        Integer index = episodeIndex.get(episodeId);
+        if (index == null) {
+            throw new ResourceNotFoundException("Episode", episodeId);
+        }
+        return index;
+    }
+
+    private List<Map<String, Object>> rows(int from, int to) {
+        List<Map<String, Object>> rows = new ArrayList<>(to - from);
+        for (int position = from; position < to; position++) {
+            rows.add(row(position));
+        }
+        return rows;
+    }
+
+    private List<Map<String, Object>> rows(int[] positions) {
+        List<Map<String, Object>> rows = new ArrayList<>(positions.length);
+        for (int position : positions) {
+            rows.add(row(position));
+        }
+        return rows;
+    }
+
+    private Map<String, Object> row(int position) {
+        TimelineEdgeRow edge = entries[position];
+        TimelineEpisodeRow episode = segments.get(entryEpisode[position]).episode();
+
+        Map<String, Object> row = new LinkedHashMap<>();
+        row.put("relationshipId", edge.id());
+        row.put("episodeId", episode.id());
+        row.put("episodeOrder", episode.episodeOrder());
+        row.put("fromCharacterId", characterIdOf(edge.fromCharacterId()));
+        row.put("fromName", nameOf(edge.fromCharacterId()));
+        row.put("toCharacterId", characterIdOf(edge.toCharacterId()));
+        row.put("toName", nameOf(edge.toCharacterId()));
+        row.put("relationType", edge.relationType());
+        row.put("closeness", edge.closeness());
+        row.put("description", edge.description());
+        return row;
+    }
+
+    private String characterIdOf(Long rdbId) {
+        TimelineCharacterRow character = characters.get(rdbId);
+        return character != null ? character.characterId() : null;
+    }
+
+    private String nameOf(Long rdbId) {
+        TimelineCharacterRow character = characters.get(rdbId);
+        return character != null ? character.name() : null;
+    }
+
+    private static <K> Map<K, int[]> toArrays(Map<K, List<Integer>> lists) {
+        Map<K, int[]> arrays = new HashMap<>(lists.size() * 2);
+        lists.forEach((key, list) -> arrays.put(key, list.stream().mapToInt(Integer::intValue).toArray()));
+        return arrays;
+    }
+}
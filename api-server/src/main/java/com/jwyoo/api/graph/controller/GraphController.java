@@ -1,12 +1,25 @@
 package com.jwyoo.api.graph.controller;
 
-import com.jwyoo.api.graph.node.CharacterNode;
+import com.jwyoo.api.graph.dto.CharacterView;
+import com.jwyoo.api.graph.dto.FriendSearchResult;
+import com.jwyoo.api.graph.dto.GraphCacheStats;
+import com.jwyoo.api.graph.dto.GraphSyncProgress;
+import com.jwyoo.api.graph.dto.RelationshipView;
+import com.jwyoo.api.graph.service.CharacterCooccurrenceService;
+import com.jwyoo.api.graph.service.EpisodeGraphSyncService;
+import com.jwyoo.api.graph.service.GraphBulkSyncService;
 import com.jwyoo.api.graph.service.GraphQueryService;
-import com.jwyoo.api.graph.service.GraphSyncService;
+import com.jwyoo.api.graph.service.GraphLayoutService;
+import com.jwyoo.api.graph.service.GraphReadCache;
+import com.jwyoo.api.graph.service.GraphStreamWriter;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
 import java.util.Map;
@@ -20,11 +33,17 @@ import java.util.Map;
  * - GET  /graph/characters/{characterId}/friends        : N단계 친구 찾기
  * - GET  /graph/characters/{characterId}/relations      : 특정 관계 유형 조회
  * - GET  /graph/path                                    : 최단 경로 찾기
- * - GET  /graph/relationships                           : 모든 관계 조회
+ * - GET  /graph/relationships                           : 모든 관계 조회 (서버 배치 좌표 포함, source=cooccurrence면 대사 동시 등장)
+ * - GET  /graph/relationships/stream                    : 배치된 노드와 관계를 NDJSON으로 스트리밍 (source 동일)
  * - GET  /graph/relationships/episode/{episodeId}       : 에피소드별 관계 조회
  * - GET  /graph/central-characters                      : 중심 인물 찾기
- * - POST /graph/sync/all                                : 전체 데이터 동기화
- * - POST /graph/sync/project/{projectId}                : 프로젝트 데이터 동기화
+ * - POST /graph/sync/all                                : 전체 데이터 동기화 (백그라운드)
+ * - GET  /graph/sync/all/status                         : 전체 동기화 진행 상태
+ * - POST /graph/sync/project/{projectId}                : 프로젝트 데이터 동기화 (백그라운드)
+ * - GET  /graph/sync/project/{projectId}/status         : 프로젝트 동기화 진행 상태
+ * - POST /graph/sync/project/{projectId}/episodes       : 프로젝트 Episode/Scene 노드와 개념 관계 재동기화 (백그라운드)
+ * - POST /graph/sync/project/{projectId}/cooccurrence   : 프로젝트 캐릭터 동시 등장 전체 재계산 (백그라운드)
+ * - GET  /graph/cache/stats                             : 그래프 읽기 캐시 적중률/재계산 시간
  */
 @Slf4j
 @RestController
@@ -33,17 +52,21 @@ import java.util.Map;
 public class GraphController {
 
     private final GraphQueryService graphQueryService;
-    private final GraphSyncService graphSyncService;
+    private final GraphBulkSyncService graphBulkSyncService;
+    private final ObjectProvider<EpisodeGraphSyncService> episodeGraphSyncServiceProvider;
+    private final CharacterCooccurrenceService characterCooccurrenceService;
+    private final GraphReadCache graphReadCache;
+    private final GraphStreamWriter graphStreamWriter;
 
     /**
      * 모든 캐릭터 조회
      * GET /graph/characters
      */
     @GetMapping("/characters")
-    public ResponseEntity<List<CharacterNode>> getAllCharacters() {
+    public ResponseEntity<List<CharacterView>> getAllCharacters() {
         log.info("GET /graph/characters - Fetching all characters from Neo4j");
 
-        List<CharacterNode> characters = graphQueryService.findAllCharacters();
+        List<CharacterView> characters = graphQueryService.findAllCharacters();
 
         return ResponseEntity.ok(characters);
     }
@@ -53,10 +76,10 @@ public class GraphController {
      * GET /graph/characters/{characterId}
      */
     @GetMapping("/characters/{characterId}")
-    public ResponseEntity<CharacterNode> getCharacter(@PathVariable String characterId) {
+    public ResponseEntity<CharacterView> getCharacter(@PathVariable String characterId) {
         log.info("GET /graph/characters/{} - Fetching character from Neo4j", characterId);
 
-        CharacterNode character = graphQueryService.findByCharacterId(characterId);
+        CharacterView character = graphQueryService.findByCharacterId(characterId);
 
         return ResponseEntity.ok(character);
     }
@@ -75,13 +98,14 @@ public class GraphController {
     ) {
         log.info("GET /graph/characters/{}/friends?depth={} - Finding N-degree friends", characterId, depth);
 
-        List<CharacterNode> friends = graphQueryService.findNDegreeFriends(characterId, depth);
+        FriendSearchResult result = graphQueryService.findNDegreeFriends(characterId, depth);
 
         Map<String, Object> response = Map.of(
             "characterId", characterId,
             "depth", depth,
-            "friends", friends,
-            "count", friends.size()
+            "friends", result.friends(),
+            "count", result.friends().size(),
+            "truncated", result.truncated()
         );
 
         return ResponseEntity.ok(response);
@@ -101,7 +125,7 @@ public class GraphController {
     ) {
         log.info("GET /graph/characters/{}/relations?type={} - Finding characters by relation type", characterId, type);
 
-        List<CharacterNode> characters = graphQueryService.findCharactersByRelationType(characterId, type);
+        List<CharacterView> characters = graphQueryService.findCharactersByRelationType(characterId, type);
 
         Map<String, Object> response = Map.of(
             "characterId", characterId,
@@ -135,21 +159,64 @@ public class GraphController {
     /**
      * 프로젝트의 모든 관계 조회 (그래프 시각화용)
      * GET /graph/relationships
+     *
+     * nodes에는 서버에서 배치한 좌표(x, y)가 포함되므로 클라이언트는 force 배치를 다시 돌리지 않아도 됨
+     *
+     * @param source 엣지 소스: relationship(LLM 추출 관계, 기본) | cooccurrence(같은 장면 대사 동시 등장)
      */
     @GetMapping("/relationships")
-    public ResponseEntity<Map<String, Object>> getAllRelationships() {
-        log.info("GET /graph/relationships - Fetching all relationships from Neo4j");
+    public ResponseEntity<Map<String, Object>> getAllRelationships(
+            @RequestParam(defaultValue = CharacterCooccurrenceService.SOURCE_RELATIONSHIP) String source
+    ) {
+        log.info("GET /graph/relationships?source={} - Fetching all relationships", source);
 
-        List<Object> relationships = graphQueryService.findAllRelationships();
+        List<?> relationships = findEdges(source);
+        GraphLayoutService.ProjectLayout layout = graphQueryService.findLayout();
 
         Map<String, Object> response = Map.of(
+            "nodes", layout.nodes(),
             "relationships", relationships,
-            "count", relationships.size()
+            "count", relationships.size(),
+            "layoutVersion", layout.version(),
+            "source", source.toLowerCase()
         );
 
         return ResponseEntity.ok(response);
     }
 
+    /**
+     * 배치된 노드와 관계를 NDJSON으로 스트리밍 (큰 캐스트용)
+     * GET /graph/relationships/stream
+     *
+     * 줄마다 {"type": "meta" | "node" | "edge", "data": {...}}
+     */
+    @GetMapping(value = "/relationships/stream", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamAllRelationships(
+            @RequestParam(defaultValue = CharacterCooccurrenceService.SOURCE_RELATIONSHIP) String source
+    ) {
+        log.info("GET /graph/relationships/stream?source={} - Streaming laid-out graph", source);
+
+        List<?> relationships = findEdges(source);
+        GraphLayoutService.ProjectLayout layout = graphQueryService.findLayout();
+
+        Map<String, Object> meta = Map.of(
+            "source", source.toLowerCase(),
+            "layoutVersion", layout.version(),
+            "nodeCount", layout.nodes().size(),
+            "edgeCount", relationships.size()
+        );
+
+        return ResponseEntity.ok()
+            .contentType(MediaType.APPLICATION_NDJSON)
+            .body(graphStreamWriter.stream(meta, layout.nodes(), relationships));
+    }
+
+    private List<?> findEdges(String source) {
+        return CharacterCooccurrenceService.isCooccurrence(source)
+            ? graphQueryService.findAllCooccurrences()
+            : graphQueryService.findAllRelationships();
+    }
+
     /**
      * 특정 에피소드의 관계 조회
      * GET /graph/relationships/episode/{episodeId}
@@ -158,7 +225,7 @@ public class GraphController {
     public ResponseEntity<Map<String, Object>> getRelationshipsByEpisode(@PathVariable Long episodeId) {
         log.info("GET /graph/relationships/episode/{} - Fetching episode relationships", episodeId);
 
-        List<Object> relationships = graphQueryService.findRelationshipsByEpisode(episodeId);
+        List<RelationshipView> relationships = graphQueryService.findRelationshipsByEpisode(episodeId);
 
         Map<String, Object> response = Map.of(
             "episodeId", episodeId,
@@ -192,50 +259,126 @@ public class GraphController {
     }
 
     /**
-     * 전체 데이터 동기화 (RDB → Neo4j)
+     * 전체 데이터 동기화 (RDB → 그래프 저장소)
      * POST /graph/sync/all
+     *
+     * 배치 단위 UNWIND 동기화를 백그라운드 대기열에 넣고 즉시 진행 상태(QUEUED)를 반환 (202 Accepted)
      */
     @PostMapping("/sync/all")
-    public ResponseEntity<Map<String, String>> syncAllData() {
+    public ResponseEntity<GraphSyncProgress> syncAllData() {
         log.info("POST /graph/sync/all - Starting bulk migration");
 
-        try {
-            graphSyncService.migrateAllData();
-            return ResponseEntity.ok(Map.of(
-                "status", "success",
-                "message", "All data synced to Neo4j successfully"
-            ));
-        } catch (Exception e) {
-            log.error("Bulk migration failed: {}", e.getMessage());
-            return ResponseEntity.internalServerError().body(Map.of(
-                "status", "error",
-                "message", "Failed to sync data: " + e.getMessage()
-            ));
-        }
+        GraphSyncProgress progress = graphBulkSyncService.startFullSync();
+
+        return ResponseEntity.accepted().body(progress);
     }
 
     /**
-     * 프로젝트 데이터 동기화 (RDB → Neo4j)
+     * 전체 데이터 동기화 진행 상태
+     * GET /graph/sync/all/status
+     */
+    @GetMapping("/sync/all/status")
+    public ResponseEntity<GraphSyncProgress> getSyncAllStatus() {
+        log.info("GET /graph/sync/all/status - Fetching bulk migration status");
+
+        return graphBulkSyncService.getFullSyncStatus()
+            .map(ResponseEntity::ok)
+            .orElse(ResponseEntity.notFound().build());
+    }
+
+    /**
+     * 프로젝트 데이터 동기화 (RDB → 그래프 저장소)
      * POST /graph/sync/project/{projectId}
+     *
+     * 프로젝트 범위 동기화를 백그라운드 대기열에 넣고 즉시 진행 상태(QUEUED)를 반환 (202 Accepted)
+     * 다른 서버가 같은 프로젝트를 동기화 중이면 409 Conflict
+     * (대기 중에 다른 서버가 먼저 잡으면 상태 조회에서 FAILED로 보임)
      */
     @PostMapping("/sync/project/{projectId}")
-    public ResponseEntity<Map<String, String>> syncProjectData(@PathVariable Long projectId) {
+    public ResponseEntity<GraphSyncProgress> syncProjectData(@PathVariable Long projectId) {
         log.info("POST /graph/sync/project/{} - Starting project migration", projectId);
 
-        try {
-            graphSyncService.migrateProjectData(projectId);
-            return ResponseEntity.ok(Map.of(
-                "status", "success",
-                "message", "Project data synced to Neo4j successfully",
-                "projectId", projectId.toString()
-            ));
-        } catch (Exception e) {
-            log.error("Project migration failed: projectId={}, error={}", projectId, e.getMessage());
-            return ResponseEntity.internalServerError().body(Map.of(
-                "status", "error",
-                "message", "Failed to sync project data: " + e.getMessage()
+        GraphSyncProgress progress = graphBulkSyncService.startProjectSync(projectId);
+
+        return ResponseEntity.accepted().body(progress);
+    }
+
+    /**
+     * 프로젝트 데이터 동기화 진행 상태
+     * GET /graph/sync/project/{projectId}/status
+     */
+    @GetMapping("/sync/project/{projectId}/status")
+    public ResponseEntity<GraphSyncProgress> getSyncProjectStatus(@PathVariable Long projectId) {
+        log.info("GET /graph/sync/project/{}/status - Fetching project migration status", projectId);
+
+        return graphBulkSyncService.getProjectSyncStatus(projectId)
+            .map(ResponseEntity::ok)
+            .orElse(ResponseEntity.notFound().build());
+    }
+
+    /**
+     * 프로젝트 에피소드 그래프 재동기화 (RDB → Neo4j)
+     * POST /graph/sync/project/{projectId}/episodes
+     *
+     * Episode/Scene 노드와 CONTAINS, 캐릭터→개념 RELATES_TO 관계를 백그라운드로 다시 기록 (202 Accepted)
+     * 캐릭터/개념 노드가 먼저 있어야 관계가 연결되므로 프로젝트 동기화 이후에 호출
+     * Episode/Scene 노드는 Neo4j 저장소에만 있으므로 임베디드 저장소(graph.store.type=embedded)에서는 501 Not Implemented
+     */
+    @PostMapping("/sync/project/{projectId}/episodes")
+    public ResponseEntity<Map<String, Object>> syncProjectEpisodes(@PathVariable Long projectId) {
+        log.info("POST /graph/sync/project/{}/episodes - Starting episode graph sync", projectId);
+
+        EpisodeGraphSyncService episodeGraphSyncService = episodeGraphSyncServiceProvider.getIfAvailable();
+        if (episodeGraphSyncService == null) {
+            return ResponseEntity.status(HttpStatus.NOT_IMPLEMENTED).body(Map.of(
+                "projectId", projectId,
+                "scheduled", false,
+                "message", "Episode graph sync requires graph.store.type=neo4j"
             ));
         }
+        episodeGraphSyncService.scheduleProject(projectId);
+
+        return ResponseEntity.accepted().body(Map.of(
+            "projectId", projectId,
+            "scheduled", true
+        ));
+    }
+
+    /**
+     * 프로젝트 캐릭터 동시 등장 전체 재계산
+     * POST /graph/sync/project/{projectId}/cooccurrence
+     *
+     * 프로젝트 대사를 집계 쿼리 한 번으로 읽어 character_cooccurrences를 백그라운드로 다시 만듦 (202 Accepted)
+     * 평소에는 대사/장면 변경 시 해당 에피소드만 자동으로 다시 계산되므로, 최초 도입이나 데이터 일괄 적재 후에 호출
+     */
+    @PostMapping("/sync/project/{projectId}/cooccurrence")
+    public ResponseEntity<Map<String, Object>> syncProjectCooccurrence(@PathVariable Long projectId) {
+        log.info("POST /graph/sync/project/{}/cooccurrence - Starting character co-occurrence rebuild", projectId);
+
+        characterCooccurrenceService.scheduleProject(projectId);
+
+        return ResponseEntity.accepted().body(Map.of(
+            "projectId", projectId,
+            "scheduled", true
+        ));
+    }
+
+    /**
+     * 그래프 읽기 캐시 통계 (캐시 이름별 적중률, 재계산 평균/최대 시간)
+     * GET /graph/cache/stats
+     */
+    @GetMapping("/cache/stats")
+    public ResponseEntity<Map<String, Object>> getCacheStats() {
+        log.info("GET /graph/cache/stats - Fetching graph read cache stats");
+
+        List<GraphCacheStats> stats = graphReadCache.stats();
+
+        Map<String, Object> response = Map.of(
+            "caches", stats,
+            "count", stats.size()
+        );
+
+        return ResponseEntity.ok(response);
     }
 
     /**
@@ -250,7 +393,7 @@ public class GraphController {
     ) {
         log.info("GET /graph/centrality/degree?limit={} - Calculating Degree Centrality", limit);
 
-        List<Object> results = graphQueryService.calculateDegreeCentrality(limit);
+        List<Map<String, Object>> results = graphQueryService.calculateDegreeCentrality(limit);
 
         Map<String, Object> response = Map.of(
             "metric", "degreeCentrality",
@@ -273,7 +416,7 @@ public class GraphController {
     ) {
         log.info("GET /graph/centrality/betweenness?limit={} - Calculating Betweenness Centrality", limit);
 
-        List<Object> results = graphQueryService.calculateBetweennessCentrality(limit);
+        List<Map<String, Object>> results = graphQueryService.calculateBetweennessCentrality(limit);
 
         Map<String, Object> response = Map.of(
             "metric", "betweennessCentrality",
@@ -296,7 +439,7 @@ public class GraphController {
     ) {
         log.info("GET /graph/centrality/closeness?limit={} - Calculating Closeness Centrality", limit);
 
-        List<Object> results = graphQueryService.calculateClosenessCentrality(limit);
+        List<Map<String, Object>> results = graphQueryService.calculateClosenessCentrality(limit);
 
         Map<String, Object> response = Map.of(
             "metric", "closenessCentrality",
@@ -319,7 +462,7 @@ public class GraphController {
     ) {
         log.info("GET /graph/centrality/weighted?limit={} - Calculating Weighted Degree", limit);
 
-        List<Object> results = graphQueryService.calculateWeightedDegree(limit);
+        List<Map<String, Object>> results = graphQueryService.calculateWeightedDegree(limit);
 
         Map<String, Object> response = Map.of(
             "metric", "weightedDegree",
@@ -330,6 +473,29 @@ public class GraphController {
         return ResponseEntity.ok(response);
     }
 
+    /**
+     * PageRank 계산
+     * GET /graph/centrality/pagerank?limit=10
+     *
+     * @param limit 결과 개수 (기본값: 10)
+     */
+    @GetMapping("/centrality/pagerank")
+    public ResponseEntity<Map<String, Object>> getPageRank(
+            @RequestParam(defaultValue = "10") int limit
+    ) {
+        log.info("GET /graph/centrality/pagerank?limit={} - Calculating PageRank", limit);
+
+        List<Map<String, Object>> results = graphQueryService.calculatePageRank(limit);
+
+        Map<String, Object> response = Map.of(
+            "metric", "pageRank",
+            "results", results,
+            "count", results.size()
+        );
+
+        return ResponseEntity.ok(response);
+    }
+
     /**
      * 모든 Centrality 지표 한번에 계산
      * GET /graph/centrality/all?limit=10
@@ -361,7 +527,7 @@ public class GraphController {
     ) {
         log.info("GET /graph/timeline/range?start={}&end={} - Fetching relationships by episode range", start, end);
 
-        List<Object> relationships = graphQueryService.findRelationshipsByEpisodeRange(start, end);
+        List<Map<String, Object>> relationships = graphQueryService.findRelationshipsByEpisodeRange(start, end);
 
         Map<String, Object> response = Map.of(
             "startEpisodeId", start,
@@ -385,7 +551,7 @@ public class GraphController {
     ) {
         log.info("GET /graph/timeline/character/{} - Fetching character relationship evolution", characterId);
 
-        List<Object> evolution = graphQueryService.findCharacterRelationshipEvolution(characterId);
+        List<Map<String, Object>> evolution = graphQueryService.findCharacterRelationshipEvolution(characterId);
 
         Map<String, Object> response = Map.of(
             "characterId", characterId,
@@ -410,7 +576,7 @@ public class GraphController {
     ) {
         log.info("GET /graph/timeline/relationship?char1={}&char2={} - Fetching relationship timeline", char1, char2);
 
-        List<Object> timeline = graphQueryService.findRelationshipTimeline(char1, char2);
+        List<Map<String, Object>> timeline = graphQueryService.findRelationshipTimeline(char1, char2);
 
         Map<String, Object> response = Map.of(
             "character1", char1,
@@ -434,7 +600,7 @@ public class GraphController {
     ) {
         log.info("GET /graph/timeline/density/{} - Calculating network density", episodeId);
 
-        Object density = graphQueryService.calculateNetworkDensityByEpisode(episodeId);
+        Map<String, Object> density = graphQueryService.calculateNetworkDensityByEpisode(episodeId);
 
         Map<String, Object> response = Map.of(
             "episodeId", episodeId,
@@ -452,7 +618,7 @@ public class GraphController {
     public ResponseEntity<Map<String, Object>> getNewRelationshipsByEpisode() {
         log.info("GET /graph/timeline/new-relationships - Fetching new relationships by episode");
 
-        List<Object> newRelationships = graphQueryService.findNewRelationshipsByEpisode();
+        List<Map<String, Object>> newRelationships = graphQueryService.findNewRelationshipsByEpisode();
 
         Map<String, Object> response = Map.of(
             "newRelationships", newRelationships,
@@ -0,0 +1,51 @@
+package com.jwyoo.api.graph.dto;
+
+import com.jwyoo.api.entity.Character;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Neo4j 일괄 동기화용 캐릭터 행 (JPA 프로젝션)
+ * 엔티티/연관관계 로딩 없이 노드 속성에 필요한 컬럼만 조회
+ */
+public record CharacterSyncRow(
+    Long rdbId,
+    Long projectId,
+    String characterId,
+    String name,
+    String description,
+    String personality,
+    String speakingStyle
+) {
+
+    /**
+     * 엔티티 변경 이벤트 동기화용 변환
+     */
+    public static CharacterSyncRow from(Character character) {
+        return new CharacterSyncRow(
+            character.getId(),
+            character.getProject().getId(),
+            character.getCharacterId(),
+            character.getName(),
+            character.getDescription(),
+            character.getPersonality(),
+            character.getSpeakingStyle()
+        );
+    }
+
+    /**
+     * UNWIND $rows 파라미터 변환
+     */
+    public Map<String, Object> toParameters() {
+        Map<String, Object> row = new HashMap<>();
+        row.put("rdbId", rdbId);
+        row.put("projectId", projectId);
+        row.put("characterId", characterId);
+        row.put("name", name);
+        row.put("description", description);
+        row.put("personality", personality);
+        row.put("speakingStyle", speakingStyle);
+        return row;
+    }
+}
@@ -0,0 +1,18 @@
+package com.jwyoo.api.graph.dto;
+
+/**
+ * 그래프 조회용 캐릭터 프로젝션
+ * Neo4j 드라이버 레코드에서 바로 매핑 (CharacterNode 엔티티/관계 로딩 없음)
+ */
+public record CharacterView(
+    Long rdbId,
+    Long projectId,
+    String characterId,
+    String name,
+    String description,
+    String personality,
+    String speakingStyle,
+    Long relationshipCount,
+    Long neighborCount
+) {
+}
@@ -0,0 +1,10 @@
+package com.jwyoo.api.graph.dto;
+
+/**
+ * RELATES_TO로 연결된 관련 개념 (RDB Concept.id, 관계 유사도)
+ */
+public record ConceptNeighborView(
+    Long rdbId,
+    double similarity
+) {
+}
@@ -0,0 +1,18 @@
+package com.jwyoo.api.graph.dto;
+
+/**
+ * 동시 등장 행 + 양 끝 캐릭터 (JPA 프로젝션)
+ */
+public record CooccurrenceEdgeRow(
+    Long id,
+    Long episodeId,
+    Long fromRdbId,
+    String fromCharacterId,
+    String fromName,
+    Long toRdbId,
+    String toCharacterId,
+    String toName,
+    Integer sceneCount,
+    Integer lineCount
+) {
+}
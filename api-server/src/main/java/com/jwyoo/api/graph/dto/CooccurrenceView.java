@@ -0,0 +1,19 @@
+package com.jwyoo.api.graph.dto;
+
+/**
+ * 그래프 조회용 동시 등장 관계
+ * RelationshipView와 같은 필드(relationType = co_occurrence, closeness = 함께 등장한 장면 수)에
+ * 장면 수/대사 수를 더해 관계 그래프 대신 그대로 그릴 수 있게 함
+ */
+public record CooccurrenceView(
+    Long episodeId,
+    String fromCharacterId,
+    String fromName,
+    String toCharacterId,
+    String toName,
+    String relationType,
+    Double closeness,
+    int sceneCount,
+    int lineCount
+) {
+}
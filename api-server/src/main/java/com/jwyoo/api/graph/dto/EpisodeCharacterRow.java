@@ -0,0 +1,11 @@
+package com.jwyoo.api.graph.dto;
+
+/**
+ * 에피소드에 대사로 등장한 캐릭터와 대사 수 (캐릭터→개념 관계용 JPA 프로젝션)
+ */
+public record EpisodeCharacterRow(
+    Long episodeId,
+    Long characterId,
+    Long appearances
+) {
+}
@@ -0,0 +1,10 @@
+package com.jwyoo.api.graph.dto;
+
+/**
+ * 에피소드에 속한 개념 (CONTAINS 관계용 JPA 프로젝션)
+ */
+public record EpisodeConceptRow(
+    Long episodeId,
+    Long conceptId
+) {
+}
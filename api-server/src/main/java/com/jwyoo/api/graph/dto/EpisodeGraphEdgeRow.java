@@ -0,0 +1,15 @@
+package com.jwyoo.api.graph.dto;
+
+/**
+ * 에피소드 관계 그래프용 관계 행 (JPA 프로젝션, 양 끝 캐릭터 이름까지 한 번에 조회)
+ */
+public record EpisodeGraphEdgeRow(
+    Long edgeId,
+    Long fromId,
+    String fromName,
+    Long toId,
+    String toName,
+    String relationType,
+    Double closeness
+) {
+}
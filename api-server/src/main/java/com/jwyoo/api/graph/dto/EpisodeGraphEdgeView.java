@@ -0,0 +1,13 @@
+package com.jwyoo.api.graph.dto;
+
+/**
+ * 에피소드 관계 그래프 엣지 (closeness가 없으면 0.0)
+ */
+public record EpisodeGraphEdgeView(
+    Long id,
+    Long source,
+    Long target,
+    String label,
+    double closeness
+) {
+}
@@ -0,0 +1,15 @@
+package com.jwyoo.api.graph.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+/**
+ * 에피소드 관계 그래프 노드 (좌표는 프로젝트 서버 배치 기준, 배치에 없는 캐릭터는 x/y 생략)
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record EpisodeGraphNodeView(
+    Long id,
+    String label,
+    Double x,
+    Double y
+) {
+}
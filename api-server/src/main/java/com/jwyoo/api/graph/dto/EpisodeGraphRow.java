@@ -0,0 +1,12 @@
+package com.jwyoo.api.graph.dto;
+
+/**
+ * 에피소드 노드 동기화 행 (JPA 프로젝션)
+ */
+public record EpisodeGraphRow(
+    Long id,
+    Long projectId,
+    String title,
+    Integer episodeOrder
+) {
+}
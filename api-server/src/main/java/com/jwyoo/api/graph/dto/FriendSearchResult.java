@@ -0,0 +1,13 @@
+package com.jwyoo.api.graph.dto;
+
+import java.util.List;
+
+/**
+ * N단계 이웃 탐색 결과 (거리 오름차순)
+ * truncated가 true면 방문 노드 한도에 걸려 일부 캐릭터가 빠졌을 수 있음
+ */
+public record FriendSearchResult(
+    List<FriendView> friends,
+    boolean truncated
+) {
+}
@@ -0,0 +1,12 @@
+package com.jwyoo.api.graph.dto;
+
+/**
+ * N단계 이웃 탐색 결과 캐릭터 (distance: 시작 캐릭터로부터의 홉 수)
+ */
+public record FriendView(
+    Long rdbId,
+    String characterId,
+    String name,
+    int distance
+) {
+}
@@ -0,0 +1,20 @@
+package com.jwyoo.api.graph.dto;
+
+/**
+ * 그래프 읽기 캐시 통계 (캐시 이름별, 서버 기동 이후 누적)
+ *
+ * @param hits             캐시 적중 수
+ * @param misses           재계산(적재) 수
+ * @param hitRate          hits / (hits + misses), 조회가 없으면 0
+ * @param averageLoadMillis 재계산 평균 소요 시간
+ * @param maxLoadMillis    재계산 최대 소요 시간
+ */
+public record GraphCacheStats(
+    String name,
+    long hits,
+    long misses,
+    double hitRate,
+    double averageLoadMillis,
+    double maxLoadMillis
+) {
+}
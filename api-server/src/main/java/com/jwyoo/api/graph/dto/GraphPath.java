@@ -0,0 +1,14 @@
+package com.jwyoo.api.graph.dto;
+
+import java.util.List;
+
+/**
+ * 두 캐릭터 사이 경로 프로젝션
+ * characters는 경로 순서, relationships[i]는 characters[i]와 characters[i + 1] 사이 관계
+ */
+public record GraphPath(
+    List<CharacterView> characters,
+    List<RelationshipView> relationships,
+    int distance
+) {
+}
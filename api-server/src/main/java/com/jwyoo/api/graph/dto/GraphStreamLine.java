@@ -0,0 +1,22 @@
+package com.jwyoo.api.graph.dto;
+
+/**
+ * NDJSON 그래프 스트림의 한 줄 (type: meta → node... → edge...)
+ */
+public record GraphStreamLine(
+    String type,
+    Object data
+) {
+
+    public static GraphStreamLine meta(Object data) {
+        return new GraphStreamLine("meta", data);
+    }
+
+    public static GraphStreamLine node(Object data) {
+        return new GraphStreamLine("node", data);
+    }
+
+    public static GraphStreamLine edge(Object data) {
+        return new GraphStreamLine("edge", data);
+    }
+}
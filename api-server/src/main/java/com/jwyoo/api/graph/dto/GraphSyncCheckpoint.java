@@ -0,0 +1,10 @@
+package com.jwyoo.api.graph.dto;
+
+/**
+ * 일괄 동기화 체크포인트
+ *
+ * @param phase  characters | relationships
+ * @param lastId 해당 단계에서 마지막으로 기록한 RDB ID
+ */
+public record GraphSyncCheckpoint(String phase, long lastId) {
+}
@@ -0,0 +1,126 @@
+package com.jwyoo.api.graph.dto;
+
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * RDB → Neo4j 일괄 동기화 진행 상태
+ * 배치가 끝날 때마다 갱신되며 상태 조회 API로 그대로 직렬화된다.
+ * 제출 시 QUEUED, 작업 스레드에서 잠금을 잡으면 RUNNING
+ */
+@Getter
+public class GraphSyncProgress {
+
+    public enum Status {
+        QUEUED, RUNNING, COMPLETED, FAILED
+    }
+
+    public static final String PHASE_CHARACTERS = "characters";
+    public static final String PHASE_RELATIONSHIPS = "relationships";
+    public static final String PHASE_STATS = "stats";
+
+    /**
+     * 작업 범위 (all 또는 project:{id}), 잠금/체크포인트 키로도 사용
+     */
+    private final String scope;
+
+    private final int batchSize;
+
+    private final LocalDateTime queuedAt = LocalDateTime.now();
+
+    /**
+     * 잠금을 잡고 실제로 시작한 시각 (대기 중이면 null)
+     */
+    private volatile LocalDateTime startedAt;
+
+    private volatile Status status = Status.QUEUED;
+
+    /**
+     * 현재 단계 (characters, relationships, stats)
+     */
+    private volatile String phase = PHASE_CHARACTERS;
+
+    /**
+     * 현재 단계에서 마지막으로 기록한 RDB ID
+     */
+    private volatile long lastSyncedId;
+
+    /**
+     * 체크포인트에서 재개한 경우 재개 지점 (phase:lastId)
+     */
+    private volatile String resumedFrom;
+
+    private volatile LocalDateTime finishedAt;
+
+    private volatile String error;
+
+    private final AtomicLong syncedCharacters = new AtomicLong();
+
+    private final AtomicLong syncedRelationships = new AtomicLong();
+
+    private final AtomicInteger batches = new AtomicInteger();
+
+    public GraphSyncProgress(String scope, int batchSize) {
+        this.scope = scope;
+        this.batchSize = batchSize;
+    }
+
+    public long getSyncedCharacters() {
+        return syncedCharacters.get();
+    }
+
+    public long getSyncedRelationships() {
+        return syncedRelationships.get();
+    }
+
+    public int getBatches() {
+        return batches.get();
+    }
+
+    /**
+     * 대기 중이거나 실행 중 (같은 범위 중복 제출 방지용)
+     */
+    public boolean isActive() {
+        return status == Status.QUEUED || status == Status.RUNNING;
+    }
+
+    public void start() {
+        this.startedAt = LocalDateTime.now();
+        this.status = Status.RUNNING;
+    }
+
+    public void startPhase(String phase, long afterId) {
+        this.phase = phase;
+        this.lastSyncedId = afterId;
+    }
+
+    public void resumeFrom(String phase, long lastId) {
+        this.resumedFrom = phase + ":" + lastId;
+    }
+
+    public void characterBatchDone(int count, long lastId) {
+        syncedCharacters.addAndGet(count);
+        batches.incrementAndGet();
+        this.lastSyncedId = lastId;
+    }
+
+    public void relationshipBatchDone(int count, long lastId) {
+        syncedRelationships.addAndGet(count);
+        batches.incrementAndGet();
+        this.lastSyncedId = lastId;
+    }
+
+    public void complete() {
+        this.finishedAt = LocalDateTime.now();
+        this.status = Status.COMPLETED;
+    }
+
+    public void fail(String error) {
+        this.error = error;
+        this.finishedAt = LocalDateTime.now();
+        this.status = Status.FAILED;
+    }
+}
@@ -0,0 +1,13 @@
+package com.jwyoo.api.graph.dto;
+
+/**
+ * 서버에서 배치한 그래프 노드 (좌표 단위는 이상적인 엣지 길이 100 기준, 원점 중심)
+ */
+public record LayoutNodeView(
+    Long rdbId,
+    String characterId,
+    String name,
+    double x,
+    double y
+) {
+}
@@ -0,0 +1,52 @@
+package com.jwyoo.api.graph.dto;
+
+import com.jwyoo.api.entity.EpisodeRelationship;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Neo4j 일괄 동기화용 에피소드 관계 행 (JPA 프로젝션)
+ * 양 끝 캐릭터는 RDB ID로만 참조하여 Character 엔티티를 로딩하지 않음
+ */
+public record RelationshipSyncRow(
+    Long id,
+    Long projectId,
+    Long episodeId,
+    Long fromCharacterId,
+    Long toCharacterId,
+    String relationType,
+    Double closeness,
+    String description
+) {
+
+    /**
+     * 엔티티 변경 이벤트 동기화용 변환
+     */
+    public static RelationshipSyncRow from(EpisodeRelationship relationship) {
+        return new RelationshipSyncRow(
+            relationship.getId(),
+            relationship.getFromCharacter().getProject().getId(),
+            relationship.getEpisode().getId(),
+            relationship.getFromCharacter().getId(),
+            relationship.getToCharacter().getId(),
+            relationship.getRelationType(),
+            relationship.getCloseness(),
+            relationship.getDescription()
+        );
+    }
+
+    /**
+     * UNWIND $rows 파라미터 변환
+     */
+    public Map<String, Object> toParameters() {
+        Map<String, Object> row = new HashMap<>();
+        row.put("episodeId", episodeId);
+        row.put("fromId", fromCharacterId);
+        row.put("toId", toCharacterId);
+        row.put("relationType", relationType);
+        row.put("closeness", closeness);
+        row.put("description", description);
+        return row;
+    }
+}
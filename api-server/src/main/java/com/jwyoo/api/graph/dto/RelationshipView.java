@@ -0,0 +1,17 @@
+package com.jwyoo.api.graph.dto;
+
+/**
+ * 그래프 조회용 관계(INTERACTS_WITH) 프로젝션
+ * 양 끝 캐릭터는 ID/이름만 포함
+ */
+public record RelationshipView(
+    Long episodeId,
+    String fromCharacterId,
+    String fromName,
+    String toCharacterId,
+    String toName,
+    String relationType,
+    Double closeness,
+    String description
+) {
+}
@@ -0,0 +1,13 @@
+package com.jwyoo.api.graph.dto;
+
+/**
+ * 장면 노드 동기화 행 (JPA 프로젝션)
+ */
+public record SceneGraphRow(
+    Long id,
+    Long episodeId,
+    Integer sceneNumber,
+    String location,
+    String mood
+) {
+}
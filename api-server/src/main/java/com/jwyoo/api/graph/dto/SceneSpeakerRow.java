@@ -0,0 +1,13 @@
+package com.jwyoo.api.graph.dto;
+
+/**
+ * 장면별 화자와 대사 수 (동시 등장 집계용 JPA 프로젝션)
+ */
+public record SceneSpeakerRow(
+    Long projectId,
+    Long episodeId,
+    Long sceneId,
+    Long characterId,
+    Long lines
+) {
+}
@@ -0,0 +1,11 @@
+package com.jwyoo.api.graph.dto;
+
+/**
+ * 타임라인 스냅샷용 캐릭터 행 (JPA 프로젝션)
+ */
+public record TimelineCharacterRow(
+    Long id,
+    String characterId,
+    String name
+) {
+}
@@ -0,0 +1,15 @@
+package com.jwyoo.api.graph.dto;
+
+/**
+ * 타임라인 스냅샷용 에피소드 관계 행 (JPA 프로젝션)
+ */
+public record TimelineEdgeRow(
+    Long id,
+    Long episodeId,
+    Long fromCharacterId,
+    Long toCharacterId,
+    String relationType,
+    Double closeness,
+    String description
+) {
+}
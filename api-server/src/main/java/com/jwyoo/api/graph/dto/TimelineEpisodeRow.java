@@ -0,0 +1,11 @@
+package com.jwyoo.api.graph.dto;
+
+/**
+ * 타임라인 스냅샷용 에피소드 순서 행 (JPA 프로젝션)
+ */
+public record TimelineEpisodeRow(
+    Long id,
+    Integer episodeOrder,
+    String title
+) {
+}
@@ -1,7 +1,9 @@
 package com.jwyoo.api.graph.event;
 
 import com.jwyoo.api.entity.Character;
+import com.jwyoo.api.graph.service.EpisodeRelationshipGraphService;
 import com.jwyoo.api.graph.service.GraphSyncService;
+import com.jwyoo.api.graph.service.RelationshipTimelineService;
 import jakarta.persistence.PostPersist;
 import jakarta.persistence.PostRemove;
 import jakarta.persistence.PostUpdate;
@@ -12,7 +14,7 @@ import org.springframework.stereotype.Component;
 
 /**
  * Character 엔티티 이벤트 리스너
- * Character 생성/수정/삭제 시 Neo4j 동기화
+ * Character 생성/수정/삭제 시 Neo4j 동기화 및 관계 타임라인 스냅샷, 에피소드 관계 그래프 캐시 폐기
  */
 @Slf4j
 @Component
@@ -22,6 +24,14 @@ public class CharacterSyncEventListener {
     @Autowired
     private GraphSyncService graphSyncService;
 
+    @Lazy
+    @Autowired
+    private RelationshipTimelineService relationshipTimelineService;
+
+    @Lazy
+    @Autowired
+    private EpisodeRelationshipGraphService episodeRelationshipGraphService;
+
     /**
      * 캐릭터 생성 시 Neo4j 동기화
      */
@@ -34,6 +44,7 @@ public class CharacterSyncEventListener {
             log.error("Failed to sync character creation to Neo4j: {}", e.getMessage());
             // 동기화 실패는 전체 트랜잭션을 롤백하지 않음
         }
+        invalidateTimeline(character);
     }
 
     /**
@@ -47,6 +58,8 @@ public class CharacterSyncEventListener {
         } catch (Exception e) {
             log.error("Failed to sync character update to Neo4j: {}", e.getMessage());
         }
+        invalidateTimeline(character);
+        invalidateEpisodeGraphs(character);
     }
 
     /**
@@ -60,5 +73,25 @@ public class CharacterSyncEventListener {
         } catch (Exception e) {
             log.error("Failed to delete character from Neo4j: {}", e.getMessage());
         }
+        invalidateTimeline(character);
+        invalidateEpisodeGraphs(character);
+    }
+
+    private void invalidateTimeline(Character character) {
+        try {
+            if (character.getProject() != null) {
+                relationshipTimelineService.invalidate(character.getProject().getId());
+            }
+        } catch (Exception e) {
+            log.error("Failed to invalidate relationship timeline: {}", e.getMessage());
+        }
+    }
+
+    private void invalidateEpisodeGraphs(Character character) {
+        try {
+            episodeRelationshipGraphService.invalidateCharacter(character.getId());
+        } catch (Exception e) {
+            log.error("Failed to invalidate episode graphs: {}", e.getMessage());
+        }
     }
 }
@@ -0,0 +1,85 @@
+package com.jwyoo.api.graph.event;
+
+import com.jwyoo.api.entity.Dialogue;
+import com.jwyoo.api.entity.Episode;
+import com.jwyoo.api.entity.Scene;
+import com.jwyoo.api.graph.service.CharacterCooccurrenceService;
+import com.jwyoo.api.graph.service.EpisodeGraphSyncService;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.stereotype.Component;
+
+/**
+ * Episode/Scene/Dialogue 엔티티 이벤트 리스너
+ * 에피소드 속성, 장면 구성, 대사 화자가 바뀌면 해당 에피소드의 Episode/Scene 노드와 캐릭터→개념 관계 갱신 예약
+ * 장면/대사 변경은 해당 에피소드의 캐릭터 동시 등장 재계산도 예약
+ * (에피소드 그래프 동기화는 Neo4j 저장소에서만 등록되므로 없으면 건너뜀)
+ */
+@Slf4j
+@Component
+public class EpisodeGraphSyncEventListener {
+
+    @Autowired
+    private ObjectProvider<EpisodeGraphSyncService> episodeGraphSyncService;
+
+    @Lazy
+    @Autowired
+    private CharacterCooccurrenceService characterCooccurrenceService;
+
+    /**
+     * 에피소드/장면/대사 생성 시 동기화 예약
+     */
+    @PostPersist
+    public void onCreated(Object entity) {
+        requestRefresh(entity);
+    }
+
+    /**
+     * 에피소드/장면/대사 수정 시 동기화 예약
+     */
+    @PostUpdate
+    public void onUpdated(Object entity) {
+        requestRefresh(entity);
+    }
+
+    /**
+     * 에피소드/장면/대사 삭제 시 동기화 예약 (삭제된 에피소드는 동기화 서비스가 그래프에서 지움)
+     */
+    @PostRemove
+    public void onDeleted(Object entity) {
+        requestRefresh(entity);
+    }
+
+    private void requestRefresh(Object entity) {
+        try {
+            episodeGraphSyncService.ifAvailable(service -> service.requestRefresh(episodeId(entity)));
+        } catch (Exception e) {
+            log.error("Failed to request episode graph sync: {}", e.getMessage());
+        }
+        if (entity instanceof Scene || entity instanceof Dialogue) {
+            try {
+                characterCooccurrenceService.requestRefresh(episodeId(entity));
+            } catch (Exception e) {
+                log.error("Failed to request character co-occurrence refresh: {}", e.getMessage());
+            }
+        }
+    }
+
+    private static Long episodeId(Object entity) {
+        if (entity instanceof Episode episode) {
+            return episode.getId();
+        }
+        if (entity instanceof Scene scene && scene.getEpisode() != null) {
+            return scene.getEpisode().getId();
+        }
+        if (entity instanceof Dialogue dialogue && dialogue.getScene() != null && dialogue.getScene().getEpisode() != null) {
+            return dialogue.getScene().getEpisode().getId();
+        }
+        return null;
+    }
+}
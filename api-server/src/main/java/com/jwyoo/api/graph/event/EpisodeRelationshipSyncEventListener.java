@@ -1,7 +1,9 @@
 package com.jwyoo.api.graph.event;
 
 import com.jwyoo.api.entity.EpisodeRelationship;
+import com.jwyoo.api.graph.service.EpisodeRelationshipGraphService;
 import com.jwyoo.api.graph.service.GraphSyncService;
+import com.jwyoo.api.graph.service.RelationshipTimelineService;
 import jakarta.persistence.PostPersist;
 import jakarta.persistence.PostRemove;
 import jakarta.persistence.PostUpdate;
@@ -12,7 +14,7 @@ import org.springframework.stereotype.Component;
 
 /**
  * EpisodeRelationship 엔티티 이벤트 리스너
- * EpisodeRelationship 생성/수정/삭제 시 Neo4j 동기화
+ * EpisodeRelationship 생성/수정/삭제 시 Neo4j 동기화, 해당 에피소드 타임라인 Segment 갱신 표시 및 에피소드 관계 그래프 캐시 폐기
  */
 @Slf4j
 @Component
@@ -22,6 +24,14 @@ public class EpisodeRelationshipSyncEventListener {
     @Autowired
     private GraphSyncService graphSyncService;
 
+    @Lazy
+    @Autowired
+    private RelationshipTimelineService relationshipTimelineService;
+
+    @Lazy
+    @Autowired
+    private EpisodeRelationshipGraphService episodeRelationshipGraphService;
+
     /**
      * 에피소드 관계 생성 시 Neo4j 동기화
      */
@@ -36,6 +46,7 @@ public class EpisodeRelationshipSyncEventListener {
         } catch (Exception e) {
             log.error("Failed to sync relationship creation to Neo4j: {}", e.getMessage());
         }
+        markEpisodeChanged(relationship);
     }
 
     /**
@@ -52,6 +63,7 @@ public class EpisodeRelationshipSyncEventListener {
         } catch (Exception e) {
             log.error("Failed to sync relationship update to Neo4j: {}", e.getMessage());
         }
+        markEpisodeChanged(relationship);
     }
 
     /**
@@ -72,5 +84,21 @@ public class EpisodeRelationshipSyncEventListener {
         } catch (Exception e) {
             log.error("Failed to delete relationship from Neo4j: {}", e.getMessage());
         }
+        markEpisodeChanged(relationship);
+    }
+
+    private void markEpisodeChanged(EpisodeRelationship relationship) {
+        try {
+            relationshipTimelineService.markEpisodeChanged(
+                relationship.getEpisode().getProject().getId(),
+                relationship.getEpisode().getId());
+        } catch (Exception e) {
+            log.error("Failed to mark relationship timeline episode: {}", e.getMessage());
+        }
+        try {
+            episodeRelationshipGraphService.invalidateEpisode(relationship.getEpisode().getId());
+        } catch (Exception e) {
+            log.error("Failed to invalidate episode graph: {}", e.getMessage());
+        }
     }
 }
@@ -0,0 +1,58 @@
+package com.jwyoo.api.graph.event;
+
+import com.jwyoo.api.entity.Episode;
+import com.jwyoo.api.graph.service.RelationshipTimelineService;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.stereotype.Component;
+
+/**
+ * Episode 엔티티 이벤트 리스너
+ * 에피소드 생성/수정/삭제 시 에피소드 순서가 바뀔 수 있으므로 프로젝트 관계 타임라인 스냅샷 폐기
+ */
+@Slf4j
+@Component
+public class EpisodeTimelineEventListener {
+
+    @Lazy
+    @Autowired
+    private RelationshipTimelineService relationshipTimelineService;
+
+    /**
+     * 에피소드 생성 시 타임라인 폐기
+     */
+    @PostPersist
+    public void onEpisodeCreated(Episode episode) {
+        invalidateTimeline(episode);
+    }
+
+    /**
+     * 에피소드 수정 시 타임라인 폐기 (순서 변경 가능)
+     */
+    @PostUpdate
+    public void onEpisodeUpdated(Episode episode) {
+        invalidateTimeline(episode);
+    }
+
+    /**
+     * 에피소드 삭제 시 타임라인 폐기
+     */
+    @PostRemove
+    public void onEpisodeDeleted(Episode episode) {
+        invalidateTimeline(episode);
+    }
+
+    private void invalidateTimeline(Episode episode) {
+        try {
+            if (episode.getProject() != null) {
+                relationshipTimelineService.invalidate(episode.getProject().getId());
+            }
+        } catch (Exception e) {
+            log.error("Failed to invalidate relationship timeline: {}", e.getMessage());
+        }
+    }
+}
@@ -4,6 +4,7 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.ReadOnlyProperty;
 import org.springframework.data.neo4j.core.schema.GeneratedValue;
 import org.springframework.data.neo4j.core.schema.Id;
 import org.springframework.data.neo4j.core.schema.Node;
@@ -62,6 +63,19 @@ public class CharacterNode {
      */
     private String speakingStyle;
 
+    /**
+     * 연결 통계 (관계 upsert/delete Cypher가 관리, 엔티티 저장 시에는 기록하지 않음)
+     * relationshipCount: 관계 수, neighborCount: 서로 다른 이웃 수, closenessSum: closeness 합
+     */
+    @ReadOnlyProperty
+    private Long relationshipCount;
+
+    @ReadOnlyProperty
+    private Long neighborCount;
+
+    @ReadOnlyProperty
+    private Double closenessSum;
+
     /**
      * 다른 캐릭터와의 관계
      * (INTERACTS_WITH 관계)
@@ -57,21 +57,19 @@ public interface ConceptNodeRepository extends Neo4jRepository<ConceptNode, Long
                                                   @Param("limit") Integer limit);
 
     /**
-     * 에피소드와 연관된 개념 찾기
+     * 에피소드와 연관된 개념 찾기 (EpisodeGraphSyncService가 만드는 CONTAINS 관계)
      */
-    @Query("MATCH (e:Episode)-[r:CONTAINS]->(c:Concept) " +
-           "WHERE e.rdbId = $episodeId " +
+    @Query("MATCH (e:Episode {rdbId: $episodeId})-[:CONTAINS]->(c:Concept) " +
            "RETURN c " +
            "ORDER BY c.importance DESC")
     List<ConceptNode> findByEpisodeId(@Param("episodeId") Long episodeId);
 
     /**
-     * 캐릭터와 연관된 개념 찾기
+     * 캐릭터와 연관된 개념 찾기 (개념 에피소드에 대사로 등장한 캐릭터의 RELATES_TO 관계, 대사 수 순)
      */
-    @Query("MATCH (ch:Character)-[r:RELATES_TO]->(c:Concept) " +
-           "WHERE ch.rdbId = $characterId " +
+    @Query("MATCH (ch:Character {rdbId: $characterId})-[r:RELATES_TO]->(c:Concept) " +
            "RETURN c " +
-           "ORDER BY c.importance DESC")
+           "ORDER BY r.appearances DESC, c.importance DESC")
     List<ConceptNode> findByCharacterId(@Param("characterId") Long characterId);
 
     /**
@@ -97,6 +95,14 @@ public interface ConceptNodeRepository extends Neo4jRepository<ConceptNode, Long
                              @Param("relationType") String relationType,
                              @Param("similarity") Double similarity);
 
+    /**
+     * 에피소드가 없어진 개념의 에피소드 CONTAINS / 캐릭터 RELATES_TO 관계 삭제 (개념 간 관계는 유지)
+     */
+    @Query("MATCH (c:Concept {rdbId: $rdbId})<-[r:CONTAINS|RELATES_TO]-(n) " +
+           "WHERE n:Episode OR n:Character " +
+           "DELETE r")
+    void detachFromEpisode(@Param("rdbId") Long rdbId);
+
     /**
      * RDB ID로 개념 삭제
      */
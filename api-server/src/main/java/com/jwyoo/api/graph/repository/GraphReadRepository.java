@@ -0,0 +1,288 @@
+package com.jwyoo.api.graph.repository;
+
+import com.jwyoo.api.graph.dto.CharacterView;
+import com.jwyoo.api.graph.dto.ConceptNeighborView;
+import com.jwyoo.api.graph.dto.GraphPath;
+import com.jwyoo.api.graph.dto.RelationshipView;
+import lombok.RequiredArgsConstructor;
+import org.neo4j.driver.Value;
+import org.neo4j.driver.types.MapAccessor;
+import org.springframework.data.neo4j.core.Neo4jClient;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * 그래프 읽기 전용 Repository
+ * Cypher 맵 프로젝션으로 필요한 속성만 반환하고 드라이버 레코드에서 DTO record로 바로 매핑
+ * (SDN 엔티티 매핑 시 CharacterNode.relationships를 따라 이웃 서브그래프까지 로딩되는 문제 회피)
+ *
+ * 모든 조회는 projectId(개념 유사도는 프로젝트 내에서만 생성되는 RELATES_TO)로 한정
+ */
+@Repository
+@RequiredArgsConstructor
+public class GraphReadRepository {
+
+    static final String CHARACTER_PROJECTION =
+        "{.rdbId, .projectId, .characterId, .name, .description, .personality, .speakingStyle, "
+            + ".relationshipCount, .neighborCount}";
+
+    static final String RELATIONSHIP_PROJECTION = """
+        {episodeId: r.episodeId, fromCharacterId: a.characterId, fromName: a.name,
+         toCharacterId: b.characterId, toName: b.name, relationType: r.relationType,
+         closeness: r.closeness, description: r.description}""";
+
+    static final String FIND_CHARACTERS = """
+        MATCH (c:Character {projectId: $projectId})
+        RETURN c %s AS character
+        ORDER BY c.name
+        """.formatted(CHARACTER_PROJECTION);
+
+    static final String FIND_CHARACTER = """
+        MATCH (c:Character {projectId: $projectId, characterId: $characterId})
+        RETURN c %s AS character
+        LIMIT 1
+        """.formatted(CHARACTER_PROJECTION);
+
+    static final String FIND_BY_RELATION_TYPE = """
+        MATCH (c:Character {projectId: $projectId, characterId: $characterId})
+              -[:INTERACTS_WITH {relationType: $relationType}]->(other:Character)
+        RETURN DISTINCT other %s AS character
+        """.formatted(CHARACTER_PROJECTION);
+
+    static final String FIND_CHARACTERS_BY_RDB_IDS = """
+        MATCH (c:Character {projectId: $projectId})
+        WHERE c.rdbId IN $rdbIds
+        RETURN c %s AS character
+        """.formatted(CHARACTER_PROJECTION);
+
+    /**
+     * 경로 각 구간(i → i + 1)의 관계, 같은 쌍에 에피소드별 관계가 여럿이면 가장 최근 에피소드
+     */
+    static final String FIND_PATH_RELATIONSHIPS = """
+        UNWIND range(0, size($rdbIds) - 2) AS i
+        MATCH (a:Character {projectId: $projectId, rdbId: $rdbIds[i]})
+              -[r:INTERACTS_WITH]-(b:Character {projectId: $projectId, rdbId: $rdbIds[i + 1]})
+        WITH i, r
+        ORDER BY r.episodeId DESC
+        WITH i, collect(r)[0] AS r
+        RETURN i, {episodeId: r.episodeId,
+                   fromCharacterId: startNode(r).characterId, fromName: startNode(r).name,
+                   toCharacterId: endNode(r).characterId, toName: endNode(r).name,
+                   relationType: r.relationType, closeness: r.closeness, description: r.description} AS relationship
+        ORDER BY i
+        """;
+
+    static final String FIND_RELATIONSHIPS = """
+        MATCH (a:Character {projectId: $projectId})-[r:INTERACTS_WITH]->(b:Character)
+        RETURN %s AS relationship
+        ORDER BY r.episodeId
+        """.formatted(RELATIONSHIP_PROJECTION);
+
+    static final String FIND_RELATIONSHIPS_BY_EPISODE = """
+        MATCH (a:Character {projectId: $projectId})-[r:INTERACTS_WITH {episodeId: $episodeId}]->(b:Character)
+        RETURN %s AS relationship
+        """.formatted(RELATIONSHIP_PROJECTION);
+
+    static final String FIND_SIMILAR_CONCEPTS = """
+        MATCH (c:Concept {rdbId: $rdbId})-[r:RELATES_TO]->(related:Concept)
+        WHERE r.similarity >= $minSimilarity
+        RETURN related.rdbId AS rdbId, r.similarity AS similarity
+        ORDER BY r.similarity DESC
+        LIMIT $limit
+        """;
+
+    static final String FIND_TOP_CONCEPT_IDS = """
+        MATCH (c:Concept {projectId: $projectId})
+        RETURN c.rdbId AS rdbId
+        ORDER BY c.importance DESC
+        LIMIT $limit
+        """;
+
+    static final String FIND_EPISODE_CONCEPT_IDS = """
+        MATCH (e:Episode {rdbId: $episodeId})-[:CONTAINS]->(c:Concept)
+        RETURN c.rdbId AS rdbId
+        ORDER BY c.importance DESC
+        """;
+
+    static final String FIND_CHARACTER_CONCEPT_IDS = """
+        MATCH (ch:Character {rdbId: $characterRdbId})-[r:RELATES_TO]->(c:Concept)
+        RETURN c.rdbId AS rdbId
+        ORDER BY r.appearances DESC, c.importance DESC
+        LIMIT $limit
+        """;
+
+    private final Neo4jClient neo4jClient;
+
+    /**
+     * 프로젝트의 모든 캐릭터
+     */
+    public List<CharacterView> findCharacters(Long projectId) {
+        return new ArrayList<>(neo4jClient.query(FIND_CHARACTERS)
+            .bind(projectId).to("projectId")
+            .fetchAs(CharacterView.class)
+            .mappedBy((typeSystem, record) -> toCharacterView(record.get("character")))
+            .all());
+    }
+
+    /**
+     * 캐릭터 ID로 조회
+     */
+    public Optional<CharacterView> findCharacter(Long projectId, String characterId) {
+        return neo4jClient.query(FIND_CHARACTER)
+            .bind(projectId).to("projectId")
+            .bind(characterId).to("characterId")
+            .fetchAs(CharacterView.class)
+            .mappedBy((typeSystem, record) -> toCharacterView(record.get("character")))
+            .one();
+    }
+
+    /**
+     * 특정 관계 유형으로 연결된 캐릭터
+     */
+    public List<CharacterView> findByRelationType(Long projectId, String characterId, String relationType) {
+        return new ArrayList<>(neo4jClient.query(FIND_BY_RELATION_TYPE)
+            .bind(projectId).to("projectId")
+            .bind(characterId).to("characterId")
+            .bind(relationType).to("relationType")
+            .fetchAs(CharacterView.class)
+            .mappedBy((typeSystem, record) -> toCharacterView(record.get("character")))
+            .all());
+    }
+
+    /**
+     * 탐색으로 찾은 경로(rdbId 순서)의 캐릭터/관계 상세
+     */
+    public GraphPath findPathDetails(Long projectId, List<Long> rdbIds) {
+        Map<Long, CharacterView> characters = new HashMap<>();
+        neo4jClient.query(FIND_CHARACTERS_BY_RDB_IDS)
+            .bind(projectId).to("projectId")
+            .bind(rdbIds).to("rdbIds")
+            .fetchAs(CharacterView.class)
+            .mappedBy((typeSystem, record) -> toCharacterView(record.get("character")))
+            .all()
+            .forEach(character -> characters.put(character.rdbId(), character));
+
+        List<RelationshipView> relationships = new ArrayList<>(neo4jClient.query(FIND_PATH_RELATIONSHIPS)
+            .bind(projectId).to("projectId")
+            .bind(rdbIds).to("rdbIds")
+            .fetchAs(RelationshipView.class)
+            .mappedBy((typeSystem, record) -> toRelationshipView(record.get("relationship")))
+            .all());
+
+        List<CharacterView> ordered = rdbIds.stream()
+            .map(characters::get)
+            .filter(Objects::nonNull)
+            .toList();
+        return new GraphPath(ordered, relationships, rdbIds.size() - 1);
+    }
+
+    /**
+     * 프로젝트의 모든 관계
+     */
+    public List<RelationshipView> findRelationships(Long projectId) {
+        return new ArrayList<>(neo4jClient.query(FIND_RELATIONSHIPS)
+            .bind(projectId).to("projectId")
+            .fetchAs(RelationshipView.class)
+            .mappedBy((typeSystem, record) -> toRelationshipView(record.get("relationship")))
+            .all());
+    }
+
+    /**
+     * 에피소드 하나의 관계
+     */
+    public List<RelationshipView> findRelationshipsByEpisode(Long projectId, Long episodeId) {
+        return new ArrayList<>(neo4jClient.query(FIND_RELATIONSHIPS_BY_EPISODE)
+            .bind(projectId).to("projectId")
+            .bind(episodeId).to("episodeId")
+            .fetchAs(RelationshipView.class)
+            .mappedBy((typeSystem, record) -> toRelationshipView(record.get("relationship")))
+            .all());
+    }
+
+    /**
+     * RELATES_TO 유사도 순 관련 개념 (RDB ID + 유사도만, 속성은 RDB에서 일괄 조회)
+     */
+    public List<ConceptNeighborView> findSimilarConcepts(Long rdbId, double minSimilarity, int limit) {
+        return new ArrayList<>(neo4jClient.query(FIND_SIMILAR_CONCEPTS)
+            .bind(rdbId).to("rdbId")
+            .bind(minSimilarity).to("minSimilarity")
+            .bind(limit).to("limit")
+            .fetchAs(ConceptNeighborView.class)
+            .mappedBy((typeSystem, record) -> new ConceptNeighborView(
+                record.get("rdbId").asLong(),
+                record.get("similarity").asDouble()))
+            .all());
+    }
+
+    /**
+     * 중요도 상위 개념 RDB ID
+     */
+    public List<Long> findTopConceptIds(Long projectId, int limit) {
+        return new ArrayList<>(neo4jClient.query(FIND_TOP_CONCEPT_IDS)
+            .bind(projectId).to("projectId")
+            .bind(limit).to("limit")
+            .fetchAs(Long.class)
+            .mappedBy((typeSystem, record) -> record.get("rdbId").asLong())
+            .all());
+    }
+
+    /**
+     * 에피소드에 속한 개념 RDB ID (CONTAINS, 중요도 순)
+     */
+    public List<Long> findEpisodeConceptIds(Long episodeId) {
+        return new ArrayList<>(neo4jClient.query(FIND_EPISODE_CONCEPT_IDS)
+            .bind(episodeId).to("episodeId")
+            .fetchAs(Long.class)
+            .mappedBy((typeSystem, record) -> record.get("rdbId").asLong())
+            .all());
+    }
+
+    /**
+     * 캐릭터가 등장한 에피소드의 개념 RDB ID (RELATES_TO 대사 수, 중요도 순)
+     */
+    public List<Long> findCharacterConceptIds(Long characterId, int limit) {
+        return new ArrayList<>(neo4jClient.query(FIND_CHARACTER_CONCEPT_IDS)
+            .bind(characterId).to("characterRdbId")
+            .bind(limit).to("limit")
+            .fetchAs(Long.class)
+            .mappedBy((typeSystem, record) -> record.get("rdbId").asLong())
+            .all());
+    }
+
+    static CharacterView toCharacterView(MapAccessor value) {
+        return new CharacterView(
+            longOrNull(value.get("rdbId")),
+            longOrNull(value.get("projectId")),
+            value.get("characterId").asString(null),
+            value.get("name").asString(null),
+            value.get("description").asString(null),
+            value.get("personality").asString(null),
+            value.get("speakingStyle").asString(null),
+            longOrNull(value.get("relationshipCount")),
+            longOrNull(value.get("neighborCount"))
+        );
+    }
+
+    static RelationshipView toRelationshipView(MapAccessor value) {
+        return new RelationshipView(
+            longOrNull(value.get("episodeId")),
+            value.get("fromCharacterId").asString(null),
+            value.get("fromName").asString(null),
+            value.get("toCharacterId").asString(null),
+            value.get("toName").asString(null),
+            value.get("relationType").asString(null),
+            value.get("closeness").isNull() ? null : value.get("closeness").asDouble(),
+            value.get("description").asString(null)
+        );
+    }
+
+    private static Long longOrNull(Value value) {
+        return value.isNull() ? null : value.asLong();
+    }
+}
@@ -0,0 +1,273 @@
+package com.jwyoo.api.graph.service;
+
+import com.jwyoo.api.entity.CharacterCooccurrence;
+import com.jwyoo.api.event.TransactionCallbacks;
+import com.jwyoo.api.exception.InvalidGraphSourceException;
+import com.jwyoo.api.graph.dto.CooccurrenceEdgeRow;
+import com.jwyoo.api.graph.dto.CooccurrenceView;
+import com.jwyoo.api.graph.dto.SceneSpeakerRow;
+import com.jwyoo.api.repository.CharacterCooccurrenceRepository;
+import com.jwyoo.api.repository.DialogueRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 캐릭터 동시 등장(co-occurrence) 네트워크 서비스
+ * 같은 장면에서 둘 다 대사를 한 캐릭터 쌍을 에피소드별로 집계하여 character_cooccurrences에 보관한다.
+ * LLM으로 추출한 EpisodeRelationship과 달리 대사 데이터만으로 계산되므로 비용 없이 항상 최신 상태를 유지한다.
+ *
+ * 대사/장면이 바뀌면 커밋 후 해당 에피소드를 모아 백그라운드에서 에피소드 단위로 다시 계산한다.
+ * (에피소드의 장면별 화자 대사 수를 집계 쿼리 한 번으로 읽고 쌍은 메모리에서 만든 뒤 행을 교체)
+ * 행 삽입은 JDBC 배치로 보낸다. (IDENTITY ID 엔티티의 saveAll은 쌍마다 INSERT가 한 번씩 나감)
+ */
+@Slf4j
+@Service
+public class CharacterCooccurrenceService {
+
+    /**
+     * 그래프 엣지 소스: LLM 추출 관계(기본) 또는 대사 동시 등장
+     */
+    public static final String SOURCE_RELATIONSHIP = "relationship";
+    public static final String SOURCE_COOCCURRENCE = "cooccurrence";
+
+    /**
+     * 동시 등장 엣지의 관계 유형 (RelationshipView.relationType 자리)
+     */
+    public static final String RELATION_TYPE = "co_occurrence";
+
+    /**
+     * 실행 결과
+     *
+     * @param episodes 다시 계산한 에피소드 수
+     * @param pairs    기록한 캐릭터 쌍(행) 수
+     */
+    public record RefreshResult(int episodes, int pairs, long elapsedMillis) {
+    }
+
+    private record PairKey(Long episodeId, Long characterAId, Long characterBId) {
+    }
+
+    private final DialogueRepository dialogueRepository;
+    private final CharacterCooccurrenceRepository cooccurrenceRepository;
+    private final EpisodeRelationshipGraphService episodeRelationshipGraphService;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "character-cooccurrence");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    /**
+     * 실행 대기 중인 에피소드 (실행이 시작되면 비워지므로 실행 중 변경은 다시 예약됨)
+     */
+    private final Set<Long> pending = ConcurrentHashMap.newKeySet();
+    private final AtomicBoolean scheduled = new AtomicBoolean();
+
+    public CharacterCooccurrenceService(
+            DialogueRepository dialogueRepository,
+            CharacterCooccurrenceRepository cooccurrenceRepository,
+            EpisodeRelationshipGraphService episodeRelationshipGraphService,
+            TransactionTemplate transactionTemplate,
+            @Value("${graph.cooccurrence.batch-size:100}") int batchSize
+    ) {
+        this.dialogueRepository = dialogueRepository;
+        this.cooccurrenceRepository = cooccurrenceRepository;
+        this.episodeRelationshipGraphService = episodeRelationshipGraphService;
+        this.transactionTemplate = transactionTemplate;
+        this.batchSize = Math.max(1, batchSize);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * 엣지 소스 파라미터 확인 (동시 등장이면 true)
+     *
+     * @throws InvalidGraphSourceException relationship/cooccurrence 외의 값 (400 응답)
+     */
+    public static boolean isCooccurrence(String source) {
+        if (SOURCE_COOCCURRENCE.equalsIgnoreCase(source)) {
+            return true;
+        }
+        if (source == null || SOURCE_RELATIONSHIP.equalsIgnoreCase(source)) {
+            return false;
+        }
+        throw new InvalidGraphSourceException(source);
+    }
+
+    /**
+     * 에피소드 동시 등장 재계산 예약 (트랜잭션 안이면 커밋 후)
+     */
+    public void requestRefresh(Long episodeId) {
+        if (episodeId != null) {
+            TransactionCallbacks.afterCommit(() -> schedule(List.of(episodeId)));
+        }
+    }
+
+    /**
+     * 에피소드 동시 등장 재계산을 백그라운드로 시작 (대기 중인 에피소드와 합쳐 한 번에 실행)
+     */
+    public void schedule(Collection<Long> episodeIds) {
+        pending.addAll(episodeIds);
+        if (scheduled.compareAndSet(false, true)) {
+            executor.execute(this::drain);
+        }
+    }
+
+    /**
+     * 프로젝트 동시 등장 전체 재구성을 백그라운드로 시작
+     */
+    public void scheduleProject(Long projectId) {
+        executor.execute(() -> {
+            try {
+                rebuildProject(projectId);
+            } catch (Exception e) {
+                log.error("Character co-occurrence rebuild failed: projectId={}, error={}", projectId, e.getMessage(), e);
+            }
+        });
+    }
+
+    private void drain() {
+        // 목록을 꺼내기 전에 해제해야 그 사이 추가된 에피소드가 다음 실행으로 예약됨
+        scheduled.set(false);
+        List<Long> episodeIds = new ArrayList<>(pending);
+        pending.removeAll(episodeIds);
+        if (episodeIds.isEmpty()) {
+            return;
+        }
+        try {
+            refresh(episodeIds);
+        } catch (Exception e) {
+            log.error("Character co-occurrence refresh failed: episodes={}, error={}", episodeIds.size(), e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 에피소드 묶음 단위로 장면별 화자를 집계하여 동시 등장 행 교체 (대사가 없어진 에피소드는 행 삭제만)
+     */
+    public RefreshResult refresh(Collection<Long> episodeIds) {
+        long start = System.nanoTime();
+        List<Long> ids = new ArrayList<>(new LinkedHashSet<>(episodeIds));
+        int pairs = 0;
+
+        for (int from = 0; from < ids.size(); from += batchSize) {
+            List<Long> chunk = ids.subList(from, Math.min(from + batchSize, ids.size()));
+            List<CharacterCooccurrence> rows = aggregate(dialogueRepository.findSceneSpeakerRows(chunk));
+            transactionTemplate.executeWithoutResult(status -> {
+                cooccurrenceRepository.deleteByEpisodeIds(chunk);
+                cooccurrenceRepository.insertAll(rows);
+            });
+            chunk.forEach(episodeRelationshipGraphService::invalidateEpisode);
+            pairs += rows.size();
+        }
+
+        RefreshResult result = new RefreshResult(ids.size(), pairs, elapsedMillis(start));
+        log.info("Character co-occurrence refreshed: episodes={}, pairs={}, took={}ms",
+            result.episodes(), result.pairs(), result.elapsedMillis());
+        return result;
+    }
+
+    /**
+     * 프로젝트 전체 대사를 집계 쿼리 한 번으로 읽어 동시 등장 행 재구성
+     */
+    public RefreshResult rebuildProject(Long projectId) {
+        long start = System.nanoTime();
+        List<SceneSpeakerRow> speakers = dialogueRepository.findSceneSpeakerRowsByProjectId(projectId);
+        List<CharacterCooccurrence> rows = aggregate(speakers);
+        transactionTemplate.executeWithoutResult(status -> {
+            cooccurrenceRepository.deleteByProjectId(projectId);
+            cooccurrenceRepository.insertAll(rows);
+        });
+        Set<Long> episodeIds = new LinkedHashSet<>();
+        speakers.forEach(row -> episodeIds.add(row.episodeId()));
+        episodeIds.forEach(episodeRelationshipGraphService::invalidateEpisode);
+
+        RefreshResult result = new RefreshResult(episodeIds.size(), rows.size(), elapsedMillis(start));
+        log.info("Character co-occurrence rebuilt: projectId={}, episodes={}, pairs={}, took={}ms",
+            projectId, result.episodes(), result.pairs(), result.elapsedMillis());
+        return result;
+    }
+
+    /**
+     * 프로젝트 동시 등장 관계 (관계 그래프 대체 엣지, 에피소드 순)
+     */
+    public List<CooccurrenceView> findByProject(Long projectId) {
+        return cooccurrenceRepository.findEdgeRowsByProjectId(projectId).stream()
+            .map(row -> new CooccurrenceView(
+                row.episodeId(),
+                row.fromCharacterId(),
+                row.fromName(),
+                row.toCharacterId(),
+                row.toName(),
+                RELATION_TYPE,
+                row.sceneCount().doubleValue(),
+                row.sceneCount(),
+                row.lineCount()
+            ))
+            .toList();
+    }
+
+    /**
+     * 장면별 화자 대사 수로 에피소드별 캐릭터 쌍 집계
+     * 쌍마다 함께 대사를 한 장면 수와, 그 장면들에서 두 캐릭터가 한 대사 수 합계
+     */
+    static List<CharacterCooccurrence> aggregate(List<SceneSpeakerRow> speakers) {
+        Map<Long, List<SceneSpeakerRow>> scenes = new HashMap<>();
+        for (SceneSpeakerRow row : speakers) {
+            scenes.computeIfAbsent(row.sceneId(), id -> new ArrayList<>()).add(row);
+        }
+
+        Map<PairKey, CharacterCooccurrence> pairs = new HashMap<>();
+        for (List<SceneSpeakerRow> scene : scenes.values()) {
+            scene.sort(Comparator.comparing(SceneSpeakerRow::characterId));
+            for (int i = 0; i < scene.size(); i++) {
+                SceneSpeakerRow a = scene.get(i);
+                for (int j = i + 1; j < scene.size(); j++) {
+                    SceneSpeakerRow b = scene.get(j);
+                    CharacterCooccurrence pair = pairs.computeIfAbsent(
+                        new PairKey(a.episodeId(), a.characterId(), b.characterId()),
+                        key -> CharacterCooccurrence.builder()
+                            .projectId(a.projectId())
+                            .episodeId(key.episodeId())
+                            .characterAId(key.characterAId())
+                            .characterBId(key.characterBId())
+                            .sceneCount(0)
+                            .lineCount(0)
+                            .build());
+                    pair.setSceneCount(pair.getSceneCount() + 1);
+                    pair.setLineCount(pair.getLineCount() + (int) (a.lines() + b.lines()));
+                }
+            }
+        }
+
+        List<CharacterCooccurrence> rows = new ArrayList<>(pairs.values());
+        rows.sort(Comparator.comparing(CharacterCooccurrence::getEpisodeId)
+            .thenComparing(CharacterCooccurrence::getCharacterAId)
+            .thenComparing(CharacterCooccurrence::getCharacterBId));
+        return rows;
+    }
+
+    private static long elapsedMillis(long start) {
+        return (System.nanoTime() - start) / 1_000_000;
+    }
+}
@@ -0,0 +1,69 @@
+package com.jwyoo.api.graph.service;
+
+import com.jwyoo.api.graph.store.GraphStore;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 캐릭터 연결 통계 서비스
+ * 캐릭터별 관계 수(relationshipCount), 이웃 수(neighborCount), closeness 합(closenessSum) 순위 조회
+ *
+ * Neo4j 저장소는 Character 노드 카운터를 관계 upsert/delete Cypher와 같은 문장으로 증감하고
+ * 순위 조회는 (projectId, 카운터) 인덱스 top-k 조회 한 번으로 처리하며,
+ * 일괄 동기화 후에는 recalculate로 엣지에서 다시 집계해 누적 오차를 바로잡는다. (Neo4jGraphStore)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class CharacterStatsService {
+
+    private final GraphStore graphStore;
+
+    /**
+     * Degree Centrality (서로 다른 이웃 수) 상위 limit개
+     */
+    public List<Map<String, Object>> topByNeighborCount(Long projectId, int limit) {
+        return graphStore.topByNeighborCount(projectId, limit);
+    }
+
+    /**
+     * Weighted Degree (closeness 합) 상위 limit개
+     */
+    public List<Map<String, Object>> topByClosenessSum(Long projectId, int limit) {
+        return graphStore.topByClosenessSum(projectId, limit);
+    }
+
+    /**
+     * 관계 수 상위 limit개 (중심 인물)
+     */
+    public List<Map<String, Object>> topByRelationshipCount(Long projectId, int limit) {
+        return graphStore.topByRelationshipCount(projectId, limit);
+    }
+
+    /**
+     * 프로젝트의 모든 캐릭터 카운터를 엣지에서 다시 집계
+     */
+    public void recalculate(Long projectId) {
+        graphStore.recalculateStats(projectId);
+        log.info("Character stats recalculated: projectId={}", projectId);
+    }
+
+    /**
+     * 여러 프로젝트 카운터 재집계
+     */
+    public void recalculate(Collection<Long> projectIds) {
+        projectIds.forEach(this::recalculate);
+    }
+
+    /**
+     * 그래프에 존재하는 모든 프로젝트 ID
+     */
+    public List<Long> findProjectIds() {
+        return graphStore.findProjectIds();
+    }
+}
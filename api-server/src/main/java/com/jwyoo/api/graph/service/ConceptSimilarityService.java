@@ -0,0 +1,274 @@
+package com.jwyoo.api.graph.service;
+
+import com.jwyoo.api.entity.RagVector;
+import com.jwyoo.api.event.TransactionCallbacks;
+import com.jwyoo.api.graph.analytics.ConceptKnn;
+import com.jwyoo.api.repository.RagVectorRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.neo4j.core.Neo4jClient;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
+
+/**
+ * 개념 유사도 관계(RELATES_TO {relationType: 'similar'}) 생성 서비스
+ * 프로젝트의 개념 임베딩(rag_vectors, source_type = 'concept')으로 k-최근접 이웃을 JVM에서 병렬 계산하고
+ * 개념마다 top-k 이웃으로의 관계를 UNWIND 배치로 기록한다.
+ *
+ * 개념 노드에 마지막으로 계산한 임베딩의 해시(embeddingHash)를 남겨 두고, 해시가 달라진 개념과
+ * 그 개념 때문에 top-k가 달라지는 개념(이웃 개념이 삭제된 개념 포함)만 다시 계산/기록한다.
+ * 개념 임베딩 변경 시 커밋 후 프로젝트 단위로 백그라운드 실행 (대기 중인 같은 프로젝트 요청은 합침)
+ */
+@Slf4j
+@Service
+public class ConceptSimilarityService {
+
+    static final String LOAD_STATE = """
+        MATCH (c:Concept {projectId: $projectId})
+        OPTIONAL MATCH (c)-[r:RELATES_TO {relationType: 'similar'}]->(other:Concept)
+        RETURN c.rdbId AS rdbId, c.embeddingHash AS embeddingHash, c.similarCount AS similarCount,
+               collect(CASE WHEN other IS NULL THEN null
+                            ELSE {rdbId: other.rdbId, similarity: r.similarity} END) AS neighbors
+        """;
+
+    /**
+     * 개념별 기존 유사 관계를 지우고 새 top-k 관계를 생성 (neighbors가 비어 있으면 삭제만)
+     */
+    static final String REPLACE_NEIGHBORS = """
+        UNWIND $rows AS row
+        MATCH (c:Concept {rdbId: row.rdbId})
+        SET c.embeddingHash = row.embeddingHash,
+            c.similarCount = size(row.neighbors)
+        WITH c, row
+        OPTIONAL MATCH (c)-[old:RELATES_TO {relationType: 'similar'}]->(:Concept)
+        DELETE old
+        WITH DISTINCT c, row
+        UNWIND row.neighbors AS neighbor
+        MATCH (other:Concept {rdbId: neighbor.rdbId})
+        CREATE (c)-[:RELATES_TO {relationType: 'similar', similarity: neighbor.similarity}]->(other)
+        """;
+
+    /**
+     * 프로젝트 실행 결과
+     *
+     * @param concepts   임베딩이 있는 개념 수
+     * @param changed    임베딩이 바뀐(또는 새, 삭제된) 개념 수
+     * @param updated    관계를 다시 기록한 개념 수
+     */
+    public record RefreshResult(Long projectId, int concepts, int changed, int updated, long elapsedMillis) {
+    }
+
+    /**
+     * 개념 노드에 기록된 상태 (similarCount: 마지막으로 기록한 이웃 수)
+     */
+    private record ConceptState(Long embeddingHash, Long similarCount, List<ConceptKnn.Neighbor> neighbors) {
+
+        /**
+         * 이웃 개념 노드가 삭제되어(DETACH DELETE) 기록한 것보다 관계가 적은 경우
+         */
+        boolean lostNeighbors() {
+            return similarCount != null && neighbors.size() < similarCount;
+        }
+    }
+
+    private final RagVectorRepository ragVectorRepository;
+    private final Neo4jClient neo4jClient;
+    private final int k;
+    private final double minSimilarity;
+    private final int batchSize;
+    private final ForkJoinPool pool;
+
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "concept-similarity");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    /**
+     * 실행 대기 중인 프로젝트 (실행이 시작되면 제거되므로 실행 중 변경은 다시 예약됨)
+     */
+    private final Set<Long> pending = ConcurrentHashMap.newKeySet();
+
+    public ConceptSimilarityService(
+            RagVectorRepository ragVectorRepository,
+            Neo4jClient neo4jClient,
+            @Value("${concept.similarity.k:10}") int k,
+            @Value("${concept.similarity.min-similarity:0.3}") double minSimilarity,
+            @Value("${concept.similarity.batch-size:200}") int batchSize,
+            @Value("${concept.similarity.parallelism:0}") int parallelism
+    ) {
+        this.ragVectorRepository = ragVectorRepository;
+        this.neo4jClient = neo4jClient;
+        this.k = Math.max(1, k);
+        this.minSimilarity = minSimilarity;
+        this.batchSize = Math.max(1, batchSize);
+        this.pool = new ForkJoinPool(parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors());
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdownNow();
+        pool.shutdownNow();
+    }
+
+    /**
+     * 프로젝트 유사도 관계 갱신 예약 (트랜잭션 안이면 커밋 후)
+     */
+    public void requestRefresh(Long projectId) {
+        TransactionCallbacks.afterCommit(() -> schedule(projectId));
+    }
+
+    /**
+     * 프로젝트 유사도 관계 갱신을 백그라운드로 시작
+     *
+     * @return 새로 예약했으면 true, 이미 대기 중이면 false
+     */
+    public boolean schedule(Long projectId) {
+        if (!pending.add(projectId)) {
+            return false;
+        }
+        executor.execute(() -> {
+            pending.remove(projectId);
+            try {
+                refresh(projectId);
+            } catch (Exception e) {
+                log.error("Concept similarity refresh failed: projectId={}, error={}", projectId, e.getMessage(), e);
+            }
+        });
+        return true;
+    }
+
+    /**
+     * 임베딩이 바뀐 개념 기준으로 프로젝트 유사도 관계 갱신
+     */
+    public RefreshResult refresh(Long projectId) {
+        long start = System.nanoTime();
+
+        List<RagVector> vectors = ragVectorRepository.findConceptVectorsByProjectId(projectId);
+        long[] rdbIds = new long[vectors.size()];
+        float[][] embeddings = new float[vectors.size()][];
+        long[] hashes = new long[vectors.size()];
+        for (int i = 0; i < vectors.size(); i++) {
+            RagVector vector = vectors.get(i);
+            rdbIds[i] = vector.getSourceId();
+            embeddings[i] = vector.getEmbedding().toArray();
+            hashes[i] = Arrays.hashCode(embeddings[i]);
+        }
+        ConceptKnn knn = new ConceptKnn(rdbIds, embeddings);
+
+        Map<Long, ConceptState> states = loadState(projectId);
+
+        // 해시가 다르거나 없는 개념 + 임베딩이 사라졌는데 관계/해시가 남은 개념
+        Set<Long> changed = new HashSet<>();
+        for (int i = 0; i < rdbIds.length; i++) {
+            ConceptState state = states.get(rdbIds[i]);
+            if (state != null && (state.embeddingHash() == null || state.embeddingHash() != hashes[i])) {
+                changed.add(rdbIds[i]);
+            }
+        }
+        List<Long> removed = new ArrayList<>();
+        Set<Long> lostNeighbors = new HashSet<>();
+        states.forEach((rdbId, state) -> {
+            if (knn.indexOf(rdbId) < 0) {
+                if (state.embeddingHash() != null || !state.neighbors().isEmpty()) {
+                    removed.add(rdbId);
+                }
+            } else if (state.lostNeighbors()) {
+                lostNeighbors.add(rdbId);
+            }
+        });
+
+        if (changed.isEmpty() && removed.isEmpty() && lostNeighbors.isEmpty()) {
+            log.debug("Concept similarity up to date: projectId={}, concepts={}", projectId, rdbIds.length);
+            return new RefreshResult(projectId, rdbIds.length, 0, 0, elapsedMillis(start));
+        }
+
+        Set<Long> invalidated = new HashSet<>(changed);
+        invalidated.addAll(removed);
+        Map<Long, List<ConceptKnn.Neighbor>> current = new HashMap<>();
+        states.forEach((rdbId, state) -> current.put(rdbId, state.neighbors()));
+
+        // 그래프 노드가 아직 없는 개념은 MATCH되지 않으므로 제외
+        int[] affected = knn.affected(invalidated, current, k, minSimilarity, pool);
+        int[] targets = IntStream.concat(Arrays.stream(affected), lostNeighbors.stream().mapToInt(knn::indexOf))
+            .distinct()
+            .filter(index -> states.containsKey(knn.rdbId(index)))
+            .toArray();
+        Map<Long, List<ConceptKnn.Neighbor>> neighbors = knn.nearest(targets, k, minSimilarity, pool);
+
+        List<Map<String, Object>> rows = new ArrayList<>(targets.length + removed.size());
+        for (int index : targets) {
+            rows.add(row(knn.rdbId(index), hashes[index], neighbors.get(knn.rdbId(index))));
+        }
+        for (Long rdbId : removed) {
+            rows.add(row(rdbId, null, List.of()));
+        }
+        write(rows);
+
+        RefreshResult result = new RefreshResult(projectId, rdbIds.length,
+            changed.size() + removed.size(), rows.size(), elapsedMillis(start));
+        log.info("Concept similarity refreshed: projectId={}, concepts={}, changed={}, updated={}, k={}, took={}ms",
+            projectId, result.concepts(), result.changed(), result.updated(), k, result.elapsedMillis());
+        return result;
+    }
+
+    private Map<Long, ConceptState> loadState(Long projectId) {
+        Map<Long, ConceptState> states = new HashMap<>();
+        neo4jClient.query(LOAD_STATE)
+            .bind(projectId).to("projectId")
+            .fetch()
+            .all()
+            .forEach(record -> {
+                List<ConceptKnn.Neighbor> neighbors = new ArrayList<>();
+                for (Object value : (List<?>) record.get("neighbors")) {
+                    Map<?, ?> neighbor = (Map<?, ?>) value;
+                    Number similarity = (Number) neighbor.get("similarity");
+                    neighbors.add(new ConceptKnn.Neighbor(((Number) neighbor.get("rdbId")).longValue(),
+                        similarity != null ? similarity.doubleValue() : 0.0));
+                }
+                states.put(((Number) record.get("rdbId")).longValue(), new ConceptState(
+                    longOrNull(record.get("embeddingHash")), longOrNull(record.get("similarCount")), neighbors));
+            });
+        return states;
+    }
+
+    private void write(List<Map<String, Object>> rows) {
+        for (int from = 0; from < rows.size(); from += batchSize) {
+            List<Map<String, Object>> batch = rows.subList(from, Math.min(from + batchSize, rows.size()));
+            neo4jClient.query(REPLACE_NEIGHBORS)
+                .bind(batch).to("rows")
+                .run();
+        }
+    }
+
+    private static Map<String, Object> row(Long rdbId, Long embeddingHash, List<ConceptKnn.Neighbor> neighbors) {
+        Map<String, Object> row = new HashMap<>();
+        row.put("rdbId", rdbId);
+        row.put("embeddingHash", embeddingHash);
+        row.put("neighbors", neighbors.stream()
+            .map(neighbor -> Map.<String, Object>of("rdbId", neighbor.rdbId(), "similarity", neighbor.similarity()))
+            .toList());
+        return row;
+    }
+
+    private static Long longOrNull(Object value) {
+        return value != null ? ((Number) value).longValue() : null;
+    }
+
+    private static long elapsedMillis(long start) {
+        return (System.nanoTime() - start) / 1_000_000;
+    }
+}
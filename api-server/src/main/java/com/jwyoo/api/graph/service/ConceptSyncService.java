@@ -57,6 +57,10 @@ public class ConceptSyncService {
             }
 
             conceptNodeRepository.save(conceptNode);
+            if (concept.getEpisode() == null) {
+                // 에피소드 연결이 해제된 경우 (새 에피소드 연결은 EpisodeGraphSyncService가 기록)
+                conceptNodeRepository.detachFromEpisode(concept.getId());
+            }
             log.info("ConceptNode synced successfully: rdbId={}, neo4jId={}", concept.getId(), conceptNode.getId());
 
         } catch (Exception e) {
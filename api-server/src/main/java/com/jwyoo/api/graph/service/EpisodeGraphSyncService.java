@@ -0,0 +1,371 @@
+package com.jwyoo.api.graph.service;
+
+import com.jwyoo.api.event.TransactionCallbacks;
+import com.jwyoo.api.graph.dto.EpisodeCharacterRow;
+import com.jwyoo.api.graph.dto.EpisodeConceptRow;
+import com.jwyoo.api.graph.dto.EpisodeGraphRow;
+import com.jwyoo.api.graph.dto.SceneGraphRow;
+import com.jwyoo.api.repository.ConceptRepository;
+import com.jwyoo.api.repository.DialogueRepository;
+import com.jwyoo.api.repository.EpisodeRepository;
+import com.jwyoo.api.repository.SceneRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.neo4j.core.Neo4jClient;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Episode/Scene 노드와 에피소드 기준 개념 관계 동기화 서비스 (RDB → Neo4j)
+ * - (Episode)-[:CONTAINS]->(Scene), (Episode)-[:CONTAINS]->(Concept)
+ * - (Character)-[:RELATES_TO {episodeId, appearances}]->(Concept)
+ *
+ * RDB에는 캐릭터와 개념의 직접 연결이 없으므로, 에피소드에서 대사로 등장한 캐릭터와 그 에피소드의 개념을
+ * 연결하고 대사 수(appearances)를 가중치로 남긴다. 개념의 에피소드는 하나뿐이므로 개념으로 들어오는
+ * 캐릭터 관계는 모두 그 에피소드에서 파생된 것이다.
+ *
+ * 에피소드/장면/대사/개념 변경 시 커밋 후 변경된 에피소드만 모아 백그라운드에서 에피소드 묶음 단위 UNWIND 배치로 기록
+ *
+ * Episode/Scene/Concept 노드는 Neo4j에만 있으므로 graph.store.type=neo4j일 때만 등록된다
+ * (임베디드 저장소에서는 에피소드 그래프 동기화 없이 캐릭터 관계 그래프만 유지).
+ */
+@Slf4j
+@Service
+@ConditionalOnProperty(name = "graph.store.type", havingValue = "neo4j", matchIfMissing = true)
+public class EpisodeGraphSyncService {
+
+    static final String UPSERT_EPISODES = """
+        UNWIND $rows AS row
+        MERGE (e:Episode {rdbId: row.rdbId})
+        SET e.projectId = row.projectId,
+            e.title = row.title,
+            e.episodeOrder = row.episodeOrder
+        """;
+
+    /**
+     * RDB에서 사라진 장면 노드 삭제
+     */
+    static final String DELETE_STALE_SCENES = """
+        UNWIND $rows AS row
+        MATCH (s:Scene {episodeId: row.rdbId})
+        WHERE NOT s.rdbId IN row.sceneIds
+        DETACH DELETE s
+        """;
+
+    static final String UPSERT_SCENES = """
+        UNWIND $rows AS row
+        MATCH (e:Episode {rdbId: row.episodeId})
+        MERGE (s:Scene {rdbId: row.rdbId})
+        SET s.projectId = e.projectId,
+            s.episodeId = row.episodeId,
+            s.sceneNumber = row.sceneNumber,
+            s.location = row.location,
+            s.mood = row.mood
+        MERGE (e)-[:CONTAINS]->(s)
+        """;
+
+    /**
+     * 에피소드에서 빠진 개념의 CONTAINS와 이 에피소드에서 파생된 캐릭터 관계를 지우고,
+     * 현재 개념으로 CONTAINS 생성 (다른 에피소드에서 옮겨 온 개념은 이전 에피소드의 관계 제거)
+     */
+    static final String REPLACE_EPISODE_CONCEPTS = """
+        UNWIND $rows AS row
+        MATCH (e:Episode {rdbId: row.rdbId})
+        OPTIONAL MATCH (e)-[old:CONTAINS]->(stale:Concept)
+        WHERE NOT stale.rdbId IN row.conceptIds
+        OPTIONAL MATCH (stale)<-[derived:RELATES_TO {episodeId: row.rdbId}]-(:Character)
+        DELETE derived, old
+        WITH DISTINCT e, row
+        UNWIND row.conceptIds AS conceptId
+        MATCH (c:Concept {rdbId: conceptId})
+        MERGE (e)-[:CONTAINS]->(c)
+        WITH e, c
+        OPTIONAL MATCH (other:Episode)-[moved:CONTAINS]->(c)
+        WHERE other <> e
+        DELETE moved
+        """;
+
+    /**
+     * 에피소드 개념으로 들어오는 캐릭터 관계를 지우고 등장 캐릭터 × 개념으로 다시 생성
+     */
+    static final String REPLACE_CHARACTER_CONCEPTS = """
+        UNWIND $rows AS row
+        MATCH (e:Episode {rdbId: row.rdbId})-[:CONTAINS]->(c:Concept)
+        OPTIONAL MATCH (c)<-[old:RELATES_TO]-(:Character)
+        DELETE old
+        WITH DISTINCT row, c
+        UNWIND row.characters AS appearance
+        MATCH (ch:Character {rdbId: appearance.characterId})
+        CREATE (ch)-[:RELATES_TO {episodeId: row.rdbId, appearances: appearance.appearances}]->(c)
+        """;
+
+    /**
+     * RDB에서 삭제된 에피소드의 캐릭터 관계/장면/에피소드 노드 삭제 (개념 노드는 개념 동기화가 관리)
+     */
+    static final String DELETE_EPISODES = """
+        UNWIND $rows AS row
+        MATCH (e:Episode {rdbId: row.rdbId})
+        OPTIONAL MATCH (e)-[:CONTAINS]->(:Concept)<-[derived:RELATES_TO {episodeId: row.rdbId}]-(:Character)
+        DELETE derived
+        WITH DISTINCT e
+        OPTIONAL MATCH (e)-[:CONTAINS]->(s:Scene)
+        WITH e, collect(s) AS scenes
+        FOREACH (s IN scenes | DETACH DELETE s)
+        DETACH DELETE e
+        """;
+
+    static final String FIND_PROJECT_EPISODE_IDS = """
+        MATCH (e:Episode {projectId: $projectId})
+        RETURN e.rdbId AS rdbId
+        """;
+
+    /**
+     * 실행 결과
+     *
+     * @param episodes       기록한 에피소드 수
+     * @param deleted        삭제한 에피소드 노드 수 (RDB에 없는 에피소드)
+     * @param scenes         기록한 장면 수
+     * @param concepts       CONTAINS로 연결한 개념 수
+     * @param characterLinks 생성한 캐릭터→개념 관계 수
+     */
+    public record RefreshResult(int episodes, int deleted, int scenes, int concepts, int characterLinks,
+                                long elapsedMillis) {
+    }
+
+    private final EpisodeRepository episodeRepository;
+    private final SceneRepository sceneRepository;
+    private final ConceptRepository conceptRepository;
+    private final DialogueRepository dialogueRepository;
+    private final Neo4jClient neo4jClient;
+    private final int batchSize;
+
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "episode-graph-sync");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    /**
+     * 실행 대기 중인 에피소드 (실행이 시작되면 비워지므로 실행 중 변경은 다시 예약됨)
+     */
+    private final Set<Long> pending = ConcurrentHashMap.newKeySet();
+    private final AtomicBoolean scheduled = new AtomicBoolean();
+
+    public EpisodeGraphSyncService(
+            EpisodeRepository episodeRepository,
+            SceneRepository sceneRepository,
+            ConceptRepository conceptRepository,
+            DialogueRepository dialogueRepository,
+            Neo4jClient neo4jClient,
+            @Value("${graph.episode-sync.batch-size:100}") int batchSize
+    ) {
+        this.episodeRepository = episodeRepository;
+        this.sceneRepository = sceneRepository;
+        this.conceptRepository = conceptRepository;
+        this.dialogueRepository = dialogueRepository;
+        this.neo4jClient = neo4jClient;
+        this.batchSize = Math.max(1, batchSize);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * 에피소드 그래프 갱신 예약 (트랜잭션 안이면 커밋 후)
+     */
+    public void requestRefresh(Long episodeId) {
+        if (episodeId != null) {
+            TransactionCallbacks.afterCommit(() -> schedule(List.of(episodeId)));
+        }
+    }
+
+    /**
+     * 에피소드 그래프 갱신을 백그라운드로 시작 (대기 중인 에피소드와 합쳐 한 번에 실행)
+     */
+    public void schedule(Collection<Long> episodeIds) {
+        pending.addAll(episodeIds);
+        if (scheduled.compareAndSet(false, true)) {
+            executor.execute(this::drain);
+        }
+    }
+
+    /**
+     * 프로젝트의 모든 Episode/Scene 노드와 개념 관계 재동기화를 백그라운드로 시작
+     * (RDB에 없는데 그래프에 남은 에피소드 노드도 삭제)
+     */
+    public void scheduleProject(Long projectId) {
+        executor.execute(() -> {
+            try {
+                refresh(projectEpisodeIds(projectId));
+            } catch (Exception e) {
+                log.error("Episode graph sync failed: projectId={}, error={}", projectId, e.getMessage(), e);
+            }
+        });
+    }
+
+    private void drain() {
+        // 목록을 꺼내기 전에 해제해야 그 사이 추가된 에피소드가 다음 실행으로 예약됨
+        scheduled.set(false);
+        List<Long> episodeIds = new ArrayList<>(pending);
+        pending.removeAll(episodeIds);
+        if (episodeIds.isEmpty()) {
+            return;
+        }
+        try {
+            refresh(episodeIds);
+        } catch (Exception e) {
+            log.error("Episode graph sync failed: episodes={}, error={}", episodeIds.size(), e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 에피소드 묶음 단위로 RDB 프로젝션을 읽어 그래프에 기록
+     */
+    public RefreshResult refresh(Collection<Long> episodeIds) {
+        long start = System.nanoTime();
+        List<Long> ids = new ArrayList<>(new LinkedHashSet<>(episodeIds));
+        int episodes = 0;
+        int deleted = 0;
+        int scenes = 0;
+        int concepts = 0;
+        int characterLinks = 0;
+
+        for (int from = 0; from < ids.size(); from += batchSize) {
+            List<Long> chunk = ids.subList(from, Math.min(from + batchSize, ids.size()));
+
+            List<EpisodeGraphRow> episodeRows = episodeRepository.findGraphRowsByIdIn(chunk);
+            Set<Long> missing = new LinkedHashSet<>(chunk);
+            episodeRows.forEach(row -> missing.remove(row.id()));
+            if (!missing.isEmpty()) {
+                write(DELETE_EPISODES, missing.stream().map(id -> Map.<String, Object>of("rdbId", id)).toList());
+                deleted += missing.size();
+            }
+            if (episodeRows.isEmpty()) {
+                continue;
+            }
+
+            List<Long> existing = episodeRows.stream().map(EpisodeGraphRow::id).toList();
+            List<SceneGraphRow> sceneRows = sceneRepository.findGraphRowsByEpisodeIdIn(existing);
+            List<EpisodeConceptRow> conceptRows = conceptRepository.findEpisodeConceptRows(existing);
+            List<EpisodeCharacterRow> characterRows = dialogueRepository.findEpisodeCharacterRows(existing);
+
+            Map<Long, Map<String, Object>> rows = episodeRows(episodeRows, sceneRows, conceptRows, characterRows);
+            List<Map<String, Object>> batch = new ArrayList<>(rows.values());
+            write(UPSERT_EPISODES, batch);
+            write(DELETE_STALE_SCENES, batch);
+            write(UPSERT_SCENES, sceneRows.stream().map(EpisodeGraphSyncService::sceneRow).toList());
+            write(REPLACE_EPISODE_CONCEPTS, batch);
+            write(REPLACE_CHARACTER_CONCEPTS, batch);
+
+            episodes += episodeRows.size();
+            scenes += sceneRows.size();
+            concepts += conceptRows.size();
+            characterLinks += characterLinkCount(conceptRows, characterRows);
+        }
+
+        RefreshResult result = new RefreshResult(episodes, deleted, scenes, concepts, characterLinks, elapsedMillis(start));
+        log.info("Episode graph synced: episodes={}, deleted={}, scenes={}, concepts={}, characterLinks={}, took={}ms",
+            result.episodes(), result.deleted(), result.scenes(), result.concepts(), result.characterLinks(),
+            result.elapsedMillis());
+        return result;
+    }
+
+    /**
+     * 배치 기록 (테스트에서 대체 가능하도록 분리)
+     */
+    void write(String cypher, List<Map<String, Object>> rows) {
+        if (rows.isEmpty()) {
+            return;
+        }
+        neo4jClient.query(cypher)
+            .bind(rows).to("rows")
+            .run();
+    }
+
+    private List<Long> projectEpisodeIds(Long projectId) {
+        Set<Long> ids = new LinkedHashSet<>(episodeRepository.findIdsByProjectId(projectId));
+        ids.addAll(neo4jClient.query(FIND_PROJECT_EPISODE_IDS)
+            .bind(projectId).to("projectId")
+            .fetchAs(Long.class)
+            .mappedBy((typeSystem, record) -> record.get("rdbId").asLong())
+            .all());
+        return new ArrayList<>(ids);
+    }
+
+    /**
+     * 에피소드별 행: 속성 + 현재 장면/개념 ID + 등장 캐릭터 목록
+     */
+    static Map<Long, Map<String, Object>> episodeRows(List<EpisodeGraphRow> episodes,
+                                                      List<SceneGraphRow> scenes,
+                                                      List<EpisodeConceptRow> concepts,
+                                                      List<EpisodeCharacterRow> characters) {
+        Map<Long, Map<String, Object>> rows = new HashMap<>();
+        for (EpisodeGraphRow episode : episodes) {
+            Map<String, Object> row = new HashMap<>();
+            row.put("rdbId", episode.id());
+            row.put("projectId", episode.projectId());
+            row.put("title", episode.title());
+            row.put("episodeOrder", episode.episodeOrder());
+            row.put("sceneIds", new ArrayList<Long>());
+            row.put("conceptIds", new ArrayList<Long>());
+            row.put("characters", new ArrayList<Map<String, Object>>());
+            rows.put(episode.id(), row);
+        }
+        for (SceneGraphRow scene : scenes) {
+            append(rows, scene.episodeId(), "sceneIds", scene.id());
+        }
+        for (EpisodeConceptRow concept : concepts) {
+            append(rows, concept.episodeId(), "conceptIds", concept.conceptId());
+        }
+        for (EpisodeCharacterRow character : characters) {
+            append(rows, character.episodeId(), "characters",
+                Map.of("characterId", character.characterId(), "appearances", character.appearances()));
+        }
+        return rows;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static void append(Map<Long, Map<String, Object>> rows, Long episodeId, String key, Object value) {
+        Map<String, Object> row = rows.get(episodeId);
+        if (row != null) {
+            ((List<Object>) row.get(key)).add(value);
+        }
+    }
+
+    private static Map<String, Object> sceneRow(SceneGraphRow scene) {
+        Map<String, Object> row = new HashMap<>();
+        row.put("rdbId", scene.id());
+        row.put("episodeId", scene.episodeId());
+        row.put("sceneNumber", scene.sceneNumber());
+        row.put("location", scene.location());
+        row.put("mood", scene.mood());
+        return row;
+    }
+
+    private static int characterLinkCount(List<EpisodeConceptRow> concepts, List<EpisodeCharacterRow> characters) {
+        Map<Long, Integer> conceptCounts = new HashMap<>();
+        concepts.forEach(row -> conceptCounts.merge(row.episodeId(), 1, Integer::sum));
+        return characters.stream()
+            .mapToInt(row -> conceptCounts.getOrDefault(row.episodeId(), 0))
+            .sum();
+    }
+
+    private static long elapsedMillis(long start) {
+        return (System.nanoTime() - start) / 1_000_000;
+    }
+}
@@ -0,0 +1,287 @@
+package com.jwyoo.api.graph.service;
+
+import com.jwyoo.api.cache.CacheInvalidationBus;
+import com.jwyoo.api.cache.LocalCacheRegion;
+import com.jwyoo.api.event.TransactionCallbacks;
+import com.jwyoo.api.graph.analytics.GraphLayout;
+import com.jwyoo.api.graph.dto.CooccurrenceEdgeRow;
+import com.jwyoo.api.graph.dto.EpisodeGraphEdgeRow;
+import com.jwyoo.api.graph.dto.EpisodeGraphEdgeView;
+import com.jwyoo.api.graph.dto.EpisodeGraphNodeView;
+import com.jwyoo.api.repository.CharacterCooccurrenceRepository;
+import com.jwyoo.api.repository.EpisodeRelationshipRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 에피소드 관계 그래프 조회 서비스
+ * 관계 + 양 끝 캐릭터를 프로젝션 한 번으로 읽어 노드/엣지를 한 번에 조립하고 에피소드별로 캐시한다.
+ *
+ * 엣지 소스는 LLM 추출 관계(relationship) 또는 대사 동시 등장(cooccurrence)이며 소스별로 따로 캐시한다.
+ *
+ * 캐시는 해당 에피소드의 관계/동시 등장이 바뀌거나(커밋 후) 그래프에 등장하는 캐릭터가 바뀔 때까지 유지된다.
+ * 노드 좌표는 프로젝트 배치 버전이 바뀌면 캐시된 관계 행으로 다시 조립하므로 RDB를 다시 읽지 않는다.
+ *
+ * 캐시는 노드마다 있으므로 무효화를 CacheInvalidationBus(Redis 캐시 사용 시)로 다른 API 서버에도 알린다.
+ * 메시지가 유실되거나(Redis 장애) 버스가 없어도 max-age가 지나면 다시 읽으므로 옛 그래프를 보는 시간은 그 이하이다.
+ */
+@Slf4j
+@Service
+public class EpisodeRelationshipGraphService {
+
+    /**
+     * 에피소드 관계 그래프 (노드 좌표는 layoutVersion 배치 기준)
+     */
+    public record EpisodeGraph(List<EpisodeGraphNodeView> nodes, List<EpisodeGraphEdgeView> edges, long layoutVersion) {
+    }
+
+    private record GraphKey(Long episodeId, boolean cooccurrence) {
+    }
+
+    /**
+     * @param loadedAt 관계 행을 읽은 시각 (System.nanoTime, 좌표만 다시 조립해도 유지)
+     */
+    private record CachedGraph(Long projectId, List<EpisodeGraphEdgeRow> rows, EpisodeGraph graph, long loadedAt) {
+
+        boolean contains(Long characterId) {
+            for (EpisodeGraphEdgeRow row : rows) {
+                if (characterId.equals(row.fromId()) || characterId.equals(row.toId())) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+
+    /**
+     * 무효화 메시지의 캐시 이름과 키 접두사
+     */
+    static final String REGION_NAME = "episodeGraph";
+    static final String EPISODE_KEY_PREFIX = "episode:";
+    static final String CHARACTER_KEY_PREFIX = "character:";
+
+    private final EpisodeRelationshipRepository episodeRelationshipRepository;
+    private final CharacterCooccurrenceRepository cooccurrenceRepository;
+    private final GraphLayoutService graphLayoutService;
+    private final GraphReadCache graphReadCache;
+    private final int maxEntries;
+    private final long maxAgeNanos;
+    private final CacheInvalidationBus invalidationBus;
+
+    private final Map<GraphKey, CachedGraph> graphs = new ConcurrentHashMap<>();
+
+    /**
+     * 무효화 횟수 (적재 중에 무효화가 일어나면 적재 결과를 보관하지 않음)
+     */
+    private final AtomicLong invalidations = new AtomicLong();
+
+    public EpisodeRelationshipGraphService(
+            EpisodeRelationshipRepository episodeRelationshipRepository,
+            CharacterCooccurrenceRepository cooccurrenceRepository,
+            GraphLayoutService graphLayoutService,
+            GraphReadCache graphReadCache,
+            @Value("${graph.episode-graph-cache.max-entries:512}") int maxEntries,
+            @Value("${graph.episode-graph-cache.max-age:5m}") Duration maxAge,
+            ObjectProvider<CacheInvalidationBus> invalidationBusProvider
+    ) {
+        this.episodeRelationshipRepository = episodeRelationshipRepository;
+        this.cooccurrenceRepository = cooccurrenceRepository;
+        this.graphLayoutService = graphLayoutService;
+        this.graphReadCache = graphReadCache;
+        this.maxEntries = Math.max(1, maxEntries);
+        this.maxAgeNanos = maxAge.toNanos();
+        this.invalidationBus = invalidationBusProvider.getIfAvailable();
+        if (invalidationBus != null) {
+            invalidationBus.register(new RemoteInvalidations());
+        }
+    }
+
+    /**
+     * 에피소드 관계 그래프 (LLM 추출 관계 기준, 캐시 우선)
+     */
+    public EpisodeGraph getEpisodeGraph(Long projectId, Long episodeId) {
+        return getEpisodeGraph(projectId, episodeId, false);
+    }
+
+    /**
+     * 에피소드 그래프 (캐시 우선)
+     *
+     * @param cooccurrence true면 대사 동시 등장 엣지 (label = co_occurrence, closeness = 함께 등장한 장면 수)
+     */
+    public EpisodeGraph getEpisodeGraph(Long projectId, Long episodeId, boolean cooccurrence) {
+        GraphLayoutService.ProjectLayout layout = graphLayoutService.getLayout(projectId);
+        GraphKey key = new GraphKey(episodeId, cooccurrence);
+
+        CachedGraph cached = graphs.get(key);
+        if (cached != null && System.nanoTime() - cached.loadedAt() >= maxAgeNanos) {
+            graphs.remove(key, cached);
+            cached = null;
+        }
+        if (cached != null && cached.projectId().equals(projectId)) {
+            if (cached.graph().layoutVersion() == layout.version()) {
+                graphReadCache.recordHit("episodeGraph");
+                return cached.graph();
+            }
+            // 관계는 그대로이고 배치만 바뀜: 캐시된 행으로 좌표만 다시 조립
+            EpisodeGraph graph = assemble(cached.rows(), layout);
+            graphs.replace(key, cached, new CachedGraph(projectId, cached.rows(), graph, cached.loadedAt()));
+            graphReadCache.recordHit("episodeGraph");
+            return graph;
+        }
+
+        long start = System.nanoTime();
+        long invalidationsBefore = invalidations.get();
+        List<EpisodeGraphEdgeRow> rows = cooccurrence
+            ? cooccurrenceRows(projectId, episodeId)
+            : List.copyOf(episodeRelationshipRepository.findGraphEdgeRows(episodeId, projectId));
+        EpisodeGraph graph = assemble(rows, layout);
+
+        if (invalidations.get() == invalidationsBefore) {
+            if (graphs.size() >= maxEntries) {
+                graphs.clear();
+            }
+            graphs.put(key, new CachedGraph(projectId, rows, graph, start));
+        }
+        graphReadCache.recordLoad("episodeGraph", System.nanoTime() - start);
+
+        log.debug("Episode graph loaded: projectId={}, episodeId={}, cooccurrence={}, nodes={}, edges={}",
+            projectId, episodeId, cooccurrence, graph.nodes().size(), graph.edges().size());
+        return graph;
+    }
+
+    /**
+     * 에피소드 관계/동시 등장 변경 시 두 소스의 캐시 모두 폐기 (트랜잭션 안이면 커밋 후 반영, 다른 노드에도 알림)
+     */
+    public void invalidateEpisode(Long episodeId) {
+        TransactionCallbacks.afterCommit(() -> {
+            evictEpisode(episodeId);
+            publishEvict(EPISODE_KEY_PREFIX + episodeId);
+            log.debug("Episode graph invalidated: episodeId={}", episodeId);
+        });
+    }
+
+    /**
+     * 캐릭터 변경(이름 변경, 삭제) 시 그 캐릭터가 등장하는 에피소드 그래프 폐기 (다른 노드에도 알림)
+     */
+    public void invalidateCharacter(Long characterId) {
+        TransactionCallbacks.afterCommit(() -> {
+            evictCharacter(characterId);
+            publishEvict(CHARACTER_KEY_PREFIX + characterId);
+            log.debug("Episode graphs invalidated for character: characterId={}", characterId);
+        });
+    }
+
+    private void evictEpisode(Long episodeId) {
+        invalidations.incrementAndGet();
+        graphs.remove(new GraphKey(episodeId, false));
+        graphs.remove(new GraphKey(episodeId, true));
+    }
+
+    private void evictCharacter(Long characterId) {
+        invalidations.incrementAndGet();
+        graphs.values().removeIf(cached -> cached.contains(characterId));
+    }
+
+    private void evictAll() {
+        invalidations.incrementAndGet();
+        graphs.clear();
+    }
+
+    private void publishEvict(String key) {
+        if (invalidationBus != null) {
+            invalidationBus.publishEvict(REGION_NAME, key);
+        }
+    }
+
+    /**
+     * 다른 노드의 무효화 메시지 반영 (키: episode:{에피소드 ID} 또는 character:{캐릭터 ID})
+     */
+    private class RemoteInvalidations implements LocalCacheRegion {
+
+        @Override
+        public String getName() {
+            return REGION_NAME;
+        }
+
+        @Override
+        public void evictLocal(String key) {
+            try {
+                if (key.startsWith(EPISODE_KEY_PREFIX)) {
+                    evictEpisode(Long.valueOf(key.substring(EPISODE_KEY_PREFIX.length())));
+                    return;
+                }
+                if (key.startsWith(CHARACTER_KEY_PREFIX)) {
+                    evictCharacter(Long.valueOf(key.substring(CHARACTER_KEY_PREFIX.length())));
+                    return;
+                }
+            } catch (NumberFormatException e) {
+                // 아래에서 전체 폐기
+            }
+            log.warn("Unknown episode graph invalidation key (clearing all): {}", key);
+            evictAll();
+        }
+
+        @Override
+        public void evictLocalPrefix(String prefix) {
+            evictAll();
+        }
+
+        @Override
+        public void clearLocal() {
+            evictAll();
+        }
+    }
+
+    /**
+     * 동시 등장 행을 관계 그래프 행 모양으로 변환
+     */
+    private List<EpisodeGraphEdgeRow> cooccurrenceRows(Long projectId, Long episodeId) {
+        List<CooccurrenceEdgeRow> rows = cooccurrenceRepository.findEdgeRowsByEpisodeId(episodeId, projectId);
+        List<EpisodeGraphEdgeRow> edges = new ArrayList<>(rows.size());
+        for (CooccurrenceEdgeRow row : rows) {
+            edges.add(new EpisodeGraphEdgeRow(row.id(), row.fromRdbId(), row.fromName(), row.toRdbId(), row.toName(),
+                CharacterCooccurrenceService.RELATION_TYPE, row.sceneCount().doubleValue()));
+        }
+        return List.copyOf(edges);
+    }
+
+    /**
+     * 관계 행을 한 번 훑어 노드(등장 순서 유지)와 엣지를 함께 조립
+     */
+    static EpisodeGraph assemble(List<EpisodeGraphEdgeRow> rows, GraphLayoutService.ProjectLayout layout) {
+        Map<Long, EpisodeGraphNodeView> nodes = new LinkedHashMap<>();
+        List<EpisodeGraphEdgeView> edges = new ArrayList<>(rows.size());
+        for (EpisodeGraphEdgeRow row : rows) {
+            addNode(nodes, row.fromId(), row.fromName(), layout.layout());
+            addNode(nodes, row.toId(), row.toName(), layout.layout());
+            edges.add(new EpisodeGraphEdgeView(
+                row.edgeId(),
+                row.fromId(),
+                row.toId(),
+                row.relationType(),
+                row.closeness() != null ? row.closeness() : 0.0
+            ));
+        }
+        return new EpisodeGraph(List.copyOf(nodes.values()), List.copyOf(edges), layout.version());
+    }
+
+    private static void addNode(Map<Long, EpisodeGraphNodeView> nodes, Long id, String name, GraphLayout layout) {
+        if (nodes.containsKey(id)) {
+            return;
+        }
+        GraphLayout.Point point = layout.position(id);
+        nodes.put(id, point != null
+            ? new EpisodeGraphNodeView(id, name, GraphLayoutService.round(point.x()), GraphLayoutService.round(point.y()))
+            : new EpisodeGraphNodeView(id, name, null, null));
+    }
+}
@@ -0,0 +1,133 @@
+package com.jwyoo.api.graph.service;
+
+import com.jwyoo.api.graph.analytics.CentralityEngine;
+import com.jwyoo.api.graph.analytics.CentralityScores;
+import com.jwyoo.api.graph.analytics.CsrGraph;
+import com.jwyoo.api.graph.store.GraphStore;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * JVM 내 그래프 분석 서비스
+ * 프로젝트 캐릭터 그래프를 그래프 저장소에서 한 번 읽어 CSR 배열로 투영하고,
+ * Betweenness/Closeness/PageRank/Weighted Degree를 fork/join으로 계산
+ * (가변 길이 패턴 Cypher의 조합 폭발 대신 O(V·E) Brandes)
+ *
+ * CSR 그래프와 결과는 프로젝트 그래프 버전과 함께 캐시되며 버전이 바뀔 때만 다시 읽고 계산
+ * (CSR 그래프는 GraphTraversalService의 BFS 탐색에서도 사용)
+ */
+@Slf4j
+@Service
+public class GraphAnalyticsService {
+
+    private record VersionedScores(long version, CentralityScores scores) {
+    }
+
+    private record VersionedGraph(long version, CsrGraph graph) {
+    }
+
+    private final GraphStore graphStore;
+    private final GraphVersionService graphVersionService;
+    private final GraphReadCache graphReadCache;
+    private final ForkJoinPool pool;
+    private final CentralityEngine engine;
+
+    private final Map<Long, VersionedScores> cache = new ConcurrentHashMap<>();
+    private final Map<Long, VersionedGraph> graphs = new ConcurrentHashMap<>();
+    private final Map<Long, Object> computeLocks = new ConcurrentHashMap<>();
+    private final Map<Long, Object> loadLocks = new ConcurrentHashMap<>();
+
+    public GraphAnalyticsService(
+            GraphStore graphStore,
+            GraphVersionService graphVersionService,
+            GraphReadCache graphReadCache,
+            @Value("${graph.analytics.parallelism:0}") int parallelism
+    ) {
+        this.graphStore = graphStore;
+        this.graphVersionService = graphVersionService;
+        this.graphReadCache = graphReadCache;
+        this.pool = new ForkJoinPool(parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors());
+        this.engine = new CentralityEngine(pool);
+    }
+
+    /**
+     * 프로젝트 중심성 결과 (현재 그래프 버전 기준 캐시)
+     */
+    public CentralityScores getScores(Long projectId) {
+        long version = graphVersionService.currentVersion(projectId);
+        VersionedScores cached = cache.get(projectId);
+        if (cached != null && cached.version() == version) {
+            graphReadCache.recordHit("centrality");
+            return cached.scores();
+        }
+
+        // 같은 프로젝트를 동시에 여러 번 계산하지 않도록 프로젝트별 잠금
+        synchronized (computeLocks.computeIfAbsent(projectId, id -> new Object())) {
+            cached = cache.get(projectId);
+            if (cached != null && cached.version() == version) {
+                graphReadCache.recordHit("centrality");
+                return cached.scores();
+            }
+
+            long start = System.nanoTime();
+            CsrGraph graph = getGraph(projectId, version);
+            CentralityScores scores = engine.compute(graph);
+            cache.put(projectId, new VersionedScores(version, scores));
+            graphReadCache.recordLoad("centrality", System.nanoTime() - start);
+
+            log.info("Centralities computed: projectId={}, version={}, nodes={}, edges={}, took={}ms",
+                projectId, version, graph.nodeCount(), graph.edgeCount(), scores.getComputeMillis());
+            return scores;
+        }
+    }
+
+    /**
+     * 지표 상위 limit개
+     */
+    public List<Map<String, Object>> top(Long projectId, CentralityScores.Metric metric, int limit) {
+        return getScores(projectId).top(metric, limit);
+    }
+
+    /**
+     * 프로젝트 CSR 그래프 (현재 그래프 버전 기준 캐시, 탐색용)
+     */
+    public CsrGraph getGraph(Long projectId) {
+        return getGraph(projectId, graphVersionService.currentVersion(projectId));
+    }
+
+    private CsrGraph getGraph(Long projectId, long version) {
+        VersionedGraph cached = graphs.get(projectId);
+        if (cached != null && cached.version() == version) {
+            graphReadCache.recordHit("graph-projection");
+            return cached.graph();
+        }
+
+        synchronized (loadLocks.computeIfAbsent(projectId, id -> new Object())) {
+            cached = graphs.get(projectId);
+            if (cached != null && cached.version() == version) {
+                graphReadCache.recordHit("graph-projection");
+                return cached.graph();
+            }
+
+            long start = System.nanoTime();
+            CsrGraph graph = graphStore.loadGraph(projectId);
+            graphs.put(projectId, new VersionedGraph(version, graph));
+            graphReadCache.recordLoad("graph-projection", System.nanoTime() - start);
+            log.debug("Graph projection loaded: projectId={}, version={}, nodes={}, edges={}",
+                projectId, version, graph.nodeCount(), graph.edgeCount());
+            return graph;
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        pool.shutdownNow();
+    }
+}
@@ -0,0 +1,279 @@
+package com.jwyoo.api.graph.service;
+
+import com.jwyoo.api.exception.GraphSyncLockedException;
+import com.jwyoo.api.graph.dto.CharacterSyncRow;
+import com.jwyoo.api.graph.dto.GraphSyncCheckpoint;
+import com.jwyoo.api.graph.dto.GraphSyncProgress;
+import com.jwyoo.api.graph.dto.RelationshipSyncRow;
+import com.jwyoo.api.graph.store.GraphStore;
+import com.jwyoo.api.repository.CharacterRepository;
+import com.jwyoo.api.repository.EpisodeRelationshipRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.Collectors;
+
+/**
+ * RDB → 그래프 저장소 일괄 동기화 서비스
+ * JPA 행을 키셋 페이지 단위로 스트리밍하고, 페이지마다 GraphStore 배치 upsert 한 번으로 기록
+ * (Neo4j는 배치당 UNWIND Cypher 1회 Bolt 왕복, 임베디드 저장소는 쓰기 잠금 1회)
+ *
+ * 범위(all, project:{id})마다 분산 잠금을 잡고 배치마다 체크포인트를 그래프 저장소에 남기므로
+ * 중단된 작업은 다음 실행 시 마지막 배치 다음부터 재개된다.
+ * 작업은 한 스레드에서 차례로 실행되며, 잠금은 대기열에서 꺼내 실행하기 직전에 잡는다.
+ * (대기 중에는 잠금을 갱신할 수 없으므로 제출 시 잡으면 앞 작업이 길 때 TTL이 만료되어 다른 노드와 겹친다)
+ */
+@Slf4j
+@Service
+public class GraphBulkSyncService {
+
+    private static final String SCOPE_ALL = "all";
+
+    private final CharacterRepository characterRepository;
+    private final EpisodeRelationshipRepository episodeRelationshipRepository;
+    private final GraphStore graphStore;
+    private final GraphSyncLock syncLock;
+    private final GraphVersionService graphVersionService;
+    private final CharacterStatsService characterStatsService;
+    private final int batchSize;
+
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "graph-bulk-sync");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    /**
+     * 범위별 마지막(또는 현재) 작업 진행 상태 (이 노드에서 시작한 작업만)
+     */
+    private final Map<String, GraphSyncProgress> jobs = new ConcurrentHashMap<>();
+
+    public GraphBulkSyncService(
+            CharacterRepository characterRepository,
+            EpisodeRelationshipRepository episodeRelationshipRepository,
+            GraphStore graphStore,
+            GraphSyncLock syncLock,
+            GraphVersionService graphVersionService,
+            CharacterStatsService characterStatsService,
+            @Value("${graph.sync.batch-size:500}") int batchSize
+    ) {
+        this.characterRepository = characterRepository;
+        this.episodeRelationshipRepository = episodeRelationshipRepository;
+        this.graphStore = graphStore;
+        this.syncLock = syncLock;
+        this.graphVersionService = graphVersionService;
+        this.characterStatsService = characterStatsService;
+        this.batchSize = Math.max(1, batchSize);
+    }
+
+    /**
+     * 전체 동기화를 백그라운드 대기열에 제출 (진행 상태는 QUEUED로 시작)
+     * 이미 대기/실행 중인 작업이 있으면 새로 제출하지 않고 해당 작업의 진행 상태를 반환
+     *
+     * @throws GraphSyncLockedException 제출 시점에 다른 노드가 동기화 중인 경우
+     */
+    public GraphSyncProgress startFullSync() {
+        return start(SCOPE_ALL, null);
+    }
+
+    /**
+     * 프로젝트 동기화를 백그라운드 대기열에 제출
+     *
+     * @throws GraphSyncLockedException 제출 시점에 다른 노드가 같은 프로젝트를 동기화 중인 경우
+     */
+    public GraphSyncProgress startProjectSync(Long projectId) {
+        return start(projectScope(projectId), projectId);
+    }
+
+    /**
+     * 마지막(또는 현재) 전체 동기화 진행 상태
+     */
+    public Optional<GraphSyncProgress> getFullSyncStatus() {
+        return Optional.ofNullable(jobs.get(SCOPE_ALL));
+    }
+
+    /**
+     * 마지막(또는 현재) 프로젝트 동기화 진행 상태
+     */
+    public Optional<GraphSyncProgress> getProjectSyncStatus(Long projectId) {
+        return Optional.ofNullable(jobs.get(projectScope(projectId)));
+    }
+
+    private synchronized GraphSyncProgress start(String scope, Long projectId) {
+        GraphSyncProgress active = jobs.get(scope);
+        if (active != null && active.isActive()) {
+            log.info("Bulk sync already {}: scope={}, batches={}", active.getStatus(), scope, active.getBatches());
+            return active;
+        }
+
+        // 빠른 거절만 (잠금 획득은 실행 직전에 acquireAndRun에서)
+        if (syncLock.isHeld(scope)) {
+            throw new GraphSyncLockedException(scope);
+        }
+
+        GraphSyncProgress progress = new GraphSyncProgress(scope, batchSize);
+        jobs.put(scope, progress);
+        executor.execute(() -> acquireAndRun(progress, projectId));
+        return progress;
+    }
+
+    /**
+     * 대기열에서 꺼낸 작업: 잠금을 잡고 실행, 그사이 다른 노드가 잡았으면 실패 처리
+     */
+    void acquireAndRun(GraphSyncProgress progress, Long projectId) {
+        String scope = progress.getScope();
+        Optional<String> lockToken;
+        try {
+            lockToken = syncLock.tryAcquire(scope);
+        } catch (Exception e) {
+            log.error("Failed to acquire graph sync lock: scope={}, error={}", scope, e.getMessage());
+            progress.fail(e.getMessage());
+            return;
+        }
+        if (lockToken.isEmpty()) {
+            log.warn("Bulk migration skipped, locked by another node: scope={}", scope);
+            progress.fail(new GraphSyncLockedException(scope).getMessage());
+            return;
+        }
+
+        progress.start();
+        runSync(progress, projectId, lockToken.get());
+    }
+
+    void runSync(GraphSyncProgress progress, Long projectId, String lockToken) {
+        String scope = progress.getScope();
+        log.info("Starting bulk migration from RDB to graph store: scope={}, batchSize={}", scope, batchSize);
+        try {
+            long characterAfterId = 0L;
+            long relationshipAfterId = 0L;
+            boolean charactersDone = false;
+
+            Optional<GraphSyncCheckpoint> checkpoint = graphStore.loadCheckpoint(scope);
+            if (checkpoint.isPresent()) {
+                GraphSyncCheckpoint resumeAt = checkpoint.get();
+                progress.resumeFrom(resumeAt.phase(), resumeAt.lastId());
+                log.info("Resuming bulk migration from checkpoint: scope={}, phase={}, lastId={}",
+                    scope, resumeAt.phase(), resumeAt.lastId());
+
+                if (GraphSyncProgress.PHASE_RELATIONSHIPS.equals(resumeAt.phase())) {
+                    charactersDone = true;
+                    relationshipAfterId = resumeAt.lastId();
+                } else {
+                    characterAfterId = resumeAt.lastId();
+                }
+            }
+
+            if (!charactersDone) {
+                syncCharacters(progress, projectId, characterAfterId, lockToken);
+            }
+            syncRelationships(progress, projectId, relationshipAfterId, lockToken);
+
+            // 배치 upsert는 연결 통계를 증감하지 않으므로 마지막에 엣지에서 다시 집계
+            progress.startPhase(GraphSyncProgress.PHASE_STATS, 0L);
+            characterStatsService.recalculate(projectId != null
+                ? List.of(projectId)
+                : characterStatsService.findProjectIds());
+
+            graphStore.clearCheckpoint(scope);
+            progress.complete();
+            log.info("Bulk migration completed: scope={}, characters={}, relationships={}, batches={}",
+                scope, progress.getSyncedCharacters(), progress.getSyncedRelationships(), progress.getBatches());
+        } catch (Exception e) {
+            log.error("Bulk migration failed: scope={}, error={}", scope, e.getMessage(), e);
+            progress.fail(e.getMessage());
+        } finally {
+            syncLock.release(scope, lockToken);
+        }
+    }
+
+    /**
+     * 캐릭터를 배치 단위로 upsert (projectId가 null이면 전체)
+     */
+    void syncCharacters(GraphSyncProgress progress, Long projectId, long afterId, String lockToken) {
+        progress.startPhase(GraphSyncProgress.PHASE_CHARACTERS, afterId);
+
+        while (true) {
+            PageRequest pageRequest = PageRequest.of(0, batchSize);
+            List<CharacterSyncRow> page = projectId == null
+                ? characterRepository.findSyncRowsAfter(afterId, pageRequest)
+                : characterRepository.findSyncRowsByProjectAfter(projectId, afterId, pageRequest);
+            if (page.isEmpty()) {
+                return;
+            }
+
+            graphStore.upsertCharacters(page);
+            graphVersionService.bump(page.stream().map(CharacterSyncRow::projectId).collect(Collectors.toSet()));
+            afterId = page.get(page.size() - 1).rdbId();
+
+            progress.characterBatchDone(page.size(), afterId);
+            checkpoint(progress, lockToken);
+            log.info("Character batch synced: scope={}, size={}, lastId={}, total={}",
+                progress.getScope(), page.size(), afterId, progress.getSyncedCharacters());
+
+            if (page.size() < batchSize) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * 에피소드 관계를 배치 단위로 upsert (캐릭터 노드가 먼저 동기화되어 있어야 함)
+     */
+    void syncRelationships(GraphSyncProgress progress, Long projectId, long afterId, String lockToken) {
+        progress.startPhase(GraphSyncProgress.PHASE_RELATIONSHIPS, afterId);
+
+        while (true) {
+            PageRequest pageRequest = PageRequest.of(0, batchSize);
+            List<RelationshipSyncRow> page = projectId == null
+                ? episodeRelationshipRepository.findSyncRowsAfter(afterId, pageRequest)
+                : episodeRelationshipRepository.findSyncRowsByProjectAfter(projectId, afterId, pageRequest);
+            if (page.isEmpty()) {
+                return;
+            }
+
+            graphStore.upsertRelationships(page);
+            graphVersionService.bump(page.stream().map(RelationshipSyncRow::projectId).collect(Collectors.toSet()));
+            afterId = page.get(page.size() - 1).id();
+
+            progress.relationshipBatchDone(page.size(), afterId);
+            checkpoint(progress, lockToken);
+            log.info("Relationship batch synced: scope={}, size={}, lastId={}, total={}",
+                progress.getScope(), page.size(), afterId, progress.getSyncedRelationships());
+
+            if (page.size() < batchSize) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * 배치 완료 후 체크포인트 기록 및 잠금 연장
+     * 잠금을 잃었다면(TTL 만료 후 다른 노드가 획득) 중복 실행을 막기 위해 작업 중단
+     */
+    private void checkpoint(GraphSyncProgress progress, String lockToken) {
+        String scope = progress.getScope();
+        graphStore.saveCheckpoint(scope, new GraphSyncCheckpoint(progress.getPhase(), progress.getLastSyncedId()));
+
+        if (!syncLock.refresh(scope, lockToken)) {
+            throw new IllegalStateException("Graph sync lock lost: scope=" + scope);
+        }
+    }
+
+    private String projectScope(Long projectId) {
+        return "project:" + projectId;
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdownNow();
+    }
+}
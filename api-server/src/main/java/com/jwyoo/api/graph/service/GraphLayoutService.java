@@ -0,0 +1,112 @@
+package com.jwyoo.api.graph.service;
+
+import com.jwyoo.api.graph.analytics.CsrGraph;
+import com.jwyoo.api.graph.analytics.ForceLayout;
+import com.jwyoo.api.graph.analytics.GraphLayout;
+import com.jwyoo.api.graph.dto.LayoutNodeView;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * 캐릭터 관계 그래프 서버 배치 서비스
+ * 프로젝트 CSR 그래프(GraphAnalyticsService 캐시)를 Barnes-Hut force-directed로 배치하고 그래프 버전과 함께 캐시한다.
+ * 버전이 바뀌면 직전 배치에서 시작(warm start)하므로 기존 캐릭터 위치가 크게 바뀌지 않는다.
+ *
+ * 에피소드 그래프도 같은 프로젝트 배치 좌표를 사용하므로 에피소드를 넘겨도 캐릭터 위치가 유지된다.
+ */
+@Slf4j
+@Service
+public class GraphLayoutService {
+
+    /**
+     * 그래프 버전별 배치 결과
+     */
+    public record ProjectLayout(long version, GraphLayout layout, List<LayoutNodeView> nodes) {
+    }
+
+    private final GraphAnalyticsService graphAnalyticsService;
+    private final GraphVersionService graphVersionService;
+    private final GraphReadCache graphReadCache;
+    private final ForkJoinPool pool;
+    private final ForceLayout forceLayout;
+
+    private final Map<Long, ProjectLayout> layouts = new ConcurrentHashMap<>();
+    private final Map<Long, Object> computeLocks = new ConcurrentHashMap<>();
+
+    public GraphLayoutService(
+            GraphAnalyticsService graphAnalyticsService,
+            GraphVersionService graphVersionService,
+            GraphReadCache graphReadCache,
+            @Value("${graph.layout.iterations:300}") int iterations,
+            @Value("${graph.layout.warm-iterations:50}") int warmIterations,
+            @Value("${graph.layout.theta:0.8}") double theta,
+            @Value("${graph.layout.parallelism:0}") int parallelism
+    ) {
+        this.graphAnalyticsService = graphAnalyticsService;
+        this.graphVersionService = graphVersionService;
+        this.graphReadCache = graphReadCache;
+        this.pool = new ForkJoinPool(parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors());
+        this.forceLayout = new ForceLayout(pool, iterations, warmIterations, theta);
+    }
+
+    /**
+     * 프로젝트 배치 (현재 그래프 버전 기준 캐시)
+     */
+    public ProjectLayout getLayout(Long projectId) {
+        long version = graphVersionService.currentVersion(projectId);
+        ProjectLayout cached = layouts.get(projectId);
+        if (cached != null && cached.version() == version) {
+            graphReadCache.recordHit("layout");
+            return cached;
+        }
+
+        synchronized (computeLocks.computeIfAbsent(projectId, id -> new Object())) {
+            cached = layouts.get(projectId);
+            if (cached != null && cached.version() == version) {
+                graphReadCache.recordHit("layout");
+                return cached;
+            }
+
+            long start = System.nanoTime();
+            CsrGraph graph = graphAnalyticsService.getGraph(projectId);
+            GraphLayout layout = forceLayout.compute(graph, cached != null ? cached.layout() : null);
+            ProjectLayout result = new ProjectLayout(version, layout, nodes(graph, layout));
+            layouts.put(projectId, result);
+            graphReadCache.recordLoad("layout", System.nanoTime() - start);
+
+            log.info("Graph layout computed: projectId={}, version={}, nodes={}, edges={}, warm={}, iterations={}, took={}ms",
+                projectId, version, graph.nodeCount(), graph.edgeCount(), layout.isWarmStarted(),
+                layout.getIterations(), layout.getComputeMillis());
+            return result;
+        }
+    }
+
+    private static List<LayoutNodeView> nodes(CsrGraph graph, GraphLayout layout) {
+        List<LayoutNodeView> nodes = new ArrayList<>(graph.nodeCount());
+        for (int v = 0; v < graph.nodeCount(); v++) {
+            nodes.add(new LayoutNodeView(graph.rdbId(v), graph.characterId(v), graph.name(v),
+                round(layout.x(v)), round(layout.y(v))));
+        }
+        return List.copyOf(nodes);
+    }
+
+    /**
+     * 응답 크기를 줄이기 위해 소수점 한 자리로 (화면 좌표로는 충분)
+     */
+    public static double round(double value) {
+        return Math.round(value * 10.0) / 10.0;
+    }
+
+    @PreDestroy
+    void shutdown() {
+        pool.shutdownNow();
+    }
+}
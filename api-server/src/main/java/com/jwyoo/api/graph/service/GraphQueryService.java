@@ -1,7 +1,12 @@
 package com.jwyoo.api.graph.service;
 
-import com.jwyoo.api.graph.node.CharacterNode;
-import com.jwyoo.api.graph.repository.CharacterNodeRepository;
+import com.jwyoo.api.graph.analytics.CentralityScores;
+import com.jwyoo.api.graph.dto.CharacterView;
+import com.jwyoo.api.graph.dto.CooccurrenceView;
+import com.jwyoo.api.graph.dto.FriendSearchResult;
+import com.jwyoo.api.graph.dto.GraphPath;
+import com.jwyoo.api.graph.dto.RelationshipView;
+import com.jwyoo.api.graph.store.GraphStore;
 import com.jwyoo.api.service.ProjectService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -10,9 +15,10 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 
 /**
- * Neo4j 기반 복잡한 관계 쿼리 서비스
+ * 그래프 저장소(GraphStore) 기반 복잡한 관계 쿼리 서비스
  * - N단계 친구 찾기 (친구의 친구)
  * - 두 캐릭터 사이의 최단 경로
  * - 가장 많은 관계를 가진 캐릭터 (중심 인물)
@@ -24,29 +30,37 @@ import java.util.Map;
 @Transactional(readOnly = true)
 public class GraphQueryService {
 
-    private final CharacterNodeRepository characterNodeRepository;
+    private final GraphStore graphStore;
     private final ProjectService projectService;
+    private final GraphAnalyticsService graphAnalyticsService;
+    private final CharacterStatsService characterStatsService;
+    private final RelationshipTimelineService relationshipTimelineService;
+    private final GraphTraversalService graphTraversalService;
+    private final GraphReadCache graphReadCache;
+    private final GraphLayoutService graphLayoutService;
+    private final CharacterCooccurrenceService characterCooccurrenceService;
 
     /**
-     * 특정 캐릭터의 N단계 친구 찾기
+     * 특정 캐릭터의 N단계 친구 찾기 (프로젝트 그래프 BFS)
      * @param characterId 시작 캐릭터 ID
      * @param depth 탐색 깊이 (1: 직접 친구, 2: 친구의 친구, etc.)
-     * @return 찾은 캐릭터 목록
+     * @return 찾은 캐릭터 목록 (거리 오름차순)
      */
-    public List<CharacterNode> findNDegreeFriends(String characterId, int depth) {
+    public FriendSearchResult findNDegreeFriends(String characterId, int depth) {
         log.info("Finding {}-degree friends for character: {}", depth, characterId);
 
         if (depth < 1 || depth > 5) {
             throw new IllegalArgumentException("Depth must be between 1 and 5");
         }
 
-        List<CharacterNode> friends = characterNodeRepository.findNDegreeFriends(characterId, depth);
-        log.info("Found {} friends within {} degrees", friends.size(), depth);
+        Long projectId = projectService.getCurrentProject().getId();
+        FriendSearchResult friends = graphTraversalService.findFriends(projectId, characterId, depth);
+        log.info("Found {} friends within {} degrees", friends.friends().size(), depth);
         return friends;
     }
 
     /**
-     * 두 캐릭터 사이의 최단 경로 찾기
+     * 두 캐릭터 사이의 최단 경로 찾기 (프로젝트 그래프 양방향 BFS, 깊이/방문 노드 수 제한)
      * @param fromCharacterId 시작 캐릭터 ID
      * @param toCharacterId 도착 캐릭터 ID
      * @return 경로 정보 (캐릭터 목록, 관계 목록, 거리)
@@ -58,9 +72,10 @@ public class GraphQueryService {
             throw new IllegalArgumentException("Source and target characters cannot be the same");
         }
 
-        Object result = characterNodeRepository.findShortestPath(fromCharacterId, toCharacterId);
+        Long projectId = projectService.getCurrentProject().getId();
+        Optional<GraphPath> result = graphTraversalService.findShortestPath(projectId, fromCharacterId, toCharacterId);
 
-        if (result == null) {
+        if (result.isEmpty()) {
             log.warn("No path found between {} and {}", fromCharacterId, toCharacterId);
             return Map.of(
                 "found", false,
@@ -71,43 +86,67 @@ public class GraphQueryService {
         log.info("Shortest path found");
         return Map.of(
             "found", true,
-            "path", result
+            "path", result.get()
         );
     }
 
     /**
-     * 특정 에피소드에서의 캐릭터 관계 조회
+     * 특정 에피소드에서의 캐릭터 관계 조회 (그래프 버전 기준 캐시)
      * @param episodeId 에피소드 ID
      * @return 관계 목록
      */
-    public List<Object> findRelationshipsByEpisode(Long episodeId) {
+    public List<RelationshipView> findRelationshipsByEpisode(Long episodeId) {
         log.info("Finding relationships for episode: {}", episodeId);
 
         Long projectId = projectService.getCurrentProject().getId();
-        List<Object> relationships = characterNodeRepository.findRelationshipsByEpisodeId(episodeId, projectId);
+        List<RelationshipView> relationships = graphReadCache.get("relationships-by-episode", projectId,
+            String.valueOf(episodeId), () -> List.copyOf(graphStore.findRelationshipsByEpisode(projectId, episodeId)));
 
         log.info("Found {} relationships for episode {}", relationships.size(), episodeId);
         return relationships;
     }
 
     /**
-     * 프로젝트의 모든 관계 조회 (그래프 시각화용)
+     * 현재 프로젝트 그래프의 서버 배치 (그래프 버전 기준 캐시, 버전이 바뀌면 직전 배치에서 시작)
+     */
+    public GraphLayoutService.ProjectLayout findLayout() {
+        Long projectId = projectService.getCurrentProject().getId();
+        return graphLayoutService.getLayout(projectId);
+    }
+
+    /**
+     * 프로젝트의 모든 관계 조회 (그래프 시각화용, 그래프 버전 기준 캐시)
      * @return 관계 목록
      */
-    public List<Object> findAllRelationships() {
+    public List<RelationshipView> findAllRelationships() {
         log.info("Finding all relationships for current project");
 
         Long projectId = projectService.getCurrentProject().getId();
-        List<Object> relationships = characterNodeRepository.findAllRelationshipsByProjectId(projectId);
+        List<RelationshipView> relationships = graphReadCache.get("relationships", projectId, "",
+            () -> List.copyOf(graphStore.findRelationships(projectId)));
 
         log.info("Found {} relationships for project {}", relationships.size(), projectId);
         return relationships;
     }
 
+    /**
+     * 프로젝트의 캐릭터 동시 등장 관계 조회 (관계 그래프 대체 엣지, 대사 변경 시 백그라운드로 갱신)
+     * @return 에피소드별 캐릭터 쌍 목록
+     */
+    public List<CooccurrenceView> findAllCooccurrences() {
+        log.info("Finding all character co-occurrences for current project");
+
+        Long projectId = projectService.getCurrentProject().getId();
+        List<CooccurrenceView> cooccurrences = characterCooccurrenceService.findByProject(projectId);
+
+        log.info("Found {} character co-occurrences for project {}", cooccurrences.size(), projectId);
+        return cooccurrences;
+    }
+
     /**
      * 가장 많은 관계를 가진 캐릭터 찾기 (중심 인물)
      * @param limit 결과 개수 제한
-     * @return 중심 인물 목록 (캐릭터 + 관계 개수)
+     * @return 중심 인물 목록 (캐릭터 ID, 이름, 관계 개수)
      */
     public List<Map<String, Object>> findMostConnectedCharacters(int limit) {
         log.info("Finding top {} most connected characters", limit);
@@ -117,18 +156,10 @@ public class GraphQueryService {
         }
 
         Long projectId = projectService.getCurrentProject().getId();
-        List<Object> results = characterNodeRepository.findMostConnectedCharacters(projectId, limit);
+        List<Map<String, Object>> results = characterStatsService.topByRelationshipCount(projectId, limit);
 
         log.info("Found {} central characters", results.size());
-
-        // 결과를 Map으로 변환
-        return results.stream()
-            .map(obj -> {
-                // Neo4j 결과를 Map으로 변환하는 로직
-                // 실제로는 obj를 파싱해야 하지만, 간단히 Map으로 래핑
-                return Map.<String, Object>of("result", obj);
-            })
-            .toList();
+        return results;
     }
 
     /**
@@ -137,24 +168,26 @@ public class GraphQueryService {
      * @param relationType 관계 유형 (friend, rival, family, lover, enemy)
      * @return 연결된 캐릭터 목록
      */
-    public List<CharacterNode> findCharactersByRelationType(String characterId, String relationType) {
+    public List<CharacterView> findCharactersByRelationType(String characterId, String relationType) {
         log.info("Finding characters connected to {} by relation type: {}", characterId, relationType);
 
-        List<CharacterNode> characters = characterNodeRepository.findCharactersByRelationType(characterId, relationType);
+        Long projectId = projectService.getCurrentProject().getId();
+        List<CharacterView> characters = graphStore.findByRelationType(projectId, characterId, relationType);
 
         log.info("Found {} characters with relation type '{}'", characters.size(), relationType);
         return characters;
     }
 
     /**
-     * 프로젝트의 모든 캐릭터 조회
+     * 프로젝트의 모든 캐릭터 조회 (그래프 버전 기준 캐시)
      * @return 캐릭터 목록
      */
-    public List<CharacterNode> findAllCharacters() {
+    public List<CharacterView> findAllCharacters() {
         log.info("Finding all characters for current project");
 
         Long projectId = projectService.getCurrentProject().getId();
-        List<CharacterNode> characters = characterNodeRepository.findByProjectId(projectId);
+        List<CharacterView> characters = graphReadCache.get("characters", projectId, "",
+            () -> List.copyOf(graphStore.findCharacters(projectId)));
 
         log.info("Found {} characters for project {}", characters.size(), projectId);
         return characters;
@@ -163,14 +196,15 @@ public class GraphQueryService {
     /**
      * 캐릭터 ID로 조회
      * @param characterId 캐릭터 ID
-     * @return 캐릭터 노드
+     * @return 캐릭터 프로젝션
      */
-    public CharacterNode findByCharacterId(String characterId) {
+    public CharacterView findByCharacterId(String characterId) {
         log.debug("Finding character by characterId: {}", characterId);
 
-        return characterNodeRepository.findByCharacterId(characterId)
+        Long projectId = projectService.getCurrentProject().getId();
+        return graphStore.findCharacter(projectId, characterId)
             .orElseThrow(() -> {
-                log.error("Character not found in Neo4j: {}", characterId);
+                log.error("Character not found in graph: {}", characterId);
                 return new IllegalArgumentException("Character not found in graph: " + characterId);
             });
     }
@@ -181,11 +215,11 @@ public class GraphQueryService {
      * @param limit 결과 개수
      * @return Degree Centrality 순위
      */
-    public List<Object> calculateDegreeCentrality(int limit) {
+    public List<Map<String, Object>> calculateDegreeCentrality(int limit) {
         log.info("Calculating Degree Centrality (top {})", limit);
 
         Long projectId = projectService.getCurrentProject().getId();
-        List<Object> results = characterNodeRepository.calculateDegreeCentrality(projectId, limit);
+        List<Map<String, Object>> results = characterStatsService.topByNeighborCount(projectId, limit);
 
         log.info("Degree Centrality calculated: {} results", results.size());
         return results;
@@ -193,15 +227,15 @@ public class GraphQueryService {
 
     /**
      * Betweenness Centrality 계산
-     * 다른 캐릭터들 사이의 경로에 자주 등장하는 캐릭터 (중개자 역할)
+     * 다른 캐릭터들 사이의 최단 경로에 자주 등장하는 캐릭터 (중개자 역할)
      * @param limit 결과 개수
      * @return Betweenness Centrality 순위
      */
-    public List<Object> calculateBetweennessCentrality(int limit) {
+    public List<Map<String, Object>> calculateBetweennessCentrality(int limit) {
         log.info("Calculating Betweenness Centrality (top {})", limit);
 
         Long projectId = projectService.getCurrentProject().getId();
-        List<Object> results = characterNodeRepository.calculateBetweennessCentrality(projectId, limit);
+        List<Map<String, Object>> results = graphAnalyticsService.top(projectId, CentralityScores.Metric.BETWEENNESS, limit);
 
         log.info("Betweenness Centrality calculated: {} results", results.size());
         return results;
@@ -213,11 +247,11 @@ public class GraphQueryService {
      * @param limit 결과 개수
      * @return Closeness Centrality 순위
      */
-    public List<Object> calculateClosenessCentrality(int limit) {
+    public List<Map<String, Object>> calculateClosenessCentrality(int limit) {
         log.info("Calculating Closeness Centrality (top {})", limit);
 
         Long projectId = projectService.getCurrentProject().getId();
-        List<Object> results = characterNodeRepository.calculateClosenessCentrality(projectId, limit);
+        List<Map<String, Object>> results = graphAnalyticsService.top(projectId, CentralityScores.Metric.CLOSENESS, limit);
 
         log.info("Closeness Centrality calculated: {} results", results.size());
         return results;
@@ -229,11 +263,11 @@ public class GraphQueryService {
      * @param limit 결과 개수
      * @return Weighted Degree 순위
      */
-    public List<Object> calculateWeightedDegree(int limit) {
+    public List<Map<String, Object>> calculateWeightedDegree(int limit) {
         log.info("Calculating Weighted Degree (top {})", limit);
 
         Long projectId = projectService.getCurrentProject().getId();
-        List<Object> results = characterNodeRepository.calculateWeightedDegree(projectId, limit);
+        List<Map<String, Object>> results = characterStatsService.topByClosenessSum(projectId, limit);
 
         log.info("Weighted Degree calculated: {} results", results.size());
         return results;
@@ -241,37 +275,53 @@ public class GraphQueryService {
 
     /**
      * 모든 Centrality 지표를 한번에 계산
+     * 그래프 버전별로 캐시된 JVM 내 분석 결과 하나에서 모든 지표를 꺼냄
      * @param limit 각 지표당 결과 개수
      * @return 모든 지표 결과
      */
     public Map<String, Object> calculateAllCentralities(int limit) {
         log.info("Calculating all centrality metrics (top {})", limit);
 
+        Long projectId = projectService.getCurrentProject().getId();
+        CentralityScores scores = graphAnalyticsService.getScores(projectId);
+
         return Map.of(
-            "degreeCentrality", calculateDegreeCentrality(limit),
-            "betweennessCentrality", calculateBetweennessCentrality(limit),
-            "closenessCentrality", calculateClosenessCentrality(limit),
-            "weightedDegree", calculateWeightedDegree(limit)
+            "degreeCentrality", scores.top(CentralityScores.Metric.DEGREE, limit),
+            "betweennessCentrality", scores.top(CentralityScores.Metric.BETWEENNESS, limit),
+            "closenessCentrality", scores.top(CentralityScores.Metric.CLOSENESS, limit),
+            "pageRank", scores.top(CentralityScores.Metric.PAGE_RANK, limit),
+            "weightedDegree", scores.top(CentralityScores.Metric.WEIGHTED_DEGREE, limit)
         );
     }
 
     /**
-     * 에피소드 범위별 관계 변화 조회
+     * PageRank 계산
+     * closeness를 가중치로 한 영향력 지표
+     * @param limit 결과 개수
+     * @return PageRank 순위
+     */
+    public List<Map<String, Object>> calculatePageRank(int limit) {
+        log.info("Calculating PageRank (top {})", limit);
+
+        Long projectId = projectService.getCurrentProject().getId();
+        List<Map<String, Object>> results = graphAnalyticsService.top(projectId, CentralityScores.Metric.PAGE_RANK, limit);
+
+        log.info("PageRank calculated: {} results", results.size());
+        return results;
+    }
+
+    /**
+     * 에피소드 범위별 관계 변화 조회 (episodeOrder 기준, 양 끝 포함)
      * @param startEpisodeId 시작 에피소드 ID
      * @param endEpisodeId 종료 에피소드 ID
      * @return 에피소드 범위 내 관계 목록
      */
-    public List<Object> findRelationshipsByEpisodeRange(Long startEpisodeId, Long endEpisodeId) {
+    public List<Map<String, Object>> findRelationshipsByEpisodeRange(Long startEpisodeId, Long endEpisodeId) {
         log.info("Finding relationships from episode {} to {}", startEpisodeId, endEpisodeId);
 
-        if (startEpisodeId > endEpisodeId) {
-            throw new IllegalArgumentException("Start episode ID must be less than or equal to end episode ID");
-        }
-
         Long projectId = projectService.getCurrentProject().getId();
-        List<Object> relationships = characterNodeRepository.findRelationshipsByEpisodeRange(
-            projectId, startEpisodeId, endEpisodeId
-        );
+        List<Map<String, Object>> relationships = relationshipTimelineService.getTimeline(projectId)
+            .range(startEpisodeId, endEpisodeId);
 
         log.info("Found {} relationships in episode range {}-{}", relationships.size(), startEpisodeId, endEpisodeId);
         return relationships;
@@ -282,11 +332,12 @@ public class GraphQueryService {
      * @param characterId 캐릭터 ID
      * @return 시간별 관계 진화 데이터
      */
-    public List<Object> findCharacterRelationshipEvolution(String characterId) {
+    public List<Map<String, Object>> findCharacterRelationshipEvolution(String characterId) {
         log.info("Finding relationship evolution for character: {}", characterId);
 
         Long projectId = projectService.getCurrentProject().getId();
-        List<Object> evolution = characterNodeRepository.findCharacterRelationshipEvolution(characterId, projectId);
+        List<Map<String, Object>> evolution = relationshipTimelineService.getTimeline(projectId)
+            .characterEvolution(characterId);
 
         log.info("Found {} relationship evolution entries for character {}", evolution.size(), characterId);
         return evolution;
@@ -298,26 +349,27 @@ public class GraphQueryService {
      * @param char2Id 캐릭터 2 ID
      * @return 관계 변화 타임라인
      */
-    public List<Object> findRelationshipTimeline(String char1Id, String char2Id) {
+    public List<Map<String, Object>> findRelationshipTimeline(String char1Id, String char2Id) {
         log.info("Finding relationship timeline between {} and {}", char1Id, char2Id);
 
         Long projectId = projectService.getCurrentProject().getId();
-        List<Object> timeline = characterNodeRepository.findRelationshipTimeline(char1Id, char2Id, projectId);
+        List<Map<String, Object>> timeline = relationshipTimelineService.getTimeline(projectId)
+            .pairTimeline(char1Id, char2Id);
 
         log.info("Found {} timeline entries for relationship {}-{}", timeline.size(), char1Id, char2Id);
         return timeline;
     }
 
     /**
-     * 에피소드별 네트워크 밀도 계산
+     * 에피소드별 네트워크 밀도 계산 (해당 에피소드 단독 + 누적)
      * @param episodeId 에피소드 ID
      * @return 네트워크 밀도 정보
      */
-    public Object calculateNetworkDensityByEpisode(Long episodeId) {
+    public Map<String, Object> calculateNetworkDensityByEpisode(Long episodeId) {
         log.info("Calculating network density for episode: {}", episodeId);
 
         Long projectId = projectService.getCurrentProject().getId();
-        Object density = characterNodeRepository.calculateNetworkDensityByEpisode(episodeId, projectId);
+        Map<String, Object> density = relationshipTimelineService.getTimeline(projectId).density(episodeId);
 
         log.info("Network density calculated for episode {}", episodeId);
         return density;
@@ -325,13 +377,14 @@ public class GraphQueryService {
 
     /**
      * 새로운 관계 추가 현황 조회
-     * @return 에피소드별 새 관계 목록
+     * @return 캐릭터 쌍별 첫 등장 에피소드 목록
      */
-    public List<Object> findNewRelationshipsByEpisode() {
+    public List<Map<String, Object>> findNewRelationshipsByEpisode() {
         log.info("Finding new relationships by episode");
 
         Long projectId = projectService.getCurrentProject().getId();
-        List<Object> newRelationships = characterNodeRepository.findNewRelationshipsByEpisode(projectId);
+        List<Map<String, Object>> newRelationships = relationshipTimelineService.getTimeline(projectId)
+            .newRelationships();
 
         log.info("Found {} new relationship entries", newRelationships.size());
         return newRelationships;
@@ -0,0 +1,168 @@
+package com.jwyoo.api.graph.service;
+
+import com.jwyoo.api.graph.dto.GraphCacheStats;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * 그래프 조회 결과 캐시 (프로젝트 그래프 버전 기준)
+ * 프로젝트마다 현재 그래프 버전의 결과만 보관하며, 조회 시 버전이 바뀌었으면 그 프로젝트 항목을 통째로 교체하므로
+ * 무효화에 키 스캔이 필요 없고 이전 버전 결과를 돌려주지 않는다.
+ * 같은 키를 동시에 조회하면 적재는 한 번만 실행된다.
+ *
+ * 자체 버전 캐시를 가진 결과(중심성 점수, 타임라인 스냅샷)는 recordHit/recordLoad로 통계만 함께 집계
+ */
+@Slf4j
+@Service
+public class GraphReadCache {
+
+    private record ProjectEntries(long version, Map<String, CompletableFuture<Object>> values) {
+    }
+
+    /**
+     * 캐시 이름별 누적 통계
+     */
+    private static final class Counter {
+        private final LongAdder hits = new LongAdder();
+        private final LongAdder misses = new LongAdder();
+        private final LongAdder loadNanos = new LongAdder();
+        private final AtomicLong maxLoadNanos = new AtomicLong();
+
+        GraphCacheStats snapshot(String name) {
+            long hitCount = hits.sum();
+            long missCount = misses.sum();
+            long total = hitCount + missCount;
+            return new GraphCacheStats(
+                name,
+                hitCount,
+                missCount,
+                total > 0 ? (double) hitCount / total : 0.0,
+                missCount > 0 ? loadNanos.sum() / 1_000_000.0 / missCount : 0.0,
+                maxLoadNanos.get() / 1_000_000.0
+            );
+        }
+    }
+
+    private final GraphVersionService graphVersionService;
+    private final int maxEntriesPerProject;
+
+    private final Map<Long, ProjectEntries> projects = new ConcurrentHashMap<>();
+    private final Map<String, Counter> counters = new ConcurrentHashMap<>();
+
+    public GraphReadCache(
+            GraphVersionService graphVersionService,
+            @Value("${graph.read-cache.max-entries-per-project:256}") int maxEntriesPerProject
+    ) {
+        this.graphVersionService = graphVersionService;
+        this.maxEntriesPerProject = Math.max(1, maxEntriesPerProject);
+    }
+
+    /**
+     * 현재 그래프 버전의 캐시 결과, 없으면 loader로 적재 후 보관
+     *
+     * @param name 캐시 이름 (통계 단위, 예: relationships)
+     * @param key  이름 안에서 결과를 구분하는 키 (조회 파라미터, 없으면 빈 문자열)
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T get(String name, Long projectId, String key, Supplier<T> loader) {
+        long version = graphVersionService.currentVersion(projectId);
+        ProjectEntries entries = projects.compute(projectId, (id, current) ->
+            current != null && current.version() >= version
+                ? current
+                : new ProjectEntries(version, new ConcurrentHashMap<>()));
+        if (entries.version() != version) {
+            // 더 새 버전이 이미 보관 중 (이 요청이 버전을 먼저 읽음): 보관하지 않고 적재만
+            return load(name, loader);
+        }
+
+        String entryKey = name + ":" + key;
+        CompletableFuture<Object> cached = entries.values().get(entryKey);
+        if (cached != null) {
+            counter(name).hits.increment();
+            return (T) join(cached);
+        }
+
+        if (entries.values().size() >= maxEntriesPerProject) {
+            entries.values().clear();
+        }
+        CompletableFuture<Object> loading = new CompletableFuture<>();
+        cached = entries.values().putIfAbsent(entryKey, loading);
+        if (cached != null) {
+            // 다른 요청이 먼저 적재를 시작함
+            counter(name).hits.increment();
+            return (T) join(cached);
+        }
+
+        try {
+            T value = load(name, loader);
+            loading.complete(value);
+            log.debug("Graph read cache loaded: name={}, projectId={}, version={}, key={}", name, projectId, version, key);
+            return value;
+        } catch (RuntimeException e) {
+            entries.values().remove(entryKey, loading);
+            loading.completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    private <T> T load(String name, Supplier<T> loader) {
+        long start = System.nanoTime();
+        try {
+            return loader.get();
+        } finally {
+            recordLoad(name, System.nanoTime() - start);
+        }
+    }
+
+    /**
+     * 외부 버전 캐시 적중 기록
+     */
+    public void recordHit(String name) {
+        counter(name).hits.increment();
+    }
+
+    /**
+     * 외부 버전 캐시 재계산 기록
+     */
+    public void recordLoad(String name, long elapsedNanos) {
+        Counter counter = counter(name);
+        counter.misses.increment();
+        counter.loadNanos.add(elapsedNanos);
+        counter.maxLoadNanos.accumulateAndGet(elapsedNanos, Math::max);
+    }
+
+    /**
+     * 캐시 이름별 통계 (이름순)
+     */
+    public List<GraphCacheStats> stats() {
+        return counters.entrySet().stream()
+            .map(entry -> entry.getValue().snapshot(entry.getKey()))
+            .sorted((a, b) -> a.name().compareTo(b.name()))
+            .toList();
+    }
+
+    private Counter counter(String name) {
+        return counters.computeIfAbsent(name, n -> new Counter());
+    }
+
+    private static Object join(CompletableFuture<Object> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package com.jwyoo.api.graph.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.jwyoo.api.graph.dto.GraphStreamLine;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.util.List;
+
+/**
+ * 그래프를 NDJSON(줄마다 JSON 하나)으로 스트리밍
+ * meta 한 줄 → 노드(좌표 포함) → 엣지 순으로 쓰므로 클라이언트는 전체 응답을 기다리지 않고 노드부터 그릴 수 있다.
+ *
+ * 응답 본문은 요청 스레드 밖에서 쓰이므로 JPA 지연 로딩이 없는 값(DTO, Map)만 넘겨야 한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class GraphStreamWriter {
+
+    /**
+     * 이 줄 수마다 flush하여 클라이언트가 중간 결과를 받도록 함
+     */
+    static final int FLUSH_EVERY = 256;
+
+    private final ObjectMapper objectMapper;
+
+    public StreamingResponseBody stream(Object meta, List<?> nodes, List<?> edges) {
+        ObjectWriter writer = objectMapper.writerFor(GraphStreamLine.class);
+        return output -> {
+            int lines = 0;
+            output.write(writer.writeValueAsBytes(GraphStreamLine.meta(meta)));
+            output.write('\n');
+            output.flush();
+            for (Object node : nodes) {
+                output.write(writer.writeValueAsBytes(GraphStreamLine.node(node)));
+                output.write('\n');
+                if (++lines % FLUSH_EVERY == 0) {
+                    output.flush();
+                }
+            }
+            for (Object edge : edges) {
+                output.write(writer.writeValueAsBytes(GraphStreamLine.edge(edge)));
+                output.write('\n');
+                if (++lines % FLUSH_EVERY == 0) {
+                    output.flush();
+                }
+            }
+            output.flush();
+        };
+    }
+}
@@ -0,0 +1,88 @@
+package com.jwyoo.api.graph.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * 그래프 동기화 분산 잠금 (Redis SET NX PX)
+ * 여러 API 서버가 같은 범위(all, project:{id})를 동시에 마이그레이션하지 않도록 보장
+ * 잠금은 소유자 토큰으로만 갱신/해제할 수 있으며, 작업이 죽으면 TTL 만료로 풀린다.
+ */
+@Slf4j
+@Component
+public class GraphSyncLock {
+
+    private static final String KEY_PREFIX = "graph:sync:lock:";
+
+    private static final DefaultRedisScript<Long> RELEASE_SCRIPT = new DefaultRedisScript<>(
+        "if redis.call('get', KEYS[1]) == ARGV[1] then return redis.call('del', KEYS[1]) else return 0 end",
+        Long.class);
+
+    private static final DefaultRedisScript<Long> REFRESH_SCRIPT = new DefaultRedisScript<>(
+        "if redis.call('get', KEYS[1]) == ARGV[1] then return redis.call('pexpire', KEYS[1], ARGV[2]) else return 0 end",
+        Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final Duration ttl;
+
+    public GraphSyncLock(
+            StringRedisTemplate redisTemplate,
+            @Value("${graph.sync.lock-ttl:10m}") Duration ttl
+    ) {
+        this.redisTemplate = redisTemplate;
+        this.ttl = ttl;
+    }
+
+    /**
+     * 잠금 획득 시도
+     *
+     * @return 획득 시 소유자 토큰, 다른 노드가 보유 중이면 empty
+     */
+    public Optional<String> tryAcquire(String scope) {
+        String token = UUID.randomUUID().toString();
+        Boolean acquired = redisTemplate.opsForValue().setIfAbsent(KEY_PREFIX + scope, token, ttl);
+        if (Boolean.TRUE.equals(acquired)) {
+            log.debug("Graph sync lock acquired: scope={}", scope);
+            return Optional.of(token);
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * 다른 노드(또는 이 노드의 다른 작업)가 잠금을 보유 중인지 (획득하지 않고 확인만, 제출 시 빠른 거절용)
+     */
+    public boolean isHeld(String scope) {
+        return Boolean.TRUE.equals(redisTemplate.hasKey(KEY_PREFIX + scope));
+    }
+
+    /**
+     * 잠금 TTL 연장 (배치마다 호출)
+     *
+     * @return 여전히 잠금을 보유하고 있으면 true
+     */
+    public boolean refresh(String scope, String token) {
+        Long result = redisTemplate.execute(REFRESH_SCRIPT, List.of(KEY_PREFIX + scope),
+            token, String.valueOf(ttl.toMillis()));
+        return result != null && result == 1L;
+    }
+
+    /**
+     * 잠금 해제 (소유자일 때만)
+     */
+    public void release(String scope, String token) {
+        try {
+            redisTemplate.execute(RELEASE_SCRIPT, List.of(KEY_PREFIX + scope), token);
+            log.debug("Graph sync lock released: scope={}", scope);
+        } catch (Exception e) {
+            log.warn("Failed to release graph sync lock (expires by TTL): scope={}, error={}", scope, e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,100 @@
+package com.jwyoo.api.graph.service;
+
+import com.jwyoo.api.graph.analytics.CsrGraph;
+import com.jwyoo.api.graph.analytics.GraphTraversal;
+import com.jwyoo.api.graph.dto.FriendSearchResult;
+import com.jwyoo.api.graph.dto.FriendView;
+import com.jwyoo.api.graph.dto.GraphPath;
+import com.jwyoo.api.graph.store.GraphStore;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 프로젝트 한정 그래프 탐색 서비스
+ * 그래프 버전별로 캐시된 프로젝트 CSR 인접 배열(GraphAnalyticsService) 위에서 BFS를 수행하므로
+ * 다른 프로젝트 노드로 새어 나가지 않고, 깊이와 방문 노드 수 한도로 작업량이 제한된다.
+ * 경로 상세(캐릭터/관계 속성)는 찾은 경로의 노드에 대해서만 그래프 저장소에서 rdbId로 조회
+ */
+@Slf4j
+@Service
+public class GraphTraversalService {
+
+    private final GraphAnalyticsService graphAnalyticsService;
+    private final GraphStore graphStore;
+    private final int maxPathDepth;
+    private final int nodeBudget;
+
+    public GraphTraversalService(
+            GraphAnalyticsService graphAnalyticsService,
+            GraphStore graphStore,
+            @Value("${graph.traversal.max-path-depth:6}") int maxPathDepth,
+            @Value("${graph.traversal.node-budget:20000}") int nodeBudget
+    ) {
+        this.graphAnalyticsService = graphAnalyticsService;
+        this.graphStore = graphStore;
+        this.maxPathDepth = Math.max(1, maxPathDepth);
+        this.nodeBudget = Math.max(2, nodeBudget);
+    }
+
+    /**
+     * depth 단계 이내 이웃 캐릭터 (거리 오름차순)
+     *
+     * @throws IllegalArgumentException 캐릭터가 프로젝트 그래프에 없는 경우
+     */
+    public FriendSearchResult findFriends(Long projectId, String characterId, int depth) {
+        CsrGraph graph = graphAnalyticsService.getGraph(projectId);
+        int source = requireNode(graph, characterId);
+
+        GraphTraversal.Neighborhood neighborhood = new GraphTraversal(graph).neighborhood(source, depth, nodeBudget);
+        if (neighborhood.truncated()) {
+            log.warn("Friend search truncated by node budget: projectId={}, characterId={}, depth={}, budget={}",
+                projectId, characterId, depth, nodeBudget);
+        }
+
+        int[] nodes = neighborhood.nodes();
+        List<FriendView> friends = new ArrayList<>(nodes.length);
+        for (int i = 0; i < nodes.length; i++) {
+            int v = nodes[i];
+            friends.add(new FriendView(graph.rdbId(v), graph.characterId(v), graph.name(v), neighborhood.distances()[i]));
+        }
+        return new FriendSearchResult(friends, neighborhood.truncated());
+    }
+
+    /**
+     * 두 캐릭터 사이 최단 경로 (홉 수 기준, 양방향 BFS)
+     *
+     * @return 경로, 한도(깊이/방문 노드 수) 안에서 찾지 못하면 empty
+     * @throws IllegalArgumentException 캐릭터가 프로젝트 그래프에 없는 경우
+     */
+    public Optional<GraphPath> findShortestPath(Long projectId, String fromCharacterId, String toCharacterId) {
+        CsrGraph graph = graphAnalyticsService.getGraph(projectId);
+        int source = requireNode(graph, fromCharacterId);
+        int target = requireNode(graph, toCharacterId);
+
+        GraphTraversal.PathResult result = new GraphTraversal(graph).shortestPath(source, target, maxPathDepth, nodeBudget);
+        log.debug("Shortest path search: projectId={}, from={}, to={}, found={}, visited={}, truncated={}",
+            projectId, fromCharacterId, toCharacterId, result.found(), result.visited(), result.truncated());
+        if (!result.found()) {
+            return Optional.empty();
+        }
+
+        List<Long> rdbIds = new ArrayList<>(result.path().length);
+        for (int v : result.path()) {
+            rdbIds.add(graph.rdbId(v));
+        }
+        return Optional.of(graphStore.findPathDetails(projectId, rdbIds));
+    }
+
+    private int requireNode(CsrGraph graph, String characterId) {
+        int index = graph.indexOf(characterId);
+        if (index < 0) {
+            throw new IllegalArgumentException("Character not found in graph: " + characterId);
+        }
+        return index;
+    }
+}
@@ -0,0 +1,62 @@
+package com.jwyoo.api.graph.service;
+
+import com.jwyoo.api.graph.store.GraphStore;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 프로젝트별 그래프 버전 관리
+ * 캐릭터/관계가 그래프에 기록될 때마다 프로젝트 그래프 버전을 증가시키고,
+ * 그래프에서 파생된 계산 결과(중심성 등)는 이 버전과 함께 캐시하여 버전이 바뀌면 다시 계산
+ * 버전을 그래프와 같은 저장소(Neo4j는 (:GraphVersion {projectId}) 노드)에 두므로 여러 API 서버가 같은 값을 본다.
+ * 이 서버가 올린 횟수도 따로 세어, 버전 변화가 모두 이 서버의 변경인지(다른 서버 변경이 섞이지 않았는지) 판단할 수 있게 한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class GraphVersionService {
+
+    private final GraphStore graphStore;
+
+    private final Map<Long, AtomicLong> localBumps = new ConcurrentHashMap<>();
+
+    /**
+     * 현재 그래프 버전 (한 번도 기록되지 않았으면 0)
+     */
+    public long currentVersion(Long projectId) {
+        return graphStore.currentVersion(projectId);
+    }
+
+    /**
+     * 이 서버가 올린 버전 증가 횟수 (프로세스 시작 후 누적)
+     * 저장소에 버전을 올린 뒤에 세므로, 이 값을 먼저 읽고 currentVersion을 읽으면
+     * 두 값의 차이가 실제보다 크게 나올 수는 있어도(전체 재구성으로 이어짐) 작게 나오지는 않는다.
+     */
+    public long localBumps(Long projectId) {
+        AtomicLong count = localBumps.get(projectId);
+        return count == null ? 0 : count.get();
+    }
+
+    public void bump(Long projectId) {
+        bump(List.of(projectId));
+    }
+
+    /**
+     * 여러 프로젝트의 버전을 한 번에 증가 (일괄 동기화 배치용)
+     */
+    public void bump(Collection<Long> projectIds) {
+        if (projectIds.isEmpty()) {
+            return;
+        }
+        graphStore.bumpVersions(projectIds);
+        projectIds.forEach(projectId -> localBumps.computeIfAbsent(projectId, id -> new AtomicLong()).incrementAndGet());
+        log.debug("Graph version bumped: projectIds={}", projectIds);
+    }
+}
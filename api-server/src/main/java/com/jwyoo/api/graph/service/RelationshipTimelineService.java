@@ -0,0 +1,156 @@
+package com.jwyoo.api.graph.service;
+
+import com.jwyoo.api.event.TransactionCallbacks;
+import com.jwyoo.api.graph.analytics.RelationshipTimeline;
+import com.jwyoo.api.graph.dto.TimelineEdgeRow;
+import com.jwyoo.api.repository.CharacterRepository;
+import com.jwyoo.api.repository.EpisodeRelationshipRepository;
+import com.jwyoo.api.repository.EpisodeRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 에피소드별 관계 타임라인 스냅샷 서비스
+ * 프로젝트마다 RelationshipTimeline 스냅샷을 메모리에 두고 타임라인 조회(슬라이더 이동마다 호출)를
+ * 엣지 재스캔/정렬 없이 응답한다.
+ *
+ * 관계가 바뀐 에피소드는 커밋 후 dirty로 표시되고, 다음 조회 때 해당 에피소드 관계만 RDB에서 다시 읽어
+ * Segment를 교체한다. 에피소드/캐릭터 자체가 바뀌면 프로젝트 스냅샷을 버리고 다음 조회 때 전체 재구성.
+ * 다른 API 서버에서 발생한 변경은 그래프 버전이 바뀐 것으로 감지하여 전체 재구성한다.
+ * 증분 갱신은 스냅샷 이후의 버전 증가가 모두 이 서버가 올린 것(GraphVersionService#localBumps)일 때만 하며,
+ * 다른 서버의 증가가 섞여 있으면 dirty 에피소드가 있어도 전체 재구성한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class RelationshipTimelineService {
+
+    /**
+     * @param version    스냅샷 구성 시점의 그래프 버전
+     * @param localBumps 그 시점까지 이 서버가 올린 버전 증가 횟수
+     */
+    private record VersionedTimeline(long version, long localBumps, RelationshipTimeline timeline) {
+
+        /**
+         * 스냅샷 이후 버전 증가가 모두 이 서버의 변경인지 (다른 서버 변경이 없으면 증분 갱신 가능)
+         */
+        boolean onlyLocalChangesSince(long currentVersion, long currentLocalBumps) {
+            return currentVersion - version == currentLocalBumps - localBumps;
+        }
+    }
+
+    private final EpisodeRepository episodeRepository;
+    private final CharacterRepository characterRepository;
+    private final EpisodeRelationshipRepository episodeRelationshipRepository;
+    private final GraphVersionService graphVersionService;
+    private final GraphReadCache graphReadCache;
+
+    private final Map<Long, VersionedTimeline> snapshots = new ConcurrentHashMap<>();
+    private final Map<Long, Set<Long>> dirtyEpisodes = new ConcurrentHashMap<>();
+    private final Map<Long, Object> buildLocks = new ConcurrentHashMap<>();
+
+    /**
+     * 프로젝트 타임라인 스냅샷 (필요하면 증분 갱신 또는 전체 재구성)
+     */
+    public RelationshipTimeline getTimeline(Long projectId) {
+        // 이 서버 증가 횟수를 먼저 읽어야 사이에 끼어든 증가가 다른 서버 변경으로(전체 재구성 쪽으로) 잡힘
+        long localBumps = graphVersionService.localBumps(projectId);
+        long version = graphVersionService.currentVersion(projectId);
+        VersionedTimeline cached = snapshots.get(projectId);
+        if (cached != null && cached.version() == version && !hasDirtyEpisodes(projectId)) {
+            graphReadCache.recordHit("timeline");
+            return cached.timeline();
+        }
+
+        synchronized (buildLocks.computeIfAbsent(projectId, id -> new Object())) {
+            cached = snapshots.get(projectId);
+            List<Long> dirty = drainDirtyEpisodes(projectId);
+            long start = System.nanoTime();
+
+            if (cached != null && !dirty.isEmpty() && cached.onlyLocalChangesSince(version, localBumps)) {
+                RelationshipTimeline refreshed = refreshEpisodes(cached.timeline(), dirty);
+                if (refreshed != null) {
+                    snapshots.put(projectId, new VersionedTimeline(version, localBumps, refreshed));
+                    graphReadCache.recordLoad("timeline", System.nanoTime() - start);
+                    log.info("Relationship timeline refreshed: projectId={}, episodes={}", projectId, dirty);
+                    return refreshed;
+                }
+            } else if (cached != null && cached.version() == version) {
+                graphReadCache.recordHit("timeline");
+                return cached.timeline();
+            }
+
+            RelationshipTimeline timeline = RelationshipTimeline.build(
+                episodeRepository.findTimelineRowsByProjectId(projectId),
+                characterRepository.findTimelineRowsByProjectId(projectId),
+                episodeRelationshipRepository.findTimelineRowsByProjectId(projectId));
+            snapshots.put(projectId, new VersionedTimeline(version, localBumps, timeline));
+            graphReadCache.recordLoad("timeline", System.nanoTime() - start);
+
+            log.info("Relationship timeline built: projectId={}, version={}, episodes={}, relationships={}",
+                projectId, version, timeline.episodeCount(), timeline.relationshipCount());
+            return timeline;
+        }
+    }
+
+    /**
+     * 에피소드 관계 변경 표시 (트랜잭션 안이면 커밋 후 반영)
+     */
+    public void markEpisodeChanged(Long projectId, Long episodeId) {
+        TransactionCallbacks.afterCommit(() -> dirtyEpisodes
+            .computeIfAbsent(projectId, id -> ConcurrentHashMap.newKeySet())
+            .add(episodeId));
+    }
+
+    /**
+     * 프로젝트 스냅샷 폐기 (에피소드 순서/캐릭터 변경 시, 트랜잭션 안이면 커밋 후 반영)
+     */
+    public void invalidate(Long projectId) {
+        TransactionCallbacks.afterCommit(() -> {
+            snapshots.remove(projectId);
+            dirtyEpisodes.remove(projectId);
+            log.debug("Relationship timeline invalidated: projectId={}", projectId);
+        });
+    }
+
+    /**
+     * dirty 에피소드 Segment만 교체, 스냅샷에 없는 에피소드가 있으면 null (전체 재구성)
+     */
+    private RelationshipTimeline refreshEpisodes(RelationshipTimeline timeline, List<Long> episodeIds) {
+        RelationshipTimeline refreshed = timeline;
+        for (Long episodeId : episodeIds) {
+            List<TimelineEdgeRow> edges = episodeRelationshipRepository.findTimelineRowsByEpisodeId(episodeId);
+            refreshed = refreshed.withSegment(episodeId, edges);
+            if (refreshed == null) {
+                return null;
+            }
+        }
+        return refreshed;
+    }
+
+    private boolean hasDirtyEpisodes(Long projectId) {
+        Set<Long> dirty = dirtyEpisodes.get(projectId);
+        return dirty != null && !dirty.isEmpty();
+    }
+
+    private List<Long> drainDirtyEpisodes(Long projectId) {
+        Set<Long> dirty = dirtyEpisodes.get(projectId);
+        if (dirty == null) {
+            return List.of();
+        }
+        List<Long> drained = new ArrayList<>();
+        for (Long episodeId : dirty) {
+            if (dirty.remove(episodeId)) {
+                drained.add(episodeId);
+            }
+        }
+        return drained;
+    }
+}
@@ -0,0 +1,144 @@
+package com.jwyoo.api.graph.store;
+
+import com.jwyoo.api.graph.analytics.CsrGraph;
+import com.jwyoo.api.graph.dto.CharacterSyncRow;
+import com.jwyoo.api.graph.dto.CharacterView;
+import com.jwyoo.api.graph.dto.GraphPath;
+import com.jwyoo.api.graph.dto.GraphSyncCheckpoint;
+import com.jwyoo.api.graph.dto.RelationshipSyncRow;
+import com.jwyoo.api.graph.dto.RelationshipView;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 캐릭터 관계 그래프 저장소
+ * 동기화(GraphSyncService, GraphBulkSyncService)와 조회(GraphQueryService, CharacterStatsService, GraphAnalyticsService)가
+ * 저장소 종류와 무관하게 사용하는 연산 (graph.store.type 으로 구현 선택)
+ *
+ * - neo4j: Neo4j 서버 (Neo4jGraphStore, 기본값)
+ * - embedded: 프로세스 내 인접 맵 + 로컬 파일 스냅샷 (InMemoryGraphStore, 소규모 설치/테스트용)
+ *
+ * 탐색(BFS)과 중심성은 loadGraph의 CSR 투영 위에서, 타임라인은 RDB에서 계산하므로 두 구현에서 동일하게 동작한다.
+ */
+public interface GraphStore {
+
+    // ===== 동기화 =====
+
+    /**
+     * 캐릭터 노드 생성 또는 속성 갱신 (연결 통계는 유지)
+     */
+    void upsertCharacter(CharacterSyncRow character);
+
+    /**
+     * 캐릭터 노드와 연결된 관계 삭제 (이웃 캐릭터 연결 통계 차감)
+     *
+     * @return 삭제한 노드의 프로젝트 ID, 노드가 없으면 empty
+     */
+    Optional<Long> deleteCharacter(Long rdbId);
+
+    /**
+     * 에피소드 관계 하나 upsert (episodeId로 같은 캐릭터 쌍의 에피소드별 관계 구분)
+     * 양 끝 캐릭터 노드가 없으면 from/to 속성으로 생성하고, 이미 있으면 건드리지 않음
+     */
+    void upsertRelationship(RelationshipSyncRow relationship, CharacterSyncRow from, CharacterSyncRow to);
+
+    /**
+     * 에피소드 관계 하나 삭제
+     *
+     * @return 삭제한 관계의 프로젝트 ID, 관계가 없으면 empty
+     */
+    Optional<Long> deleteRelationship(Long episodeId, Long fromCharacterId, Long toCharacterId);
+
+    /**
+     * 캐릭터 노드 여러 개를 한 번에 생성 또는 속성 갱신 (일괄 동기화 배치)
+     */
+    void upsertCharacters(List<CharacterSyncRow> characters);
+
+    /**
+     * 에피소드 관계 여러 개를 한 번에 upsert (일괄 동기화 배치)
+     * 양 끝 캐릭터 노드가 있는 관계만 기록하며, 연결 통계는 갱신하지 않으므로 끝난 뒤 recalculateStats로 다시 집계한다.
+     */
+    void upsertRelationships(List<RelationshipSyncRow> relationships);
+
+    // ===== 일괄 동기화 체크포인트 =====
+
+    /**
+     * 범위(all, project:{id})의 마지막 체크포인트
+     */
+    Optional<GraphSyncCheckpoint> loadCheckpoint(String scope);
+
+    void saveCheckpoint(String scope, GraphSyncCheckpoint checkpoint);
+
+    void clearCheckpoint(String scope);
+
+    // ===== 조회 =====
+
+    /**
+     * 프로젝트의 모든 캐릭터 (이름 순)
+     */
+    List<CharacterView> findCharacters(Long projectId);
+
+    Optional<CharacterView> findCharacter(Long projectId, String characterId);
+
+    /**
+     * 캐릭터에서 특정 관계 유형으로 나가는 이웃 캐릭터
+     */
+    List<CharacterView> findByRelationType(Long projectId, String characterId, String relationType);
+
+    /**
+     * 탐색으로 찾은 경로(rdbId 순서)의 캐릭터/관계 상세
+     * 같은 쌍에 에피소드별 관계가 여럿이면 가장 최근 에피소드 관계
+     */
+    GraphPath findPathDetails(Long projectId, List<Long> rdbIds);
+
+    /**
+     * 프로젝트의 모든 관계 (에피소드 순)
+     */
+    List<RelationshipView> findRelationships(Long projectId);
+
+    List<RelationshipView> findRelationshipsByEpisode(Long projectId, Long episodeId);
+
+    /**
+     * 프로젝트 캐릭터 그래프의 CSR 투영 (탐색/중심성 계산용)
+     */
+    CsrGraph loadGraph(Long projectId);
+
+    // ===== 연결 통계 =====
+
+    /**
+     * 서로 다른 이웃 수 상위 (characterId, name, degreeCentrality)
+     */
+    List<Map<String, Object>> topByNeighborCount(Long projectId, int limit);
+
+    /**
+     * closeness 합 상위 (characterId, name, weightedDegree, relationshipCount)
+     */
+    List<Map<String, Object>> topByClosenessSum(Long projectId, int limit);
+
+    /**
+     * 관계 수 상위 (characterId, name, relationshipCount)
+     */
+    List<Map<String, Object>> topByRelationshipCount(Long projectId, int limit);
+
+    /**
+     * 프로젝트 캐릭터의 연결 통계를 관계에서 다시 집계
+     */
+    void recalculateStats(Long projectId);
+
+    /**
+     * 캐릭터 노드가 있는 모든 프로젝트 ID
+     */
+    List<Long> findProjectIds();
+
+    // ===== 그래프 버전 =====
+
+    /**
+     * 현재 그래프 버전 (한 번도 기록되지 않았으면 0)
+     */
+    long currentVersion(Long projectId);
+
+    void bumpVersions(Collection<Long> projectIds);
+}
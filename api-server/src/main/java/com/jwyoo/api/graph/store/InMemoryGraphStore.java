@@ -0,0 +1,729 @@
+package com.jwyoo.api.graph.store;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jwyoo.api.graph.analytics.CsrGraph;
+import com.jwyoo.api.graph.dto.CharacterSyncRow;
+import com.jwyoo.api.graph.dto.CharacterView;
+import com.jwyoo.api.graph.dto.GraphPath;
+import com.jwyoo.api.graph.dto.GraphSyncCheckpoint;
+import com.jwyoo.api.graph.dto.RelationshipSyncRow;
+import com.jwyoo.api.graph.dto.RelationshipView;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.BiFunction;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * 프로세스 내 그래프 저장소 (graph.store.type=embedded)
+ * Neo4j 서버 없이 소규모 설치/테스트에서 같은 동기화/조회/탐색 연산을 제공한다.
+ *
+ * 노드는 rdbId(long) 키 맵에, 관계는 노드마다 상대 rdbId → episodeId → 관계 의 2단 long 키 인접 맵(나가는/들어오는 방향)에 둔다.
+ * 연결 통계는 인접 맵에서 바로 집계하므로 카운터 보정(recalculateStats)이 필요 없다.
+ * 변경이 있으면 주기적으로, 그리고 종료 시 로컬 파일에 JSON 스냅샷을 기록하고(임시 파일 작성 후 교체) 시작 시 다시 읽는다.
+ * 일괄 동기화 체크포인트는 메모리에만 둔다 (재시작 후에는 처음부터 다시 기록하며, upsert라 결과는 같다).
+ *
+ * 모든 연산은 저장소 전체 읽기/쓰기 잠금 하나로 직렬화 (단일 프로세스 전용, 여러 API 서버가 공유할 수 없음)
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "graph.store.type", havingValue = "embedded")
+public class InMemoryGraphStore implements GraphStore {
+
+    static final int SNAPSHOT_FORMAT = 1;
+
+    /**
+     * 로컬 파일 스냅샷 (versions: 프로젝트 ID → 그래프 버전)
+     */
+    record Snapshot(int format, List<CharacterSyncRow> characters, List<RelationshipSyncRow> relationships,
+                    Map<Long, Long> versions) {
+    }
+
+    private static final class Node {
+        final long rdbId;
+        final long projectId;
+        String characterId;
+        String name;
+        String description;
+        String personality;
+        String speakingStyle;
+
+        /**
+         * 상대 노드 rdbId → episodeId → 관계
+         */
+        final LongObjectMap<LongObjectMap<Edge>> outgoing = new LongObjectMap<>();
+        final LongObjectMap<LongObjectMap<Edge>> incoming = new LongObjectMap<>();
+
+        Node(long rdbId, long projectId) {
+            this.rdbId = rdbId;
+            this.projectId = projectId;
+        }
+    }
+
+    private static final class Edge {
+        final Node from;
+        final Node to;
+        final long episodeId;
+        String relationType;
+        Double closeness;
+        String description;
+
+        Edge(Node from, Node to, long episodeId) {
+            this.from = from;
+            this.to = to;
+            this.episodeId = episodeId;
+        }
+    }
+
+    private static final class ProjectGraph {
+        final LongObjectMap<Node> nodes = new LongObjectMap<>();
+        final Map<String, Node> byCharacterId = new HashMap<>();
+        long version;
+    }
+
+    /**
+     * 노드 연결 통계 (관계 수, 서로 다른 이웃 수, closeness 합)
+     */
+    private record Stats(long relationships, long neighbors, double closeness) {
+    }
+
+    private record Ranked(Node node, Stats stats, double score) {
+    }
+
+    private final LongObjectMap<Node> nodes = new LongObjectMap<>();
+    private final LongObjectMap<ProjectGraph> projects = new LongObjectMap<>();
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<String, GraphSyncCheckpoint> checkpoints = new ConcurrentHashMap<>();
+
+    private final Path snapshotPath;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final AtomicBoolean dirty = new AtomicBoolean();
+    private final ScheduledExecutorService snapshotExecutor;
+
+    /**
+     * @param snapshotPath     스냅샷 파일 경로 (비어 있으면 스냅샷 없이 메모리에만 보관)
+     * @param snapshotInterval 변경 스냅샷 기록 주기 (0이면 종료 시에만 기록)
+     */
+    public InMemoryGraphStore(
+            @Value("${graph.store.embedded.snapshot-path:}") String snapshotPath,
+            @Value("${graph.store.embedded.snapshot-interval:30s}") Duration snapshotInterval
+    ) {
+        this.snapshotPath = snapshotPath == null || snapshotPath.isBlank() ? null : Path.of(snapshotPath);
+        if (this.snapshotPath != null && Files.exists(this.snapshotPath)) {
+            restore(this.snapshotPath);
+        }
+
+        if (this.snapshotPath != null && snapshotInterval.toMillis() > 0) {
+            this.snapshotExecutor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "graph-store-snapshot");
+                thread.setDaemon(true);
+                return thread;
+            });
+            long intervalMillis = snapshotInterval.toMillis();
+            snapshotExecutor.scheduleWithFixedDelay(this::snapshotQuietly,
+                intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+        } else {
+            this.snapshotExecutor = null;
+        }
+        log.info("Embedded graph store started: snapshotPath={}, characters={}", this.snapshotPath, nodes.size());
+    }
+
+    @PreDestroy
+    void shutdown() {
+        if (snapshotExecutor != null) {
+            snapshotExecutor.shutdownNow();
+        }
+        snapshotQuietly();
+    }
+
+    // ===== 동기화 =====
+
+    @Override
+    public void upsertCharacter(CharacterSyncRow character) {
+        write(() -> {
+            Node node = nodes.get(character.rdbId());
+            if (node == null) {
+                createNode(character);
+            } else {
+                updateNode(node, character);
+            }
+        });
+    }
+
+    @Override
+    public Optional<Long> deleteCharacter(Long rdbId) {
+        return write(() -> {
+            Node node = nodes.remove(rdbId);
+            if (node == null) {
+                return Optional.empty();
+            }
+
+            // 노드를 먼저 맵에서 뺐으므로 자기 자신으로의 관계(otherId == rdbId)는 이웃 목록에서 찾지 않음
+            node.outgoing.forEach((otherId, edges) -> {
+                if (otherId != node.rdbId) {
+                    nodes.get(otherId).incoming.remove(node.rdbId);
+                }
+            });
+            node.incoming.forEach((otherId, edges) -> {
+                if (otherId != node.rdbId) {
+                    nodes.get(otherId).outgoing.remove(node.rdbId);
+                }
+            });
+            ProjectGraph project = projects.get(node.projectId);
+            project.nodes.remove(node.rdbId);
+            unindex(project, node);
+            return Optional.of(node.projectId);
+        });
+    }
+
+    @Override
+    public void upsertRelationship(RelationshipSyncRow relationship, CharacterSyncRow from, CharacterSyncRow to) {
+        write(() -> {
+            Node a = nodes.get(from.rdbId());
+            if (a == null) {
+                a = createNode(from);
+            }
+            Node b = nodes.get(to.rdbId());
+            if (b == null) {
+                b = createNode(to);
+            }
+            putEdge(a, b, relationship);
+        });
+    }
+
+    @Override
+    public Optional<Long> deleteRelationship(Long episodeId, Long fromCharacterId, Long toCharacterId) {
+        return write(() -> {
+            Node a = nodes.get(fromCharacterId);
+            LongObjectMap<Edge> pair = a != null ? a.outgoing.get(toCharacterId) : null;
+            if (pair == null || pair.remove(episodeId) == null) {
+                return Optional.empty();
+            }
+            if (pair.isEmpty()) {
+                a.outgoing.remove(toCharacterId);
+            }
+
+            Node b = nodes.get(toCharacterId);
+            LongObjectMap<Edge> reverse = b.incoming.get(fromCharacterId);
+            reverse.remove(episodeId);
+            if (reverse.isEmpty()) {
+                b.incoming.remove(fromCharacterId);
+            }
+            return Optional.of(a.projectId);
+        });
+    }
+
+    @Override
+    public void upsertCharacters(List<CharacterSyncRow> characters) {
+        write(() -> characters.forEach(character -> {
+            Node node = nodes.get(character.rdbId());
+            if (node == null) {
+                createNode(character);
+            } else {
+                updateNode(node, character);
+            }
+        }));
+    }
+
+    /**
+     * Neo4j 구현(MATCH 후 MERGE)과 같이 양 끝 노드가 모두 있는 관계만 기록
+     */
+    @Override
+    public void upsertRelationships(List<RelationshipSyncRow> relationships) {
+        write(() -> relationships.forEach(relationship -> {
+            Node a = nodes.get(relationship.fromCharacterId());
+            Node b = nodes.get(relationship.toCharacterId());
+            if (a != null && b != null) {
+                putEdge(a, b, relationship);
+            }
+        }));
+    }
+
+    // ===== 일괄 동기화 체크포인트 =====
+
+    @Override
+    public Optional<GraphSyncCheckpoint> loadCheckpoint(String scope) {
+        return Optional.ofNullable(checkpoints.get(scope));
+    }
+
+    @Override
+    public void saveCheckpoint(String scope, GraphSyncCheckpoint checkpoint) {
+        checkpoints.put(scope, checkpoint);
+    }
+
+    @Override
+    public void clearCheckpoint(String scope) {
+        checkpoints.remove(scope);
+    }
+
+    // ===== 조회 =====
+
+    @Override
+    public List<CharacterView> findCharacters(Long projectId) {
+        return read(() -> {
+            List<CharacterView> characters = new ArrayList<>();
+            ProjectGraph project = projects.get(projectId);
+            if (project != null) {
+                project.nodes.forEach((rdbId, node) -> characters.add(view(node)));
+            }
+            characters.sort(Comparator.comparing(CharacterView::name, Comparator.nullsLast(Comparator.naturalOrder())));
+            return characters;
+        });
+    }
+
+    @Override
+    public Optional<CharacterView> findCharacter(Long projectId, String characterId) {
+        return read(() -> Optional.ofNullable(findNode(projectId, characterId)).map(InMemoryGraphStore::view));
+    }
+
+    @Override
+    public List<CharacterView> findByRelationType(Long projectId, String characterId, String relationType) {
+        return read(() -> {
+            List<CharacterView> characters = new ArrayList<>();
+            Node node = findNode(projectId, characterId);
+            if (node == null) {
+                return characters;
+            }
+            node.outgoing.forEach((otherId, pair) -> {
+                boolean matched = false;
+                for (long episodeId : pair.keys()) {
+                    matched |= Objects.equals(pair.get(episodeId).relationType, relationType);
+                }
+                if (matched) {
+                    characters.add(view(nodes.get(otherId)));
+                }
+            });
+            return characters;
+        });
+    }
+
+    @Override
+    public GraphPath findPathDetails(Long projectId, List<Long> rdbIds) {
+        return read(() -> {
+            ProjectGraph project = projects.get(projectId);
+            List<CharacterView> characters = new ArrayList<>();
+            List<RelationshipView> relationships = new ArrayList<>();
+            if (project != null) {
+                for (Long rdbId : rdbIds) {
+                    Node node = project.nodes.get(rdbId);
+                    if (node != null) {
+                        characters.add(view(node));
+                    }
+                }
+                for (int i = 0; i + 1 < rdbIds.size(); i++) {
+                    Node a = project.nodes.get(rdbIds.get(i));
+                    Node b = project.nodes.get(rdbIds.get(i + 1));
+                    Edge latest = a != null && b != null ? latestEdge(a, b) : null;
+                    if (latest != null) {
+                        relationships.add(view(latest));
+                    }
+                }
+            }
+            return new GraphPath(characters, relationships, rdbIds.size() - 1);
+        });
+    }
+
+    @Override
+    public List<RelationshipView> findRelationships(Long projectId) {
+        return read(() -> relationships(projectId, null));
+    }
+
+    @Override
+    public List<RelationshipView> findRelationshipsByEpisode(Long projectId, Long episodeId) {
+        return read(() -> relationships(projectId, episodeId));
+    }
+
+    @Override
+    public CsrGraph loadGraph(Long projectId) {
+        return read(() -> {
+            List<CsrGraph.NodeRow> nodeRows = new ArrayList<>();
+            List<CsrGraph.EdgeRow> edgeRows = new ArrayList<>();
+            ProjectGraph project = projects.get(projectId);
+            if (project != null) {
+                project.nodes.forEach((rdbId, node) -> {
+                    nodeRows.add(new CsrGraph.NodeRow(rdbId, node.characterId, node.name));
+                    node.outgoing.forEach((otherId, pair) -> {
+                        if (project.nodes.containsKey(otherId)) {
+                            pair.forEach((episodeId, edge) -> edgeRows.add(new CsrGraph.EdgeRow(rdbId, otherId, edge.closeness)));
+                        }
+                    });
+                });
+            }
+            return CsrGraph.build(nodeRows, edgeRows);
+        });
+    }
+
+    // ===== 연결 통계 =====
+
+    @Override
+    public List<Map<String, Object>> topByNeighborCount(Long projectId, int limit) {
+        return top(projectId, limit, stats -> stats.neighbors() > 0, Stats::neighbors, (node, stats) -> {
+            Map<String, Object> row = row(node);
+            row.put("degreeCentrality", stats.neighbors());
+            return row;
+        });
+    }
+
+    @Override
+    public List<Map<String, Object>> topByClosenessSum(Long projectId, int limit) {
+        return top(projectId, limit, stats -> stats.relationships() > 0, Stats::closeness, (node, stats) -> {
+            Map<String, Object> row = row(node);
+            row.put("weightedDegree", stats.closeness());
+            row.put("relationshipCount", stats.relationships());
+            return row;
+        });
+    }
+
+    @Override
+    public List<Map<String, Object>> topByRelationshipCount(Long projectId, int limit) {
+        return top(projectId, limit, stats -> stats.relationships() > 0, Stats::relationships, (node, stats) -> {
+            Map<String, Object> row = row(node);
+            row.put("relationshipCount", stats.relationships());
+            return row;
+        });
+    }
+
+    /**
+     * 통계를 인접 맵에서 바로 집계하므로 보정할 카운터가 없음
+     */
+    @Override
+    public void recalculateStats(Long projectId) {
+        log.debug("Embedded graph store stats are always exact: projectId={}", projectId);
+    }
+
+    @Override
+    public List<Long> findProjectIds() {
+        return read(() -> {
+            List<Long> projectIds = new ArrayList<>();
+            projects.forEach((projectId, project) -> {
+                if (!project.nodes.isEmpty()) {
+                    projectIds.add(projectId);
+                }
+            });
+            return projectIds;
+        });
+    }
+
+    // ===== 그래프 버전 =====
+
+    @Override
+    public long currentVersion(Long projectId) {
+        return read(() -> {
+            ProjectGraph project = projects.get(projectId);
+            return project != null ? project.version : 0L;
+        });
+    }
+
+    @Override
+    public void bumpVersions(Collection<Long> projectIds) {
+        write(() -> projectIds.forEach(projectId ->
+            projects.computeIfAbsent(projectId, id -> new ProjectGraph()).version++));
+    }
+
+    // ===== 스냅샷 =====
+
+    /**
+     * 마지막 스냅샷 이후 변경이 있으면 스냅샷 파일 기록
+     *
+     * @return 기록했으면 true
+     */
+    public boolean snapshot() throws IOException {
+        if (snapshotPath == null || !dirty.getAndSet(false)) {
+            return false;
+        }
+
+        Snapshot snapshot;
+        try {
+            snapshot = read(this::toSnapshot);
+        } catch (RuntimeException e) {
+            dirty.set(true);
+            throw e;
+        }
+
+        try {
+            Path parent = snapshotPath.toAbsolutePath().getParent();
+            Files.createDirectories(parent);
+            Path temp = Files.createTempFile(parent, snapshotPath.getFileName().toString(), ".tmp");
+            objectMapper.writeValue(temp.toFile(), snapshot);
+            Files.move(temp, snapshotPath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            dirty.set(true);
+            throw e;
+        }
+        log.debug("Embedded graph snapshot written: path={}, characters={}, relationships={}",
+            snapshotPath, snapshot.characters().size(), snapshot.relationships().size());
+        return true;
+    }
+
+    private void snapshotQuietly() {
+        try {
+            snapshot();
+        } catch (Exception e) {
+            log.error("Embedded graph snapshot failed: path={}, error={}", snapshotPath, e.getMessage(), e);
+        }
+    }
+
+    private Snapshot toSnapshot() {
+        List<CharacterSyncRow> characters = new ArrayList<>(nodes.size());
+        List<RelationshipSyncRow> relationships = new ArrayList<>();
+        nodes.forEach((rdbId, node) -> {
+            characters.add(new CharacterSyncRow(rdbId, node.projectId, node.characterId, node.name,
+                node.description, node.personality, node.speakingStyle));
+            node.outgoing.forEach((otherId, pair) -> pair.forEach((episodeId, edge) ->
+                relationships.add(new RelationshipSyncRow(null, node.projectId, episodeId, rdbId, otherId,
+                    edge.relationType, edge.closeness, edge.description))));
+        });
+
+        Map<Long, Long> versions = new LinkedHashMap<>();
+        projects.forEach((projectId, project) -> versions.put(projectId, project.version));
+        return new Snapshot(SNAPSHOT_FORMAT, characters, relationships, versions);
+    }
+
+    /**
+     * 스냅샷 파일 복원 (읽을 수 없으면 빈 그래프로 덮어쓰지 않도록 시작 실패)
+     */
+    private void restore(Path path) {
+        Snapshot snapshot;
+        try {
+            snapshot = objectMapper.readValue(path.toFile(), Snapshot.class);
+        } catch (IOException e) {
+            throw new IllegalStateException("Failed to read embedded graph snapshot: " + path, e);
+        }
+        if (snapshot.format() != SNAPSHOT_FORMAT) {
+            throw new IllegalStateException("Unsupported embedded graph snapshot format: " + snapshot.format());
+        }
+
+        snapshot.characters().forEach(this::createNode);
+        Map<Long, CharacterSyncRow> byRdbId = new HashMap<>();
+        snapshot.characters().forEach(character -> byRdbId.put(character.rdbId(), character));
+        snapshot.relationships().forEach(relationship -> upsertRelationship(relationship,
+            byRdbId.get(relationship.fromCharacterId()), byRdbId.get(relationship.toCharacterId())));
+        snapshot.versions().forEach((projectId, version) ->
+            projects.computeIfAbsent(projectId, id -> new ProjectGraph()).version = version);
+        dirty.set(false);
+
+        log.info("Embedded graph snapshot restored: path={}, characters={}, relationships={}",
+            path, snapshot.characters().size(), snapshot.relationships().size());
+    }
+
+    // ===== 내부 =====
+
+    private void putEdge(Node a, Node b, RelationshipSyncRow relationship) {
+        long episodeId = relationship.episodeId();
+        LongObjectMap<Edge> pair = a.outgoing.computeIfAbsent(b.rdbId, id -> new LongObjectMap<>());
+        Edge edge = pair.get(episodeId);
+        if (edge == null) {
+            edge = new Edge(a, b, episodeId);
+            pair.put(episodeId, edge);
+            b.incoming.computeIfAbsent(a.rdbId, id -> new LongObjectMap<>()).put(episodeId, edge);
+        }
+        edge.relationType = relationship.relationType();
+        edge.closeness = relationship.closeness();
+        edge.description = relationship.description();
+    }
+
+    private Node createNode(CharacterSyncRow character) {
+        Node node = new Node(character.rdbId(), Objects.requireNonNull(character.projectId(), "projectId"));
+        node.characterId = character.characterId();
+        node.name = character.name();
+        node.description = character.description();
+        node.personality = character.personality();
+        node.speakingStyle = character.speakingStyle();
+
+        nodes.put(node.rdbId, node);
+        ProjectGraph project = projects.computeIfAbsent(node.projectId, id -> new ProjectGraph());
+        project.nodes.put(node.rdbId, node);
+        if (node.characterId != null) {
+            project.byCharacterId.putIfAbsent(node.characterId, node);
+        }
+        return node;
+    }
+
+    /**
+     * 속성 갱신 (Neo4j 구현과 같이 projectId는 생성 시 값 유지)
+     */
+    private void updateNode(Node node, CharacterSyncRow character) {
+        ProjectGraph project = projects.get(node.projectId);
+        if (!Objects.equals(node.characterId, character.characterId())) {
+            unindex(project, node);
+            node.characterId = character.characterId();
+            if (node.characterId != null) {
+                project.byCharacterId.putIfAbsent(node.characterId, node);
+            }
+        }
+        node.name = character.name();
+        node.description = character.description();
+        node.personality = character.personality();
+        node.speakingStyle = character.speakingStyle();
+    }
+
+    /**
+     * characterId 색인에서 노드 제거 (같은 characterId 노드가 남아 있으면 그 노드로 교체)
+     */
+    private void unindex(ProjectGraph project, Node node) {
+        if (node.characterId == null || project.byCharacterId.get(node.characterId) != node) {
+            return;
+        }
+        project.byCharacterId.remove(node.characterId);
+        project.nodes.forEach((rdbId, other) -> {
+            if (other != node && node.characterId.equals(other.characterId)) {
+                project.byCharacterId.putIfAbsent(other.characterId, other);
+            }
+        });
+    }
+
+    private Node findNode(Long projectId, String characterId) {
+        ProjectGraph project = projects.get(projectId);
+        return project != null ? project.byCharacterId.get(characterId) : null;
+    }
+
+    /**
+     * 두 노드 사이(방향 무관) 가장 최근 에피소드 관계
+     */
+    private static Edge latestEdge(Node a, Node b) {
+        return latest(latest(null, a.outgoing.get(b.rdbId)), a.incoming.get(b.rdbId));
+    }
+
+    private static Edge latest(Edge current, LongObjectMap<Edge> pair) {
+        Edge latest = current;
+        if (pair != null) {
+            for (long episodeId : pair.keys()) {
+                if (latest == null || episodeId > latest.episodeId) {
+                    latest = pair.get(episodeId);
+                }
+            }
+        }
+        return latest;
+    }
+
+    private List<RelationshipView> relationships(Long projectId, Long episodeId) {
+        List<Edge> edges = new ArrayList<>();
+        ProjectGraph project = projects.get(projectId);
+        if (project != null) {
+            project.nodes.forEach((rdbId, node) -> node.outgoing.forEach((otherId, pair) -> {
+                if (episodeId == null) {
+                    pair.forEach((id, edge) -> edges.add(edge));
+                } else {
+                    Edge edge = pair.get(episodeId);
+                    if (edge != null) {
+                        edges.add(edge);
+                    }
+                }
+            }));
+        }
+        edges.sort(Comparator.comparingLong(edge -> edge.episodeId));
+        return edges.stream().map(InMemoryGraphStore::view).toList();
+    }
+
+    private List<Map<String, Object>> top(Long projectId, int limit, Predicate<Stats> filter,
+                                          ToDoubleFunction<Stats> score,
+                                          BiFunction<Node, Stats, Map<String, Object>> mapper) {
+        return read(() -> {
+            List<Ranked> ranked = new ArrayList<>();
+            ProjectGraph project = projects.get(projectId);
+            if (project != null) {
+                project.nodes.forEach((rdbId, node) -> {
+                    Stats stats = stats(node);
+                    if (filter.test(stats)) {
+                        ranked.add(new Ranked(node, stats, score.applyAsDouble(stats)));
+                    }
+                });
+            }
+            return ranked.stream()
+                .sorted(Comparator.comparingDouble(Ranked::score).reversed())
+                .limit(Math.max(0, limit))
+                .map(entry -> mapper.apply(entry.node(), entry.stats()))
+                .toList();
+        });
+    }
+
+    private static Stats stats(Node node) {
+        long[] relationships = {0};
+        double[] closeness = {0.0};
+        LongObjectMap<Boolean> neighbors = new LongObjectMap<>(node.outgoing.size() + node.incoming.size());
+        LongObjectMap.Entry<LongObjectMap<Edge>> collect = (otherId, pair) -> {
+            neighbors.put(otherId, Boolean.TRUE);
+            pair.forEach((episodeId, edge) -> {
+                relationships[0]++;
+                closeness[0] += edge.closeness != null ? edge.closeness : 0.0;
+            });
+        };
+        node.outgoing.forEach(collect);
+        // 자기 자신으로의 관계는 outgoing/incoming 양쪽에 있으므로 한 번만 집계 (Neo4j 무방향 매칭과 동일)
+        node.incoming.forEach((otherId, pair) -> {
+            if (otherId != node.rdbId) {
+                collect.accept(otherId, pair);
+            }
+        });
+        return new Stats(relationships[0], neighbors.size(), closeness[0]);
+    }
+
+    private static Map<String, Object> row(Node node) {
+        Map<String, Object> row = new LinkedHashMap<>();
+        row.put("characterId", node.characterId);
+        row.put("name", node.name);
+        return row;
+    }
+
+    private static CharacterView view(Node node) {
+        Stats stats = stats(node);
+        return new CharacterView(node.rdbId, node.projectId, node.characterId, node.name, node.description,
+            node.personality, node.speakingStyle, stats.relationships(), stats.neighbors());
+    }
+
+    private static RelationshipView view(Edge edge) {
+        return new RelationshipView(edge.episodeId, edge.from.characterId, edge.from.name,
+            edge.to.characterId, edge.to.name, edge.relationType, edge.closeness, edge.description);
+    }
+
+    private <T> T read(Supplier<T> action) {
+        lock.readLock().lock();
+        try {
+            return action.get();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void write(Runnable action) {
+        write(() -> {
+            action.run();
+            return null;
+        });
+    }
+
+    private <T> T write(Supplier<T> action) {
+        lock.writeLock().lock();
+        try {
+            return action.get();
+        } finally {
+            dirty.set(true);
+            lock.writeLock().unlock();
+        }
+    }
+}
@@ -0,0 +1,406 @@
+package com.jwyoo.api.graph.store;
+
+import com.jwyoo.api.graph.analytics.CsrGraph;
+import com.jwyoo.api.graph.dto.CharacterSyncRow;
+import com.jwyoo.api.graph.dto.CharacterView;
+import com.jwyoo.api.graph.dto.GraphPath;
+import com.jwyoo.api.graph.dto.GraphSyncCheckpoint;
+import com.jwyoo.api.graph.dto.RelationshipSyncRow;
+import com.jwyoo.api.graph.dto.RelationshipView;
+import com.jwyoo.api.graph.node.CharacterNode;
+import com.jwyoo.api.graph.repository.CharacterNodeRepository;
+import com.jwyoo.api.graph.repository.GraphReadRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.neo4j.core.Neo4jClient;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Neo4j 그래프 저장소 (기본 구현)
+ * 쓰기는 엣지 하나 단위 MERGE Cypher, 조회는 맵 프로젝션(GraphReadRepository),
+ * 연결 통계는 Character 노드 카운터, 그래프 버전은 (:GraphVersion {projectId}) 노드에 기록
+ * 일괄 동기화는 배치당 UNWIND Cypher 한 번, 체크포인트는 (:GraphSyncCheckpoint {scope}) 노드에 기록
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "graph.store.type", havingValue = "neo4j", matchIfMissing = true)
+public class Neo4jGraphStore implements GraphStore {
+
+    /**
+     * 단일 엣지 upsert (episodeId로 같은 캐릭터 쌍의 에피소드별 관계를 구분)
+     * 양 끝 캐릭터의 연결 통계(관계 수, 이웃 수, closeness 합)를 같은 문장에서 증감
+     * (statsUpdatedAt을 먼저 기록해 두 노드의 쓰기 잠금을 잡은 뒤 카운터를 읽으므로 동시 수정 시 갱신 손실 없음)
+     */
+    static final String UPSERT_RELATIONSHIP = """
+        MERGE (a:Character {rdbId: $from.rdbId})
+          ON CREATE SET a += $from
+        MERGE (b:Character {rdbId: $to.rdbId})
+          ON CREATE SET b += $to
+        SET a.statsUpdatedAt = timestamp(), b.statsUpdatedAt = timestamp()
+        WITH a, b
+        OPTIONAL MATCH (a)-[existing:INTERACTS_WITH]-(b)
+        WITH a, b, count(existing) AS pairEdges,
+             [e IN collect(existing) WHERE startNode(e) = a AND e.episodeId = $episodeId] AS same
+        WITH a, b, pairEdges, size(same) = 0 AS created,
+             coalesce(head([e IN same | e.closeness]), 0.0) AS oldCloseness
+        MERGE (a)-[r:INTERACTS_WITH {episodeId: $episodeId}]->(b)
+        SET r += $props
+        WITH a, b, coalesce(r.closeness, 0.0) - oldCloseness AS closenessDelta,
+             CASE WHEN created THEN 1 ELSE 0 END AS edgeDelta,
+             CASE WHEN created AND pairEdges = 0 THEN 1 ELSE 0 END AS neighborDelta
+        SET a.relationshipCount = coalesce(a.relationshipCount, 0) + edgeDelta,
+            b.relationshipCount = coalesce(b.relationshipCount, 0) + edgeDelta,
+            a.neighborCount = coalesce(a.neighborCount, 0) + neighborDelta,
+            b.neighborCount = coalesce(b.neighborCount, 0) + neighborDelta,
+            a.closenessSum = coalesce(a.closenessSum, 0.0) + closenessDelta,
+            b.closenessSum = coalesce(b.closenessSum, 0.0) + closenessDelta
+        """;
+
+    /**
+     * 단일 엣지 삭제 및 양 끝 캐릭터 연결 통계 차감 (삭제된 경우 프로젝트 ID 반환, 없으면 결과 없음)
+     */
+    static final String DELETE_RELATIONSHIP = """
+        MATCH (a:Character {rdbId: $fromId})-[r:INTERACTS_WITH {episodeId: $episodeId}]->(b:Character {rdbId: $toId})
+        SET a.statsUpdatedAt = timestamp(), b.statsUpdatedAt = timestamp()
+        WITH a, b, r, coalesce(r.closeness, 0.0) AS closeness
+        DELETE r
+        WITH a, b, closeness
+        OPTIONAL MATCH (a)-[remaining:INTERACTS_WITH]-(b)
+        WITH a, b, closeness,
+             CASE WHEN count(remaining) = 0 THEN 1 ELSE 0 END AS neighborDelta
+        SET a.relationshipCount = coalesce(a.relationshipCount, 1) - 1,
+            b.relationshipCount = coalesce(b.relationshipCount, 1) - 1,
+            a.neighborCount = coalesce(a.neighborCount, neighborDelta) - neighborDelta,
+            b.neighborCount = coalesce(b.neighborCount, neighborDelta) - neighborDelta,
+            a.closenessSum = coalesce(a.closenessSum, closeness) - closeness,
+            b.closenessSum = coalesce(b.closenessSum, closeness) - closeness
+        RETURN DISTINCT a.projectId
+        """;
+
+    static final String UPSERT_CHARACTERS = """
+        UNWIND $rows AS row
+        MERGE (c:Character {rdbId: row.rdbId})
+        SET c.projectId = row.projectId,
+            c.characterId = row.characterId,
+            c.name = row.name,
+            c.description = row.description,
+            c.personality = row.personality,
+            c.speakingStyle = row.speakingStyle
+        """;
+
+    static final String UPSERT_RELATIONSHIPS = """
+        UNWIND $rows AS row
+        MATCH (a:Character {rdbId: row.fromId})
+        MATCH (b:Character {rdbId: row.toId})
+        MERGE (a)-[r:INTERACTS_WITH {episodeId: row.episodeId}]->(b)
+        SET r.relationType = row.relationType,
+            r.closeness = row.closeness,
+            r.description = row.description
+        """;
+
+    static final String RECALCULATE = """
+        MATCH (c:Character {projectId: $projectId})
+        OPTIONAL MATCH (c)-[r:INTERACTS_WITH]-(other:Character)
+        WITH c, count(r) AS relationships, count(DISTINCT other) AS neighbors,
+             sum(coalesce(r.closeness, 0.0)) AS closeness
+        SET c.relationshipCount = relationships,
+            c.neighborCount = neighbors,
+            c.closenessSum = closeness
+        """;
+
+    /**
+     * 캐릭터 노드 삭제 전에 이웃 캐릭터들의 카운터 차감
+     */
+    static final String DETACH_CHARACTER = """
+        MATCH (c:Character {rdbId: $rdbId})-[r:INTERACTS_WITH]-(other:Character)
+        WHERE other <> c
+        WITH other, count(r) AS relationships, sum(coalesce(r.closeness, 0.0)) AS closeness
+        SET other.relationshipCount = coalesce(other.relationshipCount, relationships) - relationships,
+            other.neighborCount = coalesce(other.neighborCount, 1) - 1,
+            other.closenessSum = coalesce(other.closenessSum, closeness) - closeness
+        """;
+
+    static final String TOP_BY_NEIGHBORS = """
+        MATCH (c:Character)
+        WHERE c.projectId = $projectId AND c.neighborCount > 0
+        RETURN c.characterId AS characterId, c.name AS name, c.neighborCount AS degreeCentrality
+        ORDER BY c.neighborCount DESC
+        LIMIT $limit
+        """;
+
+    static final String TOP_BY_CLOSENESS_SUM = """
+        MATCH (c:Character)
+        WHERE c.projectId = $projectId AND c.relationshipCount > 0
+        RETURN c.characterId AS characterId, c.name AS name,
+               c.closenessSum AS weightedDegree, c.relationshipCount AS relationshipCount
+        ORDER BY c.closenessSum DESC
+        LIMIT $limit
+        """;
+
+    static final String TOP_BY_RELATIONSHIPS = """
+        MATCH (c:Character)
+        WHERE c.projectId = $projectId AND c.relationshipCount > 0
+        RETURN c.characterId AS characterId, c.name AS name, c.relationshipCount AS relationshipCount
+        ORDER BY c.relationshipCount DESC
+        LIMIT $limit
+        """;
+
+    static final String LOAD_NODES = """
+        MATCH (c:Character {projectId: $projectId})
+        WHERE c.rdbId IS NOT NULL
+        RETURN c.rdbId AS rdbId, c.characterId AS characterId, c.name AS name
+        """;
+
+    static final String LOAD_EDGES = """
+        MATCH (a:Character {projectId: $projectId})-[r:INTERACTS_WITH]->(b:Character {projectId: $projectId})
+        WHERE a.rdbId IS NOT NULL AND b.rdbId IS NOT NULL
+        RETURN a.rdbId AS fromId, b.rdbId AS toId, r.closeness AS closeness
+        """;
+
+    static final String BUMP_VERSIONS = """
+        UNWIND $projectIds AS projectId
+        MERGE (v:GraphVersion {projectId: projectId})
+        ON CREATE SET v.version = 1
+        ON MATCH SET v.version = v.version + 1
+        """;
+
+    private final CharacterNodeRepository characterNodeRepository;
+    private final GraphReadRepository graphReadRepository;
+    private final Neo4jClient neo4jClient;
+
+    @Override
+    public void upsertCharacter(CharacterSyncRow character) {
+        Optional<CharacterNode> existingNode = characterNodeRepository.findByRdbId(character.rdbId());
+
+        CharacterNode node;
+        if (existingNode.isPresent()) {
+            node = existingNode.get();
+            node.setCharacterId(character.characterId());
+            node.setName(character.name());
+            node.setDescription(character.description());
+            node.setPersonality(character.personality());
+            node.setSpeakingStyle(character.speakingStyle());
+            log.debug("Updating existing character node: neo4jId={}", node.getId());
+        } else {
+            node = CharacterNode.builder()
+                .rdbId(character.rdbId())
+                .projectId(character.projectId())
+                .characterId(character.characterId())
+                .name(character.name())
+                .description(character.description())
+                .personality(character.personality())
+                .speakingStyle(character.speakingStyle())
+                .build();
+            log.debug("Creating new character node");
+        }
+
+        CharacterNode saved = characterNodeRepository.save(node);
+        log.debug("Character node saved: neo4jId={}, rdbId={}", saved.getId(), saved.getRdbId());
+    }
+
+    @Override
+    public Optional<Long> deleteCharacter(Long rdbId) {
+        Optional<CharacterNode> node = characterNodeRepository.findByRdbId(rdbId);
+        if (node.isEmpty()) {
+            return Optional.empty();
+        }
+
+        neo4jClient.query(DETACH_CHARACTER)
+            .bind(rdbId).to("rdbId")
+            .run();
+        characterNodeRepository.delete(node.get());
+        return Optional.ofNullable(node.get().getProjectId());
+    }
+
+    @Override
+    public void upsertRelationship(RelationshipSyncRow relationship, CharacterSyncRow from, CharacterSyncRow to) {
+        Map<String, Object> props = new HashMap<>();
+        props.put("relationType", relationship.relationType());
+        props.put("closeness", relationship.closeness());
+        props.put("description", relationship.description());
+
+        neo4jClient.query(UPSERT_RELATIONSHIP)
+            .bind(relationship.episodeId()).to("episodeId")
+            .bind(from.toParameters()).to("from")
+            .bind(to.toParameters()).to("to")
+            .bind(props).to("props")
+            .run();
+    }
+
+    @Override
+    public Optional<Long> deleteRelationship(Long episodeId, Long fromCharacterId, Long toCharacterId) {
+        return neo4jClient.query(DELETE_RELATIONSHIP)
+            .bind(episodeId).to("episodeId")
+            .bind(fromCharacterId).to("fromId")
+            .bind(toCharacterId).to("toId")
+            .fetchAs(Long.class)
+            .one();
+    }
+
+    @Override
+    public void upsertCharacters(List<CharacterSyncRow> characters) {
+        writeBatch(UPSERT_CHARACTERS, characters.stream().map(CharacterSyncRow::toParameters).toList());
+    }
+
+    @Override
+    public void upsertRelationships(List<RelationshipSyncRow> relationships) {
+        writeBatch(UPSERT_RELATIONSHIPS, relationships.stream().map(RelationshipSyncRow::toParameters).toList());
+    }
+
+    private void writeBatch(String cypher, List<Map<String, Object>> rows) {
+        neo4jClient.query(cypher)
+            .bind(rows).to("rows")
+            .run();
+    }
+
+    @Override
+    public Optional<GraphSyncCheckpoint> loadCheckpoint(String scope) {
+        return neo4jClient.query("""
+                MATCH (s:GraphSyncCheckpoint {scope: $scope})
+                RETURN s.phase AS phase, s.lastId AS lastId
+                """)
+            .bind(scope).to("scope")
+            .fetchAs(GraphSyncCheckpoint.class)
+            .mappedBy((typeSystem, record) ->
+                new GraphSyncCheckpoint(record.get("phase").asString(), record.get("lastId").asLong()))
+            .one();
+    }
+
+    @Override
+    public void saveCheckpoint(String scope, GraphSyncCheckpoint checkpoint) {
+        neo4jClient.query("""
+                MERGE (s:GraphSyncCheckpoint {scope: $scope})
+                SET s.phase = $phase, s.lastId = $lastId, s.updatedAt = datetime()
+                """)
+            .bind(scope).to("scope")
+            .bind(checkpoint.phase()).to("phase")
+            .bind(checkpoint.lastId()).to("lastId")
+            .run();
+    }
+
+    @Override
+    public void clearCheckpoint(String scope) {
+        neo4jClient.query("MATCH (s:GraphSyncCheckpoint {scope: $scope}) DELETE s")
+            .bind(scope).to("scope")
+            .run();
+    }
+
+    @Override
+    public List<CharacterView> findCharacters(Long projectId) {
+        return graphReadRepository.findCharacters(projectId);
+    }
+
+    @Override
+    public Optional<CharacterView> findCharacter(Long projectId, String characterId) {
+        return graphReadRepository.findCharacter(projectId, characterId);
+    }
+
+    @Override
+    public List<CharacterView> findByRelationType(Long projectId, String characterId, String relationType) {
+        return graphReadRepository.findByRelationType(projectId, characterId, relationType);
+    }
+
+    @Override
+    public GraphPath findPathDetails(Long projectId, List<Long> rdbIds) {
+        return graphReadRepository.findPathDetails(projectId, rdbIds);
+    }
+
+    @Override
+    public List<RelationshipView> findRelationships(Long projectId) {
+        return graphReadRepository.findRelationships(projectId);
+    }
+
+    @Override
+    public List<RelationshipView> findRelationshipsByEpisode(Long projectId, Long episodeId) {
+        return graphReadRepository.findRelationshipsByEpisode(projectId, episodeId);
+    }
+
+    @Override
+    public CsrGraph loadGraph(Long projectId) {
+        List<CsrGraph.NodeRow> nodes = new ArrayList<>(neo4jClient.query(LOAD_NODES)
+            .bind(projectId).to("projectId")
+            .fetchAs(CsrGraph.NodeRow.class)
+            .mappedBy((typeSystem, record) -> new CsrGraph.NodeRow(
+                record.get("rdbId").asLong(),
+                record.get("characterId").asString(null),
+                record.get("name").asString(null)))
+            .all());
+
+        List<CsrGraph.EdgeRow> edges = new ArrayList<>(neo4jClient.query(LOAD_EDGES)
+            .bind(projectId).to("projectId")
+            .fetchAs(CsrGraph.EdgeRow.class)
+            .mappedBy((typeSystem, record) -> new CsrGraph.EdgeRow(
+                record.get("fromId").asLong(),
+                record.get("toId").asLong(),
+                record.get("closeness").isNull() ? null : record.get("closeness").asDouble()))
+            .all());
+
+        return CsrGraph.build(nodes, edges);
+    }
+
+    @Override
+    public List<Map<String, Object>> topByNeighborCount(Long projectId, int limit) {
+        return top(TOP_BY_NEIGHBORS, projectId, limit);
+    }
+
+    @Override
+    public List<Map<String, Object>> topByClosenessSum(Long projectId, int limit) {
+        return top(TOP_BY_CLOSENESS_SUM, projectId, limit);
+    }
+
+    @Override
+    public List<Map<String, Object>> topByRelationshipCount(Long projectId, int limit) {
+        return top(TOP_BY_RELATIONSHIPS, projectId, limit);
+    }
+
+    @Override
+    public void recalculateStats(Long projectId) {
+        neo4jClient.query(RECALCULATE)
+            .bind(projectId).to("projectId")
+            .run();
+    }
+
+    @Override
+    public List<Long> findProjectIds() {
+        return new ArrayList<>(neo4jClient.query("""
+                MATCH (c:Character)
+                WHERE c.projectId IS NOT NULL
+                RETURN DISTINCT c.projectId
+                """)
+            .fetchAs(Long.class)
+            .all());
+    }
+
+    @Override
+    public long currentVersion(Long projectId) {
+        return neo4jClient.query("MATCH (v:GraphVersion {projectId: $projectId}) RETURN v.version")
+            .bind(projectId).to("projectId")
+            .fetchAs(Long.class)
+            .one()
+            .orElse(0L);
+    }
+
+    @Override
+    public void bumpVersions(Collection<Long> projectIds) {
+        neo4jClient.query(BUMP_VERSIONS)
+            .bind(projectIds).to("projectIds")
+            .run();
+    }
+
+    private List<Map<String, Object>> top(String cypher, Long projectId, int limit) {
+        return new ArrayList<>(neo4jClient.query(cypher)
+            .bind(projectId).to("projectId")
+            .bind(limit).to("limit")
+            .fetch()
+            .all());
+    }
+}
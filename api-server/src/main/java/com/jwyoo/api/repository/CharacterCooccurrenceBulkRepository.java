@@ -0,0 +1,18 @@
+package com.jwyoo.api.repository;
+
+import com.jwyoo.api.entity.CharacterCooccurrence;
+
+import java.util.List;
+
+/**
+ * 동시 등장 행 일괄 삽입 (CharacterCooccurrenceRepository 조각)
+ */
+public interface CharacterCooccurrenceBulkRepository {
+
+    /**
+     * JDBC 배치로 행 삽입 (IDENTITY ID라 JPA saveAll은 행마다 INSERT를 따로 보냄)
+     *
+     * @return 삽입한 행 수
+     */
+    int insertAll(List<CharacterCooccurrence> rows);
+}
@@ -0,0 +1,45 @@
+package com.jwyoo.api.repository;
+
+import com.jwyoo.api.entity.CharacterCooccurrence;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 동시 등장 행 JDBC 배치 삽입
+ * 삽입한 행의 ID를 돌려받지 않으므로 드라이버가 INSERT를 묶어서 보낼 수 있다.
+ * 영속성 컨텍스트를 거치지 않으므로 @PrePersist 대신 updated_at을 직접 채운다.
+ */
+@RequiredArgsConstructor
+public class CharacterCooccurrenceBulkRepositoryImpl implements CharacterCooccurrenceBulkRepository {
+
+    private static final int BATCH_SIZE = 500;
+
+    private static final String INSERT_SQL =
+        "INSERT INTO character_cooccurrences " +
+        "(project_id, episode_id, character_a_id, character_b_id, scene_count, line_count, updated_at) " +
+        "VALUES (?, ?, ?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public int insertAll(List<CharacterCooccurrence> rows) {
+        if (rows.isEmpty()) {
+            return 0;
+        }
+        Timestamp updatedAt = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.batchUpdate(INSERT_SQL, rows, BATCH_SIZE, (ps, row) -> {
+            ps.setLong(1, row.getProjectId());
+            ps.setLong(2, row.getEpisodeId());
+            ps.setLong(3, row.getCharacterAId());
+            ps.setLong(4, row.getCharacterBId());
+            ps.setInt(5, row.getSceneCount());
+            ps.setInt(6, row.getLineCount());
+            ps.setTimestamp(7, updatedAt);
+        });
+        return rows.size();
+    }
+}
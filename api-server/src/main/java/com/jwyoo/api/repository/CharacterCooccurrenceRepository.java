@@ -0,0 +1,50 @@
+package com.jwyoo.api.repository;
+
+import com.jwyoo.api.entity.CharacterCooccurrence;
+import com.jwyoo.api.graph.dto.CooccurrenceEdgeRow;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface CharacterCooccurrenceRepository extends JpaRepository<CharacterCooccurrence, Long>, CharacterCooccurrenceBulkRepository {
+
+    /**
+     * 에피소드 묶음의 동시 등장 행 삭제 (다시 계산하기 전)
+     */
+    @Modifying
+    @Query("DELETE FROM CharacterCooccurrence c WHERE c.episodeId IN :episodeIds")
+    int deleteByEpisodeIds(@Param("episodeIds") Collection<Long> episodeIds);
+
+    /**
+     * 프로젝트의 동시 등장 행 삭제 (전체 재구성 전)
+     */
+    @Modifying
+    @Query("DELETE FROM CharacterCooccurrence c WHERE c.projectId = :projectId")
+    int deleteByProjectId(@Param("projectId") Long projectId);
+
+    /**
+     * 프로젝트 동시 등장 관계 + 양 끝 캐릭터 (에피소드, ID 순)
+     */
+    @Query("SELECT new com.jwyoo.api.graph.dto.CooccurrenceEdgeRow(" +
+           "c.id, c.episodeId, a.id, a.characterId, a.name, b.id, b.characterId, b.name, c.sceneCount, c.lineCount) " +
+           "FROM CharacterCooccurrence c, Character a, Character b " +
+           "WHERE a.id = c.characterAId AND b.id = c.characterBId AND c.projectId = :projectId " +
+           "ORDER BY c.episodeId ASC, c.id ASC")
+    List<CooccurrenceEdgeRow> findEdgeRowsByProjectId(@Param("projectId") Long projectId);
+
+    /**
+     * 에피소드 동시 등장 관계 + 양 끝 캐릭터
+     */
+    @Query("SELECT new com.jwyoo.api.graph.dto.CooccurrenceEdgeRow(" +
+           "c.id, c.episodeId, a.id, a.characterId, a.name, b.id, b.characterId, b.name, c.sceneCount, c.lineCount) " +
+           "FROM CharacterCooccurrence c, Character a, Character b " +
+           "WHERE a.id = c.characterAId AND b.id = c.characterBId " +
+           "AND c.episodeId = :episodeId AND c.projectId = :projectId ORDER BY c.id ASC")
+    List<CooccurrenceEdgeRow> findEdgeRowsByEpisodeId(@Param("episodeId") Long episodeId, @Param("projectId") Long projectId);
+}
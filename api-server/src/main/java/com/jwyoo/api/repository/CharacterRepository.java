@@ -1,8 +1,15 @@
 package com.jwyoo.api.repository;
 
+import com.jwyoo.api.dto.CharacterListItem;
+import com.jwyoo.api.dto.VersionStamp;
 import com.jwyoo.api.entity.Character;
 import com.jwyoo.api.entity.Project;
+import com.jwyoo.api.graph.dto.CharacterSyncRow;
+import com.jwyoo.api.graph.dto.TimelineCharacterRow;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.Collection;
@@ -26,4 +33,60 @@ public interface CharacterRepository extends JpaRepository<Character, Long> {
      */
     List<Character> findByCharacterIdIn(Collection<String> characterIds);
     List<Character> findByCharacterIdInAndProject(Collection<String> characterIds, Project project);
-}
\ No newline at end of file
+
+    /**
+     * Neo4j 일괄 동기화용 키셋 페이지 조회 (id > afterId, id 오름차순)
+     * 엔티티 대신 프로젝션으로 조회하여 연관관계 로딩 없이 스트리밍
+     */
+    @Query("SELECT new com.jwyoo.api.graph.dto.CharacterSyncRow(" +
+           "c.id, c.project.id, c.characterId, c.name, c.description, c.personality, c.speakingStyle) " +
+           "FROM Character c WHERE c.id > :afterId ORDER BY c.id ASC")
+    List<CharacterSyncRow> findSyncRowsAfter(@Param("afterId") Long afterId, Pageable pageable);
+
+    /**
+     * 프로젝트 범위 Neo4j 동기화용 프로젝션 (키셋 페이지네이션)
+     */
+    @Query("SELECT new com.jwyoo.api.graph.dto.CharacterSyncRow(" +
+           "c.id, c.project.id, c.characterId, c.name, c.description, c.personality, c.speakingStyle) " +
+           "FROM Character c WHERE c.project.id = :projectId AND c.id > :afterId ORDER BY c.id ASC")
+    List<CharacterSyncRow> findSyncRowsByProjectAfter(
+        @Param("projectId") Long projectId, @Param("afterId") Long afterId, Pageable pageable);
+
+    /**
+     * 캐릭터 목록 프로젝션 (말투 예시, 대사 컬렉션은 읽지 않음)
+     */
+    @Query("SELECT new com.jwyoo.api.dto.CharacterListItem(" +
+           "c.id, c.characterId, c.name, c.description, c.personality, c.speakingStyle, c.vocabulary, c.toneKeywords) " +
+           "FROM Character c WHERE c.project.id = :projectId ORDER BY c.id ASC")
+    List<CharacterListItem> findListItemsByProjectId(@Param("projectId") Long projectId);
+
+    /**
+     * 타임라인 스냅샷용 캐릭터 프로젝션
+     */
+    @Query("SELECT new com.jwyoo.api.graph.dto.TimelineCharacterRow(c.id, c.characterId, c.name) " +
+           "FROM Character c WHERE c.project.id = :projectId")
+    List<TimelineCharacterRow> findTimelineRowsByProjectId(@Param("projectId") Long projectId);
+
+    // ===== 응답 버전 (ETag/Last-Modified) =====
+
+    /**
+     * 프로젝트 캐릭터 목록의 버전 (목록 항목은 캐릭터 컬럼만 담음)
+     */
+    @Query("SELECT new com.jwyoo.api.dto.VersionStamp(COUNT(c), SUM(c.id), MAX(c.updatedAt)) " +
+           "FROM Character c WHERE c.project.id = :projectId")
+    VersionStamp findListStampByProjectId(@Param("projectId") Long projectId);
+
+    /**
+     * 캐릭터 하나의 버전 (상세 DTO는 캐릭터 컬럼만 담음), 다른 프로젝트의 캐릭터면 빈 값
+     */
+    @Query("SELECT new com.jwyoo.api.dto.VersionStamp(COUNT(c), SUM(c.id), MAX(c.updatedAt)) " +
+           "FROM Character c WHERE c.id = :id AND c.project.id = :projectId")
+    VersionStamp findStampByIdAndProjectId(@Param("id") Long id, @Param("projectId") Long projectId);
+
+    /**
+     * 캐릭터 ID(char.xxx)로 찾은 캐릭터와 그 프로젝트의 버전 (장면 참여자용)
+     */
+    @Query("SELECT new com.jwyoo.api.dto.VersionStamp(COUNT(c), SUM(c.id), MAX(c.updatedAt), MAX(p.updatedAt)) " +
+           "FROM Character c JOIN c.project p WHERE c.characterId IN :characterIds")
+    VersionStamp findStampByCharacterIdIn(@Param("characterIds") Collection<String> characterIds);
+}
@@ -1,11 +1,13 @@
 package com.jwyoo.api.repository;
 
 import com.jwyoo.api.entity.Concept;
+import com.jwyoo.api.graph.dto.EpisodeConceptRow;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -55,4 +57,11 @@ public interface ConceptRepository extends JpaRepository<Concept, Long> {
      */
     @Query("SELECT c FROM Concept c WHERE c.project.id = :projectId AND c.description LIKE %:keyword%")
     List<Concept> searchByDescription(@Param("projectId") Long projectId, @Param("keyword") String keyword);
+
+    /**
+     * 에피소드별 개념 ID (그래프 CONTAINS 관계 동기화용)
+     */
+    @Query("SELECT new com.jwyoo.api.graph.dto.EpisodeConceptRow(c.episode.id, c.id) " +
+           "FROM Concept c WHERE c.episode.id IN :episodeIds")
+    List<EpisodeConceptRow> findEpisodeConceptRows(@Param("episodeIds") Collection<Long> episodeIds);
 }
@@ -1,12 +1,16 @@
 package com.jwyoo.api.repository;
 
+import com.jwyoo.api.dto.VersionStamp;
 import com.jwyoo.api.entity.Dialogue;
 import com.jwyoo.api.entity.Project;
+import com.jwyoo.api.graph.dto.EpisodeCharacterRow;
+import com.jwyoo.api.graph.dto.SceneSpeakerRow;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -49,4 +53,50 @@ public interface DialogueRepository extends JpaRepository<Dialogue, Long> {
             @Param("episodeId") Long episodeId,
             @Param("sceneId") Long sceneId
     );
-}
\ No newline at end of file
+
+    /**
+     * 에피소드별 대사 화자와 대사 수 (그래프 캐릭터→개념 관계 동기화용)
+     */
+    @Query("SELECT new com.jwyoo.api.graph.dto.EpisodeCharacterRow(s.episode.id, d.character.id, COUNT(d)) " +
+           "FROM Dialogue d JOIN d.scene s WHERE s.episode.id IN :episodeIds " +
+           "GROUP BY s.episode.id, d.character.id")
+    List<EpisodeCharacterRow> findEpisodeCharacterRows(@Param("episodeIds") Collection<Long> episodeIds);
+
+    /**
+     * 장면별 화자와 대사 수 (에피소드 묶음의 캐릭터 동시 등장 재계산용)
+     */
+    @Query("SELECT new com.jwyoo.api.graph.dto.SceneSpeakerRow(e.project.id, e.id, s.id, d.character.id, COUNT(d)) " +
+           "FROM Dialogue d JOIN d.scene s JOIN s.episode e WHERE e.id IN :episodeIds " +
+           "GROUP BY e.project.id, e.id, s.id, d.character.id")
+    List<SceneSpeakerRow> findSceneSpeakerRows(@Param("episodeIds") Collection<Long> episodeIds);
+
+    /**
+     * 프로젝트 전체 장면별 화자와 대사 수 (캐릭터 동시 등장 전체 재구성용)
+     */
+    @Query("SELECT new com.jwyoo.api.graph.dto.SceneSpeakerRow(e.project.id, e.id, s.id, d.character.id, COUNT(d)) " +
+           "FROM Dialogue d JOIN d.scene s JOIN s.episode e WHERE e.project.id = :projectId " +
+           "GROUP BY e.project.id, e.id, s.id, d.character.id")
+    List<SceneSpeakerRow> findSceneSpeakerRowsByProjectId(@Param("projectId") Long projectId);
+
+    // ===== 응답 버전 (ETag/Last-Modified) =====
+    // 대사 응답에는 캐릭터와 그 프로젝트가 함께 실리므로 두 수정 시각까지 반영
+
+    @Query("SELECT new com.jwyoo.api.dto.VersionStamp(COUNT(d), SUM(d.id), MAX(d.updatedAt), MAX(c.updatedAt), MAX(p.updatedAt)) " +
+           "FROM Dialogue d JOIN d.character c JOIN c.project p WHERE d.scene.episode.id = :episodeId")
+    VersionStamp findStampByEpisodeId(@Param("episodeId") Long episodeId);
+
+    @Query("SELECT new com.jwyoo.api.dto.VersionStamp(COUNT(d), SUM(d.id), MAX(d.updatedAt), MAX(c.updatedAt), MAX(p.updatedAt)) " +
+           "FROM Dialogue d JOIN d.character c JOIN c.project p WHERE d.scene.id = :sceneId")
+    VersionStamp findStampBySceneId(@Param("sceneId") Long sceneId);
+
+    @Query("SELECT new com.jwyoo.api.dto.VersionStamp(COUNT(d), SUM(d.id), MAX(d.updatedAt), MAX(c.updatedAt), MAX(p.updatedAt)) " +
+           "FROM Dialogue d JOIN d.character c JOIN c.project p WHERE d.id = :id")
+    VersionStamp findStampById(@Param("id") Long id);
+
+    /**
+     * 캐릭터들의 대사 버전 (캐릭터 응답에 실리는 대사 목록용, 대사의 장면/캐릭터는 응답에서 제외됨)
+     */
+    @Query("SELECT new com.jwyoo.api.dto.VersionStamp(COUNT(d), SUM(d.id), MAX(d.updatedAt)) " +
+           "FROM Dialogue d WHERE d.character.characterId IN :characterIds")
+    VersionStamp findStampByCharacterIdIn(@Param("characterIds") Collection<String> characterIds);
+}
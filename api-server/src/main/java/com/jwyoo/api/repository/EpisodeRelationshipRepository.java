@@ -3,6 +3,10 @@ package com.jwyoo.api.repository;
 import com.jwyoo.api.entity.EpisodeRelationship;
 import com.jwyoo.api.entity.Episode;
 import com.jwyoo.api.entity.Project;
+import com.jwyoo.api.graph.dto.EpisodeGraphEdgeRow;
+import com.jwyoo.api.graph.dto.RelationshipSyncRow;
+import com.jwyoo.api.graph.dto.TimelineEdgeRow;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -68,4 +72,49 @@ public interface EpisodeRelationshipRepository extends JpaRepository<EpisodeRela
         @Param("episodeId") Long episodeId,
         @Param("project") Project project
     );
+
+    /**
+     * 에피소드 관계 그래프용 프로젝션 (양 끝 캐릭터 id/이름을 조인으로 함께 읽어 관계마다 캐릭터를 지연 로딩하지 않음)
+     */
+    @Query("SELECT new com.jwyoo.api.graph.dto.EpisodeGraphEdgeRow(" +
+           "er.id, fc.id, fc.name, tc.id, tc.name, er.relationType, er.closeness) " +
+           "FROM EpisodeRelationship er JOIN er.fromCharacter fc JOIN er.toCharacter tc " +
+           "WHERE er.episode.id = :episodeId AND er.episode.project.id = :projectId ORDER BY er.id ASC")
+    List<EpisodeGraphEdgeRow> findGraphEdgeRows(@Param("episodeId") Long episodeId, @Param("projectId") Long projectId);
+
+    /**
+     * Neo4j 일괄 동기화용 키셋 페이지 조회 (id > afterId, id 오름차순)
+     * 양 끝 캐릭터는 FK 값만 읽어 Character 엔티티를 로딩하지 않음
+     */
+    @Query("SELECT new com.jwyoo.api.graph.dto.RelationshipSyncRow(" +
+           "er.id, er.episode.project.id, er.episode.id, er.fromCharacter.id, er.toCharacter.id, " +
+           "er.relationType, er.closeness, er.description) " +
+           "FROM EpisodeRelationship er WHERE er.id > :afterId ORDER BY er.id ASC")
+    List<RelationshipSyncRow> findSyncRowsAfter(@Param("afterId") Long afterId, Pageable pageable);
+
+    /**
+     * 프로젝트 범위 Neo4j 동기화용 프로젝션 (키셋 페이지네이션)
+     */
+    @Query("SELECT new com.jwyoo.api.graph.dto.RelationshipSyncRow(" +
+           "er.id, er.episode.project.id, er.episode.id, er.fromCharacter.id, er.toCharacter.id, " +
+           "er.relationType, er.closeness, er.description) " +
+           "FROM EpisodeRelationship er WHERE er.episode.project.id = :projectId AND er.id > :afterId ORDER BY er.id ASC")
+    List<RelationshipSyncRow> findSyncRowsByProjectAfter(
+        @Param("projectId") Long projectId, @Param("afterId") Long afterId, Pageable pageable);
+
+    /**
+     * 타임라인 스냅샷용 프로젝트 전체 관계 프로젝션
+     */
+    @Query("SELECT new com.jwyoo.api.graph.dto.TimelineEdgeRow(" +
+           "er.id, er.episode.id, er.fromCharacter.id, er.toCharacter.id, er.relationType, er.closeness, er.description) " +
+           "FROM EpisodeRelationship er WHERE er.episode.project.id = :projectId ORDER BY er.id ASC")
+    List<TimelineEdgeRow> findTimelineRowsByProjectId(@Param("projectId") Long projectId);
+
+    /**
+     * 타임라인 스냅샷용 단일 에피소드 관계 프로젝션 (증분 갱신)
+     */
+    @Query("SELECT new com.jwyoo.api.graph.dto.TimelineEdgeRow(" +
+           "er.id, er.episode.id, er.fromCharacter.id, er.toCharacter.id, er.relationType, er.closeness, er.description) " +
+           "FROM EpisodeRelationship er WHERE er.episode.id = :episodeId ORDER BY er.id ASC")
+    List<TimelineEdgeRow> findTimelineRowsByEpisodeId(@Param("episodeId") Long episodeId);
 }
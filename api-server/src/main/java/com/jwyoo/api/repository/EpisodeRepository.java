@@ -1,11 +1,18 @@
 package com.jwyoo.api.repository;
 
+import com.jwyoo.api.dto.EpisodeListItem;
+import com.jwyoo.api.dto.VersionStamp;
 import com.jwyoo.api.entity.Episode;
 import com.jwyoo.api.entity.Project;
+import com.jwyoo.api.graph.dto.TimelineEpisodeRow;
+import com.jwyoo.api.graph.dto.EpisodeGraphRow;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -30,4 +37,64 @@ public interface EpisodeRepository extends JpaRepository<Episode, Long> {
 
     @EntityGraph(attributePaths = {"scenes"})
     Optional<Episode> findWithScenesByIdAndProject(Long id, Project project);
-}
\ No newline at end of file
+
+    /**
+     * 에피소드 목록 프로젝션 (생성일 기준 최신순)
+     * 분석 결과와 장면 컬렉션을 읽지 않는다.
+     */
+    @Query("SELECT new com.jwyoo.api.dto.EpisodeListItem(" +
+           "e.id, e.title, e.description, e.episodeOrder, e.scriptText, e.scriptFormat, " +
+           "e.analysisStatus, e.llmProvider, e.createdAt, e.updatedAt) " +
+           "FROM Episode e WHERE e.project.id = :projectId ORDER BY e.createdAt DESC")
+    List<EpisodeListItem> findListItemsByProjectId(@Param("projectId") Long projectId);
+
+    /**
+     * 타임라인 스냅샷용 에피소드 순서 프로젝션
+     */
+    @Query("SELECT new com.jwyoo.api.graph.dto.TimelineEpisodeRow(e.id, e.episodeOrder, e.title) " +
+           "FROM Episode e WHERE e.project.id = :projectId ORDER BY e.episodeOrder ASC, e.id ASC")
+    List<TimelineEpisodeRow> findTimelineRowsByProjectId(@Param("projectId") Long projectId);
+
+    /**
+     * 그래프 Episode 노드 동기화용 프로젝션 (삭제된 에피소드는 결과에 없음)
+     */
+    @Query("SELECT new com.jwyoo.api.graph.dto.EpisodeGraphRow(e.id, e.project.id, e.title, e.episodeOrder) " +
+           "FROM Episode e WHERE e.id IN :ids")
+    List<EpisodeGraphRow> findGraphRowsByIdIn(@Param("ids") Collection<Long> ids);
+
+    /**
+     * 프로젝트의 에피소드 ID (그래프 Episode 노드 전체 재동기화용)
+     */
+    @Query("SELECT e.id FROM Episode e WHERE e.project.id = :projectId")
+    List<Long> findIdsByProjectId(@Param("projectId") Long projectId);
+
+    // ===== 응답 버전 (ETag/Last-Modified) =====
+
+    /**
+     * 프로젝트 에피소드 목록의 버전 (목록 항목은 에피소드 컬럼만 담음)
+     */
+    @Query("SELECT new com.jwyoo.api.dto.VersionStamp(COUNT(e), SUM(e.id), MAX(e.updatedAt)) " +
+           "FROM Episode e WHERE e.project.id = :projectId")
+    VersionStamp findListStampByProjectId(@Param("projectId") Long projectId);
+
+    /**
+     * 에피소드와 (응답에 함께 실리는) 프로젝트의 버전, 다른 프로젝트의 에피소드면 빈 값
+     */
+    @Query("SELECT new com.jwyoo.api.dto.VersionStamp(COUNT(e), SUM(e.id), MAX(e.updatedAt), MAX(p.updatedAt)) " +
+           "FROM Episode e JOIN e.project p WHERE e.id = :id AND p.id = :projectId")
+    VersionStamp findStampByIdAndProjectId(@Param("id") Long id, @Param("projectId") Long projectId);
+
+    /**
+     * 에피소드와 프로젝트의 버전 (프로젝트 확인 없이 조회하는 장면 API용)
+     */
+    @Query("SELECT new com.jwyoo.api.dto.VersionStamp(COUNT(e), SUM(e.id), MAX(e.updatedAt), MAX(p.updatedAt)) " +
+           "FROM Episode e JOIN e.project p WHERE e.id = :id")
+    VersionStamp findStampById(@Param("id") Long id);
+
+    /**
+     * 장면이 속한 에피소드와 프로젝트의 버전
+     */
+    @Query("SELECT new com.jwyoo.api.dto.VersionStamp(COUNT(e), SUM(e.id), MAX(e.updatedAt), MAX(p.updatedAt)) " +
+           "FROM Scene s JOIN s.episode e JOIN e.project p WHERE s.id = :sceneId")
+    VersionStamp findStampBySceneId(@Param("sceneId") Long sceneId);
+}
@@ -31,6 +31,17 @@ public interface RagVectorRepository extends JpaRepository<RagVector, Long> {
      */
     void deleteBySourceTypeAndSourceId(String sourceType, Long sourceId);
 
+    /**
+     * 프로젝트 개념 임베딩 조회 (개념 유사도 관계 계산용)
+     */
+    @Query("""
+        SELECT r FROM RagVector r
+        WHERE r.sourceType = 'concept'
+          AND r.sourceId IN (SELECT c.id FROM Concept c WHERE c.project.id = :projectId)
+        ORDER BY r.sourceId
+        """)
+    List<RagVector> findConceptVectorsByProjectId(@Param("projectId") Long projectId);
+
     /**
      * 벡터 유사도 검색 (Cosine Distance)
      *
@@ -1,13 +1,16 @@
 package com.jwyoo.api.repository;
 
+import com.jwyoo.api.dto.VersionStamp;
 import com.jwyoo.api.entity.Scene;
 import com.jwyoo.api.entity.Project;
+import com.jwyoo.api.graph.dto.SceneGraphRow;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -40,4 +43,34 @@ public interface SceneRepository extends JpaRepository<Scene, Long> {
     @EntityGraph(attributePaths = {"dialogues"})
     @Query("SELECT s FROM Scene s WHERE s.episode.id = :episodeId AND s.episode.project = :project ORDER BY s.sceneNumber ASC")
     List<Scene> findWithDialoguesByEpisodeIdAndProject(@Param("episodeId") Long episodeId, @Param("project") Project project);
-}
\ No newline at end of file
+
+    /**
+     * 그래프 Scene 노드 동기화용 프로젝션
+     */
+    @Query("SELECT new com.jwyoo.api.graph.dto.SceneGraphRow(s.id, s.episode.id, s.sceneNumber, s.location, s.mood) " +
+           "FROM Scene s WHERE s.episode.id IN :episodeIds")
+    List<SceneGraphRow> findGraphRowsByEpisodeIdIn(@Param("episodeIds") Collection<Long> episodeIds);
+
+    // ===== 응답 버전 (ETag/Last-Modified) =====
+
+    @Query("SELECT new com.jwyoo.api.dto.VersionStamp(COUNT(s), SUM(s.id), MAX(s.updatedAt)) " +
+           "FROM Scene s WHERE s.episode.id = :episodeId")
+    VersionStamp findStampByEpisodeId(@Param("episodeId") Long episodeId);
+
+    @Query("SELECT new com.jwyoo.api.dto.VersionStamp(COUNT(s), SUM(s.id), MAX(s.updatedAt)) " +
+           "FROM Scene s WHERE s.id = :id")
+    VersionStamp findStampById(@Param("id") Long id);
+
+    /**
+     * 대사가 속한 장면의 버전
+     */
+    @Query("SELECT new com.jwyoo.api.dto.VersionStamp(COUNT(s), SUM(s.id), MAX(s.updatedAt)) " +
+           "FROM Dialogue d JOIN d.scene s WHERE d.id = :dialogueId")
+    VersionStamp findStampByDialogueId(@Param("dialogueId") Long dialogueId);
+
+    /**
+     * 장면 참여 캐릭터 ID 문자열 (장면 엔티티를 읽지 않고 참여자 버전을 구할 때 사용)
+     */
+    @Query("SELECT s.participants FROM Scene s WHERE s.id = :id")
+    String findParticipantsById(@Param("id") Long id);
+}
@@ -1,5 +1,7 @@
 package com.jwyoo.api.service;
 
+import com.jwyoo.api.cache.ProjectCacheRegions;
+import com.jwyoo.api.dto.CharacterListItem;
 import com.jwyoo.api.entity.Character;
 import com.jwyoo.api.entity.Project;
 import com.jwyoo.api.exception.ResourceNotFoundException;
@@ -7,7 +9,6 @@ import com.jwyoo.api.repository.CharacterRepository;
 import com.jwyoo.api.repository.ProjectRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -24,19 +25,25 @@ import java.util.List;
 @Transactional(readOnly = true)
 public class CharacterService {
 
+    private static final String CHARACTERS_CACHE = "characters";
+
     private final CharacterRepository characterRepository;
     private final ProjectRepository projectRepository;
     private final ProjectService projectService;
+    private final ProjectCacheRegions projectCacheRegions;
 
     /**
      * 모든 캐릭터 조회 (프로젝트별)
      * Task 90: Redis 캐싱 적용 - 10분 TTL
+     * 캐시 값은 엔티티가 아닌 목록 항목 DTO
+     * 키는 프로젝트 영역(p{프로젝트ID}:)에 속하며 같은 프로젝트의 쓰기에만 무효화된다.
+     * sync: 미스 시 같은 키의 동시 요청은 한 번만 조회하고, 소프트 만료된 값은 응답 후 백그라운드에서 갱신한다.
      */
-    @Cacheable(value = "characters", key = "#root.method.name + '_' + @projectService.getCurrentProject().id")
-    public List<Character> getAllCharacters() {
-        Project currentProject = projectService.getCurrentProject();
-        log.debug("Fetching all characters for project: {} (from DB, not cache)", currentProject.getId());
-        List<Character> characters = characterRepository.findByProject(currentProject);
+    @Cacheable(value = CHARACTERS_CACHE, keyGenerator = "projectKeyGenerator", sync = true)
+    public List<CharacterListItem> getAllCharacters() {
+        Long projectId = projectService.getCurrentProjectId();
+        log.debug("Fetching all characters for project: {} (from DB, not cache)", projectId);
+        List<CharacterListItem> characters = characterRepository.findListItemsByProjectId(projectId);
         log.info("Fetched {} characters", characters.size());
         return characters;
     }
@@ -74,10 +81,9 @@ public class CharacterService {
 
     /**
      * 새로운 캐릭터 생성 (현재 프로젝트에 자동 연결)
-     * Task 90: 캐시 무효화
+     * Task 90: 캐시 무효화 (현재 프로젝트 영역만)
      */
     @Transactional
-    @CacheEvict(value = "characters", allEntries = true)
     public Character createCharacter(Character character) {
         Project currentProject = projectService.getCurrentProject();
         log.info("Creating new character: characterId={}, name={}, project={}",
@@ -93,6 +99,7 @@ public class CharacterService {
         character.setProject(currentProject);
 
         Character saved = characterRepository.save(character);
+        projectCacheRegions.evict(CHARACTERS_CACHE, currentProject.getId());
         log.info("Character created successfully: id={}, characterId={}, name={}",
             saved.getId(), saved.getCharacterId(), saved.getName());
         return saved;
@@ -100,10 +107,9 @@ public class CharacterService {
 
     /**
      * 캐릭터 정보 수정 (프로젝트별)
-     * Task 90: 캐시 무효화
+     * Task 90: 캐시 무효화 (현재 프로젝트 영역만)
      */
     @Transactional
-    @CacheEvict(value = "characters", allEntries = true)
     public Character updateCharacter(Long id, Character character) {
         log.info("Updating character: id={}, newName={}", id, character.getName());
         Character existing = getCharacterById(id); // 이미 프로젝트 확인 포함
@@ -120,6 +126,7 @@ public class CharacterService {
         existing.setToneKeywords(character.getToneKeywords());
 
         Character updated = characterRepository.save(existing);
+        projectCacheRegions.evict(CHARACTERS_CACHE, existing.getProject().getId());
         log.info("Character updated successfully: id={}, name: {} -> {}",
             id, oldName, updated.getName());
         return updated;
@@ -127,10 +134,9 @@ public class CharacterService {
 
     /**
      * 캐릭터 삭제 (프로젝트별)
-     * Task 90: 캐시 무효화
+     * Task 90: 캐시 무효화 (현재 프로젝트 영역만)
      */
     @Transactional
-    @CacheEvict(value = "characters", allEntries = true)
     public void deleteCharacter(Long id) {
         log.info("Deleting character: id={}", id);
 
@@ -139,15 +145,15 @@ public class CharacterService {
             id, character.getCharacterId(), character.getName());
 
         characterRepository.delete(character);
+        projectCacheRegions.evict(CHARACTERS_CACHE, character.getProject().getId());
         log.info("Character deleted successfully: id={}", id);
     }
 
     /**
      * 말투 프로필 수정
-     * Task 90: 캐시 무효화
+     * Task 90: 캐시 무효화 (현재 프로젝트 영역만)
      */
     @Transactional
-    @CacheEvict(value = "characters", allEntries = true)
     public Character updateSpeakingProfile(Long id, Character profileUpdate) {
         log.info("Updating speaking profile for character: id={}", id);
         Character existing = getCharacterById(id);
@@ -165,6 +171,7 @@ public class CharacterService {
         existing.setSentencePatterns(profileUpdate.getSentencePatterns());
 
         Character updated = characterRepository.save(existing);
+        projectCacheRegions.evict(CHARACTERS_CACHE, existing.getProject().getId());
         log.info("Speaking profile updated successfully for character: id={}, name={}",
             id, updated.getName());
         return updated;
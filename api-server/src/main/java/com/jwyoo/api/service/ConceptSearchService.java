@@ -0,0 +1,256 @@
+package com.jwyoo.api.service;
+
+import com.jwyoo.api.dto.ConceptResponse;
+import com.jwyoo.api.entity.Concept;
+import com.jwyoo.api.entity.RagVector;
+import com.jwyoo.api.graph.dto.ConceptNeighborView;
+import com.jwyoo.api.graph.repository.GraphReadRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 개념 검색 서비스 (GraphDB 관계 + VectorDB 의미 유사도)
+ * 그래프/벡터 두 검색을 동시에 실행하고, 결과 개념은 RDB에서 한 번에(findAllById) 조회한 뒤
+ * 가중 Reciprocal Rank Fusion으로 하나의 점수 목록으로 병합
+ *
+ * score(c) = graphWeight / (rrfK + graphRank(c)) + vectorWeight / (rrfK + vectorRank(c))  (순위는 1부터, 없으면 0점)
+ */
+@Slf4j
+@Service
+public class ConceptSearchService {
+
+    /**
+     * 병합 결과 개념 (순위는 해당 검색에 없으면 null)
+     */
+    public record ScoredConcept(
+        ConceptResponse concept,
+        double score,
+        Integer graphRank,
+        Double graphSimilarity,
+        Integer vectorRank
+    ) {
+    }
+
+    /**
+     * 하이브리드 검색 결과
+     *
+     * @param graphRelated  GraphDB RELATES_TO 유사도 순
+     * @param vectorSimilar VectorDB 의미 유사도 순 (conceptId, textChunk)
+     * @param results       두 검색 순위를 병합한 점수 순
+     */
+    public record HybridResult(
+        ConceptResponse concept,
+        List<ConceptResponse> graphRelated,
+        List<Map<String, Object>> vectorSimilar,
+        List<ScoredConcept> results
+    ) {
+    }
+
+    /**
+     * 순위 병합 결과 (RDB ID 기준, 순위는 1부터)
+     */
+    record FusedRank(Long conceptId, double score, Integer graphRank, Integer vectorRank) {
+    }
+
+    private final ConceptService conceptService;
+    private final RagVectorService ragVectorService;
+    private final GraphReadRepository graphReadRepository;
+    private final double rrfK;
+    private final double graphWeight;
+    private final double vectorWeight;
+    private final ExecutorService executor;
+
+    public ConceptSearchService(
+            ConceptService conceptService,
+            RagVectorService ragVectorService,
+            GraphReadRepository graphReadRepository,
+            @Value("${concept.search.rrf-k:60}") double rrfK,
+            @Value("${concept.search.graph-weight:1.0}") double graphWeight,
+            @Value("${concept.search.vector-weight:1.0}") double vectorWeight,
+            @Value("${concept.search.threads:8}") int threads
+    ) {
+        this.conceptService = conceptService;
+        this.ragVectorService = ragVectorService;
+        this.graphReadRepository = graphReadRepository;
+        this.rrfK = Math.max(0.0, rrfK);
+        this.graphWeight = Math.max(0.0, graphWeight);
+        this.vectorWeight = Math.max(0.0, vectorWeight);
+
+        AtomicInteger sequence = new AtomicInteger();
+        this.executor = Executors.newFixedThreadPool(Math.max(2, threads), runnable -> {
+            Thread thread = new Thread(runnable, "concept-search-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * 유사한 개념 (GraphDB RELATES_TO 유사도 순)
+     */
+    public List<ConceptResponse> findSimilar(Long conceptId, double minSimilarity, int limit) {
+        conceptService.getConceptById(conceptId);
+
+        List<Long> ids = graphReadRepository.findSimilarConcepts(conceptId, minSimilarity, limit).stream()
+            .map(ConceptNeighborView::rdbId)
+            .toList();
+        return hydrate(ids);
+    }
+
+    /**
+     * 중요도 상위 개념
+     */
+    public List<ConceptResponse> findTop(Long projectId, int limit) {
+        return hydrate(graphReadRepository.findTopConceptIds(projectId, limit));
+    }
+
+    /**
+     * 에피소드에 속한 개념 (GraphDB CONTAINS 관계, 중요도 순)
+     */
+    public List<ConceptResponse> findByEpisode(Long episodeId) {
+        return hydrate(graphReadRepository.findEpisodeConceptIds(episodeId));
+    }
+
+    /**
+     * 캐릭터가 등장한 에피소드의 개념 (GraphDB RELATES_TO 관계, 대사 수 순)
+     */
+    public List<ConceptResponse> findByCharacter(Long characterId, int limit) {
+        return hydrate(graphReadRepository.findCharacterConceptIds(characterId, limit));
+    }
+
+    /**
+     * 하이브리드 검색: 그래프 관계 검색과 벡터 의미 검색을 동시에 실행 후 병합
+     */
+    public HybridResult hybridSearch(Long conceptId, double minSimilarity, int limit) {
+        Concept concept = conceptService.getConceptById(conceptId);
+        Long projectId = concept.getProject().getId();
+        String searchQuery = concept.getName() + ": " + concept.getDescription();
+
+        CompletableFuture<List<ConceptNeighborView>> graphSearch = CompletableFuture.supplyAsync(
+            () -> graphReadRepository.findSimilarConcepts(conceptId, minSimilarity, limit), executor);
+        // 자기 자신이 포함되어 돌아오므로 하나 더 조회
+        CompletableFuture<List<RagVector>> vectorSearch = CompletableFuture.supplyAsync(
+            () -> ragVectorService.searchSimilarByType(searchQuery, "concept", limit + 1), executor);
+
+        List<ConceptNeighborView> graphHits = join(graphSearch);
+        List<RagVector> vectorHits = join(vectorSearch).stream()
+            .filter(vector -> !vector.getSourceId().equals(conceptId))
+            .toList();
+
+        Set<Long> ids = new LinkedHashSet<>();
+        graphHits.forEach(hit -> ids.add(hit.rdbId()));
+        vectorHits.forEach(vector -> ids.add(vector.getSourceId()));
+
+        // 벡터 검색은 프로젝트 구분이 없으므로 같은 프로젝트 개념만 남김
+        Map<Long, ConceptResponse> concepts = hydrate(new ArrayList<>(ids)).stream()
+            .filter(response -> projectId.equals(response.getProjectId()))
+            .collect(Collectors.toMap(ConceptResponse::getId, Function.identity(), (a, b) -> a, LinkedHashMap::new));
+
+        List<ConceptNeighborView> graphRanked = graphHits.stream()
+            .filter(hit -> concepts.containsKey(hit.rdbId()))
+            .toList();
+        List<RagVector> vectorRanked = vectorHits.stream()
+            .filter(vector -> concepts.containsKey(vector.getSourceId()))
+            .limit(limit)
+            .toList();
+
+        Map<Long, Double> graphSimilarity = new LinkedHashMap<>();
+        graphRanked.forEach(hit -> graphSimilarity.putIfAbsent(hit.rdbId(), hit.similarity()));
+
+        List<ScoredConcept> results = fuse(
+                graphRanked.stream().map(ConceptNeighborView::rdbId).toList(),
+                vectorRanked.stream().map(RagVector::getSourceId).toList())
+            .stream()
+            .limit(limit)
+            .map(rank -> new ScoredConcept(concepts.get(rank.conceptId()), rank.score(),
+                rank.graphRank(), graphSimilarity.get(rank.conceptId()), rank.vectorRank()))
+            .toList();
+
+        List<ConceptResponse> graphRelated = graphRanked.stream()
+            .map(hit -> concepts.get(hit.rdbId()))
+            .distinct()
+            .toList();
+        List<Map<String, Object>> vectorSimilar = vectorRanked.stream()
+            .map(vector -> Map.<String, Object>of(
+                "conceptId", vector.getSourceId(),
+                "textChunk", vector.getTextChunk()))
+            .toList();
+
+        log.info("Hybrid concept search: conceptId={}, graph={}, vector={}, fused={}",
+            conceptId, graphRelated.size(), vectorSimilar.size(), results.size());
+        return new HybridResult(ConceptResponse.from(concept), graphRelated, vectorSimilar, results);
+    }
+
+    /**
+     * 두 순위 목록을 가중 RRF로 병합 (점수 내림차순, 동점이면 더 높은 순위가 먼저)
+     * 같은 목록에 중복된 ID는 첫 순위만 사용
+     */
+    List<FusedRank> fuse(List<Long> graphIds, List<Long> vectorIds) {
+        Map<Long, Integer> graphRanks = ranks(graphIds);
+        Map<Long, Integer> vectorRanks = ranks(vectorIds);
+
+        Set<Long> ids = new LinkedHashSet<>(graphRanks.keySet());
+        ids.addAll(vectorRanks.keySet());
+
+        return ids.stream()
+            .map(id -> {
+                Integer graphRank = graphRanks.get(id);
+                Integer vectorRank = vectorRanks.get(id);
+                double score = (graphRank != null ? graphWeight / (rrfK + graphRank) : 0.0)
+                    + (vectorRank != null ? vectorWeight / (rrfK + vectorRank) : 0.0);
+                return new FusedRank(id, score, graphRank, vectorRank);
+            })
+            .sorted(Comparator.comparingDouble(FusedRank::score).reversed()
+                .thenComparingInt(rank -> Math.min(
+                    Objects.requireNonNullElse(rank.graphRank(), Integer.MAX_VALUE),
+                    Objects.requireNonNullElse(rank.vectorRank(), Integer.MAX_VALUE))))
+            .toList();
+    }
+
+    private static Map<Long, Integer> ranks(List<Long> ids) {
+        Map<Long, Integer> ranks = new LinkedHashMap<>();
+        for (Long id : ids) {
+            ranks.putIfAbsent(id, ranks.size() + 1);
+        }
+        return ranks;
+    }
+
+    private List<ConceptResponse> hydrate(List<Long> ids) {
+        return conceptService.getConceptsByIds(ids).stream()
+            .map(ConceptResponse::from)
+            .toList();
+    }
+
+    private static <T> T join(CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+}
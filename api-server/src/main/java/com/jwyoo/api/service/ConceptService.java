@@ -10,6 +10,10 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Slf4j
 @Service
@@ -38,6 +42,23 @@ public class ConceptService {
             .orElseThrow(() -> new IllegalArgumentException("Concept not found: id=" + id));
     }
 
+    /**
+     * ID 목록으로 일괄 조회 (한 번의 IN 쿼리, 요청한 ID 순서 유지, 없는 ID는 제외)
+     */
+    @Transactional(readOnly = true)
+    public List<Concept> getConceptsByIds(List<Long> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, Concept> byId = conceptRepository.findAllById(ids).stream()
+            .collect(Collectors.toMap(Concept::getId, Function.identity()));
+        return ids.stream()
+            .distinct()
+            .map(byId::get)
+            .filter(Objects::nonNull)
+            .toList();
+    }
+
     /**
      * 프로젝트별 개념 조회
      */
@@ -0,0 +1,219 @@
+package com.jwyoo.api.service;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Arrays;
+
+/**
+ * OpenAI 임베딩 응답 스트리밍 파서
+ * 응답 JSON의 data[].embedding 배열을 List&lt;Double&gt; 없이 스레드별 float[] 버퍼로 직접 파싱
+ *
+ * 숫자 토큰도 Jackson 내부 문자 버퍼에서 바로 변환하므로 원소당 할당이 발생하지 않는다.
+ * Sink에 전달되는 버퍼는 같은 스레드의 다음 파싱에서 재사용되므로 콜백 안에서만 유효하다.
+ */
+public class EmbeddingResponseParser {
+
+    /**
+     * ada-002 / text-embedding-3-small 기본 차원
+     */
+    static final int DEFAULT_DIMENSIONS = 1536;
+
+    private static final ThreadLocal<float[]> BUFFER =
+            ThreadLocal.withInitial(() -> new float[DEFAULT_DIMENSIONS]);
+
+    private static final double[] POWERS_OF_TEN = new double[23];
+
+    static {
+        POWERS_OF_TEN[0] = 1.0;
+        for (int i = 1; i < POWERS_OF_TEN.length; i++) {
+            POWERS_OF_TEN[i] = POWERS_OF_TEN[i - 1] * 10.0;
+        }
+    }
+
+    /**
+     * 파싱된 임베딩을 받는 콜백
+     */
+    @FunctionalInterface
+    public interface Sink {
+
+        /**
+         * @param index 요청 입력 순서 (data[].index)
+         * @param vector 스레드별 재사용 버퍼 (앞쪽 dimensions 개만 유효)
+         * @param dimensions 벡터 차원
+         */
+        void accept(int index, float[] vector, int dimensions);
+    }
+
+    private final JsonFactory jsonFactory;
+
+    public EmbeddingResponseParser(JsonFactory jsonFactory) {
+        this.jsonFactory = jsonFactory;
+    }
+
+    /**
+     * 임베딩 응답을 파싱하여 각 벡터를 Sink로 전달
+     *
+     * @param body 응답 본문 스트림
+     * @param sink 벡터 콜백
+     * @return 파싱된 임베딩 개수
+     */
+    public int parse(InputStream body, Sink sink) throws IOException {
+        try (JsonParser parser = jsonFactory.createParser(body)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new IOException("Unexpected embedding response: expected JSON object");
+            }
+
+            int count = 0;
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                JsonToken value = parser.nextToken();
+
+                if ("data".equals(field) && value == JsonToken.START_ARRAY) {
+                    count = readData(parser, sink);
+                } else if ("error".equals(field) && value == JsonToken.START_OBJECT) {
+                    throw new IOException("Embedding provider returned error: " + readErrorMessage(parser));
+                } else {
+                    parser.skipChildren();
+                }
+            }
+            return count;
+        }
+    }
+
+    private int readData(JsonParser parser, Sink sink) throws IOException {
+        int ordinal = 0;
+        while (parser.nextToken() == JsonToken.START_OBJECT) {
+            // OpenAI는 index를 embedding보다 먼저 내려주지만, 없으면 배열 순서를 사용
+            int index = ordinal;
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                JsonToken value = parser.nextToken();
+
+                if ("index".equals(field) && value == JsonToken.VALUE_NUMBER_INT) {
+                    index = parser.getIntValue();
+                } else if ("embedding".equals(field) && value == JsonToken.START_ARRAY) {
+                    int dimensions = readVector(parser);
+                    sink.accept(index, BUFFER.get(), dimensions);
+                } else {
+                    parser.skipChildren();
+                }
+            }
+            ordinal++;
+        }
+        return ordinal;
+    }
+
+    private int readVector(JsonParser parser) throws IOException {
+        float[] buffer = BUFFER.get();
+        int length = 0;
+
+        JsonToken token;
+        while ((token = parser.nextToken()) != JsonToken.END_ARRAY) {
+            if (token != JsonToken.VALUE_NUMBER_FLOAT && token != JsonToken.VALUE_NUMBER_INT) {
+                throw new IOException("Unexpected token in embedding array: " + token);
+            }
+            if (length == buffer.length) {
+                buffer = Arrays.copyOf(buffer, buffer.length * 2);
+                BUFFER.set(buffer);
+            }
+            buffer[length++] = parseFloat(parser.getTextCharacters(), parser.getTextOffset(), parser.getTextLength());
+        }
+        return length;
+    }
+
+    private String readErrorMessage(JsonParser parser) throws IOException {
+        String message = null;
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            parser.nextToken();
+            if ("message".equals(field)) {
+                message = parser.getValueAsString();
+            } else {
+                parser.skipChildren();
+            }
+        }
+        return message != null ? message : "unknown error";
+    }
+
+    /**
+     * JSON 숫자 문자열을 할당 없이 float로 변환
+     * 유효숫자 18자리까지 long 가수로 누적 후 10의 거듭제곱으로 스케일링 (임베딩 정밀도에 충분)
+     */
+    static float parseFloat(char[] chars, int offset, int length) {
+        int i = offset;
+        int end = offset + length;
+
+        boolean negative = false;
+        if (i < end && (chars[i] == '-' || chars[i] == '+')) {
+            negative = chars[i] == '-';
+            i++;
+        }
+
+        long mantissa = 0;
+        int digits = 0;
+        int exponent = 0;
+
+        for (; i < end && chars[i] >= '0' && chars[i] <= '9'; i++) {
+            if (digits < 18) {
+                mantissa = mantissa * 10 + (chars[i] - '0');
+                if (mantissa != 0) {
+                    digits++;
+                }
+            } else {
+                exponent++;
+            }
+        }
+
+        if (i < end && chars[i] == '.') {
+            i++;
+            for (; i < end && chars[i] >= '0' && chars[i] <= '9'; i++) {
+                if (digits < 18) {
+                    mantissa = mantissa * 10 + (chars[i] - '0');
+                    if (mantissa != 0) {
+                        digits++;
+                    }
+                    exponent--;
+                }
+            }
+        }
+
+        if (i < end && (chars[i] == 'e' || chars[i] == 'E')) {
+            i++;
+            boolean negativeExponent = false;
+            if (i < end && (chars[i] == '-' || chars[i] == '+')) {
+                negativeExponent = chars[i] == '-';
+                i++;
+            }
+            int explicitExponent = 0;
+            for (; i < end && chars[i] >= '0' && chars[i] <= '9'; i++) {
+                if (explicitExponent < 1000) {
+                    explicitExponent = explicitExponent * 10 + (chars[i] - '0');
+                }
+            }
+            exponent += negativeExponent ? -explicitExponent : explicitExponent;
+        }
+
+        double value = mantissa;
+        if (exponent < 0) {
+            int scale = -exponent;
+            while (scale >= POWERS_OF_TEN.length) {
+                value /= POWERS_OF_TEN[POWERS_OF_TEN.length - 1];
+                scale -= POWERS_OF_TEN.length - 1;
+            }
+            value /= POWERS_OF_TEN[scale];
+        } else if (exponent > 0) {
+            int scale = exponent;
+            while (scale >= POWERS_OF_TEN.length) {
+                value *= POWERS_OF_TEN[POWERS_OF_TEN.length - 1];
+                scale -= POWERS_OF_TEN.length - 1;
+            }
+            value *= POWERS_OF_TEN[scale];
+        }
+
+        return (float) (negative ? -value : value);
+    }
+}
@@ -1,32 +1,51 @@
 package com.jwyoo.api.service;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.pgvector.PGvector;
-import com.theokanning.openai.embedding.EmbeddingRequest;
-import com.theokanning.openai.service.OpenAiService;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.client.SimpleClientHttpRequestFactory;
 import org.springframework.stereotype.Service;
+import org.springframework.web.client.RestClient;
+import org.springframework.web.client.RestClientException;
 
+import java.io.IOException;
 import java.time.Duration;
+import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 
 @Slf4j
 @Service
 public class EmbeddingService {
 
-    private final OpenAiService openAiService;
+    private final RestClient restClient;
+    private final EmbeddingResponseParser responseParser;
     private final String embeddingModel;
 
     public EmbeddingService(
             @Value("${openai.api-key:}") String apiKey,
-            @Value("${openai.embedding-model:text-embedding-ada-002}") String embeddingModel
+            @Value("${openai.embedding-model:text-embedding-ada-002}") String embeddingModel,
+            @Value("${openai.base-url:https://api.openai.com/v1}") String baseUrl,
+            ObjectMapper objectMapper
     ) {
         if (apiKey == null || apiKey.isBlank()) {
             log.warn("OpenAI API key not configured");
-            this.openAiService = null;
+            this.restClient = null;
         } else {
-            this.openAiService = new OpenAiService(apiKey, Duration.ofSeconds(30));
+            SimpleClientHttpRequestFactory requestFactory = new SimpleClientHttpRequestFactory();
+            requestFactory.setConnectTimeout(Duration.ofSeconds(10));
+            requestFactory.setReadTimeout(Duration.ofSeconds(30));
+
+            this.restClient = RestClient.builder()
+                    .baseUrl(baseUrl)
+                    .requestFactory(requestFactory)
+                    .defaultHeader(HttpHeaders.AUTHORIZATION, "Bearer " + apiKey)
+                    .build();
         }
+        this.responseParser = new EmbeddingResponseParser(objectMapper.getFactory());
         this.embeddingModel = embeddingModel;
     }
 
@@ -35,33 +54,53 @@ public class EmbeddingService {
             return createDummyVector();
         }
 
-        if (openAiService == null) {
+        if (restClient == null) {
             return createDummyVector();
         }
 
         try {
-            EmbeddingRequest request = EmbeddingRequest.builder()
-                    .model(embeddingModel)
-                    .input(List.of(text))
-                    .build();
+            float[][] result = new float[1][];
+            requestEmbeddings(List.of(text), (index, vector, dimensions) ->
+                    result[0] = Arrays.copyOf(vector, dimensions));
 
-            var result = openAiService.createEmbeddings(request);
-            List<Double> embedding = result.getData().get(0).getEmbedding();
-
-            float[] primitiveArray = new float[embedding.size()];
-            for (int i = 0; i < embedding.size(); i++) {
-                primitiveArray[i] = embedding.get(i).floatValue();
+            if (result[0] == null) {
+                log.error("Embedding response contained no vectors");
+                return createDummyVector();
             }
-
-            return new PGvector(primitiveArray);
+            return new PGvector(result[0]);
         } catch (Exception e) {
             log.error("Failed to create embedding", e);
             return createDummyVector();
         }
     }
 
+    private int requestEmbeddings(List<String> texts, EmbeddingResponseParser.Sink sink) {
+        Map<String, Object> body = Map.of(
+                "model", embeddingModel,
+                "input", texts,
+                "encoding_format", "float"
+        );
+
+        Integer count = restClient.post()
+                .uri("/embeddings")
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(body)
+                .exchange((request, response) -> {
+                    if (response.getStatusCode().isError()) {
+                        throw new RestClientException("Embedding request failed: status=" + response.getStatusCode());
+                    }
+                    try {
+                        return responseParser.parse(response.getBody(), sink);
+                    } catch (IOException e) {
+                        throw new RestClientException("Failed to parse embedding response", e);
+                    }
+                });
+
+        return count != null ? count : 0;
+    }
+
     private PGvector createDummyVector() {
-        float[] array = new float[1536];
+        float[] array = new float[EmbeddingResponseParser.DEFAULT_DIMENSIONS];
         for (int i = 0; i < array.length; i++) {
             array[i] = (float) (Math.random() * 0.01);
         }
@@ -1,13 +1,14 @@
 package com.jwyoo.api.service;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jwyoo.api.cache.ProjectCacheRegions;
+import com.jwyoo.api.dto.EpisodeListItem;
 import com.jwyoo.api.entity.AIAnalysis;
 import com.jwyoo.api.entity.Episode;
 import com.jwyoo.api.entity.Project;
 import com.jwyoo.api.repository.EpisodeRepository;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.Cacheable;
 import org.springframework.context.annotation.Lazy;
 import org.springframework.stereotype.Service;
@@ -26,10 +27,13 @@ import java.util.Map;
 @Transactional(readOnly = true)
 public class EpisodeService {
 
+    private static final String EPISODES_CACHE = "episodes";
+
     private final EpisodeRepository episodeRepository;
     private final ProjectService projectService;
     private final ObjectMapper objectMapper;
     private final AIAnalysisService aiAnalysisService;
+    private final ProjectCacheRegions projectCacheRegions;
 
     @Value("${LLM_BASE_URL:http://localhost:8000}")
     private String llmBaseUrl;
@@ -38,22 +42,27 @@ public class EpisodeService {
     public EpisodeService(EpisodeRepository episodeRepository,
                          ProjectService projectService,
                          ObjectMapper objectMapper,
-                         @Lazy AIAnalysisService aiAnalysisService) {
+                         @Lazy AIAnalysisService aiAnalysisService,
+                         ProjectCacheRegions projectCacheRegions) {
         this.episodeRepository = episodeRepository;
         this.projectService = projectService;
         this.objectMapper = objectMapper;
         this.aiAnalysisService = aiAnalysisService;
+        this.projectCacheRegions = projectCacheRegions;
     }
 
     /**
      * 모든 에피소드 조회 (프로젝트별)
      * Task 90: Redis 캐싱 적용 - 10분 TTL
+     * 캐시 값은 엔티티가 아닌 목록 항목 DTO (분석 결과 제외)
+     * 키는 프로젝트 영역(p{프로젝트ID}:)에 속하며 같은 프로젝트의 쓰기에만 무효화된다.
+     * sync: 미스 시 같은 키의 동시 요청은 한 번만 조회하고, 소프트 만료된 값은 응답 후 백그라운드에서 갱신한다.
      */
-    @Cacheable(value = "episodes", key = "#root.method.name + '_' + @projectService.getCurrentProject().id")
-    public List<Episode> getAllEpisodes() {
-        Project currentProject = projectService.getCurrentProject();
-        log.debug("Fetching all episodes for project: {} (from DB, not cache)", currentProject.getId());
-        List<Episode> episodes = episodeRepository.findByProjectOrderByCreatedAtDesc(currentProject); // 생성일 기준 최신순
+    @Cacheable(value = EPISODES_CACHE, keyGenerator = "projectKeyGenerator", sync = true)
+    public List<EpisodeListItem> getAllEpisodes() {
+        Long projectId = projectService.getCurrentProjectId();
+        log.debug("Fetching all episodes for project: {} (from DB, not cache)", projectId);
+        List<EpisodeListItem> episodes = episodeRepository.findListItemsByProjectId(projectId); // 생성일 기준 최신순
         log.info("Fetched {} episodes", episodes.size());
         return episodes;
     }
@@ -75,10 +84,9 @@ public class EpisodeService {
 
     /**
      * 새로운 에피소드 생성 (현재 프로젝트에 자동 연결)
-     * Task 90: 캐시 무효화
+     * Task 90: 캐시 무효화 (현재 프로젝트 영역만)
      */
     @Transactional
-    @CacheEvict(value = "episodes", allEntries = true)
     public Episode createEpisode(Episode episode) {
         Project currentProject = projectService.getCurrentProject();
         log.info("Creating new episode: title={}, order={}, project={}",
@@ -88,16 +96,16 @@ public class EpisodeService {
         episode.setProject(currentProject);
 
         Episode saved = episodeRepository.save(episode);
+        projectCacheRegions.evict(EPISODES_CACHE, currentProject.getId());
         log.info("Episode created successfully: id={}, title={}", saved.getId(), saved.getTitle());
         return saved;
     }
 
     /**
      * 에피소드 수정 (프로젝트별)
-     * Task 90: 캐시 무효화
+     * Task 90: 캐시 무효화 (현재 프로젝트 영역만)
      */
     @Transactional
-    @CacheEvict(value = "episodes", allEntries = true)
     public Episode updateEpisode(Long id, Episode episode) {
         log.info("Updating episode: id={}, newTitle={}, newOrder={}",
             id, episode.getTitle(), episode.getEpisodeOrder());
@@ -127,6 +135,7 @@ public class EpisodeService {
         }
 
         Episode updated = episodeRepository.save(existing);
+        projectCacheRegions.evict(EPISODES_CACHE, existing.getProject().getId());
         log.info("Episode updated: id={}, title: {} -> {}, order: {} -> {}",
             id, oldTitle, updated.getTitle(), oldOrder, updated.getEpisodeOrder());
         return updated;
@@ -134,16 +143,16 @@ public class EpisodeService {
 
     /**
      * 에피소드 삭제 (프로젝트별)
-     * Task 90: 캐시 무효화
+     * Task 90: 캐시 무효화 (현재 프로젝트 영역만)
      */
     @Transactional
-    @CacheEvict(value = "episodes", allEntries = true)
     public void deleteEpisode(Long id) {
         log.info("Deleting episode: id={}", id);
 
         Episode episode = getEpisodeById(id); // 이미 프로젝트 확인 포함
 
         episodeRepository.delete(episode);
+        projectCacheRegions.evict(EPISODES_CACHE, episode.getProject().getId());
         log.info("Episode deleted successfully: id={}", id);
     }
 
@@ -151,7 +160,6 @@ public class EpisodeService {
      * 에피소드 스크립트 업로드 및 분석
      */
     @Transactional
-    @CacheEvict(value = "episodes", allEntries = true)
     public Episode uploadAndAnalyzeScript(Long episodeId, String scriptText, String scriptFormat, String provider) {
         log.info("Uploading and analyzing script for episode: id={}, format={}, provider={}", episodeId, scriptFormat, provider);
 
@@ -164,6 +172,7 @@ public class EpisodeService {
         episode.setLlmProvider(provider);
 
         Episode saved = episodeRepository.save(episode);
+        projectCacheRegions.evict(EPISODES_CACHE, episode.getProject().getId());
 
         // 비동기 분석 수행 (별도 트랜잭션)
         try {
@@ -181,7 +190,6 @@ public class EpisodeService {
      * 에피소드 스크립트 분석 (LLM 서버 호출)
      */
     @Transactional
-    @CacheEvict(value = "episodes", allEntries = true)
     public Episode analyzeEpisodeScript(Long episodeId, String provider) {
         log.info("Analyzing episode script: id={}, provider={}", episodeId, provider);
 
@@ -194,6 +202,7 @@ public class EpisodeService {
 
         episode.setAnalysisStatus("analyzing");
         episodeRepository.save(episode);
+        projectCacheRegions.evict(EPISODES_CACHE, episode.getProject().getId());
 
         try {
             // LLM 서버에 분석 요청
@@ -10,6 +10,8 @@ import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
 
 import java.util.List;
 
@@ -22,6 +24,11 @@ import java.util.List;
 @RequiredArgsConstructor
 public class ProjectService {
 
+    /**
+     * 요청 범위에 기억해 두는 현재 프로젝트 ID 속성 이름
+     */
+    private static final String CURRENT_PROJECT_ID_ATTRIBUTE = ProjectService.class.getName() + ".currentProjectId";
+
     private final ProjectRepository projectRepository;
     private final UserRepository userRepository;
 
@@ -49,15 +56,48 @@ public class ProjectService {
         if (projects.isEmpty()) {
             // 프로젝트가 없으면 기본 프로젝트 생성
             log.info("No projects found for user: {}. Creating default project.", currentUser.getUsername());
-            return createProject("기본 프로젝트", "자동 생성된 기본 프로젝트");
+            Project created = createProject("기본 프로젝트", "자동 생성된 기본 프로젝트");
+            rememberCurrentProjectId(created.getId());
+            return created;
         }
 
         // 첫 번째 프로젝트를 기본 프로젝트로 사용
         Project defaultProject = projects.get(0);
         log.debug("Using default project: id={}, name={}", defaultProject.getId(), defaultProject.getName());
+        rememberCurrentProjectId(defaultProject.getId());
         return defaultProject;
     }
 
+    /**
+     * 현재 사용자의 기본 프로젝트 ID (요청당 한 번만 조회)
+     * 캐시 키 계산처럼 ID만 필요한 곳에서 사용한다. 같은 요청에서 이미 조회했으면 DB를 다시 읽지 않는다.
+     * 요청 밖(스케줄러, 비동기 작업)에서는 매번 조회한다.
+     *
+     * @return 기본 프로젝트 ID
+     */
+    public Long getCurrentProjectId() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes != null
+                && attributes.getAttribute(CURRENT_PROJECT_ID_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST) instanceof Long projectId) {
+            return projectId;
+        }
+        return getCurrentProject().getId();
+    }
+
+    private void rememberCurrentProjectId(Long projectId) {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes != null) {
+            attributes.setAttribute(CURRENT_PROJECT_ID_ATTRIBUTE, projectId, RequestAttributes.SCOPE_REQUEST);
+        }
+    }
+
+    private void forgetCurrentProjectId() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes != null) {
+            attributes.removeAttribute(CURRENT_PROJECT_ID_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+        }
+    }
+
     /**
      * 프로젝트 생성
      *
@@ -78,6 +118,8 @@ public class ProjectService {
 
         Project savedProject = projectRepository.save(project);
         log.info("Project created successfully: id={}", savedProject.getId());
+        // 가장 최근 프로젝트가 기본 프로젝트이므로 이 요청에서 기억한 ID는 더 이상 맞지 않음
+        forgetCurrentProjectId();
 
         return savedProject;
     }
@@ -157,6 +199,7 @@ public class ProjectService {
 
         projectRepository.delete(project);
         log.info("Project deleted successfully: id={}", projectId);
+        forgetCurrentProjectId();
     }
 
     /**
@@ -19,6 +19,7 @@ public class RagVectorService {
 
     private final RagVectorRepository ragVectorRepository;
     private final EmbeddingService embeddingService;
+    private final SearchRerankService searchRerankService;
 
     @Transactional
     public RagVector saveEmbedding(String sourceType, Long sourceId, String textChunk, String metadata) {
@@ -79,6 +80,33 @@ public class RagVectorService {
                 .toList();
     }
 
+    /**
+     * 유사도 검색 + MMR 재정렬
+     * ANN으로 limit보다 큰 후보군을 가져온 뒤 JVM 내에서 코사인 유사도 재계산 및 다양화
+     *
+     * @param sourceType 소스 타입 필터 (null이면 전체)
+     * @param lambda MMR 관련도 가중치 (null이면 설정 기본값)
+     */
+    public List<SearchRerankService.ScoredVector> searchSimilarDiverse(String queryText, String sourceType, int limit, Double lambda) {
+        double resolvedLambda = searchRerankService.resolveLambda(lambda);
+        int candidateCount = searchRerankService.candidateCount(limit);
+        log.info("Searching {} candidates (type={}) for MMR rerank: limit={}, lambda={}",
+            candidateCount, sourceType, limit, resolvedLambda);
+
+        PGvector queryEmbedding = embeddingService.createEmbedding(queryText);
+        String embeddingString = embeddingService.vectorToString(queryEmbedding);
+
+        List<Object[]> results = sourceType == null
+            ? ragVectorRepository.findSimilar(embeddingString, candidateCount)
+            : ragVectorRepository.findSimilarBySourceType(embeddingString, sourceType, candidateCount);
+
+        List<RagVector> candidates = results.stream()
+                .map(row -> (RagVector) row[0])
+                .toList();
+
+        return searchRerankService.rerank(queryEmbedding.toArray(), candidates, limit, resolvedLambda);
+    }
+
     public List<RagVector> hybridSearch(String queryText, String keyword, int limit) {
         log.info("Hybrid search with query: {} and keyword: {}", queryText, keyword);
 
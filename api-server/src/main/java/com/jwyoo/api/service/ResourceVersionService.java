@@ -0,0 +1,125 @@
+package com.jwyoo.api.service;
+
+import com.jwyoo.api.dto.ResourceVersion;
+import com.jwyoo.api.dto.VersionStamp;
+import com.jwyoo.api.repository.CharacterRepository;
+import com.jwyoo.api.repository.DialogueRepository;
+import com.jwyoo.api.repository.EpisodeRepository;
+import com.jwyoo.api.repository.SceneRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+/**
+ * 조회 API 응답의 검증자(ETag/Last-Modified) 계산
+ *
+ * 응답 본문을 만드는 행들의 집계(행 수, id 합, updatedAt 최댓값)만 조회하므로
+ * 본문(대본 원문 등)을 읽거나 직렬화하지 않고 조건부 요청(If-None-Match)에 304로 답할 수 있다.
+ * 엔티티를 그대로 내보내는 API는 지연 로딩으로 함께 실리는 연관 행(장면, 대사, 캐릭터, 프로젝트)까지 반영한다.
+ * 단일 리소스가 없으면(다른 프로젝트 포함) null을 돌려주며, 컨트롤러는 평소대로 조회해 404를 낸다.
+ * 응답 형식을 바꾸면 해당 형식 이름의 버전(:v1)을 올려 이전 ETag를 무효화한다.
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class ResourceVersionService {
+
+    private final EpisodeRepository episodeRepository;
+    private final SceneRepository sceneRepository;
+    private final DialogueRepository dialogueRepository;
+    private final CharacterRepository characterRepository;
+    private final ProjectService projectService;
+
+    /**
+     * GET /episodes (목록 항목: 에피소드 컬럼만)
+     */
+    public ResourceVersion episodeList() {
+        Long projectId = projectService.getCurrentProjectId();
+        return ResourceVersion.of("episodes:v1", episodeRepository.findListStampByProjectId(projectId));
+    }
+
+    /**
+     * GET /episodes/{id} (에피소드 + 프로젝트 + 장면 + 대사 + 대사의 캐릭터)
+     */
+    public ResourceVersion episode(Long id) {
+        Long projectId = projectService.getCurrentProjectId();
+        VersionStamp episode = episodeRepository.findStampByIdAndProjectId(id, projectId);
+        if (episode.isEmpty()) {
+            return null;
+        }
+        return ResourceVersion.of("episode:v1", episode,
+            sceneRepository.findStampByEpisodeId(id),
+            dialogueRepository.findStampByEpisodeId(id));
+    }
+
+    /**
+     * GET /scenes/episode/{episodeId} (장면마다 에피소드 + 프로젝트, 대사 + 캐릭터)
+     */
+    public ResourceVersion scenesOfEpisode(Long episodeId) {
+        return ResourceVersion.of("episode-scenes:v1",
+            episodeRepository.findStampById(episodeId),
+            sceneRepository.findStampByEpisodeId(episodeId),
+            dialogueRepository.findStampByEpisodeId(episodeId));
+    }
+
+    /**
+     * GET /scenes/{id} (장면 + 에피소드 + 대사, 참여 캐릭터와 그 대사)
+     */
+    public ResourceVersion scene(Long id) {
+        VersionStamp scene = sceneRepository.findStampById(id);
+        if (scene.isEmpty()) {
+            return null;
+        }
+        List<String> participantIds = SceneService.parseParticipantIds(sceneRepository.findParticipantsById(id));
+        VersionStamp participants = participantIds.isEmpty()
+            ? new VersionStamp(0L, 0L, null)
+            : characterRepository.findStampByCharacterIdIn(participantIds);
+        VersionStamp participantDialogues = participantIds.isEmpty()
+            ? new VersionStamp(0L, 0L, null)
+            : dialogueRepository.findStampByCharacterIdIn(participantIds);
+        return ResourceVersion.of("scene:v1", scene,
+            episodeRepository.findStampBySceneId(id),
+            dialogueRepository.findStampBySceneId(id),
+            participants,
+            participantDialogues);
+    }
+
+    /**
+     * GET /scenes/{id}/dialogues, GET /dialogue/scene/{sceneId} (대사마다 장면, 캐릭터 + 프로젝트)
+     */
+    public ResourceVersion dialoguesOfScene(Long sceneId) {
+        return ResourceVersion.of("scene-dialogues:v1",
+            sceneRepository.findStampById(sceneId),
+            dialogueRepository.findStampBySceneId(sceneId));
+    }
+
+    /**
+     * GET /dialogue/{id} (대사 + 장면 + 캐릭터 + 프로젝트)
+     */
+    public ResourceVersion dialogue(Long id) {
+        VersionStamp dialogue = dialogueRepository.findStampById(id);
+        if (dialogue.isEmpty()) {
+            return null;
+        }
+        return ResourceVersion.of("dialogue:v1", dialogue, sceneRepository.findStampByDialogueId(id));
+    }
+
+    /**
+     * GET /characters (목록 항목: 캐릭터 컬럼만)
+     */
+    public ResourceVersion characterList() {
+        Long projectId = projectService.getCurrentProjectId();
+        return ResourceVersion.of("characters:v1", characterRepository.findListStampByProjectId(projectId));
+    }
+
+    /**
+     * GET /characters/{id} (캐릭터 DTO: 캐릭터 컬럼만)
+     */
+    public ResourceVersion character(Long id) {
+        Long projectId = projectService.getCurrentProjectId();
+        VersionStamp character = characterRepository.findStampByIdAndProjectId(id, projectId);
+        return character.isEmpty() ? null : ResourceVersion.of("character:v1", character);
+    }
+}
@@ -70,15 +70,7 @@ public class SceneService {
      * N+1 문제 해결: IN 쿼리로 한 번에 조회
      */
     public List<Character> getParticipants(Scene scene) {
-        if (scene.getParticipants() == null || scene.getParticipants().trim().isEmpty()) {
-            return new ArrayList<>();
-        }
-
-        List<String> characterIds = Arrays.stream(scene.getParticipants().split(","))
-                .map(String::trim)
-                .filter(id -> !id.isEmpty())
-                .collect(Collectors.toList());
-
+        List<String> characterIds = parseParticipantIds(scene.getParticipants());
         if (characterIds.isEmpty()) {
             return new ArrayList<>();
         }
@@ -89,6 +81,19 @@ public class SceneService {
         return characterRepository.findByCharacterIdIn(characterIds);
     }
 
+    /**
+     * 참여 캐릭터 ID 문자열(쉼표 구분) 파싱
+     */
+    static List<String> parseParticipantIds(String participants) {
+        if (participants == null || participants.trim().isEmpty()) {
+            return new ArrayList<>();
+        }
+        return Arrays.stream(participants.split(","))
+                .map(String::trim)
+                .filter(id -> !id.isEmpty())
+                .collect(Collectors.toList());
+    }
+
     /**
      * 장면 생성
      */
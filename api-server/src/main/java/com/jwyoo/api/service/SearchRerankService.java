@@ -0,0 +1,131 @@
+package com.jwyoo.api.service;
+
+import com.jwyoo.api.entity.RagVector;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 검색 결과 재정렬 서비스
+ * pgvector ANN 후보군을 JVM 내에서 코사인 유사도로 다시 계산하고
+ * Maximal Marginal Relevance(MMR)로 중복에 가까운 결과를 걸러 다양성을 확보
+ *
+ * MMR(c) = λ · sim(query, c) − (1 − λ) · max sim(c, selected)
+ */
+@Slf4j
+@Service
+public class SearchRerankService {
+
+    private final double defaultLambda;
+    private final int candidateMultiplier;
+    private final int maxCandidates;
+
+    public SearchRerankService(
+            @Value("${search.rerank.lambda:0.7}") double defaultLambda,
+            @Value("${search.rerank.candidate-multiplier:4}") int candidateMultiplier,
+            @Value("${search.rerank.max-candidates:200}") int maxCandidates
+    ) {
+        this.defaultLambda = defaultLambda;
+        this.candidateMultiplier = Math.max(1, candidateMultiplier);
+        this.maxCandidates = Math.max(1, maxCandidates);
+    }
+
+    /**
+     * 재정렬 결과 (원본 벡터 + 쿼리와의 코사인 유사도)
+     */
+    public record ScoredVector(RagVector vector, float similarity) {
+    }
+
+    /**
+     * 최종 결과 개수에 대해 DB에서 가져올 후보 개수
+     */
+    public int candidateCount(int limit) {
+        return Math.max(limit, Math.min(limit * candidateMultiplier, maxCandidates));
+    }
+
+    /**
+     * 요청 λ 검증 (null이면 기본값)
+     */
+    public double resolveLambda(Double lambda) {
+        if (lambda == null) {
+            return defaultLambda;
+        }
+        if (lambda < 0.0 || lambda > 1.0) {
+            throw new IllegalArgumentException("lambda must be between 0.0 and 1.0");
+        }
+        return lambda;
+    }
+
+    /**
+     * MMR 재정렬
+     *
+     * @param query 쿼리 임베딩
+     * @param candidates ANN 후보 (임베딩 포함)
+     * @param limit 최종 결과 개수
+     * @param lambda 관련도 가중치 (1.0: 유사도 순, 0.0: 다양성 최대)
+     * @return 선택 순서대로 정렬된 결과
+     */
+    public List<ScoredVector> rerank(float[] query, List<RagVector> candidates, int limit, double lambda) {
+        int n = candidates.size();
+        int k = Math.min(limit, n);
+        if (k <= 0) {
+            return List.of();
+        }
+
+        float[][] embeddings = new float[n][];
+        float[] norms = new float[n];
+        float[] relevance = new float[n];
+        float queryNorm = VectorMath.norm(query);
+
+        for (int i = 0; i < n; i++) {
+            embeddings[i] = candidates.get(i).getEmbedding().toArray();
+            norms[i] = VectorMath.norm(embeddings[i]);
+            relevance[i] = VectorMath.cosine(query, queryNorm, embeddings[i], norms[i]);
+        }
+
+        // 선택된 결과들과의 최대 유사도 (선택될 때마다 증분 갱신)
+        float[] maxSimilarityToSelected = new float[n];
+        Arrays.fill(maxSimilarityToSelected, Float.NEGATIVE_INFINITY);
+        boolean[] selected = new boolean[n];
+
+        List<ScoredVector> results = new ArrayList<>(k);
+        for (int round = 0; round < k; round++) {
+            int best = -1;
+            double bestScore = Double.NEGATIVE_INFINITY;
+
+            for (int i = 0; i < n; i++) {
+                if (selected[i]) {
+                    continue;
+                }
+                double redundancy = round == 0 ? 0.0 : maxSimilarityToSelected[i];
+                double score = lambda * relevance[i] - (1.0 - lambda) * redundancy;
+                if (score > bestScore) {
+                    bestScore = score;
+                    best = i;
+                }
+            }
+
+            selected[best] = true;
+            results.add(new ScoredVector(candidates.get(best), relevance[best]));
+
+            if (round + 1 < k) {
+                for (int i = 0; i < n; i++) {
+                    if (!selected[i]) {
+                        float similarity = VectorMath.cosine(embeddings[i], norms[i], embeddings[best], norms[best]);
+                        if (similarity > maxSimilarityToSelected[i]) {
+                            maxSimilarityToSelected[i] = similarity;
+                        }
+                    }
+                }
+            }
+        }
+
+        log.debug("MMR reranked {} candidates into {} results (lambda={}, simd={})",
+            n, results.size(), lambda, VectorMath.isSimdEnabled());
+        return results;
+    }
+}
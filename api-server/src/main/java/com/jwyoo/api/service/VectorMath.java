@@ -0,0 +1,74 @@
+package com.jwyoo.api.service;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * float[] 벡터 연산 유틸리티
+ * JDK Vector API(jdk.incubator.vector)가 모듈로 로드되어 있으면 SIMD 구현을, 없으면 스칼라 구현을 사용
+ */
+@Slf4j
+public final class VectorMath {
+
+    private static final boolean SIMD_ENABLED = detectSimd();
+
+    private VectorMath() {
+    }
+
+    /**
+     * SIMD 경로 사용 여부 (--add-modules jdk.incubator.vector 필요)
+     */
+    public static boolean isSimdEnabled() {
+        return SIMD_ENABLED;
+    }
+
+    /**
+     * 내적
+     */
+    public static float dot(float[] a, float[] b) {
+        int length = Math.min(a.length, b.length);
+        return SIMD_ENABLED ? SimdVectorMath.dot(a, b, length) : scalarDot(a, b, length);
+    }
+
+    /**
+     * L2 노름
+     */
+    public static float norm(float[] a) {
+        return (float) Math.sqrt(dot(a, a));
+    }
+
+    /**
+     * 코사인 유사도 (노름을 미리 계산해 둔 경우)
+     */
+    public static float cosine(float[] a, float normA, float[] b, float normB) {
+        if (normA == 0f || normB == 0f) {
+            return 0f;
+        }
+        return dot(a, b) / (normA * normB);
+    }
+
+    /**
+     * 코사인 유사도
+     */
+    public static float cosine(float[] a, float[] b) {
+        return cosine(a, norm(a), b, norm(b));
+    }
+
+    static float scalarDot(float[] a, float[] b, int length) {
+        float sum = 0f;
+        for (int i = 0; i < length; i++) {
+            sum += a[i] * b[i];
+        }
+        return sum;
+    }
+
+    private static boolean detectSimd() {
+        try {
+            Class.forName("jdk.incubator.vector.FloatVector");
+            log.info("Vector API enabled: {}-bit float lanes", SimdVectorMath.preferredBitSize());
+            return true;
+        } catch (Throwable e) {
+            log.info("Vector API not available (add --add-modules jdk.incubator.vector), using scalar vector math");
+            return false;
+        }
+    }
+}
@@ -0,0 +1,22 @@
+-- Character co-occurrence aggregate (entity: CharacterCooccurrence)
+-- prod runs with spring.jpa.hibernate.ddl-auto=validate, so the table must exist before the API server starts.
+-- Runs automatically when the PostgreSQL container starts for the first time;
+-- for an existing database apply it once by hand:
+--   psql -U $POSTGRES_USER -d $POSTGRES_DB -f init-character-cooccurrence.sql
+
+-- One row per character pair that spoke in the same scene of an episode (character_a_id < character_b_id)
+-- Derived from dialogue data, so only IDs are stored (no foreign keys)
+CREATE TABLE IF NOT EXISTS character_cooccurrences (
+    id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    project_id BIGINT NOT NULL,
+    episode_id BIGINT NOT NULL,
+    character_a_id BIGINT NOT NULL,
+    character_b_id BIGINT NOT NULL,
+    scene_count INTEGER NOT NULL,
+    line_count INTEGER NOT NULL,
+    updated_at TIMESTAMP(6) NOT NULL,
+    CONSTRAINT uk_cooccurrence_episode_pair UNIQUE (episode_id, character_a_id, character_b_id)
+);
+
+-- Project-wide graph reads (episode lookups use the unique constraint's leading episode_id)
+CREATE INDEX IF NOT EXISTS idx_cooccurrence_project ON character_cooccurrences(project_id);
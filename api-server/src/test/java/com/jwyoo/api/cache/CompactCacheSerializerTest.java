@@ -0,0 +1,68 @@
+package com.jwyoo.api.cache;
+
+import com.jwyoo.api.dto.EpisodeListItem;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * CompactCacheSerializer 단위 테스트
+ * Smile 왕복(타입 정보 없이 DTO 복원), 임계값 이상 압축, 알 수 없는 형식의 미스 처리 테스트
+ */
+class CompactCacheSerializerTest {
+
+    private final CompactCacheSerializer<Object> serializer =
+        CompactCacheSerializer.forListOf(EpisodeListItem.class, 1024);
+
+    @Test
+    @DisplayName("작은 값은 압축 없이 Smile로 기록하고 같은 DTO로 복원")
+    void roundTrip_SmallValueUncompressed() {
+        // given
+        List<EpisodeListItem> episodes = List.of(episode(1L, "짧은 대본"));
+
+        // when
+        byte[] bytes = serializer.serialize(episodes);
+        Object restored = serializer.deserialize(bytes);
+
+        // then
+        assertThat(bytes[0]).isEqualTo(CompactCacheSerializer.FORMAT_PLAIN);
+        assertThat(restored).isEqualTo(episodes);
+    }
+
+    @Test
+    @DisplayName("임계값 이상인 값은 압축해 기록하고 같은 DTO로 복원")
+    void roundTrip_LargeValueCompressed() {
+        // given
+        String script = "세하: 오늘도 학교 옥상에서 기다릴게.\n".repeat(500);
+        List<EpisodeListItem> episodes = List.of(episode(1L, script), episode(2L, script));
+
+        // when
+        byte[] bytes = serializer.serialize(episodes);
+        Object restored = serializer.deserialize(bytes);
+
+        // then
+        assertThat(bytes[0]).isEqualTo(CompactCacheSerializer.FORMAT_DEFLATE);
+        assertThat(bytes.length).isLessThan(script.getBytes(StandardCharsets.UTF_8).length / 10);
+        assertThat(restored).isEqualTo(episodes);
+    }
+
+    @Test
+    @DisplayName("이전 형식(JSON) 값은 캐시 미스로 처리")
+    void deserialize_UnknownFormatIsMiss() {
+        byte[] legacyJson = "[\"java.util.ArrayList\",[]]".getBytes(StandardCharsets.UTF_8);
+
+        assertThat(serializer.deserialize(legacyJson)).isNull();
+        assertThat(serializer.deserialize(new byte[0])).isNull();
+    }
+
+    private static EpisodeListItem episode(Long id, String scriptText) {
+        LocalDateTime now = LocalDateTime.of(2025, 1, 1, 12, 0);
+        return new EpisodeListItem(id, "에피소드 " + id, "설명", id.intValue(), scriptText, "novel",
+            "analyzed", "openai", now, now);
+    }
+}
@@ -0,0 +1,404 @@
+package com.jwyoo.api.cache;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.serializer.RedisSerializer;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * TwoTierCache 단위 테스트
+ * L1 → L2 조회 순서와 L1 채우기, 쓰기/삭제 시 무효화 발행, 다른 노드 무효화 메시지 반영,
+ * 소프트 만료 값의 백그라운드 재적재, 적재 중 같은 키 삭제 시 적재 값 폐기(다른 키 삭제나 쓰기 알림은 유지), 동시 미스 적재 합치기, Redis 장애 시 L1 대체와 복구 테스트
+ * (L2는 장애를 흉내 낼 수 있는 ConcurrentMapCache로, 재적재 실행기는 작업 목록으로 대체)
+ */
+class TwoTierCacheTest {
+
+    private FlakyCache remote;
+    private StringRedisTemplate redisTemplate;
+    private RedisCircuitBreaker circuitBreaker;
+    private CacheInvalidationBus bus;
+    private List<Runnable> refreshTasks;
+    private TwoTierCache cache;
+
+    @BeforeEach
+    void setUp() {
+        remote = new FlakyCache("episodes");
+        redisTemplate = mock(StringRedisTemplate.class);
+        // 자동 확인이 테스트 중에 돌지 않도록 주기를 길게 두고 probe()를 직접 호출
+        circuitBreaker = new RedisCircuitBreaker(() -> remote.checkUp(), 2, Duration.ofHours(1));
+        bus = new CacheInvalidationBus(redisTemplate, circuitBreaker);
+        refreshTasks = new ArrayList<>();
+        cache = new TwoTierCache("episodes", remote,
+            new CacheSpec(Duration.ofMinutes(10), Duration.ofMinutes(5), Duration.ofMinutes(1), 100, 0.1),
+            bus, refreshTasks::add, circuitBreaker, new CacheEnvelopeSerializer(RedisSerializer.java()));
+        bus.register(cache);
+        circuitBreaker.onRecovery(cache::recover);
+    }
+
+    @Test
+    @DisplayName("L2 적중 값은 L1에 채워져 다음 조회부터 L1에서 응답")
+    void get_FillsLocalFromRemote() {
+        // given
+        remote.put("getAllEpisodes_1", List.of("ep1"));
+
+        // when
+        Object first = cache.get("getAllEpisodes_1").get();
+        remote.evict("getAllEpisodes_1");
+        Object second = cache.get("getAllEpisodes_1").get();
+        Object missing = cache.get("getAllEpisodes_2");
+
+        // then
+        assertThat(first).isEqualTo(List.of("ep1"));
+        assertThat(second).isSameAs(first);
+        assertThat(missing).isNull();
+
+        CacheTierStats stats = cache.stats();
+        assertThat(stats.localHits()).isEqualTo(1);
+        assertThat(stats.remoteHits()).isEqualTo(1);
+        assertThat(stats.misses()).isEqualTo(1);
+        assertThat(stats.localSize()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("쓰기는 L2에 기록하고 L1을 비운 뒤 무효화 메시지 발행, 삭제는 두 계층 모두 비움")
+    void putAndEvict_WriteThroughAndPublish() {
+        // given
+        remote.put("k", "old");
+        cache.get("k");
+
+        // when
+        cache.put("k", "new");
+        Object afterPut = cache.get("k").get();
+        cache.evict("k");
+
+        // then
+        assertThat(afterPut).isEqualTo("new");
+        assertThat(remote.get("k")).isNull();
+        assertThat(cache.get("k")).isNull();
+        verify(redisTemplate).convertAndSend(eq(CacheInvalidationBus.CHANNEL), endsWith("|put|episodes|k"));
+        verify(redisTemplate).convertAndSend(eq(CacheInvalidationBus.CHANNEL), endsWith("|evict|episodes|k"));
+    }
+
+    @Test
+    @DisplayName("다른 노드의 무효화 메시지는 L1만 비우고, 자기 노드가 보낸 메시지는 무시")
+    void onMessage_EvictsLocalOnlyFromOtherNodes() {
+        // given
+        remote.put("k", "v");
+        cache.get("k");
+
+        // when: 자기 노드 메시지 → 유지
+        bus.onMessage(message(bus.nodeId() + "|evict|episodes|k"), null);
+        long sizeAfterOwn = cache.stats().localSize();
+        // when: 다른 노드 메시지 → L1만 비움
+        bus.onMessage(message("other-node|evict|episodes|k"), null);
+
+        // then
+        assertThat(sizeAfterOwn).isEqualTo(1);
+        assertThat(cache.stats().localSize()).isZero();
+        assertThat(cache.stats().invalidationsReceived()).isEqualTo(1);
+        assertThat(remote.get("k")).isNotNull();
+        verify(redisTemplate, never()).convertAndSend(anyString(), anyString());
+    }
+
+    @Test
+    @DisplayName("프로젝트 접두사 삭제는 해당 프로젝트 항목만 두 계층에서 비우고 접두사 무효화 발행")
+    void evictPrefix_EvictsOnlyProjectRegion() {
+        // given
+        remote.put("p1:getAllEpisodes", "project1");
+        remote.put("p12:getAllEpisodes", "project12");
+        cache.get("p1:getAllEpisodes");
+        cache.get("p12:getAllEpisodes");
+
+        // when
+        cache.evictPrefix(ProjectCacheRegions.prefix(1L));
+
+        // then
+        assertThat(remote.get("p1:getAllEpisodes")).isNull();
+        assertThat(remote.get("p12:getAllEpisodes")).isNotNull();
+        assertThat(cache.stats().localSize()).isEqualTo(1);
+        verify(redisTemplate).convertAndSend(eq(CacheInvalidationBus.CHANNEL), endsWith("|evictPrefix|episodes|p1:"));
+    }
+
+    @Test
+    @DisplayName("소프트 만료가 지난 값은 그대로 응답하고 재적재는 한 번만 실행, 이후 새 값 응답")
+    void get_StaleValueServedWhileSingleRefreshRuns() {
+        // given
+        remote.put("k", new CacheEnvelope("old", System.currentTimeMillis() - 1));
+        AtomicInteger loads = new AtomicInteger();
+
+        // when
+        String first = cache.get("k", () -> "fresh" + loads.incrementAndGet());
+        String second = cache.get("k", () -> "fresh" + loads.incrementAndGet());
+        int queuedRefreshes = refreshTasks.size();
+        refreshTasks.forEach(Runnable::run);
+        String afterRefresh = cache.get("k", () -> "fresh" + loads.incrementAndGet());
+
+        // then
+        assertThat(first).isEqualTo("old");
+        assertThat(second).isEqualTo("old");
+        assertThat(queuedRefreshes).isEqualTo(1);
+        assertThat(afterRefresh).isEqualTo("fresh1");
+        assertThat(loads.get()).isEqualTo(1);
+        assertThat(((CacheEnvelope) remote.get("k").get()).isStale(System.currentTimeMillis())).isFalse();
+
+        CacheTierStats stats = cache.stats();
+        assertThat(stats.staleHits()).isEqualTo(2);
+        assertThat(stats.refreshes()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("재적재가 원본을 읽은 뒤 쓰기 커밋의 삭제가 일어나면 읽은 옛 값을 기록하지 않음")
+    void get_EvictDuringRefreshLeavesNoStaleValue() {
+        // given
+        remote.put("p1:getAllEpisodes", new CacheEnvelope("old", System.currentTimeMillis() - 1));
+        String stale = cache.get("p1:getAllEpisodes", () -> {
+            // 재적재가 쓰기 전 원본을 읽은 직후 쓰기가 커밋되어 프로젝트 영역 삭제
+            String beforeWrite = "before-write";
+            cache.evictPrefix(ProjectCacheRegions.prefix(1L));
+            return beforeWrite;
+        });
+
+        // when
+        refreshTasks.forEach(Runnable::run);
+        Object afterRefresh = remote.get("p1:getAllEpisodes");
+        String afterWrite = cache.get("p1:getAllEpisodes", () -> "after-write");
+
+        // then
+        assertThat(stale).isEqualTo("old");
+        assertThat(afterRefresh).isNull();
+        assertThat(afterWrite).isEqualTo("after-write");
+        assertThat(((CacheEnvelope) remote.get("p1:getAllEpisodes").get()).value()).isEqualTo("after-write");
+    }
+
+    @Test
+    @DisplayName("미스 적재 중 삭제가 일어나면 적재 값은 응답하되 캐시에 기록하지 않음")
+    void get_EvictDuringMissLoadSkipsPut() {
+        // when
+        String loaded = cache.get("k", () -> {
+            cache.evict("k");
+            return "before-write";
+        });
+
+        // then
+        assertThat(loaded).isEqualTo("before-write");
+        assertThat(remote.get("k")).isNull();
+        assertThat(cache.stats().localSize()).isZero();
+    }
+
+    @Test
+    @DisplayName("적재 중 다른 키나 다른 프로젝트 접두사가 삭제되어도 적재 값은 기록")
+    void get_UnrelatedEvictDuringLoadKeepsPut() {
+        // when
+        String loaded = cache.get("p12:getAllEpisodes", () -> {
+            cache.evict("p12:getEpisode_1");
+            cache.evictPrefix(ProjectCacheRegions.prefix(1L));
+            bus.onMessage(message("other-node|evict|episodes|p2:getAllEpisodes"), null);
+            bus.onMessage(message("other-node|evictPrefix|episodes|p3:"), null);
+            return "loaded";
+        });
+
+        // then
+        assertThat(loaded).isEqualTo("loaded");
+        assertThat(((CacheEnvelope) remote.get("p12:getAllEpisodes").get()).value()).isEqualTo("loaded");
+    }
+
+    @Test
+    @DisplayName("다른 노드의 쓰기 메시지는 L1 사본만 비우고 같은 키의 진행 중인 적재는 취소하지 않음")
+    void onMessage_RemotePutKeepsConcurrentLoad() {
+        // given
+        remote.put("k", new CacheEnvelope("v", Long.MAX_VALUE));
+        cache.get("k");
+
+        // when
+        bus.onMessage(message("other-node|put|episodes|k"), null);
+        long sizeAfterPut = cache.stats().localSize();
+        String loaded = cache.get("other", () -> {
+            bus.onMessage(message("other-node|put|episodes|other"), null);
+            return "loaded";
+        });
+
+        // then
+        assertThat(sizeAfterPut).isZero();
+        assertThat(loaded).isEqualTo("loaded");
+        assertThat(((CacheEnvelope) remote.get("other").get()).value()).isEqualTo("loaded");
+    }
+
+    @Test
+    @DisplayName("다른 노드의 같은 키 삭제 메시지는 진행 중인 적재를 취소")
+    void onMessage_RemoteEvictCancelsLoadOfSameKey() {
+        // when
+        String loaded = cache.get("p1:getAllEpisodes", () -> {
+            bus.onMessage(message("other-node|evictPrefix|episodes|p1:"), null);
+            return "before-write";
+        });
+
+        // then
+        assertThat(loaded).isEqualTo("before-write");
+        assertThat(remote.get("p1:getAllEpisodes")).isNull();
+    }
+
+    @Test
+    @DisplayName("소프트 만료 전의 값은 재적재 없이 응답")
+    void get_FreshValueDoesNotRefresh() {
+        // given
+        cache.put("k", "v");
+
+        // when
+        String value = cache.get("k", () -> "loaded");
+
+        // then
+        assertThat(value).isEqualTo("v");
+        assertThat(refreshTasks).isEmpty();
+        assertThat(cache.stats().staleHits()).isZero();
+    }
+
+    @Test
+    @DisplayName("같은 키의 동시 미스는 한 요청만 적재하고 나머지는 그 결과를 받음")
+    void get_ConcurrentMissesCoalesced() throws Exception {
+        // given
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService callers = Executors.newFixedThreadPool(2);
+
+        try {
+            // when: 첫 요청이 적재 중일 때 두 번째 요청이 같은 키를 조회
+            Future<String> leader = callers.submit(() -> cache.get("k", () -> {
+                loads.incrementAndGet();
+                loading.countDown();
+                assertThat(release.await(5, TimeUnit.SECONDS)).isTrue();
+                return "loaded";
+            }));
+            assertThat(loading.await(5, TimeUnit.SECONDS)).isTrue();
+            Future<String> follower = callers.submit(() -> cache.get("k", () -> {
+                loads.incrementAndGet();
+                return "duplicate";
+            }));
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+            while (cache.stats().coalescedLoads() == 0 && System.nanoTime() < deadline) {
+                Thread.sleep(5);
+            }
+            release.countDown();
+
+            // then
+            assertThat(leader.get(5, TimeUnit.SECONDS)).isEqualTo("loaded");
+            assertThat(follower.get(5, TimeUnit.SECONDS)).isEqualTo("loaded");
+            assertThat(loads.get()).isEqualTo(1);
+            assertThat(cache.stats().coalescedLoads()).isEqualTo(1);
+        } finally {
+            callers.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("Redis 장애 시 회로가 열려 L2를 건너뛰고 L1 사본으로 응답, 삭제는 미뤄 두었다가 복구 시 적용")
+    void redisOutage_FallsBackToLocalAndReplaysEvictionsOnRecovery() {
+        // given
+        remote.put("p1:getAllEpisodes", new CacheEnvelope(List.of("old"), Long.MAX_VALUE));
+        remote.down = true;
+
+        // when: 연속 실패 2회 → 회로 열림, 이후 Redis 호출 없음
+        cache.get("a");
+        cache.get("b");
+        int callsWhenOpened = remote.calls;
+        AtomicInteger loads = new AtomicInteger();
+        List<String> first = cache.get("k", () -> List.of("loaded" + loads.incrementAndGet()));
+        List<String> second = cache.get("k", () -> List.of("loaded" + loads.incrementAndGet()));
+        cache.evictPrefix(ProjectCacheRegions.prefix(1L));
+
+        // then
+        assertThat(circuitBreaker.state()).isEqualTo(RedisCircuitBreaker.State.OPEN);
+        assertThat(remote.calls).isEqualTo(callsWhenOpened);
+        assertThat(first).isEqualTo(List.of("loaded1"));
+        assertThat(second).isEqualTo(first).isNotSameAs(first);
+        assertThat(loads.get()).isEqualTo(1);
+        assertThat(cache.stats().remoteBypasses()).isGreaterThanOrEqualTo(5);
+        verify(redisTemplate, never()).convertAndSend(anyString(), anyString());
+
+        // when: 확인 실패 → 열린 상태 유지
+        circuitBreaker.probe();
+        assertThat(circuitBreaker.state()).isEqualTo(RedisCircuitBreaker.State.OPEN);
+
+        // when: Redis 복구 → 미뤄 둔 접두사 삭제 적용, L1 비움
+        remote.down = false;
+        circuitBreaker.probe();
+
+        // then
+        assertThat(circuitBreaker.state()).isEqualTo(RedisCircuitBreaker.State.CLOSED);
+        assertThat(remote.get("p1:getAllEpisodes")).isNull();
+        assertThat(cache.stats().localSize()).isZero();
+        assertThat(circuitBreaker.stats().opens()).isEqualTo(1);
+    }
+
+    /**
+     * down이면 모든 호출이 Redis 연결 실패를 던지는 L2
+     */
+    private static class FlakyCache extends ConcurrentMapCache {
+
+        volatile boolean down;
+        int calls;
+
+        FlakyCache(String name) {
+            super(name, false);
+        }
+
+        void checkUp() {
+            if (down) {
+                throw new RedisConnectionFailureException("Redis is down");
+            }
+        }
+
+        private void call() {
+            calls++;
+            checkUp();
+        }
+
+        @Override
+        public ValueWrapper get(Object key) {
+            call();
+            return super.get(key);
+        }
+
+        @Override
+        public void put(Object key, Object value) {
+            call();
+            super.put(key, value);
+        }
+
+        @Override
+        public void evict(Object key) {
+            call();
+            super.evict(key);
+        }
+
+        @Override
+        public void clear() {
+            call();
+            super.clear();
+        }
+    }
+
+    private static DefaultMessage message(String body) {
+        return new DefaultMessage(CacheInvalidationBus.CHANNEL.getBytes(StandardCharsets.UTF_8),
+            body.getBytes(StandardCharsets.UTF_8));
+    }
+}
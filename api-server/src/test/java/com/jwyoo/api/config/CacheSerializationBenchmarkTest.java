@@ -0,0 +1,78 @@
+package com.jwyoo.api.config;
+
+import com.jwyoo.api.cache.CompactCacheSerializer;
+import com.jwyoo.api.dto.EpisodeListItem;
+import com.jwyoo.api.entity.Episode;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestReporter;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 캐시 직렬화 시간 벤치마크 (기본 test에서 제외, ./gradlew benchmark)
+ * 엔티티 JSON과 목록 DTO Smile/압축 값의 기록/읽기 시간 비교 (크기와 왕복은 CacheSerializationTest)
+ */
+@Tag("benchmark")
+class CacheSerializationBenchmarkTest {
+
+    private static final int ITERATIONS = 200;
+
+    @Test
+    @DisplayName("엔티티 JSON vs 목록 DTO Smile/압축 기록/읽기 시간")
+    void serializationTiming_EntityJsonVsCompactDto(TestReporter reporter) {
+        // given
+        List<Episode> entities = CacheSerializationTest.entities();
+        List<EpisodeListItem> items = CacheSerializationTest.listItems(entities);
+        GenericJackson2JsonRedisSerializer json = CacheConfig.typedJsonSerializer();
+        CompactCacheSerializer<Object> compact = CompactCacheSerializer.forListOf(EpisodeListItem.class, 1024);
+
+        // 워밍업 (클래스 로딩, JIT)
+        for (int i = 0; i < ITERATIONS; i++) {
+            json.deserialize(json.serialize(entities));
+            compact.deserialize(compact.serialize(items));
+        }
+        byte[] jsonBytes = json.serialize(entities);
+        byte[] compactBytes = compact.serialize(items);
+
+        // when
+        long start = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            json.serialize(entities);
+        }
+        long jsonEncode = (System.nanoTime() - start) / ITERATIONS;
+        start = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            json.deserialize(jsonBytes);
+        }
+        long jsonDecode = (System.nanoTime() - start) / ITERATIONS;
+
+        start = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            compact.serialize(items);
+        }
+        long compactEncode = (System.nanoTime() - start) / ITERATIONS;
+        start = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            compact.deserialize(compactBytes);
+        }
+        long compactDecode = (System.nanoTime() - start) / ITERATIONS;
+
+        // then
+        reporter.publishEntry(Map.of(
+            "entityJsonBytes", String.valueOf(jsonBytes.length),
+            "entityJsonEncodeMicros", String.valueOf(jsonEncode / 1000),
+            "entityJsonDecodeMicros", String.valueOf(jsonDecode / 1000),
+            "compactBytes", String.valueOf(compactBytes.length),
+            "compactEncodeMicros", String.valueOf(compactEncode / 1000),
+            "compactDecodeMicros", String.valueOf(compactDecode / 1000)));
+        assertThat(compactDecode)
+            .as("entity json decode=%d us, compact decode=%d us", jsonDecode / 1000, compactDecode / 1000)
+            .isLessThan(jsonDecode);
+    }
+}
@@ -0,0 +1,88 @@
+package com.jwyoo.api.config;
+
+import com.jwyoo.api.cache.CompactCacheSerializer;
+import com.jwyoo.api.dto.EpisodeListItem;
+import com.jwyoo.api.entity.Episode;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 캐시 직렬화 비교: 기존 엔티티 + JSON(default typing) vs 목록 DTO + Smile(임계값 이상 압축)
+ * 에피소드 20개(대본 약 12KB, 분석 결과 약 8KB) 목록 한 건의 크기와 왕복 (시간 측정은 CacheSerializationBenchmarkTest)
+ */
+class CacheSerializationTest {
+
+    private static final int EPISODES = 20;
+
+    @Test
+    @DisplayName("목록 DTO + Smile/압축 값은 엔티티 JSON 값보다 훨씬 작고 그대로 복원됨")
+    void serialize_CompactDtoSmallerThanEntityJson() {
+        // given
+        List<Episode> entities = entities();
+        List<EpisodeListItem> items = listItems(entities);
+        GenericJackson2JsonRedisSerializer json = CacheConfig.typedJsonSerializer();
+        CompactCacheSerializer<Object> compact = CompactCacheSerializer.forListOf(EpisodeListItem.class, 1024);
+
+        // when
+        byte[] jsonBytes = json.serialize(entities);
+        byte[] compactBytes = compact.serialize(items);
+
+        // then
+        assertThat(compact.deserialize(compactBytes)).isEqualTo(items);
+        assertThat(compactBytes.length).isLessThan(jsonBytes.length / 10);
+    }
+
+    static List<Episode> entities() {
+        List<Episode> entities = new ArrayList<>();
+        for (long id = 1; id <= EPISODES; id++) {
+            entities.add(episode(id));
+        }
+        return entities;
+    }
+
+    static List<EpisodeListItem> listItems(List<Episode> entities) {
+        List<EpisodeListItem> items = new ArrayList<>();
+        for (Episode episode : entities) {
+            items.add(new EpisodeListItem(episode.getId(), episode.getTitle(), episode.getDescription(),
+                episode.getEpisodeOrder(), episode.getScriptText(), episode.getScriptFormat(),
+                episode.getAnalysisStatus(), episode.getLlmProvider(), episode.getCreatedAt(), episode.getUpdatedAt()));
+        }
+        return items;
+    }
+
+    static Episode episode(long id) {
+        LocalDateTime now = LocalDateTime.of(2025, 1, 1, 12, 0).plusMinutes(id);
+        StringBuilder script = new StringBuilder();
+        for (int line = 0; line < 200; line++) {
+            script.append(line % 2 == 0 ? "세하: " : "민준: ")
+                .append("장면 ").append(line / 10).append("에서 ").append(id).append("화의 대사가 이어진다.\n");
+        }
+        StringBuilder analysis = new StringBuilder("{\"characters\":[");
+        for (int i = 0; i < 60; i++) {
+            analysis.append(i == 0 ? "" : ",")
+                .append("{\"name\":\"등장인물").append(i).append("\",\"role\":\"조연\",\"traits\":[\"침착함\",\"호기심\"]}");
+        }
+        analysis.append("]}");
+
+        return Episode.builder()
+            .id(id)
+            .title("에피소드 " + id)
+            .description("에피소드 " + id + " 설명")
+            .episodeOrder((int) id)
+            .scriptText(script.toString())
+            .scriptFormat("novel")
+            .analysisStatus("analyzed")
+            .analysisResult(analysis.toString())
+            .llmProvider("openai")
+            .createdAt(now)
+            .updatedAt(now)
+            .build();
+    }
+}
@@ -2,10 +2,12 @@ package com.jwyoo.api.controller;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.jwyoo.api.dto.CharacterDto;
+import com.jwyoo.api.dto.CharacterListItem;
 import com.jwyoo.api.dto.SpeakingProfileDto;
 import com.jwyoo.api.entity.Character;
 import com.jwyoo.api.exception.ResourceNotFoundException;
 import com.jwyoo.api.service.CharacterService;
+import com.jwyoo.api.service.ResourceVersionService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -50,6 +52,9 @@ class CharacterControllerTest {
     @MockBean
     private CharacterService characterService;
 
+    @MockBean
+    private ResourceVersionService resourceVersionService;
+
     @MockBean
     private com.jwyoo.api.security.CustomUserDetailsService customUserDetailsService;
 
@@ -85,7 +90,8 @@ class CharacterControllerTest {
     @DisplayName("캐릭터 목록 조회 성공")
     void getAllCharacters_Success() throws Exception {
         // given
-        List<Character> characters = List.of(testCharacter);
+        List<CharacterListItem> characters = List.of(new CharacterListItem(
+                1L, "char.seha", "세하", "밝고 긍정적인 성격의 주인공", null, null, null, null));
         when(characterService.getAllCharacters()).thenReturn(characters);
 
         // when & then
@@ -66,6 +66,12 @@ class DialogueControllerTest {
     @MockBean
     private CharacterRepository characterRepository;
 
+    @MockBean
+    private com.jwyoo.api.service.ResourceVersionService resourceVersionService;
+
+    @MockBean
+    private com.jwyoo.api.service.ProjectService projectService;
+
     @MockBean
     private com.jwyoo.api.security.CustomUserDetailsService customUserDetailsService;
 
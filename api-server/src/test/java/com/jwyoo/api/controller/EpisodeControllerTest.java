@@ -1,8 +1,12 @@
 package com.jwyoo.api.controller;
 
-import com.jwyoo.api.entity.Episode;
+import com.jwyoo.api.dto.EpisodeListItem;
+import com.jwyoo.api.dto.ResourceVersion;
+import com.jwyoo.api.dto.VersionStamp;
 import com.jwyoo.api.security.JwtTokenProvider;
 import com.jwyoo.api.service.EpisodeService;
+import com.jwyoo.api.service.PlotAnalysisService;
+import com.jwyoo.api.service.ResourceVersionService;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -10,14 +14,17 @@ import org.springframework.boot.autoconfigure.cache.CacheAutoConfiguration;
 import org.springframework.boot.autoconfigure.data.redis.RedisAutoConfiguration;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.web.servlet.MockMvc;
 
+import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.List;
 
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
@@ -33,6 +40,12 @@ class EpisodeControllerTest {
     @MockBean
     private EpisodeService episodeService;
 
+    @MockBean
+    private PlotAnalysisService plotAnalysisService;
+
+    @MockBean
+    private ResourceVersionService resourceVersionService;
+
     @MockBean
     private JwtTokenProvider jwtTokenProvider;
 
@@ -41,19 +54,12 @@ class EpisodeControllerTest {
     @WithMockUser
     void getEpisodes_Success() throws Exception {
         // given
-        Episode episode1 = new Episode();
-        episode1.setId(1L);
-        episode1.setTitle("Episode 1");
-        episode1.setDescription("Description 1");
-        episode1.setEpisodeOrder(1);
-
-        Episode episode2 = new Episode();
-        episode2.setId(2L);
-        episode2.setTitle("Episode 2");
-        episode2.setDescription(null); // null 처리 테스트
-        episode2.setEpisodeOrder(2);
-
-        List<Episode> episodes = Arrays.asList(episode1, episode2);
+        EpisodeListItem episode1 = new EpisodeListItem(
+                1L, "Episode 1", "Description 1", 1, null, null, null, null, null, null);
+        EpisodeListItem episode2 = new EpisodeListItem(
+                2L, "Episode 2", null, 2, null, null, null, null, null, null); // null 처리 테스트
+
+        List<EpisodeListItem> episodes = Arrays.asList(episode1, episode2);
         when(episodeService.getAllEpisodes()).thenReturn(episodes);
 
         // when & then
@@ -65,7 +71,7 @@ class EpisodeControllerTest {
                 .andExpect(jsonPath("$[0].id").value(1))
                 .andExpect(jsonPath("$[0].title").value("Episode 1"))
                 .andExpect(jsonPath("$[0].description").value("Description 1"))
-                .andExpect(jsonPath("$[0].order").value(1))
+                .andExpect(jsonPath("$[0].episodeOrder").value(1))
                 .andExpect(jsonPath("$[1].id").value(2))
                 .andExpect(jsonPath("$[1].description").value(""));
 
@@ -88,4 +94,44 @@ class EpisodeControllerTest {
 
         verify(episodeService).getAllEpisodes();
     }
+
+    @Test
+    @DisplayName("에피소드 상세 조회 - If-None-Match가 현재 ETag와 같으면 본문을 읽지 않고 304")
+    @WithMockUser
+    void getEpisode_NotModified() throws Exception {
+        // given
+        ResourceVersion version = ResourceVersion.of("episode:v1",
+                new VersionStamp(1L, 1L, LocalDateTime.of(2025, 1, 1, 12, 0)));
+        when(resourceVersionService.episode(1L)).thenReturn(version);
+
+        // when & then
+        mockMvc.perform(get("/episodes/1")
+                        .header(HttpHeaders.IF_NONE_MATCH, version.etag()))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, version.etag()))
+                .andExpect(content().string(""));
+
+        verify(episodeService, never()).getEpisodeById(any());
+    }
+
+    @Test
+    @DisplayName("에피소드 목록 조회 - 목록이 바뀌어 ETag가 다르면 새 ETag/Last-Modified와 함께 200")
+    @WithMockUser
+    void getEpisodes_ModifiedSinceETag() throws Exception {
+        // given
+        LocalDateTime updatedAt = LocalDateTime.of(2025, 1, 1, 12, 0);
+        ResourceVersion before = ResourceVersion.of("episodes:v1", new VersionStamp(1L, 1L, updatedAt));
+        ResourceVersion after = ResourceVersion.of("episodes:v1", new VersionStamp(2L, 3L, updatedAt.plusMinutes(1)));
+        when(resourceVersionService.episodeList()).thenReturn(after);
+        when(episodeService.getAllEpisodes()).thenReturn(List.of());
+
+        // when & then
+        mockMvc.perform(get("/episodes")
+                        .header(HttpHeaders.IF_NONE_MATCH, before.etag()))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, after.etag()))
+                .andExpect(header().exists(HttpHeaders.LAST_MODIFIED));
+
+        verify(episodeService).getAllEpisodes();
+    }
 }
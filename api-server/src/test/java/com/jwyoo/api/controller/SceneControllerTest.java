@@ -7,6 +7,7 @@ import com.jwyoo.api.entity.Scene;
 import com.jwyoo.api.entity.ScenarioVersion;
 import com.jwyoo.api.security.JwtTokenProvider;
 import com.jwyoo.api.service.LlmClient;
+import com.jwyoo.api.service.ResourceVersionService;
 import com.jwyoo.api.service.ScenarioVersionService;
 import com.jwyoo.api.service.SceneService;
 import org.junit.jupiter.api.DisplayName;
@@ -50,6 +51,9 @@ class SceneControllerTest {
     @MockBean
     private ScenarioVersionService scenarioVersionService;
 
+    @MockBean
+    private ResourceVersionService resourceVersionService;
+
     @MockBean
     private JwtTokenProvider jwtTokenProvider;
 
@@ -0,0 +1,86 @@
+package com.jwyoo.api.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jwyoo.api.dto.SemanticSearchRequest;
+import com.jwyoo.api.service.RagVectorService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.cache.CacheAutoConfiguration;
+import org.springframework.boot.autoconfigure.data.redis.RedisAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.MediaType;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * SearchController 테스트
+ * MMR lambda 요청 값 검증 테스트
+ */
+@WebMvcTest(controllers = SearchController.class,
+        excludeAutoConfiguration = {
+                org.springframework.boot.autoconfigure.security.servlet.SecurityAutoConfiguration.class,
+                CacheAutoConfiguration.class,
+                RedisAutoConfiguration.class
+        })
+@ActiveProfiles("test")
+class SearchControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @MockBean
+    private RagVectorService ragVectorService;
+
+    @MockBean
+    private com.jwyoo.api.security.CustomUserDetailsService customUserDetailsService;
+
+    @MockBean
+    private com.jwyoo.api.security.JwtTokenProvider jwtTokenProvider;
+
+    @Test
+    @WithMockUser
+    @DisplayName("lambda가 0.0~1.0 밖이면 400")
+    void searchSemantic_LambdaOutOfRange() throws Exception {
+        // given
+        SemanticSearchRequest request = SemanticSearchRequest.builder().query("복수").lambda(1.5).build();
+
+        // when & then
+        mockMvc.perform(post("/search/semantic")
+                        .with(csrf())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isBadRequest());
+        verify(ragVectorService, never()).searchSimilarDiverse(any(), any(), anyInt(), any());
+    }
+
+    @Test
+    @WithMockUser
+    @DisplayName("lambda가 범위 안이면 재정렬 검색 실행")
+    void searchSemantic_LambdaInRange() throws Exception {
+        // given
+        SemanticSearchRequest request = SemanticSearchRequest.builder().query("복수").lambda(0.5).build();
+        when(ragVectorService.searchSimilarDiverse("복수", null, 10, 0.5)).thenReturn(List.of());
+
+        // when & then
+        mockMvc.perform(post("/search/semantic")
+                        .with(csrf())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isOk());
+        verify(ragVectorService).searchSimilarDiverse("복수", null, 10, 0.5);
+    }
+}
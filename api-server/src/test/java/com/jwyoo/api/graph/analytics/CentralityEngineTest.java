@@ -0,0 +1,147 @@
+package com.jwyoo.api.graph.analytics;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * CentralityEngine 단위 테스트
+ * CSR 구성, Brandes betweenness, closeness, PageRank 계산 테스트
+ */
+class CentralityEngineTest {
+
+    private ForkJoinPool pool;
+    private CentralityEngine engine;
+
+    @BeforeEach
+    void setUp() {
+        pool = new ForkJoinPool(4);
+        engine = new CentralityEngine(pool);
+    }
+
+    @AfterEach
+    void tearDown() {
+        pool.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("같은 캐릭터 쌍의 에피소드별 관계는 하나의 이웃으로 합침")
+    void build_MergesParallelEdges() {
+        // given: 1-2 관계가 에피소드 두 개에 걸쳐 존재, 99는 노드 목록에 없음
+        List<CsrGraph.EdgeRow> edges = List.of(
+            new CsrGraph.EdgeRow(1, 2, 5.0),
+            new CsrGraph.EdgeRow(2, 1, 3.0),
+            new CsrGraph.EdgeRow(2, 3, null),
+            new CsrGraph.EdgeRow(3, 99, 1.0)
+        );
+
+        // when
+        CsrGraph graph = CsrGraph.build(nodes(3), edges);
+
+        // then
+        assertThat(graph.edgeCount()).isEqualTo(2);
+        assertThat(graph.degree(1)).isEqualTo(2);
+        assertThat(graph.relationshipCount(1)).isEqualTo(3);
+        assertThat(graph.weightedDegree(0)).isEqualTo(8.0);
+        assertThat(graph.weightedDegree(2)).isEqualTo(0.0);
+    }
+
+    @Test
+    @DisplayName("경로 그래프에서 가운데 노드의 betweenness와 closeness가 가장 높음")
+    void compute_PathGraph() {
+        // given: 1 - 2 - 3 - 4
+        CsrGraph graph = CsrGraph.build(nodes(4), List.of(
+            new CsrGraph.EdgeRow(1, 2, 1.0),
+            new CsrGraph.EdgeRow(2, 3, 1.0),
+            new CsrGraph.EdgeRow(3, 4, 1.0)
+        ));
+
+        // when
+        CentralityScores scores = engine.compute(graph);
+
+        // then: 2는 (1,3), (1,4) 쌍의 경로 위에 있음
+        assertThat(scores.score(CentralityScores.Metric.BETWEENNESS, 1)).isEqualTo(2.0);
+        assertThat(scores.score(CentralityScores.Metric.BETWEENNESS, 0)).isEqualTo(0.0);
+        // 2에서 거리 1, 1, 2 → 3 / 4
+        assertThat(scores.score(CentralityScores.Metric.CLOSENESS, 1)).isEqualTo(0.75);
+        assertThat(scores.score(CentralityScores.Metric.CLOSENESS, 0)).isEqualTo(0.5);
+    }
+
+    @Test
+    @DisplayName("스타 그래프 중심의 betweenness는 잎 쌍의 개수")
+    void compute_StarGraph() {
+        // given: 1이 중심, 잎 5개
+        List<CsrGraph.EdgeRow> edges = new ArrayList<>();
+        for (long leaf = 2; leaf <= 6; leaf++) {
+            edges.add(new CsrGraph.EdgeRow(1, leaf, 1.0));
+        }
+
+        // when
+        CentralityScores scores = engine.compute(CsrGraph.build(nodes(6), edges));
+
+        // then
+        assertThat(scores.score(CentralityScores.Metric.BETWEENNESS, 0)).isEqualTo(10.0);
+        List<Map<String, Object>> top = scores.top(CentralityScores.Metric.PAGE_RANK, 1);
+        assertThat(top).hasSize(1);
+        assertThat(top.get(0)).containsEntry("characterId", "char-1");
+    }
+
+    @Test
+    @DisplayName("병렬 계산 결과가 단일 스레드 결과와 같고 PageRank 합은 1")
+    void compute_ParallelMatchesSequential() {
+        // given
+        Random random = new Random(3);
+        int n = 300;
+        List<CsrGraph.EdgeRow> edges = new ArrayList<>();
+        for (int i = 0; i < 900; i++) {
+            edges.add(new CsrGraph.EdgeRow(random.nextInt(n) + 1, random.nextInt(n) + 1, random.nextDouble() * 10));
+        }
+        CsrGraph graph = CsrGraph.build(nodes(n), edges);
+        ForkJoinPool single = new ForkJoinPool(1);
+
+        // when
+        CentralityScores parallel = engine.compute(graph);
+        CentralityScores sequential = new CentralityEngine(single).compute(graph);
+        single.shutdownNow();
+
+        // then
+        double pageRankSum = 0.0;
+        for (int v = 0; v < n; v++) {
+            assertThat(parallel.score(CentralityScores.Metric.BETWEENNESS, v))
+                .isCloseTo(sequential.score(CentralityScores.Metric.BETWEENNESS, v), within(1e-6));
+            pageRankSum += parallel.score(CentralityScores.Metric.PAGE_RANK, v);
+        }
+        assertThat(pageRankSum).isCloseTo(1.0, within(1e-6));
+    }
+
+    @Test
+    @DisplayName("관계가 없는 캐릭터는 순위에서 제외")
+    void top_ExcludesIsolatedNodes() {
+        // given
+        CsrGraph graph = CsrGraph.build(nodes(3), List.of(new CsrGraph.EdgeRow(1, 2, 2.0)));
+
+        // when
+        List<Map<String, Object>> top = engine.compute(graph).top(CentralityScores.Metric.WEIGHTED_DEGREE, 10);
+
+        // then
+        assertThat(top).hasSize(2);
+        assertThat(top.get(0)).containsEntry("weightedDegree", 2.0).containsEntry("relationshipCount", 1);
+    }
+
+    private List<CsrGraph.NodeRow> nodes(int count) {
+        List<CsrGraph.NodeRow> nodes = new ArrayList<>();
+        for (long id = 1; id <= count; id++) {
+            nodes.add(new CsrGraph.NodeRow(id, "char-" + id, "캐릭터" + id));
+        }
+        return nodes;
+    }
+}
@@ -0,0 +1,172 @@
+package com.jwyoo.api.graph.analytics;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * ConceptKnn 단위 테스트
+ * 코사인 top-k 이웃과 임베딩 변경 시 재계산 대상 선정 테스트
+ */
+class ConceptKnnTest {
+
+    private ForkJoinPool pool;
+
+    @BeforeEach
+    void setUp() {
+        pool = new ForkJoinPool(4);
+    }
+
+    @AfterEach
+    void tearDown() {
+        pool.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("자기 자신을 제외한 top-k 이웃을 유사도 내림차순으로 반환")
+    void nearest_ReturnsTopKBySimilarity() {
+        // given: 1과 2는 거의 같은 방향, 3은 45도, 4는 직교
+        ConceptKnn knn = new ConceptKnn(new long[]{1, 2, 3, 4}, new float[][]{
+            {1f, 0f}, {10f, 0.5f}, {1f, 1f}, {0f, 1f}
+        });
+
+        // when
+        List<ConceptKnn.Neighbor> neighbors = knn.nearest(knn.indexOf(1), 2, 0.0);
+
+        // then
+        assertThat(neighbors).extracting(ConceptKnn.Neighbor::rdbId).containsExactly(2L, 3L);
+        assertThat(neighbors.get(1).similarity()).isCloseTo(Math.sqrt(0.5), within(1e-6));
+    }
+
+    @Test
+    @DisplayName("최소 유사도 미만 개념은 이웃에서 제외")
+    void nearest_FiltersBelowMinSimilarity() {
+        // given
+        ConceptKnn knn = new ConceptKnn(new long[]{1, 2, 3}, new float[][]{
+            {1f, 0f}, {0f, 1f}, {-1f, 0f}
+        });
+
+        // when
+        List<ConceptKnn.Neighbor> neighbors = knn.nearest(knn.indexOf(1), 5, 0.1);
+
+        // then
+        assertThat(neighbors).isEmpty();
+    }
+
+    @Test
+    @DisplayName("병렬 계산 결과는 개념별 순차 계산과 동일")
+    void nearest_ParallelMatchesSequential() {
+        // given
+        ConceptKnn knn = randomKnn(200, 16, 42L);
+        int[] targets = IntStream.range(0, knn.size()).toArray();
+
+        // when
+        Map<Long, List<ConceptKnn.Neighbor>> parallel = knn.nearest(targets, 5, -1.0, pool);
+
+        // then
+        for (int target : targets) {
+            assertThat(parallel.get(knn.rdbId(target))).isEqualTo(knn.nearest(target, 5, -1.0));
+        }
+    }
+
+    @Test
+    @DisplayName("임베딩이 바뀐 개념과 그 개념이 k번째 이웃보다 가까워진 개념만 재계산 대상")
+    void affected_IncludesChangedAndDisplacedConcepts() {
+        // given: 1 ↔ 2, 3 ↔ 4가 서로의 이웃 (k=1)인 상태에서 5가 1 근처에 새로 추가됨
+        ConceptKnn old = new ConceptKnn(new long[]{1, 2, 3, 4}, new float[][]{
+            {1f, 0f}, {1f, 0.5f}, {0f, 1f}, {0.1f, 1f}
+        });
+        Map<Long, List<ConceptKnn.Neighbor>> current = old.nearest(new int[]{0, 1, 2, 3}, 1, 0.0, pool);
+
+        ConceptKnn knn = new ConceptKnn(new long[]{1, 2, 3, 4, 5}, new float[][]{
+            {1f, 0f}, {1f, 0.5f}, {0f, 1f}, {0.1f, 1f}, {1f, 0.05f}
+        });
+
+        // when
+        int[] affected = knn.affected(Set.of(5L), current, 1, 0.0, pool);
+
+        // then: 3, 4는 서로가 5보다 가까우므로 그대로
+        assertThat(IntStream.of(affected).mapToLong(knn::rdbId).boxed().toList())
+            .containsExactlyInAnyOrder(1L, 2L, 5L);
+    }
+
+    @Test
+    @DisplayName("기존 이웃의 임베딩이 사라졌으면 재계산 대상")
+    void affected_IncludesConceptsWithMissingNeighbor() {
+        // given: 9는 임베딩이 삭제된 개념
+        ConceptKnn knn = new ConceptKnn(new long[]{1, 2}, new float[][]{{1f, 0f}, {0f, 1f}});
+        Map<Long, List<ConceptKnn.Neighbor>> current = Map.of(
+            1L, List.of(new ConceptKnn.Neighbor(9L, 0.9)),
+            2L, List.of(new ConceptKnn.Neighbor(1L, 0.0))
+        );
+
+        // when
+        int[] affected = knn.affected(Set.of(9L), current, 1, -1.0, pool);
+
+        // then
+        assertThat(IntStream.of(affected).mapToLong(knn::rdbId).boxed().toList()).containsExactly(1L);
+    }
+
+    @Test
+    @DisplayName("재계산 대상만 갱신해도 전체 재계산과 같은 이웃 그래프")
+    void affected_IncrementalMatchesFullRecompute() {
+        // given: 기존 임베딩으로 계산한 이웃을 저장해 두고 일부 개념의 임베딩을 교체
+        int n = 150;
+        int k = 4;
+        long[] rdbIds = rdbIds(n);
+        float[][] before = randomVectors(n, 8, 7L);
+        float[][] after = before.clone();
+        float[][] replacements = randomVectors(5, 8, 11L);
+        Set<Long> changed = Set.of(3L, 40L, 77L, 100L, 149L);
+        int r = 0;
+        for (long rdbId : changed) {
+            after[(int) rdbId] = replacements[r++];
+        }
+
+        ConceptKnn old = new ConceptKnn(rdbIds, before);
+        Map<Long, List<ConceptKnn.Neighbor>> current =
+            old.nearest(IntStream.range(0, n).toArray(), k, 0.2, pool);
+
+        ConceptKnn knn = new ConceptKnn(rdbIds, after);
+
+        // when
+        int[] affected = knn.affected(changed, current, k, 0.2, pool);
+        Map<Long, List<ConceptKnn.Neighbor>> updated = new HashMap<>(current);
+        updated.putAll(knn.nearest(affected, k, 0.2, pool));
+
+        // then
+        assertThat(affected.length).isLessThan(n);
+        Map<Long, List<ConceptKnn.Neighbor>> full = knn.nearest(IntStream.range(0, n).toArray(), k, 0.2, pool);
+        assertThat(updated).isEqualTo(full);
+    }
+
+    private static ConceptKnn randomKnn(int n, int dimensions, long seed) {
+        return new ConceptKnn(rdbIds(n), randomVectors(n, dimensions, seed));
+    }
+
+    private static long[] rdbIds(int n) {
+        return IntStream.range(0, n).asLongStream().toArray();
+    }
+
+    private static float[][] randomVectors(int n, int dimensions, long seed) {
+        Random random = new Random(seed);
+        float[][] vectors = new float[n][dimensions];
+        for (float[] vector : vectors) {
+            for (int d = 0; d < dimensions; d++) {
+                vector[d] = (float) random.nextGaussian();
+            }
+        }
+        return vectors;
+    }
+}
@@ -0,0 +1,160 @@
+package com.jwyoo.api.graph.analytics;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * ForceLayout 단위 테스트
+ * Barnes-Hut 배치의 결정성, 군집 분리, 이전 배치에서 시작(warm start) 시 위치 유지 테스트
+ */
+class ForceLayoutTest {
+
+    private ForkJoinPool pool;
+    private ForceLayout forceLayout;
+
+    @BeforeEach
+    void setUp() {
+        pool = new ForkJoinPool(4);
+        forceLayout = new ForceLayout(pool, 300, 50, 0.8);
+    }
+
+    @AfterEach
+    void tearDown() {
+        pool.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("같은 그래프는 항상 같은 좌표로 배치")
+    void compute_Deterministic() {
+        // given
+        CsrGraph graph = clusters(60, 10);
+
+        // when
+        GraphLayout first = forceLayout.compute(graph, null);
+        GraphLayout second = forceLayout.compute(graph, null);
+
+        // then
+        assertThat(first.isWarmStarted()).isFalse();
+        for (int v = 0; v < graph.nodeCount(); v++) {
+            assertThat(first.x(v)).isFinite().isEqualTo(second.x(v));
+            assertThat(first.y(v)).isFinite().isEqualTo(second.y(v));
+        }
+    }
+
+    @Test
+    @DisplayName("연결된 캐릭터는 무작위 캐릭터 쌍보다 가깝게 배치")
+    void compute_NeighborsCloserThanRandomPairs() {
+        // given
+        CsrGraph graph = clusters(100, 10);
+
+        // when
+        GraphLayout layout = forceLayout.compute(graph, null);
+
+        // then
+        double neighborDistance = 0.0;
+        int neighborPairs = 0;
+        for (int v = 0; v < graph.nodeCount(); v++) {
+            for (int i = graph.offsets()[v]; i < graph.offsets()[v + 1]; i++) {
+                neighborDistance += distance(layout, v, graph.neighbors()[i]);
+                neighborPairs++;
+            }
+        }
+        double randomDistance = 0.0;
+        Random random = new Random(7L);
+        for (int i = 0; i < 1000; i++) {
+            randomDistance += distance(layout, random.nextInt(100), random.nextInt(100));
+        }
+        assertThat(neighborDistance / neighborPairs).isLessThan(randomDistance / 1000 / 3);
+    }
+
+    @Test
+    @DisplayName("이전 배치에서 시작하면 기존 노드는 거의 움직이지 않고 새 노드는 이웃 근처에 배치")
+    void compute_WarmStartKeepsPositions() {
+        // given
+        List<CsrGraph.NodeRow> nodes = nodes(50);
+        List<CsrGraph.EdgeRow> edges = clusterEdges(50, 10);
+        GraphLayout previous = forceLayout.compute(CsrGraph.build(nodes, edges), null);
+
+        List<CsrGraph.NodeRow> grownNodes = new ArrayList<>(nodes);
+        grownNodes.add(new CsrGraph.NodeRow(51, "c51", "new"));
+        List<CsrGraph.EdgeRow> grownEdges = new ArrayList<>(edges);
+        grownEdges.add(new CsrGraph.EdgeRow(51, 1, 1.0));
+
+        // when
+        GraphLayout layout = forceLayout.compute(CsrGraph.build(grownNodes, grownEdges), previous);
+
+        // then
+        assertThat(layout.isWarmStarted()).isTrue();
+        assertThat(layout.getIterations()).isEqualTo(50);
+        for (long rdbId = 1; rdbId <= 50; rdbId++) {
+            GraphLayout.Point before = previous.position(rdbId);
+            GraphLayout.Point after = layout.position(rdbId);
+            assertThat(Math.hypot(after.x() - before.x(), after.y() - before.y()))
+                .isLessThan(ForceLayout.IDEAL_LENGTH);
+        }
+        GraphLayout.Point added = layout.position(51);
+        GraphLayout.Point neighbor = layout.position(1);
+        assertThat(Math.hypot(added.x() - neighbor.x(), added.y() - neighbor.y()))
+            .isLessThan(ForceLayout.IDEAL_LENGTH * 3);
+    }
+
+    @Test
+    @DisplayName("노드가 없거나 하나면 반복 없이 배치")
+    void compute_TrivialGraphs() {
+        // when
+        GraphLayout empty = forceLayout.compute(CsrGraph.build(List.of(), List.of()), null);
+        GraphLayout single = forceLayout.compute(CsrGraph.build(nodes(1), List.of()), null);
+
+        // then
+        assertThat(empty.nodeCount()).isZero();
+        assertThat(single.getIterations()).isZero();
+        assertThat(single.position(1)).isNotNull();
+        assertThat(single.position(2)).isNull();
+    }
+
+    private static CsrGraph clusters(int n, int clusterSize) {
+        return CsrGraph.build(nodes(n), clusterEdges(n, clusterSize));
+    }
+
+    /**
+     * clusterSize개씩 묶인 군집 안에서만 연결 (군집 사이는 앞뒤 군집끼리 한 줄씩)
+     */
+    private static List<CsrGraph.EdgeRow> clusterEdges(int n, int clusterSize) {
+        Random random = new Random(42L);
+        List<CsrGraph.EdgeRow> edges = new ArrayList<>();
+        for (int v = 0; v < n; v++) {
+            int base = v / clusterSize * clusterSize;
+            for (int j = 0; j < 3; j++) {
+                int u = base + random.nextInt(clusterSize);
+                if (u < n && u != v) {
+                    edges.add(new CsrGraph.EdgeRow(v + 1, u + 1, 0.5));
+                }
+            }
+        }
+        for (int base = clusterSize; base < n; base += clusterSize) {
+            edges.add(new CsrGraph.EdgeRow(base, base + 1, null));
+        }
+        return edges;
+    }
+
+    private static List<CsrGraph.NodeRow> nodes(int n) {
+        List<CsrGraph.NodeRow> nodes = new ArrayList<>();
+        for (int i = 1; i <= n; i++) {
+            nodes.add(new CsrGraph.NodeRow(i, "c" + i, "name" + i));
+        }
+        return nodes;
+    }
+
+    private static double distance(GraphLayout layout, int u, int v) {
+        return Math.hypot(layout.x(u) - layout.x(v), layout.y(u) - layout.y(v));
+    }
+}
@@ -0,0 +1,99 @@
+package com.jwyoo.api.graph.analytics;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * GraphTraversal 단위 테스트
+ * 깊이/방문 노드 수 제한 BFS와 양방향 BFS 최단 경로 테스트
+ */
+class GraphTraversalTest {
+
+    private CsrGraph graph;
+    private GraphTraversal traversal;
+
+    @BeforeEach
+    void setUp() {
+        // c1-c2-c3-c4-c5 경로 + c1-c6-c5 우회로, c7은 고립
+        List<CsrGraph.EdgeRow> edges = List.of(
+            new CsrGraph.EdgeRow(1, 2, 1.0),
+            new CsrGraph.EdgeRow(2, 3, 1.0),
+            new CsrGraph.EdgeRow(3, 4, 1.0),
+            new CsrGraph.EdgeRow(4, 5, 1.0),
+            new CsrGraph.EdgeRow(1, 6, 1.0),
+            new CsrGraph.EdgeRow(6, 5, 1.0)
+        );
+        graph = CsrGraph.build(nodes(7), edges);
+        traversal = new GraphTraversal(graph);
+    }
+
+    @Test
+    @DisplayName("깊이 이내 이웃을 거리 오름차순으로 반환")
+    void neighborhood_RespectsDepth() {
+        // when
+        GraphTraversal.Neighborhood result = traversal.neighborhood(graph.indexOf("c1"), 2, 100);
+
+        // then
+        assertThat(characterIds(result.nodes())).containsExactlyInAnyOrder("c2", "c6", "c3", "c5");
+        assertThat(result.distances()).containsExactly(1, 1, 2, 2);
+        assertThat(result.truncated()).isFalse();
+    }
+
+    @Test
+    @DisplayName("방문 노드 한도를 넘으면 중단하고 truncated 표시")
+    void neighborhood_StopsAtNodeBudget() {
+        // when: 시작 노드 포함 3개까지만 방문
+        GraphTraversal.Neighborhood result = traversal.neighborhood(graph.indexOf("c1"), 5, 3);
+
+        // then
+        assertThat(result.nodes()).hasSize(2);
+        assertThat(result.truncated()).isTrue();
+    }
+
+    @Test
+    @DisplayName("양방향 BFS는 가장 짧은 경로를 반환")
+    void shortestPath_FindsShortestRoute() {
+        // when
+        GraphTraversal.PathResult result = traversal.shortestPath(graph.indexOf("c2"), graph.indexOf("c6"), 6, 100);
+
+        // then
+        assertThat(result.found()).isTrue();
+        assertThat(characterIds(result.path())).containsExactly("c2", "c1", "c6");
+    }
+
+    @Test
+    @DisplayName("연결되지 않은 캐릭터와 깊이 제한 초과는 구분")
+    void shortestPath_DistinguishesMissingAndTruncated() {
+        // when
+        GraphTraversal.PathResult disconnected = traversal.shortestPath(graph.indexOf("c1"), graph.indexOf("c7"), 6, 100);
+        GraphTraversal.PathResult tooDeep = traversal.shortestPath(graph.indexOf("c2"), graph.indexOf("c4"), 1, 100);
+
+        // then
+        assertThat(disconnected.found()).isFalse();
+        assertThat(disconnected.truncated()).isFalse();
+        assertThat(tooDeep.found()).isFalse();
+        assertThat(tooDeep.truncated()).isTrue();
+    }
+
+    private List<String> characterIds(int[] nodes) {
+        List<String> ids = new ArrayList<>();
+        for (int v : nodes) {
+            ids.add(graph.characterId(v));
+        }
+        return ids;
+    }
+
+    private static List<CsrGraph.NodeRow> nodes(int n) {
+        List<CsrGraph.NodeRow> nodes = new ArrayList<>();
+        for (int i = 1; i <= n; i++) {
+            nodes.add(new CsrGraph.NodeRow(i, "c" + i, "Character " + i));
+        }
+        return nodes;
+    }
+}
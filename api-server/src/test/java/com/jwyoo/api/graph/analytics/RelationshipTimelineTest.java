@@ -0,0 +1,127 @@
+package com.jwyoo.api.graph.analytics;
+
+import com.jwyoo.api.exception.ResourceNotFoundException;
+import com.jwyoo.api.graph.dto.TimelineCharacterRow;
+import com.jwyoo.api.graph.dto.TimelineEdgeRow;
+import com.jwyoo.api.graph.dto.TimelineEpisodeRow;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * RelationshipTimeline 단위 테스트
+ * 에피소드 순서 정렬, 누적 집계, 캐릭터/쌍 인덱스, Segment 교체 테스트
+ */
+class RelationshipTimelineTest {
+
+    private RelationshipTimeline timeline;
+
+    @BeforeEach
+    void setUp() {
+        // 에피소드 ID와 순서가 다름: 30(1화) → 10(2화) → 20(3화)
+        List<TimelineEpisodeRow> episodes = List.of(
+            new TimelineEpisodeRow(30L, 1, "1화"),
+            new TimelineEpisodeRow(10L, 2, "2화"),
+            new TimelineEpisodeRow(20L, 3, "3화")
+        );
+        List<TimelineCharacterRow> characters = List.of(
+            new TimelineCharacterRow(1L, "alice", "Alice"),
+            new TimelineCharacterRow(2L, "bob", "Bob"),
+            new TimelineCharacterRow(3L, "carol", "Carol")
+        );
+        List<TimelineEdgeRow> edges = List.of(
+            new TimelineEdgeRow(100L, 30L, 1L, 2L, "friend", 5.0, "만남"),
+            new TimelineEdgeRow(101L, 10L, 2L, 1L, "rival", 3.0, "다툼"),
+            new TimelineEdgeRow(102L, 10L, 2L, 3L, "friend", 4.0, null),
+            new TimelineEdgeRow(103L, 20L, 1L, 3L, "friend", 2.0, null)
+        );
+        timeline = RelationshipTimeline.build(episodes, characters, edges);
+    }
+
+    @Test
+    @DisplayName("에피소드 범위는 episodeOrder 기준으로 양 끝을 포함")
+    void range_UsesEpisodeOrder() {
+        // when
+        List<Map<String, Object>> rows = timeline.range(10L, 20L);
+
+        // then
+        assertThat(rows).extracting(row -> row.get("relationshipId")).containsExactly(101L, 102L, 103L);
+        assertThat(rows.get(0))
+            .containsEntry("episodeOrder", 2)
+            .containsEntry("fromCharacterId", "bob")
+            .containsEntry("toName", "Alice");
+    }
+
+    @Test
+    @DisplayName("시작 에피소드가 종료 에피소드보다 뒤면 예외")
+    void range_RejectsReversedRange() {
+        assertThatThrownBy(() -> timeline.range(20L, 30L))
+            .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> timeline.range(30L, 999L))
+            .isInstanceOf(ResourceNotFoundException.class);
+    }
+
+    @Test
+    @DisplayName("캐릭터 진화와 쌍 타임라인은 방향과 무관하게 에피소드 순서로 반환")
+    void characterAndPairTimeline() {
+        // when
+        List<Map<String, Object>> evolution = timeline.characterEvolution("alice");
+        List<Map<String, Object>> pair = timeline.pairTimeline("bob", "alice");
+
+        // then
+        assertThat(evolution).extracting(row -> row.get("relationshipId")).containsExactly(100L, 101L, 103L);
+        assertThat(pair).extracting(row -> row.get("relationType")).containsExactly("friend", "rival");
+        assertThat(timeline.characterEvolution("unknown")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("밀도는 에피소드 단독 값과 누적 값을 함께 반환")
+    void density_IncludesCumulativeState() {
+        // when
+        Map<String, Object> density = timeline.density(10L);
+
+        // then: 3명 → 가능한 쌍 3개, 2화까지 쌍은 alice-bob, bob-carol
+        assertThat(density)
+            .containsEntry("totalNodes", 3)
+            .containsEntry("totalEdges", 2)
+            .containsEntry("newPairs", 1)
+            .containsEntry("cumulativeEdges", 3)
+            .containsEntry("cumulativePairs", 2);
+        assertThat((Double) density.get("cumulativeDensity")).isCloseTo(2 / 3.0, within(1e-9));
+    }
+
+    @Test
+    @DisplayName("새 관계는 첫 등장 순서로 상호작용 횟수와 함께 반환")
+    void newRelationships_OrderedByFirstAppearance() {
+        // when
+        List<Map<String, Object>> rows = timeline.newRelationships();
+
+        // then
+        assertThat(rows).extracting(row -> row.get("firstAppearance")).containsExactly(30L, 10L, 20L);
+        assertThat(rows.get(0))
+            .containsEntry("char1", "alice")
+            .containsEntry("char2", "bob")
+            .containsEntry("interactionCount", 2);
+    }
+
+    @Test
+    @DisplayName("Segment 교체 시 해당 에피소드 이후 누적 상태만 달라짐")
+    void withSegment_ReplacesOneEpisode() {
+        // when: 1화 관계 삭제
+        RelationshipTimeline updated = timeline.withSegment(30L, List.of());
+
+        // then
+        assertThat(updated.relationshipCount()).isEqualTo(3);
+        assertThat(updated.density(10L))
+            .containsEntry("newPairs", 2)
+            .containsEntry("cumulativePairs", 2);
+        assertThat(updated.newRelationships().get(0)).containsEntry("firstAppearance", 10L);
+        assertThat(timeline.relationshipCount()).isEqualTo(4);
+        assertThat(timeline.withSegment(999L, List.of())).isNull();
+    }
+}
@@ -0,0 +1,65 @@
+package com.jwyoo.api.graph.repository;
+
+import com.jwyoo.api.graph.dto.CharacterView;
+import com.jwyoo.api.graph.dto.RelationshipView;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.neo4j.driver.Values;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * GraphReadRepository 단위 테스트
+ * 드라이버 값 → 프로젝션 record 매핑 테스트
+ */
+class GraphReadRepositoryTest {
+
+    @Test
+    @DisplayName("캐릭터 맵 프로젝션을 CharacterView로 매핑하고 없는 속성은 null")
+    void toCharacterView_MapsProjection() {
+        // given: 통계 카운터가 아직 없는 노드
+        Map<String, Object> projection = new HashMap<>();
+        projection.put("rdbId", 7L);
+        projection.put("projectId", 1L);
+        projection.put("characterId", "alice");
+        projection.put("name", "Alice");
+        projection.put("description", null);
+        projection.put("relationshipCount", null);
+
+        // when
+        CharacterView view = GraphReadRepository.toCharacterView(Values.value(projection));
+
+        // then
+        assertThat(view.rdbId()).isEqualTo(7L);
+        assertThat(view.characterId()).isEqualTo("alice");
+        assertThat(view.description()).isNull();
+        assertThat(view.speakingStyle()).isNull();
+        assertThat(view.relationshipCount()).isNull();
+    }
+
+    @Test
+    @DisplayName("관계 맵 프로젝션을 RelationshipView로 매핑")
+    void toRelationshipView_MapsProjection() {
+        // given
+        Map<String, Object> projection = new HashMap<>();
+        projection.put("episodeId", 3L);
+        projection.put("fromCharacterId", "alice");
+        projection.put("fromName", "Alice");
+        projection.put("toCharacterId", "bob");
+        projection.put("toName", "Bob");
+        projection.put("relationType", "friend");
+        projection.put("closeness", 7.5);
+
+        // when
+        RelationshipView view = GraphReadRepository.toRelationshipView(Values.value(projection));
+
+        // then
+        assertThat(view.episodeId()).isEqualTo(3L);
+        assertThat(view.toName()).isEqualTo("Bob");
+        assertThat(view.closeness()).isEqualTo(7.5);
+        assertThat(view.description()).isNull();
+    }
+}
@@ -0,0 +1,182 @@
+package com.jwyoo.api.graph.repository;
+
+import com.jwyoo.api.config.Neo4jSchemaInitializer;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.DynamicTest;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestFactory;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.neo4j.driver.AuthTokens;
+import org.neo4j.driver.Driver;
+import org.neo4j.driver.GraphDatabase;
+import org.neo4j.driver.Session;
+import org.neo4j.driver.summary.Plan;
+import org.springframework.data.neo4j.core.Neo4jClient;
+import org.springframework.data.neo4j.repository.query.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Parameter;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Neo4j 쿼리 플랜 회귀 테스트
+ * 스키마 초기화 후 그래프 Repository의 모든 Cypher를 EXPLAIN하여 레이블 전체 스캔으로 떨어지는 쿼리를 검출
+ * (@Query 메서드 + 엔티티 매핑 없이 실행하는 GraphReadRepository 쿼리)
+ *
+ * 실제 Neo4j가 필요하므로 NEO4J_TEST_URI 환경 변수가 있을 때만 실행
+ * 예: NEO4J_TEST_URI=bolt://localhost:7687 NEO4J_TEST_PASSWORD=password ./gradlew test --tests '*QueryPlanRegressionTest'
+ */
+@EnabledIfEnvironmentVariable(named = "NEO4J_TEST_URI", matches = ".+")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class QueryPlanRegressionTest {
+
+    private static final List<String> SCAN_OPERATORS = List.of("NodeByLabelScan", "AllNodesScan");
+    private static final Pattern PARAMETER = Pattern.compile("\\$(\\w+)");
+
+    private Driver driver;
+
+    @BeforeAll
+    void setUp() {
+        driver = GraphDatabase.driver(
+            System.getenv("NEO4J_TEST_URI"),
+            AuthTokens.basic(
+                System.getenv().getOrDefault("NEO4J_TEST_USERNAME", "neo4j"),
+                System.getenv().getOrDefault("NEO4J_TEST_PASSWORD", "password")));
+
+        new Neo4jSchemaInitializer(Neo4jClient.create(driver)).run(null);
+    }
+
+    @AfterAll
+    void tearDown() {
+        driver.close();
+    }
+
+    @Test
+    @DisplayName("선언된 제약조건과 인덱스가 모두 ONLINE")
+    void schema_AllItemsOnline() {
+        List<String> missing = new Neo4jSchemaInitializer(Neo4jClient.create(driver)).verify();
+
+        assertThat(missing).isEmpty();
+    }
+
+    @TestFactory
+    @DisplayName("그래프 쿼리 플랜에 레이블 전체 스캔이 없음")
+    Stream<DynamicTest> queries_DoNotScanLabels() {
+        return queries().entrySet().stream()
+            .map(entry -> DynamicTest.dynamicTest(entry.getKey(), () -> {
+                Plan plan = explain(entry.getValue().cypher(), entry.getValue().parameters());
+
+                assertThat(scanOperators(plan))
+                    .as("EXPLAIN %s", entry.getValue().cypher())
+                    .isEmpty();
+            }));
+    }
+
+    private record ExplainTarget(String cypher, Map<String, Object> parameters) {
+    }
+
+    private Map<String, ExplainTarget> queries() {
+        Map<String, ExplainTarget> queries = new LinkedHashMap<>();
+        for (Class<?> repository : List.of(CharacterNodeRepository.class, ConceptNodeRepository.class)) {
+            for (Method method : repository.getDeclaredMethods()) {
+                Query query = method.getAnnotation(Query.class);
+                if (query != null) {
+                    queries.put(repository.getSimpleName() + "." + method.getName(),
+                        new ExplainTarget(query.value(), parameters(method)));
+                }
+            }
+        }
+
+        Map<String, String> readQueries = Map.ofEntries(
+            Map.entry("FIND_CHARACTERS", GraphReadRepository.FIND_CHARACTERS),
+            Map.entry("FIND_CHARACTER", GraphReadRepository.FIND_CHARACTER),
+            Map.entry("FIND_BY_RELATION_TYPE", GraphReadRepository.FIND_BY_RELATION_TYPE),
+            Map.entry("FIND_CHARACTERS_BY_RDB_IDS", GraphReadRepository.FIND_CHARACTERS_BY_RDB_IDS),
+            Map.entry("FIND_PATH_RELATIONSHIPS", GraphReadRepository.FIND_PATH_RELATIONSHIPS),
+            Map.entry("FIND_RELATIONSHIPS", GraphReadRepository.FIND_RELATIONSHIPS),
+            Map.entry("FIND_RELATIONSHIPS_BY_EPISODE", GraphReadRepository.FIND_RELATIONSHIPS_BY_EPISODE),
+            Map.entry("FIND_SIMILAR_CONCEPTS", GraphReadRepository.FIND_SIMILAR_CONCEPTS),
+            Map.entry("FIND_TOP_CONCEPT_IDS", GraphReadRepository.FIND_TOP_CONCEPT_IDS),
+            Map.entry("FIND_EPISODE_CONCEPT_IDS", GraphReadRepository.FIND_EPISODE_CONCEPT_IDS),
+            Map.entry("FIND_CHARACTER_CONCEPT_IDS", GraphReadRepository.FIND_CHARACTER_CONCEPT_IDS)
+        );
+        readQueries.forEach((name, cypher) ->
+            queries.put("GraphReadRepository." + name, new ExplainTarget(cypher, parameters(cypher))));
+        return queries;
+    }
+
+    private Plan explain(String cypher, Map<String, Object> parameters) {
+        try (Session session = driver.session()) {
+            return session.run("EXPLAIN " + cypher, parameters).consume().plan();
+        }
+    }
+
+    private static List<String> scanOperators(Plan plan) {
+        List<String> found = new ArrayList<>();
+        collectScans(plan, found);
+        return found;
+    }
+
+    private static void collectScans(Plan plan, List<String> found) {
+        // Neo4j 5는 연산자 이름 뒤에 "@neo4j" 같은 런타임 접미사를 붙임
+        String operator = plan.operatorType();
+        if (SCAN_OPERATORS.stream().anyMatch(operator::startsWith)) {
+            found.add(operator + " " + plan.identifiers());
+        }
+        for (Plan child : plan.children()) {
+            collectScans(child, found);
+        }
+    }
+
+    /**
+     * @Query 메서드 파라미터 타입에 맞는 샘플 값
+     */
+    private static Map<String, Object> parameters(Method method) {
+        Map<String, Object> parameters = new HashMap<>();
+        for (Parameter parameter : method.getParameters()) {
+            Param param = parameter.getAnnotation(Param.class);
+            String name = param != null ? param.value() : parameter.getName();
+            Class<?> type = parameter.getType();
+            if (type == Long.class || type == long.class || type == Integer.class || type == int.class) {
+                parameters.put(name, 1L);
+            } else if (type == Double.class || type == double.class) {
+                parameters.put(name, 0.5);
+            } else {
+                parameters.put(name, "sample");
+            }
+        }
+        return parameters;
+    }
+
+    /**
+     * Cypher 문자열의 $파라미터에 대한 샘플 값 (이름 규칙 기반)
+     */
+    private static Map<String, Object> parameters(String cypher) {
+        Map<String, Object> parameters = new HashMap<>();
+        Matcher matcher = PARAMETER.matcher(cypher);
+        while (matcher.find()) {
+            String name = matcher.group(1);
+            if (name.endsWith("Ids")) {
+                parameters.put(name, List.of(1L, 2L));
+            } else if (name.endsWith("CharacterId") || name.equals("characterId") || name.equals("relationType")) {
+                parameters.put(name, "sample");
+            } else {
+                parameters.put(name, 1L);
+            }
+        }
+        return parameters;
+    }
+}
@@ -0,0 +1,112 @@
+package com.jwyoo.api.graph.service;
+
+import com.jwyoo.api.entity.CharacterCooccurrence;
+import com.jwyoo.api.exception.InvalidGraphSourceException;
+import com.jwyoo.api.graph.dto.SceneSpeakerRow;
+import com.jwyoo.api.repository.CharacterCooccurrenceRepository;
+import com.jwyoo.api.repository.DialogueRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * CharacterCooccurrenceService 단위 테스트
+ * 장면별 화자 집계 → 캐릭터 쌍(장면 수, 대사 수), 에피소드 단위 행 교체와 그래프 캐시 폐기 테스트
+ */
+class CharacterCooccurrenceServiceTest {
+
+    private DialogueRepository dialogueRepository;
+    private CharacterCooccurrenceRepository cooccurrenceRepository;
+    private EpisodeRelationshipGraphService episodeRelationshipGraphService;
+    private CharacterCooccurrenceService service;
+
+    @BeforeEach
+    void setUp() {
+        dialogueRepository = mock(DialogueRepository.class);
+        cooccurrenceRepository = mock(CharacterCooccurrenceRepository.class);
+        episodeRelationshipGraphService = mock(EpisodeRelationshipGraphService.class);
+        service = new CharacterCooccurrenceService(dialogueRepository, cooccurrenceRepository,
+            episodeRelationshipGraphService, new TransactionTemplate(mock(PlatformTransactionManager.class)), 1);
+    }
+
+    @Test
+    @DisplayName("같은 장면에서 대사를 한 캐릭터 쌍마다 장면 수와 두 캐릭터의 대사 수 합계를 집계")
+    void aggregate_CountsScenesAndLines() {
+        // given: 에피소드 10의 장면 100(캐릭터 1, 2, 3), 장면 101(캐릭터 2, 1), 에피소드 11의 장면 200(캐릭터 1만)
+        List<SceneSpeakerRow> speakers = List.of(
+            new SceneSpeakerRow(1L, 10L, 100L, 2L, 3L),
+            new SceneSpeakerRow(1L, 10L, 100L, 1L, 4L),
+            new SceneSpeakerRow(1L, 10L, 100L, 3L, 1L),
+            new SceneSpeakerRow(1L, 10L, 101L, 2L, 2L),
+            new SceneSpeakerRow(1L, 10L, 101L, 1L, 5L),
+            new SceneSpeakerRow(1L, 11L, 200L, 1L, 9L)
+        );
+
+        // when
+        List<CharacterCooccurrence> rows = CharacterCooccurrenceService.aggregate(speakers);
+
+        // then
+        assertThat(rows).extracting(
+                CharacterCooccurrence::getEpisodeId, CharacterCooccurrence::getCharacterAId,
+                CharacterCooccurrence::getCharacterBId, CharacterCooccurrence::getSceneCount,
+                CharacterCooccurrence::getLineCount)
+            .containsExactly(
+                tuple(10L, 1L, 2L, 2, 14),
+                tuple(10L, 1L, 3L, 1, 5),
+                tuple(10L, 2L, 3L, 1, 4)
+            );
+        assertThat(rows).allMatch(row -> row.getProjectId().equals(1L));
+    }
+
+    @Test
+    @DisplayName("에피소드 묶음마다 기존 행을 지운 뒤 다시 저장하고 에피소드 그래프 캐시를 폐기")
+    @SuppressWarnings("unchecked")
+    void refresh_ReplacesRowsPerEpisodeChunk() {
+        // given
+        when(dialogueRepository.findSceneSpeakerRows(List.of(10L))).thenReturn(List.of(
+            new SceneSpeakerRow(1L, 10L, 100L, 1L, 2L),
+            new SceneSpeakerRow(1L, 10L, 100L, 2L, 2L)
+        ));
+        when(dialogueRepository.findSceneSpeakerRows(List.of(11L))).thenReturn(List.of());
+
+        // when
+        CharacterCooccurrenceService.RefreshResult result = service.refresh(List.of(10L, 11L, 10L));
+
+        // then
+        assertThat(result.episodes()).isEqualTo(2);
+        assertThat(result.pairs()).isEqualTo(1);
+
+        InOrder inOrder = inOrder(cooccurrenceRepository);
+        inOrder.verify(cooccurrenceRepository).deleteByEpisodeIds(List.of(10L));
+        inOrder.verify(cooccurrenceRepository).insertAll(anyList());
+        inOrder.verify(cooccurrenceRepository).deleteByEpisodeIds(List.of(11L));
+
+        ArgumentCaptor<List<CharacterCooccurrence>> saved = ArgumentCaptor.forClass(List.class);
+        verify(cooccurrenceRepository, times(2)).insertAll(saved.capture());
+        assertThat(saved.getAllValues().get(0)).singleElement()
+            .satisfies(row -> assertThat(row.getLineCount()).isEqualTo(4));
+        assertThat(saved.getAllValues().get(1)).isEmpty();
+
+        verify(episodeRelationshipGraphService).invalidateEpisode(10L);
+        verify(episodeRelationshipGraphService).invalidateEpisode(11L);
+    }
+
+    @Test
+    @DisplayName("엣지 소스 파라미터는 relationship/cooccurrence만 허용")
+    void isCooccurrence_ValidatesSource() {
+        assertThat(CharacterCooccurrenceService.isCooccurrence("cooccurrence")).isTrue();
+        assertThat(CharacterCooccurrenceService.isCooccurrence("Relationship")).isFalse();
+        assertThatThrownBy(() -> CharacterCooccurrenceService.isCooccurrence("llm"))
+            .isInstanceOf(InvalidGraphSourceException.class);
+    }
+}
@@ -0,0 +1,123 @@
+package com.jwyoo.api.graph.service;
+
+import com.jwyoo.api.graph.dto.EpisodeCharacterRow;
+import com.jwyoo.api.graph.dto.EpisodeConceptRow;
+import com.jwyoo.api.graph.dto.EpisodeGraphRow;
+import com.jwyoo.api.graph.dto.SceneGraphRow;
+import com.jwyoo.api.repository.ConceptRepository;
+import com.jwyoo.api.repository.DialogueRepository;
+import com.jwyoo.api.repository.EpisodeRepository;
+import com.jwyoo.api.repository.SceneRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.neo4j.core.Neo4jClient;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * EpisodeGraphSyncService 단위 테스트
+ * 에피소드별 행 구성(장면/개념/등장 캐릭터), 삭제된 에피소드 처리, 에피소드 묶음 단위 기록 테스트
+ */
+class EpisodeGraphSyncServiceTest {
+
+    private EpisodeRepository episodeRepository;
+    private SceneRepository sceneRepository;
+    private ConceptRepository conceptRepository;
+    private DialogueRepository dialogueRepository;
+    private List<String> writtenCyphers;
+    private List<List<Map<String, Object>>> writtenRows;
+    private EpisodeGraphSyncService episodeGraphSyncService;
+
+    @BeforeEach
+    void setUp() {
+        episodeRepository = mock(EpisodeRepository.class);
+        sceneRepository = mock(SceneRepository.class);
+        conceptRepository = mock(ConceptRepository.class);
+        dialogueRepository = mock(DialogueRepository.class);
+        writtenCyphers = new ArrayList<>();
+        writtenRows = new ArrayList<>();
+
+        episodeGraphSyncService = new EpisodeGraphSyncService(
+            episodeRepository, sceneRepository, conceptRepository, dialogueRepository, mock(Neo4jClient.class), 2) {
+            @Override
+            void write(String cypher, List<Map<String, Object>> rows) {
+                writtenCyphers.add(cypher);
+                writtenRows.add(rows);
+            }
+        };
+    }
+
+    @Test
+    @DisplayName("에피소드 행에 장면/개념 ID와 등장 캐릭터 대사 수를 모아 기록")
+    void refresh_GroupsRowsByEpisode() {
+        // given
+        when(episodeRepository.findGraphRowsByIdIn(List.of(1L)))
+            .thenReturn(List.of(new EpisodeGraphRow(1L, 10L, "1화", 1)));
+        when(sceneRepository.findGraphRowsByEpisodeIdIn(List.of(1L)))
+            .thenReturn(List.of(new SceneGraphRow(100L, 1L, 1, "학교", "tense"), new SceneGraphRow(101L, 1L, 2, null, null)));
+        when(conceptRepository.findEpisodeConceptRows(List.of(1L)))
+            .thenReturn(List.of(new EpisodeConceptRow(1L, 7L), new EpisodeConceptRow(1L, 8L)));
+        when(dialogueRepository.findEpisodeCharacterRows(List.of(1L)))
+            .thenReturn(List.of(new EpisodeCharacterRow(1L, 3L, 5L)));
+
+        // when
+        EpisodeGraphSyncService.RefreshResult result = episodeGraphSyncService.refresh(List.of(1L));
+
+        // then
+        assertThat(writtenCyphers).containsExactly(
+            EpisodeGraphSyncService.UPSERT_EPISODES,
+            EpisodeGraphSyncService.DELETE_STALE_SCENES,
+            EpisodeGraphSyncService.UPSERT_SCENES,
+            EpisodeGraphSyncService.REPLACE_EPISODE_CONCEPTS,
+            EpisodeGraphSyncService.REPLACE_CHARACTER_CONCEPTS);
+        Map<String, Object> row = writtenRows.get(0).get(0);
+        assertThat(row).containsEntry("rdbId", 1L).containsEntry("projectId", 10L);
+        assertThat(row.get("sceneIds")).isEqualTo(List.of(100L, 101L));
+        assertThat(row.get("conceptIds")).isEqualTo(List.of(7L, 8L));
+        assertThat(row.get("characters")).isEqualTo(List.of(Map.of("characterId", 3L, "appearances", 5L)));
+        assertThat(writtenRows.get(2)).hasSize(2);
+        assertThat(result.characterLinks()).isEqualTo(2);
+        assertThat(result.deleted()).isZero();
+    }
+
+    @Test
+    @DisplayName("RDB에 없는 에피소드는 노드 삭제만 하고 하위 조회를 건너뜀")
+    void refresh_DeletesMissingEpisodes() {
+        // given
+        when(episodeRepository.findGraphRowsByIdIn(List.of(5L))).thenReturn(List.of());
+
+        // when
+        EpisodeGraphSyncService.RefreshResult result = episodeGraphSyncService.refresh(List.of(5L));
+
+        // then
+        assertThat(writtenCyphers).containsExactly(EpisodeGraphSyncService.DELETE_EPISODES);
+        assertThat(writtenRows.get(0)).containsExactly(Map.of("rdbId", 5L));
+        assertThat(result.deleted()).isEqualTo(1);
+        verify(sceneRepository, never()).findGraphRowsByEpisodeIdIn(any());
+    }
+
+    @Test
+    @DisplayName("중복을 제거한 뒤 배치 크기만큼 에피소드를 묶어 조회/기록")
+    void refresh_ChunksEpisodes() {
+        // given
+        when(episodeRepository.findGraphRowsByIdIn(any())).thenAnswer(invocation -> {
+            List<Long> ids = invocation.getArgument(0);
+            return ids.stream().map(id -> new EpisodeGraphRow(id, 10L, "ep" + id, id.intValue())).toList();
+        });
+
+        // when
+        EpisodeGraphSyncService.RefreshResult result = episodeGraphSyncService.refresh(List.of(1L, 2L, 2L, 3L));
+
+        // then
+        verify(episodeRepository).findGraphRowsByIdIn(List.of(1L, 2L));
+        verify(episodeRepository).findGraphRowsByIdIn(List.of(3L));
+        assertThat(result.episodes()).isEqualTo(3);
+    }
+}
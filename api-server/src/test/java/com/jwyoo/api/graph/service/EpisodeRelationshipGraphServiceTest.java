@@ -0,0 +1,161 @@
+package com.jwyoo.api.graph.service;
+
+import com.jwyoo.api.cache.CacheInvalidationBus;
+import com.jwyoo.api.cache.LocalCacheRegion;
+import com.jwyoo.api.graph.analytics.CsrGraph;
+import com.jwyoo.api.graph.analytics.ForceLayout;
+import com.jwyoo.api.graph.analytics.GraphLayout;
+import com.jwyoo.api.graph.dto.EpisodeGraphEdgeRow;
+import com.jwyoo.api.graph.dto.EpisodeGraphNodeView;
+import com.jwyoo.api.repository.CharacterCooccurrenceRepository;
+import com.jwyoo.api.repository.EpisodeRelationshipRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.beans.factory.ObjectProvider;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * EpisodeRelationshipGraphService 단위 테스트
+ * 한 번의 조립(노드 중복 제거, 좌표), 에피소드/캐릭터 변경 시 캐시 폐기, 배치 버전 변경 시 재조립,
+ * 다른 노드와의 무효화 메시지 교환, 최대 보관 시간 테스트
+ */
+class EpisodeRelationshipGraphServiceTest {
+
+    private EpisodeRelationshipRepository episodeRelationshipRepository;
+    private GraphLayoutService graphLayoutService;
+    private EpisodeRelationshipGraphService service;
+    private GraphLayout layout;
+    private CacheInvalidationBus invalidationBus;
+    private LocalCacheRegion remoteRegion;
+
+    @BeforeEach
+    void setUp() {
+        episodeRelationshipRepository = mock(EpisodeRelationshipRepository.class);
+        graphLayoutService = mock(GraphLayoutService.class);
+        invalidationBus = mock(CacheInvalidationBus.class);
+        service = newService(Duration.ofMinutes(5));
+        ArgumentCaptor<LocalCacheRegion> region = ArgumentCaptor.forClass(LocalCacheRegion.class);
+        verify(invalidationBus).register(region.capture());
+        remoteRegion = region.getValue();
+
+        // 캐릭터 1, 2만 배치에 있음 (3은 아직 그래프에 동기화되지 않음)
+        CsrGraph graph = CsrGraph.build(
+            List.of(new CsrGraph.NodeRow(1, "c1", "A"), new CsrGraph.NodeRow(2, "c2", "B")),
+            List.of(new CsrGraph.EdgeRow(1, 2, 1.0)));
+        layout = new ForceLayout(ForkJoinPool.commonPool(), 10, 5, 0.8).compute(graph, null);
+        when(graphLayoutService.getLayout(1L)).thenReturn(new GraphLayoutService.ProjectLayout(7L, layout, List.of()));
+
+        when(episodeRelationshipRepository.findGraphEdgeRows(10L, 1L)).thenReturn(List.of(
+            new EpisodeGraphEdgeRow(100L, 1L, "A", 2L, "B", "friend", 7.5),
+            new EpisodeGraphEdgeRow(101L, 2L, "B", 3L, "C", "rival", null)
+        ));
+    }
+
+    @Test
+    @DisplayName("관계 행을 한 번 훑어 중복 없는 노드와 엣지를 조립하고, 배치에 없는 캐릭터는 좌표 없음")
+    void getEpisodeGraph_AssemblesInOnePass() {
+        // when
+        EpisodeRelationshipGraphService.EpisodeGraph graph = service.getEpisodeGraph(1L, 10L);
+
+        // then
+        assertThat(graph.layoutVersion()).isEqualTo(7L);
+        assertThat(graph.nodes()).extracting(EpisodeGraphNodeView::id).containsExactly(1L, 2L, 3L);
+        assertThat(graph.nodes().get(0).x()).isEqualTo(GraphLayoutService.round(layout.position(1L).x()));
+        assertThat(graph.nodes().get(2).x()).isNull();
+        assertThat(graph.edges()).hasSize(2);
+        assertThat(graph.edges().get(0).source()).isEqualTo(1L);
+        assertThat(graph.edges().get(0).closeness()).isEqualTo(7.5);
+        assertThat(graph.edges().get(1).closeness()).isEqualTo(0.0);
+    }
+
+    @Test
+    @DisplayName("에피소드 관계가 바뀌기 전까지는 RDB를 다시 조회하지 않음")
+    void getEpisodeGraph_CachedUntilEpisodeChanges() {
+        // when
+        EpisodeRelationshipGraphService.EpisodeGraph first = service.getEpisodeGraph(1L, 10L);
+        EpisodeRelationshipGraphService.EpisodeGraph second = service.getEpisodeGraph(1L, 10L);
+        service.invalidateEpisode(11L);
+        EpisodeRelationshipGraphService.EpisodeGraph third = service.getEpisodeGraph(1L, 10L);
+        service.invalidateEpisode(10L);
+        service.getEpisodeGraph(1L, 10L);
+
+        // then
+        assertThat(second).isSameAs(first);
+        assertThat(third).isSameAs(first);
+        verify(episodeRelationshipRepository, times(2)).findGraphEdgeRows(10L, 1L);
+    }
+
+    @Test
+    @DisplayName("등장 캐릭터가 바뀌면 폐기, 배치 버전만 바뀌면 캐시된 행으로 좌표만 재조립")
+    void getEpisodeGraph_CharacterChangeAndLayoutVersion() {
+        // given
+        service.getEpisodeGraph(1L, 10L);
+
+        // when
+        service.invalidateCharacter(99L);
+        service.getEpisodeGraph(1L, 10L);
+        when(graphLayoutService.getLayout(1L)).thenReturn(new GraphLayoutService.ProjectLayout(8L, layout, List.of()));
+        EpisodeRelationshipGraphService.EpisodeGraph relaid = service.getEpisodeGraph(1L, 10L);
+        service.invalidateCharacter(3L);
+        service.getEpisodeGraph(1L, 10L);
+
+        // then
+        assertThat(relaid.layoutVersion()).isEqualTo(8L);
+        verify(episodeRelationshipRepository, times(2)).findGraphEdgeRows(10L, 1L);
+    }
+
+    @Test
+    @DisplayName("무효화를 다른 노드에 알리고, 다른 노드가 보낸 에피소드/캐릭터 무효화를 로컬 캐시에 반영")
+    void invalidation_ExchangedWithOtherNodes() {
+        // given
+        service.getEpisodeGraph(1L, 10L);
+
+        // when
+        service.invalidateEpisode(10L);
+        service.invalidateCharacter(2L);
+        service.getEpisodeGraph(1L, 10L);
+        remoteRegion.evictLocal("episode:10");
+        service.getEpisodeGraph(1L, 10L);
+        remoteRegion.evictLocal("character:3");
+        service.getEpisodeGraph(1L, 10L);
+        remoteRegion.evictLocal("episode:11");
+        service.getEpisodeGraph(1L, 10L);
+
+        // then
+        assertThat(remoteRegion.getName()).isEqualTo("episodeGraph");
+        verify(invalidationBus).publishEvict("episodeGraph", "episode:10");
+        verify(invalidationBus).publishEvict("episodeGraph", "character:2");
+        verify(episodeRelationshipRepository, times(4)).findGraphEdgeRows(10L, 1L);
+    }
+
+    @Test
+    @DisplayName("최대 보관 시간이 지난 그래프는 무효화 메시지가 없어도 다시 읽음")
+    void getEpisodeGraph_ReloadsAfterMaxAge() {
+        // given
+        service = newService(Duration.ZERO);
+
+        // when
+        service.getEpisodeGraph(1L, 10L);
+        service.getEpisodeGraph(1L, 10L);
+
+        // then
+        verify(episodeRelationshipRepository, times(2)).findGraphEdgeRows(10L, 1L);
+    }
+
+    @SuppressWarnings("unchecked")
+    private EpisodeRelationshipGraphService newService(Duration maxAge) {
+        ObjectProvider<CacheInvalidationBus> provider = mock(ObjectProvider.class);
+        when(provider.getIfAvailable()).thenReturn(invalidationBus);
+        return new EpisodeRelationshipGraphService(
+            episodeRelationshipRepository, mock(CharacterCooccurrenceRepository.class), graphLayoutService,
+            mock(GraphReadCache.class), 16, maxAge, provider);
+    }
+}
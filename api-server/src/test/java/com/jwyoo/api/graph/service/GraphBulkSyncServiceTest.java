@@ -0,0 +1,208 @@
+package com.jwyoo.api.graph.service;
+
+import com.jwyoo.api.exception.GraphSyncLockedException;
+import com.jwyoo.api.graph.dto.CharacterSyncRow;
+import com.jwyoo.api.graph.dto.GraphSyncCheckpoint;
+import com.jwyoo.api.graph.dto.GraphSyncProgress;
+import com.jwyoo.api.graph.dto.RelationshipSyncRow;
+import com.jwyoo.api.graph.store.GraphStore;
+import com.jwyoo.api.repository.CharacterRepository;
+import com.jwyoo.api.repository.EpisodeRelationshipRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Pageable;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * GraphBulkSyncService 단위 테스트
+ * 키셋 페이지네이션, 배치 단위 기록, 체크포인트 재개 및 잠금 테스트
+ */
+class GraphBulkSyncServiceTest {
+
+    private CharacterRepository characterRepository;
+    private EpisodeRelationshipRepository episodeRelationshipRepository;
+    private GraphStore graphStore;
+    private GraphSyncLock syncLock;
+    private CharacterStatsService characterStatsService;
+    private GraphBulkSyncService graphBulkSyncService;
+
+    @BeforeEach
+    void setUp() {
+        characterRepository = mock(CharacterRepository.class);
+        episodeRelationshipRepository = mock(EpisodeRelationshipRepository.class);
+        graphStore = mock(GraphStore.class);
+        syncLock = mock(GraphSyncLock.class);
+        characterStatsService = mock(CharacterStatsService.class);
+        when(syncLock.refresh(any(), any())).thenReturn(true);
+
+        graphBulkSyncService = new GraphBulkSyncService(
+            characterRepository, episodeRelationshipRepository, graphStore, syncLock,
+            mock(GraphVersionService.class), characterStatsService, 2);
+    }
+
+    @Test
+    @DisplayName("캐릭터를 마지막 ID 기준 키셋 페이지로 나누어 기록")
+    void syncAllCharacters_KeysetPaging() {
+        // given
+        when(characterRepository.findSyncRowsAfter(eq(0L), any(Pageable.class)))
+            .thenReturn(List.of(character(1L), character(3L)));
+        when(characterRepository.findSyncRowsAfter(eq(3L), any(Pageable.class)))
+            .thenReturn(List.of(character(7L)));
+        GraphSyncProgress progress = new GraphSyncProgress("all", 2);
+
+        // when
+        graphBulkSyncService.syncCharacters(progress, null, 0L, "token");
+
+        // then
+        verify(graphStore).upsertCharacters(List.of(character(1L), character(3L)));
+        verify(graphStore).upsertCharacters(List.of(character(7L)));
+        assertThat(progress.getSyncedCharacters()).isEqualTo(3);
+        assertThat(progress.getBatches()).isEqualTo(2);
+        verify(characterRepository, never()).findSyncRowsAfter(eq(7L), any(Pageable.class));
+        verify(graphStore).saveCheckpoint("all", new GraphSyncCheckpoint(GraphSyncProgress.PHASE_CHARACTERS, 3L));
+        verify(graphStore).saveCheckpoint("all", new GraphSyncCheckpoint(GraphSyncProgress.PHASE_CHARACTERS, 7L));
+    }
+
+    @Test
+    @DisplayName("페이지가 가득 차면 빈 페이지가 나올 때까지 계속 조회")
+    void syncAllRelationships_StopsOnEmptyPage() {
+        // given
+        when(episodeRelationshipRepository.findSyncRowsAfter(eq(0L), any(Pageable.class)))
+            .thenReturn(List.of(relationship(10L), relationship(11L)));
+        when(episodeRelationshipRepository.findSyncRowsAfter(eq(11L), any(Pageable.class)))
+            .thenReturn(List.of());
+        GraphSyncProgress progress = new GraphSyncProgress("all", 2);
+
+        // when
+        graphBulkSyncService.syncRelationships(progress, null, 0L, "token");
+
+        // then
+        verify(graphStore).upsertRelationships(List.of(relationship(10L), relationship(11L)));
+        verify(graphStore, never()).upsertCharacters(any());
+        assertThat(progress.getSyncedRelationships()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("프로젝트 동기화는 체크포인트 다음부터 재개하고 완료 후 체크포인트 삭제")
+    void runSync_ResumesFromCheckpoint() {
+        // given: 캐릭터 단계는 끝났고 관계 ID 20까지 기록된 상태에서 중단됨
+        when(graphStore.loadCheckpoint("project:1"))
+            .thenReturn(Optional.of(new GraphSyncCheckpoint(GraphSyncProgress.PHASE_RELATIONSHIPS, 20L)));
+        when(episodeRelationshipRepository.findSyncRowsByProjectAfter(eq(1L), eq(20L), any(Pageable.class)))
+            .thenReturn(List.of(relationship(21L)));
+        GraphSyncProgress progress = new GraphSyncProgress("project:1", 2);
+
+        // when
+        graphBulkSyncService.runSync(progress, 1L, "token");
+
+        // then
+        assertThat(progress.getStatus()).isEqualTo(GraphSyncProgress.Status.COMPLETED);
+        assertThat(progress.getResumedFrom()).isEqualTo("relationships:20");
+        assertThat(progress.getSyncedRelationships()).isEqualTo(1);
+        verify(characterRepository, never()).findSyncRowsByProjectAfter(any(), any(), any(Pageable.class));
+        verify(episodeRelationshipRepository, never()).findSyncRowsAfter(any(), any(Pageable.class));
+        verify(characterStatsService).recalculate(List.of(1L));
+        verify(graphStore).clearCheckpoint("project:1");
+        verify(syncLock).release("project:1", "token");
+    }
+
+    @Test
+    @DisplayName("잠금을 잃으면 작업을 실패 처리하고 중단")
+    void runSync_FailsWhenLockLost() {
+        // given
+        when(graphStore.loadCheckpoint("project:1")).thenReturn(Optional.empty());
+        when(characterRepository.findSyncRowsByProjectAfter(eq(1L), eq(0L), any(Pageable.class)))
+            .thenReturn(List.of(character(1L), character(2L)));
+        when(syncLock.refresh("project:1", "token")).thenReturn(false);
+        GraphSyncProgress progress = new GraphSyncProgress("project:1", 2);
+
+        // when
+        graphBulkSyncService.runSync(progress, 1L, "token");
+
+        // then
+        assertThat(progress.getStatus()).isEqualTo(GraphSyncProgress.Status.FAILED);
+        verify(characterRepository, never()).findSyncRowsByProjectAfter(eq(1L), eq(2L), any(Pageable.class));
+        verify(graphStore, never()).clearCheckpoint(any());
+    }
+
+    @Test
+    @DisplayName("다른 노드가 잠금을 보유하면 예외")
+    void startProjectSync_LockedElsewhere() {
+        // given
+        when(syncLock.isHeld("project:1")).thenReturn(true);
+
+        // when & then
+        assertThatThrownBy(() -> graphBulkSyncService.startProjectSync(1L))
+            .isInstanceOf(GraphSyncLockedException.class);
+        assertThat(graphBulkSyncService.getProjectSyncStatus(1L)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("대기열에서 꺼낸 뒤 잠금을 잡으며, 그사이 다른 노드가 잡았으면 기록 없이 실패 처리")
+    void acquireAndRun_LockTakenWhileQueued() {
+        // given
+        when(syncLock.tryAcquire("project:1")).thenReturn(Optional.empty());
+        GraphSyncProgress progress = new GraphSyncProgress("project:1", 2);
+        assertThat(progress.getStatus()).isEqualTo(GraphSyncProgress.Status.QUEUED);
+
+        // when
+        graphBulkSyncService.acquireAndRun(progress, 1L);
+
+        // then
+        assertThat(progress.getStatus()).isEqualTo(GraphSyncProgress.Status.FAILED);
+        assertThat(progress.getStartedAt()).isNull();
+        verifyNoInteractions(graphStore);
+        verify(syncLock, never()).release(any(), any());
+    }
+
+    @Test
+    @DisplayName("잠금을 잡으면 RUNNING으로 바꾸고 같은 토큰으로 실행 후 해제")
+    void acquireAndRun_AcquiresBeforeRunning() {
+        // given
+        when(syncLock.tryAcquire("project:1")).thenReturn(Optional.of("token"));
+        when(graphStore.loadCheckpoint("project:1")).thenReturn(Optional.empty());
+        when(characterRepository.findSyncRowsByProjectAfter(eq(1L), eq(0L), any(Pageable.class)))
+            .thenReturn(List.of(character(1L)));
+        when(episodeRelationshipRepository.findSyncRowsByProjectAfter(eq(1L), eq(0L), any(Pageable.class)))
+            .thenReturn(List.of());
+        GraphSyncProgress progress = new GraphSyncProgress("project:1", 2);
+
+        // when
+        graphBulkSyncService.acquireAndRun(progress, 1L);
+
+        // then
+        assertThat(progress.getStatus()).isEqualTo(GraphSyncProgress.Status.COMPLETED);
+        assertThat(progress.getStartedAt()).isNotNull();
+        verify(syncLock).refresh("project:1", "token");
+        verify(syncLock).release("project:1", "token");
+    }
+
+    @Test
+    @DisplayName("관계 행은 Cypher 파라미터 키로 변환")
+    void relationshipRow_ToParameters() {
+        Map<String, Object> parameters = relationship(5L).toParameters();
+
+        assertThat(parameters)
+            .containsEntry("fromId", 1L)
+            .containsEntry("toId", 2L)
+            .containsEntry("episodeId", 100L)
+            .containsEntry("closeness", 7.5);
+    }
+
+    private CharacterSyncRow character(Long id) {
+        return new CharacterSyncRow(id, 1L, "char-" + id, "이름" + id, null, null, null);
+    }
+
+    private RelationshipSyncRow relationship(Long id) {
+        return new RelationshipSyncRow(id, 1L, 100L, 1L, 2L, "friend", 7.5, null);
+    }
+}
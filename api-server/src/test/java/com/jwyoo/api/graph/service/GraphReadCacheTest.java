@@ -0,0 +1,119 @@
+package com.jwyoo.api.graph.service;
+
+import com.jwyoo.api.graph.dto.GraphCacheStats;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * GraphReadCache 단위 테스트
+ * 그래프 버전 기준 적중/재적재, 실패 시 미보관 및 통계 테스트
+ */
+class GraphReadCacheTest {
+
+    private GraphVersionService graphVersionService;
+    private GraphReadCache graphReadCache;
+    private AtomicInteger loads;
+
+    @BeforeEach
+    void setUp() {
+        graphVersionService = mock(GraphVersionService.class);
+        graphReadCache = new GraphReadCache(graphVersionService, 2);
+        loads = new AtomicInteger();
+    }
+
+    @Test
+    @DisplayName("같은 버전이면 적재 없이 캐시 결과 반환")
+    void get_HitsWithinVersion() {
+        // given
+        when(graphVersionService.currentVersion(1L)).thenReturn(3L);
+
+        // when
+        List<String> first = graphReadCache.get("relationships", 1L, "", this::load);
+        List<String> second = graphReadCache.get("relationships", 1L, "", this::load);
+
+        // then
+        assertThat(second).isSameAs(first);
+        assertThat(loads.get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("버전이 바뀌면 다시 적재하고, 더 오래된 버전을 읽은 요청은 새 결과를 덮어쓰지 않음")
+    void get_ReloadsOnNewVersion() {
+        // given
+        when(graphVersionService.currentVersion(1L)).thenReturn(3L, 4L, 3L, 4L);
+
+        // when
+        graphReadCache.get("relationships", 1L, "", this::load);
+        List<String> v4 = graphReadCache.get("relationships", 1L, "", this::load);
+        graphReadCache.get("relationships", 1L, "", this::load);
+        List<String> again = graphReadCache.get("relationships", 1L, "", this::load);
+
+        // then
+        assertThat(loads.get()).isEqualTo(3);
+        assertThat(again).isSameAs(v4);
+    }
+
+    @Test
+    @DisplayName("프로젝트와 키별로 분리하여 보관")
+    void get_SeparatesProjectsAndKeys() {
+        // given
+        when(graphVersionService.currentVersion(anyLong())).thenReturn(1L);
+
+        // when
+        List<String> episode1 = graphReadCache.get("relationships-by-episode", 1L, "1", this::load);
+        List<String> episode2 = graphReadCache.get("relationships-by-episode", 1L, "2", this::load);
+        List<String> otherProject = graphReadCache.get("relationships-by-episode", 2L, "1", this::load);
+
+        // then
+        assertThat(loads.get()).isEqualTo(3);
+        assertThat(episode1).isNotSameAs(episode2).isNotSameAs(otherProject);
+    }
+
+    @Test
+    @DisplayName("적재 실패는 보관하지 않고 다음 조회에서 다시 적재")
+    void get_DoesNotCacheFailures() {
+        // given
+        when(graphVersionService.currentVersion(1L)).thenReturn(1L);
+
+        // when & then
+        assertThatThrownBy(() -> graphReadCache.get("relationships", 1L, "", () -> {
+            throw new IllegalStateException("neo4j down");
+        })).isInstanceOf(IllegalStateException.class);
+
+        graphReadCache.get("relationships", 1L, "", this::load);
+        assertThat(loads.get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("캐시 이름별 적중률과 재계산 횟수 집계")
+    void stats_ReportsHitRate() {
+        // given
+        when(graphVersionService.currentVersion(1L)).thenReturn(1L);
+        graphReadCache.get("relationships", 1L, "", this::load);
+        graphReadCache.get("relationships", 1L, "", this::load);
+        graphReadCache.get("relationships", 1L, "", this::load);
+        graphReadCache.recordLoad("centrality", 2_000_000L);
+
+        // when
+        List<GraphCacheStats> stats = graphReadCache.stats();
+
+        // then
+        assertThat(stats).extracting(GraphCacheStats::name).containsExactly("centrality", "relationships");
+        GraphCacheStats relationships = stats.get(1);
+        assertThat(relationships.hits()).isEqualTo(2);
+        assertThat(relationships.misses()).isEqualTo(1);
+        assertThat(relationships.hitRate()).isCloseTo(2.0 / 3, within(1e-9));
+        assertThat(stats.get(0).averageLoadMillis()).isCloseTo(2.0, within(1e-9));
+    }
+
+    private List<String> load() {
+        return List.of("load-" + loads.incrementAndGet());
+    }
+}
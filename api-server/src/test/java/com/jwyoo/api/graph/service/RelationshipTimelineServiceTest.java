@@ -0,0 +1,102 @@
+package com.jwyoo.api.graph.service;
+
+import com.jwyoo.api.graph.analytics.RelationshipTimeline;
+import com.jwyoo.api.graph.dto.TimelineCharacterRow;
+import com.jwyoo.api.graph.dto.TimelineEdgeRow;
+import com.jwyoo.api.graph.dto.TimelineEpisodeRow;
+import com.jwyoo.api.repository.CharacterRepository;
+import com.jwyoo.api.repository.EpisodeRelationshipRepository;
+import com.jwyoo.api.repository.EpisodeRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * RelationshipTimelineService 단위 테스트
+ * 이 서버 변경만 있을 때 dirty 에피소드 증분 갱신, 다른 서버 변경이 섞이면 전체 재구성 테스트
+ */
+class RelationshipTimelineServiceTest {
+
+    private EpisodeRepository episodeRepository;
+    private CharacterRepository characterRepository;
+    private EpisodeRelationshipRepository episodeRelationshipRepository;
+    private GraphVersionService graphVersionService;
+    private RelationshipTimelineService service;
+
+    private static final TimelineEdgeRow EDGE_1 = new TimelineEdgeRow(100L, 10L, 1L, 2L, "friend", 5.0, null);
+    private static final TimelineEdgeRow EDGE_1_UPDATED = new TimelineEdgeRow(100L, 10L, 1L, 2L, "rival", 2.0, null);
+    private static final TimelineEdgeRow EDGE_2 = new TimelineEdgeRow(101L, 20L, 2L, 1L, "friend", 4.0, null);
+    private static final TimelineEdgeRow EDGE_2_REMOTE = new TimelineEdgeRow(101L, 20L, 2L, 1L, "enemy", 1.0, null);
+
+    @BeforeEach
+    void setUp() {
+        episodeRepository = mock(EpisodeRepository.class);
+        characterRepository = mock(CharacterRepository.class);
+        episodeRelationshipRepository = mock(EpisodeRelationshipRepository.class);
+        graphVersionService = mock(GraphVersionService.class);
+        service = new RelationshipTimelineService(episodeRepository, characterRepository,
+            episodeRelationshipRepository, graphVersionService, mock(GraphReadCache.class));
+
+        when(episodeRepository.findTimelineRowsByProjectId(1L)).thenReturn(List.of(
+            new TimelineEpisodeRow(10L, 1, "1화"),
+            new TimelineEpisodeRow(20L, 2, "2화")
+        ));
+        when(characterRepository.findTimelineRowsByProjectId(1L)).thenReturn(List.of(
+            new TimelineCharacterRow(1L, "alice", "Alice"),
+            new TimelineCharacterRow(2L, "bob", "Bob")
+        ));
+        when(episodeRelationshipRepository.findTimelineRowsByProjectId(1L)).thenReturn(List.of(EDGE_1, EDGE_2));
+        when(graphVersionService.currentVersion(1L)).thenReturn(5L);
+        when(graphVersionService.localBumps(1L)).thenReturn(0L);
+    }
+
+    @Test
+    @DisplayName("버전 증가가 모두 이 서버 변경이면 dirty 에피소드 Segment만 다시 읽음")
+    void getTimeline_RefreshesDirtyEpisodeWhenOnlyLocalChanges() {
+        // given
+        service.getTimeline(1L);
+        when(episodeRelationshipRepository.findTimelineRowsByEpisodeId(10L)).thenReturn(List.of(EDGE_1_UPDATED));
+        when(graphVersionService.currentVersion(1L)).thenReturn(6L);
+        when(graphVersionService.localBumps(1L)).thenReturn(1L);
+        service.markEpisodeChanged(1L, 10L);
+
+        // when
+        RelationshipTimeline timeline = service.getTimeline(1L);
+
+        // then
+        assertThat(timeline.range(10L, 20L)).extracting(row -> row.get("relationType"))
+            .containsExactly("rival", "friend");
+        verify(episodeRelationshipRepository, times(1)).findTimelineRowsByProjectId(1L);
+        verify(episodeRelationshipRepository).findTimelineRowsByEpisodeId(10L);
+    }
+
+    @Test
+    @DisplayName("dirty 에피소드가 있어도 다른 서버의 버전 증가가 섞이면 전체 재구성하여 그 변경을 반영")
+    void getTimeline_RebuildsWhenRemoteVersionMovedWithDirtyEpisode() {
+        // given
+        service.getTimeline(1L);
+        when(episodeRelationshipRepository.findTimelineRowsByEpisodeId(10L)).thenReturn(List.of(EDGE_1_UPDATED));
+        // 이 서버 1회 + 다른 서버 1회 (에피소드 20 관계 변경)
+        when(graphVersionService.currentVersion(1L)).thenReturn(7L);
+        when(graphVersionService.localBumps(1L)).thenReturn(1L);
+        when(episodeRelationshipRepository.findTimelineRowsByProjectId(1L))
+            .thenReturn(List.of(EDGE_1_UPDATED, EDGE_2_REMOTE));
+        service.markEpisodeChanged(1L, 10L);
+
+        // when
+        RelationshipTimeline timeline = service.getTimeline(1L);
+        RelationshipTimeline again = service.getTimeline(1L);
+
+        // then
+        assertThat(timeline.range(10L, 20L)).extracting(row -> row.get("relationType"))
+            .containsExactly("rival", "enemy");
+        assertThat(again).isSameAs(timeline);
+        verify(episodeRelationshipRepository, times(2)).findTimelineRowsByProjectId(1L);
+        verify(episodeRelationshipRepository, never()).findTimelineRowsByEpisodeId(anyLong());
+    }
+}
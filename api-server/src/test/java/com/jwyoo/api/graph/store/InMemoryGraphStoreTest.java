@@ -0,0 +1,206 @@
+package com.jwyoo.api.graph.store;
+
+import com.jwyoo.api.graph.analytics.CsrGraph;
+import com.jwyoo.api.graph.dto.CharacterSyncRow;
+import com.jwyoo.api.graph.dto.CharacterView;
+import com.jwyoo.api.graph.dto.GraphPath;
+import com.jwyoo.api.graph.dto.GraphSyncCheckpoint;
+import com.jwyoo.api.graph.dto.RelationshipSyncRow;
+import com.jwyoo.api.graph.dto.RelationshipView;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * InMemoryGraphStore 단위 테스트
+ * 관계 upsert/delete와 연결 통계(자기 관계 포함), 일괄 동기화 배치/체크포인트, 경로/CSR 조회, 버전 및 파일 스냅샷 복원 테스트
+ */
+class InMemoryGraphStoreTest {
+
+    private static final long PROJECT = 10L;
+
+    private InMemoryGraphStore store;
+
+    @BeforeEach
+    void setUp() {
+        store = new InMemoryGraphStore("", Duration.ZERO);
+    }
+
+    @Test
+    @DisplayName("관계 upsert 시 없는 캐릭터 노드를 만들고 같은 에피소드 관계는 갱신")
+    void upsertRelationship_CreatesNodesAndUpdatesSameEpisode() {
+        // given
+        store.upsertCharacter(character(1L, "Bob"));
+
+        // when
+        store.upsertRelationship(relationship(5L, 1L, 2L, "friend", 0.5), character(1L, "ignored"), character(2L, "Alice"));
+        store.upsertRelationship(relationship(5L, 1L, 2L, "friend", 0.75), character(1L, "ignored"), character(2L, "ignored"));
+
+        // then: 이미 있던 노드 속성은 그대로, 관계는 하나
+        assertThat(store.findCharacters(PROJECT)).extracting(CharacterView::name).containsExactly("Alice", "Bob");
+        assertThat(store.findRelationships(PROJECT))
+            .extracting(RelationshipView::closeness).containsExactly(0.75);
+    }
+
+    @Test
+    @DisplayName("연결 통계는 양방향 관계 수, 서로 다른 이웃 수, closeness 합")
+    void stats_CountBothDirections() {
+        // given
+        store.upsertRelationship(relationship(5L, 1L, 2L, "friend", 0.5), character(1L, "Bob"), character(2L, "Alice"));
+        store.upsertRelationship(relationship(7L, 2L, 1L, "rival", 0.25), character(2L, "Alice"), character(1L, "Bob"));
+        store.upsertRelationship(relationship(5L, 1L, 3L, "friend", null), character(1L, "Bob"), character(3L, "Carl"));
+
+        // when
+        CharacterView bob = store.findCharacter(PROJECT, "c1").orElseThrow();
+        List<Map<String, Object>> degree = store.topByNeighborCount(PROJECT, 1);
+        List<Map<String, Object>> weighted = store.topByClosenessSum(PROJECT, 3);
+
+        // then
+        assertThat(bob.relationshipCount()).isEqualTo(3L);
+        assertThat(bob.neighborCount()).isEqualTo(2L);
+        assertThat(degree).containsExactly(Map.of("characterId", "c1", "name", "Bob", "degreeCentrality", 2L));
+        assertThat(weighted).extracting(row -> row.get("weightedDegree")).containsExactly(0.75, 0.75, 0.0);
+    }
+
+    @Test
+    @DisplayName("자기 자신으로의 관계는 연결 통계에 한 번만 집계")
+    void stats_CountSelfLoopOnce() {
+        // given
+        store.upsertRelationship(relationship(5L, 1L, 1L, "self", 0.5), character(1L, "Bob"), character(1L, "Bob"));
+        store.upsertRelationship(relationship(5L, 1L, 2L, "friend", 0.25), character(1L, "Bob"), character(2L, "Alice"));
+
+        // when
+        CharacterView bob = store.findCharacter(PROJECT, "c1").orElseThrow();
+        List<Map<String, Object>> weighted = store.topByClosenessSum(PROJECT, 1);
+
+        // then
+        assertThat(bob.relationshipCount()).isEqualTo(2L);
+        assertThat(bob.neighborCount()).isEqualTo(2L);
+        assertThat(weighted).extracting(row -> row.get("weightedDegree")).containsExactly(0.75);
+    }
+
+    @Test
+    @DisplayName("캐릭터 삭제 시 이웃 노드의 관계도 함께 제거")
+    void deleteCharacter_DetachesNeighbors() {
+        // given
+        store.upsertRelationship(relationship(5L, 1L, 2L, "friend", 0.5), character(1L, "Bob"), character(2L, "Alice"));
+        store.upsertRelationship(relationship(6L, 1L, 1L, "self", 0.1), character(1L, "Bob"), character(1L, "Bob"));
+
+        // when
+        assertThat(store.deleteCharacter(1L)).contains(PROJECT);
+
+        // then
+        assertThat(store.findCharacter(PROJECT, "c1")).isEmpty();
+        assertThat(store.findCharacter(PROJECT, "c2").orElseThrow().relationshipCount()).isZero();
+        assertThat(store.findRelationships(PROJECT)).isEmpty();
+        assertThat(store.deleteCharacter(1L)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("관계 삭제는 해당 에피소드 관계만 지우고 없으면 empty")
+    void deleteRelationship_RemovesSingleEpisode() {
+        // given
+        store.upsertRelationship(relationship(5L, 1L, 2L, "friend", 0.5), character(1L, "Bob"), character(2L, "Alice"));
+        store.upsertRelationship(relationship(7L, 1L, 2L, "rival", 0.2), character(1L, "Bob"), character(2L, "Alice"));
+
+        // when & then
+        assertThat(store.deleteRelationship(5L, 1L, 2L)).contains(PROJECT);
+        assertThat(store.deleteRelationship(5L, 1L, 2L)).isEmpty();
+        assertThat(store.findRelationshipsByEpisode(PROJECT, 7L)).hasSize(1);
+        assertThat(store.findCharacter(PROJECT, "c2").orElseThrow().neighborCount()).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("경로 상세는 구간마다 방향과 무관하게 가장 최근 에피소드 관계")
+    void findPathDetails_UsesLatestEpisodePerHop() {
+        // given
+        store.upsertRelationship(relationship(5L, 1L, 2L, "friend", 0.5), character(1L, "Bob"), character(2L, "Alice"));
+        store.upsertRelationship(relationship(9L, 2L, 1L, "rival", 0.1), character(2L, "Alice"), character(1L, "Bob"));
+        store.upsertRelationship(relationship(3L, 2L, 3L, "family", 0.9), character(2L, "Alice"), character(3L, "Carl"));
+
+        // when
+        GraphPath path = store.findPathDetails(PROJECT, List.of(1L, 2L, 3L));
+
+        // then
+        assertThat(path.characters()).extracting(CharacterView::rdbId).containsExactly(1L, 2L, 3L);
+        assertThat(path.relationships()).extracting(RelationshipView::episodeId).containsExactly(9L, 3L);
+    }
+
+    @Test
+    @DisplayName("CSR 투영은 프로젝트 안의 노드와 관계만 포함")
+    void loadGraph_StaysWithinProject() {
+        // given
+        store.upsertRelationship(relationship(5L, 1L, 2L, "friend", 0.5), character(1L, "Bob"), character(2L, "Alice"));
+        store.upsertRelationship(relationship(5L, 1L, 99L, "friend", 0.5), character(1L, "Bob"),
+            new CharacterSyncRow(99L, 20L, "c99", "Other", null, null, null));
+
+        // when
+        CsrGraph graph = store.loadGraph(PROJECT);
+
+        // then
+        assertThat(graph.nodeCount()).isEqualTo(2);
+        assertThat(graph.indexOf("c99")).isNegative();
+        assertThat(store.findProjectIds()).containsExactlyInAnyOrder(PROJECT, 20L);
+    }
+
+    @Test
+    @DisplayName("일괄 동기화 배치는 캐릭터를 갱신하고 양 끝 노드가 있는 관계만 기록, 체크포인트는 범위별로 보관")
+    void bulkUpsert_SkipsRelationshipsWithoutNodes() {
+        // given
+        store.upsertCharacter(character(1L, "Bob"));
+
+        // when
+        store.upsertCharacters(List.of(character(1L, "Bobby"), character(2L, "Alice")));
+        store.upsertRelationships(List.of(
+            relationship(5L, 1L, 2L, "friend", 0.5),
+            relationship(5L, 1L, 3L, "rival", 0.25)
+        ));
+        store.saveCheckpoint("project:10", new GraphSyncCheckpoint("relationships", 42L));
+
+        // then
+        assertThat(store.findCharacters(PROJECT)).extracting(CharacterView::name).containsExactly("Alice", "Bobby");
+        assertThat(store.findRelationships(PROJECT)).extracting(RelationshipView::relationType).containsExactly("friend");
+        assertThat(store.loadCheckpoint("project:10")).contains(new GraphSyncCheckpoint("relationships", 42L));
+        assertThat(store.loadCheckpoint("all")).isEmpty();
+
+        store.clearCheckpoint("project:10");
+        assertThat(store.loadCheckpoint("project:10")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("스냅샷 파일에서 그래프와 버전을 복원")
+    void snapshot_RestoresGraphAndVersions(@TempDir Path dir) throws Exception {
+        // given
+        String path = dir.resolve("graph-store.json").toString();
+        InMemoryGraphStore original = new InMemoryGraphStore(path, Duration.ZERO);
+        original.upsertRelationship(relationship(5L, 1L, 2L, "friend", 0.5), character(1L, "Bob"), character(2L, "Alice"));
+        original.bumpVersions(List.of(PROJECT, PROJECT));
+
+        // when
+        assertThat(original.snapshot()).isTrue();
+        assertThat(original.snapshot()).isFalse();
+        InMemoryGraphStore restored = new InMemoryGraphStore(path, Duration.ZERO);
+
+        // then
+        assertThat(restored.findRelationships(PROJECT)).isEqualTo(original.findRelationships(PROJECT));
+        assertThat(restored.findCharacters(PROJECT)).isEqualTo(original.findCharacters(PROJECT));
+        assertThat(restored.currentVersion(PROJECT)).isEqualTo(2L);
+        assertThat(restored.currentVersion(20L)).isZero();
+    }
+
+    private static CharacterSyncRow character(Long rdbId, String name) {
+        return new CharacterSyncRow(rdbId, PROJECT, "c" + rdbId, name, null, null, null);
+    }
+
+    private static RelationshipSyncRow relationship(Long episodeId, Long fromId, Long toId, String type, Double closeness) {
+        return new RelationshipSyncRow(null, PROJECT, episodeId, fromId, toId, type, closeness, null);
+    }
+}
@@ -0,0 +1,61 @@
+package com.jwyoo.api.graph.store;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * LongObjectMap 단위 테스트
+ * 삽입/삭제(클러스터 당기기)/확장 후에도 HashMap과 같은 내용인지 테스트
+ */
+class LongObjectMapTest {
+
+    @Test
+    @DisplayName("put/get/remove는 이전 값을 반환하고 크기를 유지")
+    void basicOperations() {
+        // given
+        LongObjectMap<String> map = new LongObjectMap<>();
+
+        // when & then
+        assertThat(map.put(1L, "a")).isNull();
+        assertThat(map.put(1L, "b")).isEqualTo("a");
+        assertThat(map.put(-7L, "c")).isNull();
+        assertThat(map.get(1L)).isEqualTo("b");
+        assertThat(map.remove(1L)).isEqualTo("b");
+        assertThat(map.remove(1L)).isNull();
+        assertThat(map.containsKey(-7L)).isTrue();
+        assertThat(map.size()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("무작위 삽입/삭제 후에도 HashMap과 같은 내용")
+    void randomOperations_MatchHashMap() {
+        // given
+        Random random = new Random(42L);
+        LongObjectMap<Long> map = new LongObjectMap<>();
+        Map<Long, Long> expected = new HashMap<>();
+
+        // when
+        for (int i = 0; i < 20_000; i++) {
+            long key = random.nextInt(500) - 100;
+            if (random.nextBoolean()) {
+                assertThat(map.put(key, (long) i)).isEqualTo(expected.put(key, (long) i));
+            } else {
+                assertThat(map.remove(key)).isEqualTo(expected.remove(key));
+            }
+        }
+
+        // then
+        Map<Long, Long> actual = new HashMap<>();
+        map.forEach(actual::put);
+        assertThat(actual).isEqualTo(expected);
+        assertThat(map.size()).isEqualTo(expected.size());
+        assertThat(map.keys()).hasSize(expected.size());
+        expected.forEach((key, value) -> assertThat(map.get(key)).isEqualTo(value));
+    }
+}
@@ -1,5 +1,7 @@
 package com.jwyoo.api.service;
 
+import com.jwyoo.api.cache.ProjectCacheRegions;
+import com.jwyoo.api.dto.CharacterListItem;
 import com.jwyoo.api.entity.Character;
 import com.jwyoo.api.entity.Project;
 import com.jwyoo.api.entity.User;
@@ -39,6 +41,9 @@ class CharacterServiceTest {
     @Mock
     private ProjectService projectService;
 
+    @Mock
+    private ProjectCacheRegions projectCacheRegions;
+
     @InjectMocks
     private CharacterService characterService;
 
@@ -80,27 +85,23 @@ class CharacterServiceTest {
     @DisplayName("모든 캐릭터 조회 성공")
     void getAllCharacters_Success() {
         // given
-        Character character2 = Character.builder()
-                .id(2L)
-                .characterId("char002")
-                .name("Character 2")
-                .project(testProject)
-                .build();
-        List<Character> characters = Arrays.asList(testCharacter, character2);
-        when(projectService.getCurrentProject()).thenReturn(testProject);
-        when(characterRepository.findByProject(testProject)).thenReturn(characters);
+        List<CharacterListItem> characters = Arrays.asList(
+                new CharacterListItem(1L, "char001", "Test Character", null, null, null, null, null),
+                new CharacterListItem(2L, "char002", "Character 2", null, null, null, null, null));
+        when(projectService.getCurrentProjectId()).thenReturn(1L);
+        when(characterRepository.findListItemsByProjectId(1L)).thenReturn(characters);
 
         // when
-        List<Character> result = characterService.getAllCharacters();
+        List<CharacterListItem> result = characterService.getAllCharacters();
 
         // then
         assertThat(result).isNotNull();
         assertThat(result).hasSize(2);
-        assertThat(result.get(0).getName()).isEqualTo("Test Character");
-        assertThat(result.get(1).getName()).isEqualTo("Character 2");
+        assertThat(result.get(0).name()).isEqualTo("Test Character");
+        assertThat(result.get(1).name()).isEqualTo("Character 2");
 
-        verify(projectService).getCurrentProject();
-        verify(characterRepository).findByProject(testProject);
+        verify(projectService).getCurrentProjectId();
+        verify(characterRepository).findListItemsByProjectId(1L);
     }
 
     @Test
@@ -226,6 +227,7 @@ class CharacterServiceTest {
         verify(projectService).getCurrentProject();
         verify(characterRepository).existsByCharacterIdAndProject("char001", testProject);
         verify(characterRepository, never()).save(any(Character.class));
+        verify(projectCacheRegions, never()).evict(any(), any());
     }
 
     @Test
@@ -257,6 +259,7 @@ class CharacterServiceTest {
         verify(projectService).getCurrentProject();
         verify(characterRepository).findByIdAndProject(characterId, testProject);
         verify(characterRepository).save(testCharacter);
+        verify(projectCacheRegions).evict("characters", 1L);
     }
 
     @Test
@@ -276,6 +279,7 @@ class CharacterServiceTest {
         verify(projectService).getCurrentProject();
         verify(characterRepository).findByIdAndProject(characterId, testProject);
         verify(characterRepository).delete(testCharacter);
+        verify(projectCacheRegions).evict("characters", 1L);
     }
 
     @Test
@@ -0,0 +1,167 @@
+package com.jwyoo.api.service;
+
+import com.jwyoo.api.dto.ConceptResponse;
+import com.jwyoo.api.entity.Concept;
+import com.jwyoo.api.entity.Project;
+import com.jwyoo.api.entity.RagVector;
+import com.jwyoo.api.graph.dto.ConceptNeighborView;
+import com.jwyoo.api.graph.repository.GraphReadRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * ConceptSearchService 단위 테스트
+ * 그래프/벡터 검색 동시 실행, 일괄 조회 및 순위 병합 테스트
+ */
+class ConceptSearchServiceTest {
+
+    private ConceptService conceptService;
+    private RagVectorService ragVectorService;
+    private GraphReadRepository graphReadRepository;
+    private ConceptSearchService conceptSearchService;
+
+    @BeforeEach
+    void setUp() {
+        conceptService = mock(ConceptService.class);
+        ragVectorService = mock(RagVectorService.class);
+        graphReadRepository = mock(GraphReadRepository.class);
+        conceptSearchService = new ConceptSearchService(
+            conceptService, ragVectorService, graphReadRepository, 60, 1.0, 1.0, 2);
+    }
+
+    @AfterEach
+    void tearDown() {
+        conceptSearchService.shutdown();
+    }
+
+    @Test
+    @DisplayName("두 목록에 모두 있는 개념이 한쪽에만 있는 개념보다 앞")
+    void fuse_RanksOverlapFirst() {
+        // when
+        List<ConceptSearchService.FusedRank> fused = conceptSearchService.fuse(List.of(1L, 2L, 3L), List.of(4L, 3L));
+
+        // then
+        assertThat(fused).extracting(ConceptSearchService.FusedRank::conceptId).containsExactly(3L, 1L, 4L, 2L);
+        assertThat(fused.get(0).graphRank()).isEqualTo(3);
+        assertThat(fused.get(0).vectorRank()).isEqualTo(2);
+        assertThat(fused.get(0).score()).isCloseTo(1.0 / 63 + 1.0 / 62, within(1e-12));
+    }
+
+    @Test
+    @DisplayName("가중치가 0인 검색은 순위에 영향을 주지 않음")
+    void fuse_RespectsWeights() {
+        // given
+        ConceptSearchService vectorOnly = new ConceptSearchService(
+            conceptService, ragVectorService, graphReadRepository, 60, 0.0, 1.0, 2);
+
+        // when
+        List<ConceptSearchService.FusedRank> fused = vectorOnly.fuse(List.of(1L, 2L), List.of(2L, 1L));
+        vectorOnly.shutdown();
+
+        // then
+        assertThat(fused).extracting(ConceptSearchService.FusedRank::conceptId).containsExactly(2L, 1L);
+    }
+
+    @Test
+    @DisplayName("그래프/벡터 검색을 동시에 실행하고 결과 개념은 한 번에 조회")
+    void hybridSearch_RunsBranchesConcurrentlyAndHydratesOnce() {
+        // given: 두 검색이 서로를 기다리므로 순차 실행이면 시간 초과
+        CountDownLatch bothStarted = new CountDownLatch(2);
+        when(conceptService.getConceptById(1L)).thenReturn(concept(1L, 10L));
+        when(graphReadRepository.findSimilarConcepts(1L, 0.5, 2)).thenAnswer(invocation -> {
+            awaitOther(bothStarted);
+            return List.of(new ConceptNeighborView(2L, 0.9), new ConceptNeighborView(3L, 0.8));
+        });
+        when(ragVectorService.searchSimilarByType(anyString(), eq("concept"), eq(3))).thenAnswer(invocation -> {
+            awaitOther(bothStarted);
+            return List.of(vector(1L), vector(3L), vector(4L));
+        });
+        when(conceptService.getConceptsByIds(List.of(2L, 3L, 4L)))
+            .thenReturn(List.of(concept(2L, 10L), concept(3L, 10L), concept(4L, 10L)));
+
+        // when
+        ConceptSearchService.HybridResult result = conceptSearchService.hybridSearch(1L, 0.5, 2);
+
+        // then
+        assertThat(result.results()).extracting(scored -> scored.concept().getId()).containsExactly(3L, 2L);
+        assertThat(result.results().get(0).graphSimilarity()).isEqualTo(0.8);
+        assertThat(result.graphRelated()).extracting(ConceptResponse::getId).containsExactly(2L, 3L);
+        assertThat(result.vectorSimilar()).extracting(item -> item.get("conceptId")).containsExactly(3L, 4L);
+        verify(conceptService, times(1)).getConceptsByIds(anyList());
+        verify(conceptService, times(1)).getConceptById(anyLong());
+    }
+
+    @Test
+    @DisplayName("벡터 검색 결과 중 다른 프로젝트 개념은 제외")
+    void hybridSearch_ExcludesOtherProjects() {
+        // given
+        when(conceptService.getConceptById(1L)).thenReturn(concept(1L, 10L));
+        when(graphReadRepository.findSimilarConcepts(1L, 0.5, 5)).thenReturn(List.of());
+        when(ragVectorService.searchSimilarByType(anyString(), eq("concept"), eq(6)))
+            .thenReturn(List.of(vector(5L), vector(6L)));
+        when(conceptService.getConceptsByIds(List.of(5L, 6L)))
+            .thenReturn(List.of(concept(5L, 99L), concept(6L, 10L)));
+
+        // when
+        ConceptSearchService.HybridResult result = conceptSearchService.hybridSearch(1L, 0.5, 5);
+
+        // then
+        assertThat(result.results()).extracting(scored -> scored.concept().getId()).containsExactly(6L);
+        assertThat(result.vectorSimilar()).extracting(item -> item.get("conceptId")).containsExactly(6L);
+    }
+
+    @Test
+    @DisplayName("중요도 상위 개념을 그래프 순서대로 일괄 조회")
+    void findTop_HydratesInGraphOrder() {
+        // given
+        when(graphReadRepository.findTopConceptIds(10L, 3)).thenReturn(List.of(7L, 5L));
+        when(conceptService.getConceptsByIds(List.of(7L, 5L)))
+            .thenReturn(List.of(concept(7L, 10L), concept(5L, 10L)));
+
+        // when
+        List<ConceptResponse> top = conceptSearchService.findTop(10L, 3);
+
+        // then
+        assertThat(top).extracting(ConceptResponse::getId).containsExactly(7L, 5L);
+        verify(conceptService, never()).getConceptById(anyLong());
+    }
+
+    private static void awaitOther(CountDownLatch latch) throws InterruptedException {
+        latch.countDown();
+        if (!latch.await(5, TimeUnit.SECONDS)) {
+            throw new IllegalStateException("branches did not run concurrently");
+        }
+    }
+
+    private static Concept concept(Long id, Long projectId) {
+        Project project = new Project();
+        project.setId(projectId);
+        return Concept.builder()
+            .id(id)
+            .name("concept-" + id)
+            .type("theme")
+            .description("description-" + id)
+            .project(project)
+            .build();
+    }
+
+    private static RagVector vector(Long conceptId) {
+        return RagVector.builder()
+            .id(conceptId + 100)
+            .sourceType("concept")
+            .sourceId(conceptId)
+            .textChunk("chunk-" + conceptId)
+            .build();
+    }
+}
@@ -0,0 +1,114 @@
+package com.jwyoo.api.service;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestReporter;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * EmbeddingResponseParser 할당량 벤치마크 (기본 test에서 제외, ./gradlew benchmark)
+ * 스트리밍 파싱과 기존 List&lt;Double&gt; 경로의 호출당 할당 바이트 비교
+ */
+@Tag("benchmark")
+class EmbeddingResponseParserBenchmarkTest {
+
+    private static final int ITERATIONS = 200;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final EmbeddingResponseParser parser = new EmbeddingResponseParser(objectMapper.getFactory());
+
+    @Test
+    @DisplayName("스트리밍 파싱이 List<Double> 경로보다 적게 할당")
+    void allocation_StreamingVsBoxed(TestReporter reporter) throws IOException {
+        com.sun.management.ThreadMXBean threadMXBean =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        assumeTrue(threadMXBean.isThreadAllocatedMemorySupported());
+        threadMXBean.setThreadAllocatedMemoryEnabled(true);
+
+        byte[] response = buildResponse(EmbeddingResponseParser.DEFAULT_DIMENSIONS);
+        float[] sink = new float[EmbeddingResponseParser.DEFAULT_DIMENSIONS];
+
+        // 워밍업 (클래스 로딩, JIT)
+        for (int i = 0; i < ITERATIONS; i++) {
+            parseBoxed(response);
+            parseStreaming(response, sink);
+        }
+
+        long threadId = Thread.currentThread().threadId();
+
+        long before = threadMXBean.getThreadAllocatedBytes(threadId);
+        for (int i = 0; i < ITERATIONS; i++) {
+            parseBoxed(response);
+        }
+        long boxedBytes = (threadMXBean.getThreadAllocatedBytes(threadId) - before) / ITERATIONS;
+
+        before = threadMXBean.getThreadAllocatedBytes(threadId);
+        for (int i = 0; i < ITERATIONS; i++) {
+            parseStreaming(response, sink);
+        }
+        long streamingBytes = (threadMXBean.getThreadAllocatedBytes(threadId) - before) / ITERATIONS;
+
+        reporter.publishEntry(Map.of(
+            "boxedBytesPerCall", String.valueOf(boxedBytes),
+            "streamingBytesPerCall", String.valueOf(streamingBytes)));
+
+        assertThat(streamingBytes)
+            .as("boxed=%d bytes, streaming=%d bytes", boxedBytes, streamingBytes)
+            .isLessThan(boxedBytes / 10);
+    }
+
+    private void parseStreaming(byte[] response, float[] sink) throws IOException {
+        parser.parse(new ByteArrayInputStream(response), (index, vector, dimensions) ->
+            System.arraycopy(vector, 0, sink, 0, dimensions));
+    }
+
+    /**
+     * 기존 OpenAI SDK 경로 재현: DTO(List&lt;Double&gt;) 역직렬화 후 float[]로 복사
+     */
+    private float[] parseBoxed(byte[] response) throws IOException {
+        BoxedResponse parsed = objectMapper.readValue(response, BoxedResponse.class);
+        List<Double> embedding = parsed.data.get(0).embedding;
+        float[] result = new float[embedding.size()];
+        for (int i = 0; i < embedding.size(); i++) {
+            result[i] = embedding.get(i).floatValue();
+        }
+        return result;
+    }
+
+    private byte[] buildResponse(int dimensions) {
+        Random random = new Random(7);
+        StringBuilder json = new StringBuilder("{\"object\":\"list\",\"data\":[{\"object\":\"embedding\",\"index\":0,\"embedding\":[");
+        for (int i = 0; i < dimensions; i++) {
+            if (i > 0) {
+                json.append(',');
+            }
+            json.append(random.nextGaussian() * 0.02);
+        }
+        json.append("]}],\"model\":\"text-embedding-ada-002\",\"usage\":{\"prompt_tokens\":5,\"total_tokens\":5}}");
+        return json.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    static class BoxedResponse {
+        public List<BoxedItem> data;
+    }
+
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    static class BoxedItem {
+        public int index;
+        public List<Double> embedding;
+    }
+}
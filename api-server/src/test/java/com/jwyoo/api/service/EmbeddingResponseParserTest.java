@@ -0,0 +1,89 @@
+package com.jwyoo.api.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * EmbeddingResponseParser 단위 테스트
+ * 스트리밍 파싱 정확도 (할당량 비교는 EmbeddingResponseParserBenchmarkTest)
+ */
+class EmbeddingResponseParserTest {
+
+    private ObjectMapper objectMapper;
+    private EmbeddingResponseParser parser;
+
+    @BeforeEach
+    void setUp() {
+        objectMapper = new ObjectMapper();
+        parser = new EmbeddingResponseParser(objectMapper.getFactory());
+    }
+
+    @Test
+    @DisplayName("여러 임베딩을 index 순서대로 파싱")
+    void parse_MultipleEmbeddings() throws IOException {
+        // given
+        String json = """
+            {"object":"list","data":[
+              {"object":"embedding","index":0,"embedding":[0.25,-1.5e-3,3]},
+              {"object":"embedding","index":1,"embedding":[-0.0069292834,1E2]}
+            ],"model":"text-embedding-ada-002","usage":{"prompt_tokens":8,"total_tokens":8}}
+            """;
+        List<float[]> vectors = new ArrayList<>();
+        List<Integer> indexes = new ArrayList<>();
+
+        // when
+        int count = parser.parse(stream(json), (index, vector, dimensions) -> {
+            indexes.add(index);
+            vectors.add(java.util.Arrays.copyOf(vector, dimensions));
+        });
+
+        // then
+        assertThat(count).isEqualTo(2);
+        assertThat(indexes).containsExactly(0, 1);
+        assertThat(vectors.get(0)).containsExactly(0.25f, -0.0015f, 3.0f);
+        assertThat(vectors.get(1)).containsExactly(-0.0069292834f, 100.0f);
+    }
+
+    @Test
+    @DisplayName("에러 응답은 IOException으로 변환")
+    void parse_ErrorResponse() {
+        // given
+        String json = """
+            {"error":{"message":"Incorrect API key provided","type":"invalid_request_error"}}
+            """;
+
+        // when & then
+        assertThatThrownBy(() -> parser.parse(stream(json), (index, vector, dimensions) -> { }))
+            .isInstanceOf(IOException.class)
+            .hasMessageContaining("Incorrect API key provided");
+    }
+
+    @Test
+    @DisplayName("float 변환 결과가 Float.parseFloat와 일치")
+    void parseFloat_MatchesJdk() {
+        Random random = new Random(42);
+        for (int i = 0; i < 10_000; i++) {
+            String text = Float.toString((float) (random.nextGaussian() * 0.05));
+            char[] chars = text.toCharArray();
+
+            float parsed = EmbeddingResponseParser.parseFloat(chars, 0, chars.length);
+
+            assertThat(parsed).isEqualTo(Float.parseFloat(text));
+        }
+    }
+
+    private ByteArrayInputStream stream(String json) {
+        return new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8));
+    }
+}
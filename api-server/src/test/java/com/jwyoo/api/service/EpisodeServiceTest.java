@@ -1,5 +1,7 @@
 package com.jwyoo.api.service;
 
+import com.jwyoo.api.cache.ProjectCacheRegions;
+import com.jwyoo.api.dto.EpisodeListItem;
 import com.jwyoo.api.entity.Episode;
 import com.jwyoo.api.entity.Project;
 import com.jwyoo.api.entity.User;
@@ -34,6 +36,9 @@ class EpisodeServiceTest {
     @Mock
     private ProjectService projectService;
 
+    @Mock
+    private ProjectCacheRegions projectCacheRegions;
+
     @InjectMocks
     private EpisodeService episodeService;
 
@@ -71,30 +76,23 @@ class EpisodeServiceTest {
     @DisplayName("모든 에피소드 조회 성공")
     void getAllEpisodes_Success() {
         // given
-        Episode episode2 = Episode.builder()
-                .id(2L)
-                .title("Episode 2")
-                .description("Second episode")
-                .episodeOrder(2)
-                .project(testProject)
-                .build();
-        List<Episode> episodes = Arrays.asList(testEpisode, episode2);
-        when(projectService.getCurrentProject()).thenReturn(testProject);
-        when(episodeRepository.findByProjectOrderByEpisodeOrderAsc(testProject)).thenReturn(episodes);
+        List<EpisodeListItem> episodes = Arrays.asList(
+                new EpisodeListItem(2L, "Episode 2", "Second episode", 2, null, null, null, null, null, null),
+                new EpisodeListItem(1L, "Episode 1", "First episode", 1, null, null, null, null, null, null));
+        when(projectService.getCurrentProjectId()).thenReturn(1L);
+        when(episodeRepository.findListItemsByProjectId(1L)).thenReturn(episodes);
 
         // when
-        List<Episode> result = episodeService.getAllEpisodes();
+        List<EpisodeListItem> result = episodeService.getAllEpisodes();
 
         // then
         assertThat(result).isNotNull();
         assertThat(result).hasSize(2);
-        assertThat(result.get(0).getTitle()).isEqualTo("Episode 1");
-        assertThat(result.get(1).getTitle()).isEqualTo("Episode 2");
-        assertThat(result.get(0).getEpisodeOrder()).isEqualTo(1);
-        assertThat(result.get(1).getEpisodeOrder()).isEqualTo(2);
+        assertThat(result.get(0).title()).isEqualTo("Episode 2");
+        assertThat(result.get(1).title()).isEqualTo("Episode 1");
 
-        verify(projectService).getCurrentProject();
-        verify(episodeRepository).findByProjectOrderByEpisodeOrderAsc(testProject);
+        verify(projectService).getCurrentProjectId();
+        verify(episodeRepository).findListItemsByProjectId(1L);
     }
 
     @Test
@@ -166,6 +164,7 @@ class EpisodeServiceTest {
 
         verify(projectService).getCurrentProject();
         verify(episodeRepository).save(any(Episode.class));
+        verify(projectCacheRegions).evict("episodes", 1L);
     }
 
     @Test
@@ -214,6 +213,7 @@ class EpisodeServiceTest {
         verify(projectService).getCurrentProject();
         verify(episodeRepository).findByIdAndProject(episodeId, testProject);
         verify(episodeRepository).delete(testEpisode);
+        verify(projectCacheRegions).evict("episodes", 1L);
     }
 
     @Test
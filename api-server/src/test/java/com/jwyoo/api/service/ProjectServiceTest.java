@@ -14,9 +14,12 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockedStatic;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockHttpServletRequest;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContext;
 import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
 
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -129,6 +132,28 @@ class ProjectServiceTest {
         verify(projectRepository).save(any(Project.class));
     }
 
+    @Test
+    @DisplayName("현재 프로젝트 ID는 요청당 한 번만 조회")
+    void getCurrentProjectId_ResolvedOncePerRequest() {
+        // given
+        when(projectRepository.findByOwnerOrderByCreatedAtDesc(testUser)).thenReturn(List.of(testProject));
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+
+        try {
+            // when
+            Long first = projectService.getCurrentProjectId();
+            Long second = projectService.getCurrentProjectId();
+
+            // then
+            assertThat(first).isEqualTo(1L);
+            assertThat(second).isEqualTo(1L);
+            verify(userRepository, times(1)).findByUsername("testuser");
+            verify(projectRepository, times(1)).findByOwnerOrderByCreatedAtDesc(testUser);
+        } finally {
+            RequestContextHolder.resetRequestAttributes();
+        }
+    }
+
     @Test
     @DisplayName("프로젝트 생성 성공")
     void createProject_Success() {
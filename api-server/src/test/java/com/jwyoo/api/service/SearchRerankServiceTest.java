@@ -0,0 +1,106 @@
+package com.jwyoo.api.service;
+
+import com.jwyoo.api.entity.RagVector;
+import com.pgvector.PGvector;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * SearchRerankService 단위 테스트
+ * 코사인 유사도 계산 및 MMR 다양화 테스트
+ */
+class SearchRerankServiceTest {
+
+    private SearchRerankService searchRerankService;
+
+    @BeforeEach
+    void setUp() {
+        searchRerankService = new SearchRerankService(0.7, 4, 200);
+    }
+
+    @Test
+    @DisplayName("VectorMath 내적이 스칼라 계산과 일치")
+    void vectorMath_DotMatchesScalar() {
+        Random random = new Random(1);
+        float[] a = new float[1539];
+        float[] b = new float[1539];
+        for (int i = 0; i < a.length; i++) {
+            a[i] = (float) random.nextGaussian();
+            b[i] = (float) random.nextGaussian();
+        }
+
+        float expected = VectorMath.scalarDot(a, b, a.length);
+
+        assertThat(VectorMath.dot(a, b)).isCloseTo(expected, within(1e-2f));
+        assertThat(VectorMath.cosine(a, a)).isCloseTo(1.0f, within(1e-5f));
+    }
+
+    @Test
+    @DisplayName("λ=1.0이면 쿼리 유사도 순서 그대로 반환")
+    void rerank_PureRelevance() {
+        // given
+        float[] query = {1f, 0f, 0f};
+        List<RagVector> candidates = List.of(
+            vector(1L, 0.6f, 0.8f, 0f),
+            vector(2L, 1f, 0f, 0f),
+            vector(3L, 0.9f, 0.1f, 0f)
+        );
+
+        // when
+        List<SearchRerankService.ScoredVector> results = searchRerankService.rerank(query, candidates, 3, 1.0);
+
+        // then
+        assertThat(results).extracting(r -> r.vector().getId()).containsExactly(2L, 3L, 1L);
+        assertThat(results.get(0).similarity()).isCloseTo(1.0f, within(1e-5f));
+    }
+
+    @Test
+    @DisplayName("근접 중복 결과는 MMR로 뒤로 밀림")
+    void rerank_DemotesNearDuplicates() {
+        // given: 1, 2는 거의 동일한 대사, 3은 조금 덜 유사하지만 다른 방향
+        float[] query = {1f, 0.2f, 0.2f};
+        List<RagVector> candidates = List.of(
+            vector(1L, 1f, 0.1f, 0f),
+            vector(2L, 1f, 0.11f, 0f),
+            vector(3L, 0.8f, 0f, 0.6f)
+        );
+
+        // when
+        List<SearchRerankService.ScoredVector> results = searchRerankService.rerank(query, candidates, 2, 0.5);
+
+        // then
+        assertThat(results).extracting(r -> r.vector().getId()).containsExactly(2L, 3L);
+    }
+
+    @Test
+    @DisplayName("후보 개수는 limit 배수와 최대값 사이로 제한")
+    void candidateCount_Bounded() {
+        assertThat(searchRerankService.candidateCount(10)).isEqualTo(40);
+        assertThat(searchRerankService.candidateCount(100)).isEqualTo(200);
+        assertThat(searchRerankService.candidateCount(300)).isEqualTo(300);
+    }
+
+    @Test
+    @DisplayName("범위를 벗어난 λ는 예외")
+    void resolveLambda_OutOfRange() {
+        assertThat(searchRerankService.resolveLambda(null)).isEqualTo(0.7);
+        assertThatThrownBy(() -> searchRerankService.resolveLambda(1.5))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private RagVector vector(Long id, float... values) {
+        return RagVector.builder()
+            .id(id)
+            .sourceType("dialogue")
+            .sourceId(id)
+            .textChunk("text " + id)
+            .embedding(new PGvector(values))
+            .build();
+    }
+}
@@ -5,7 +5,6 @@
 import api from '@/lib/api';
 
 export interface CharacterNode {
-  id: number;
   rdbId: number;
   projectId: number;
   characterId: string;
@@ -13,20 +12,30 @@ export interface CharacterNode {
   description?: string;
   personality?: string;
   speakingStyle?: string;
+  relationshipCount?: number;
+  neighborCount?: number;
 }
 
 export interface CharacterRelationship {
-  id: number;
   episodeId: number;
+  fromCharacterId: string;
+  fromName: string;
+  toCharacterId: string;
+  toName: string;
   relationType: string;
   closeness: number;
   description?: string;
-  targetCharacter: CharacterNode;
+}
+
+export interface GraphPath {
+  characters: CharacterNode[];
+  relationships: CharacterRelationship[];
+  distance: number;
 }
 
 export interface PathResult {
   found: boolean;
-  path?: any;
+  path?: GraphPath;
   message?: string;
 }
 
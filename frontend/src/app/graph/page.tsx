@@ -1,6 +1,7 @@
 /**
  * 인물 관계도 페이지 (개선 버전)
- * - React Flow + dagre 레이아웃
+ * - React Flow + 서버 배치 좌표(NDJSON 스트림으로 받는 대로 표시)
+ * - dagre 레이아웃 (좌표 없는 노드 대체, 수평/수직 전환)
  * - 커스텀 노드 (PersonNode)
  * - 범례 (Legend)
  * - 레이아웃 전환 (수평/수직)
@@ -30,7 +31,8 @@ import LoadingSpinner from '@/components/LoadingSpinner'
 import Button from '@/components/ui/Button'
 import PersonNode from '@/components/features/graph/PersonNode'
 import Legend from '@/components/features/graph/Legend'
-import { applyDagreLayout, LayoutDirection } from '@/components/features/graph/utils/layout'
+import { applyDagreLayout, LayoutDirection, toServerLayoutPosition } from '@/components/features/graph/utils/layout'
+import { streamGraph } from '@/components/features/graph/utils/stream'
 import { Person, Relation, RelationType, RELATION_COLORS } from '@/components/features/graph/types'
 import apiClient from '@/lib/api'
 import { demoCharacters, demoRelationships, isDemoMode } from '@/data/demoData'
@@ -42,14 +44,16 @@ const nodeTypes = {
 }
 
 type GraphNode = {
-  id: string
+  id: string | number
   label: string
+  x?: number // 서버 배치 좌표 (그래프 저장소에 없는 캐릭터는 생략)
+  y?: number
 }
 
 type GraphEdge = {
-  id: string
-  source: string
-  target: string
+  id: string | number
+  source: string | number
+  target: string | number
   label?: string
   closeness?: number
 }
@@ -60,12 +64,74 @@ interface Episode {
   order: number
 }
 
+// 서버 배치 좌표가 있는 노드는 그대로, 없는 노드는 dagre가 재계산
+function toPersonNode(n: GraphNode): Node<Person> {
+  const id = String(n.id)
+  return {
+    id,
+    type: 'person',
+    data: {
+      id,
+      name: n.label,
+      label: n.label,
+    },
+    position: hasServerPosition(n) ? toServerLayoutPosition(n.x!, n.y!) : { x: 0, y: 0 },
+  }
+}
+
+function hasServerPosition(n: GraphNode): boolean {
+  return typeof n.x === 'number' && typeof n.y === 'number'
+}
+
+function toFlowEdge(e: GraphEdge): Edge {
+  const closeness = e.closeness ?? 5
+  const relationType: RelationType = 'friend' // 기본값, API에서 타입 정보가 있으면 사용
+  const color = RELATION_COLORS[relationType] || '#6b7280'
+  const strokeWidth = Math.max(1.5, Math.min(closeness / 2, 5))
+
+  return {
+    id: String(e.id),
+    source: String(e.source),
+    target: String(e.target),
+    label: e.label,
+    type: 'default',
+    markerEnd: {
+      type: MarkerType.ArrowClosed,
+      color,
+      width: 20,
+      height: 20
+    },
+    style: {
+      stroke: color,
+      strokeWidth,
+    },
+    labelStyle: {
+      fontSize: 11,
+      fontWeight: 600,
+      fill: color
+    },
+    labelBgPadding: [6, 4] as [number, number],
+    labelBgBorderRadius: 6,
+    labelBgStyle: {
+      fill: '#ffffff',
+      fillOpacity: 0.9,
+      stroke: color,
+      strokeWidth: 1,
+      strokeOpacity: 0.4
+    },
+    data: { ...e, type: relationType },
+    animated: closeness >= 8, // 친밀도 높으면 애니메이션
+  }
+}
+
 function GraphPageContent() {
   const [nodes, setNodes, onNodesChange] = useNodesState<Person>([])
   const [edges, setEdges, onEdgesChange] = useEdgesState([])
   const [loading, setLoading] = useState(false)
   const [error, setError] = useState<string | null>(null)
   const [layoutDirection, setLayoutDirection] = useState<LayoutDirection>('TB')
+  const layoutDirectionRef = useRef<LayoutDirection>('TB')
+  const streamAbortRef = useRef<AbortController | null>(null)
   const [selectedNode, setSelectedNode] = useState<Node<Person> | null>(null)
   const [selectedEdge, setSelectedEdge] = useState<Edge | null>(null)
   const [isDemo, setIsDemo] = useState(false)
@@ -100,6 +166,11 @@ function GraphPageContent() {
   }
 
   const fetchGraph = useCallback(async () => {
+    // 이전 에피소드 스트림이 남아 있으면 중단
+    streamAbortRef.current?.abort()
+    const controller = new AbortController()
+    streamAbortRef.current = controller
+
     setLoading(true)
     setError(null)
     try {
@@ -133,91 +204,71 @@ function GraphPageContent() {
         }
 
         const endpoint = `/episode-relationships/episode/${selectedEpisodeId}/graph`
-        const res = await apiClient.get(endpoint)
-        const data = res.data
-
-        rawNodes = Array.isArray(data?.nodes) ? data.nodes : []
-        rawEdges = Array.isArray(data?.edges) ? data.edges : []
+        setNodes([])
+        setEdges([])
+
+        try {
+          // 서버 배치 좌표가 붙은 노드부터 받는 대로 그림
+          await streamGraph<GraphNode, GraphEdge>(`${endpoint}/stream`, {
+            onNodes: (batch) => {
+              rawNodes.push(...batch)
+              const positioned = batch.filter(hasServerPosition).map(toPersonNode)
+              if (positioned.length > 0) {
+                setNodes((prev) => [...prev, ...positioned])
+              }
+            },
+            onEdges: (batch) => {
+              rawEdges.push(...batch)
+              setEdges((prev) => [...prev, ...batch.map(toFlowEdge)])
+            },
+          }, controller.signal)
+        } catch (streamError: any) {
+          if (controller.signal.aborted) {
+            return
+          }
+          // 스트림 실패(토큰 만료 등) 시 JSON 응답으로 대체 (apiClient가 토큰 갱신 처리)
+          console.warn('Graph stream failed, falling back to JSON:', streamError)
+          const res = await apiClient.get(endpoint)
+          const data = res.data
+          rawNodes = Array.isArray(data?.nodes) ? data.nodes : []
+          rawEdges = Array.isArray(data?.edges) ? data.edges : []
+        }
+        if (controller.signal.aborted) {
+          return
+        }
       }
 
-      // Person 타입으로 변환
-      const personNodes: Node<Person>[] = rawNodes.map((n) => ({
-        id: n.id,
-        type: 'person',
-        data: {
-          id: n.id,
-          name: n.label,
-          label: n.label,
-        },
-        position: { x: 0, y: 0 }, // dagre가 재계산
-      }))
-
-      // 엣지 생성
-      const flowEdges: Edge[] = rawEdges.map((e) => {
-        const closeness = e.closeness ?? 5
-        const relationType: RelationType = 'friend' // 기본값, API에서 타입 정보가 있으면 사용
-        const color = RELATION_COLORS[relationType] || '#6b7280'
-        const strokeWidth = Math.max(1.5, Math.min(closeness / 2, 5))
-
-        return {
-          id: e.id,
-          source: e.source,
-          target: e.target,
-          label: e.label,
-          type: 'default',
-          markerEnd: {
-            type: MarkerType.ArrowClosed,
-            color,
-            width: 20,
-            height: 20
-          },
-          style: {
-            stroke: color,
-            strokeWidth,
-          },
-          labelStyle: {
-            fontSize: 11,
-            fontWeight: 600,
-            fill: color
-          },
-          labelBgPadding: [6, 4] as [number, number],
-          labelBgBorderRadius: 6,
-          labelBgStyle: {
-            fill: '#ffffff',
-            fillOpacity: 0.9,
-            stroke: color,
-            strokeWidth: 1,
-            strokeOpacity: 0.4
-          },
-          data: { ...e, type: relationType },
-          animated: closeness >= 8, // 친밀도 높으면 애니메이션
-        }
-      })
-
-      // dagre 레이아웃 적용
-      const layouted = applyDagreLayout(personNodes, flowEdges, {
-        direction: layoutDirection,
-        nodeWidth: 180,
-        nodeHeight: 100,
-        rankSep: 120,
-        nodeSep: 100,
-      })
-
-      setNodes(layouted)
+      const personNodes = rawNodes.map(toPersonNode)
+      const flowEdges = rawEdges.map(toFlowEdge)
+
+      // 서버 배치 좌표가 없는 노드가 있으면(데모, 그래프 저장소 미동기화 캐릭터) dagre로 대체
+      const nodesToShow = rawNodes.every(hasServerPosition)
+        ? personNodes
+        : applyDagreLayout(personNodes, flowEdges, {
+            direction: layoutDirectionRef.current,
+            nodeWidth: 180,
+            nodeHeight: 100,
+            rankSep: 120,
+            nodeSep: 100,
+          })
+
+      setNodes(nodesToShow)
       setEdges(flowEdges)
 
     } catch (e: any) {
       setError(`그래프 로드 실패: ${e?.message || e}`)
     } finally {
-      setLoading(false)
+      if (streamAbortRef.current === controller) {
+        setLoading(false)
+      }
     }
-  }, [layoutDirection, setNodes, setEdges, isDemo, selectedEpisodeId])
+  }, [setNodes, setEdges, isDemo, selectedEpisodeId])
 
   useEffect(() => {
     if (!isDemo) {
       fetchGraph()
     }
-  }, [layoutDirection, fetchGraph, isDemo])
+  }, [fetchGraph, isDemo])
 
   // nodes 변경 시 fitView
   useEffect(() => {
@@ -258,6 +309,7 @@ function GraphPageContent() {
   const toggleLayout = useCallback(() => {
     const newDirection = layoutDirection === 'TB' ? 'LR' : 'TB'
     setLayoutDirection(newDirection)
+    layoutDirectionRef.current = newDirection
 
     // 현재 노드에 새 레이아웃 적용
     const layouted = applyDagreLayout(nodes, edges, {
@@ -358,7 +410,8 @@ function GraphPageContent() {
           <ErrorMessage message={error} onRetry={fetchGraph} onDismiss={() => setError(null)} />
         )}
 
-        {loading ? (
+        {/* 스트림으로 노드가 들어오기 시작하면 바로 그래프 표시 */}
+        {loading && nodes.length === 0 ? (
           <div className="py-20 flex justify-center">
             <LoadingSpinner size="lg" message="관계도를 불러오는 중..." />
           </div>
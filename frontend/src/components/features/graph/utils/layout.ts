@@ -128,3 +128,21 @@ export function applyFamilyGroupLayout<T extends { family?: string } = any>(
 
   return positioned
 }
+
+/**
+ * 서버 배치 좌표(이상적인 엣지 길이 100, 원점 중심)를 화면 좌표로 변환
+ * 노드 카드(180x100)가 겹치지 않도록 확대하고 카드 중심이 좌표에 오도록 보정
+ */
+export const SERVER_LAYOUT_SCALE = 2.5
+
+export function toServerLayoutPosition(
+  x: number,
+  y: number,
+  nodeWidth: number = 180,
+  nodeHeight: number = 100
+): { x: number; y: number } {
+  return {
+    x: x * SERVER_LAYOUT_SCALE - nodeWidth / 2,
+    y: y * SERVER_LAYOUT_SCALE - nodeHeight / 2,
+  }
+}
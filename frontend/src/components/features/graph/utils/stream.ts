@@ -0,0 +1,82 @@
+/**
+ * NDJSON 그래프 스트림 읽기
+ * 서버가 줄마다 {"type": "meta" | "node" | "edge", "data": {...}}를 보냄 (노드 먼저, 엣지 나중)
+ * 받은 청크 단위로 콜백을 호출하여 큰 그래프도 점진적으로 그릴 수 있게 함
+ */
+
+import { env } from '@/lib/env'
+
+export interface GraphStreamHandlers<N, E> {
+  onMeta?: (meta: Record<string, any>) => void
+  onNodes?: (nodes: N[]) => void
+  onEdges?: (edges: E[]) => void
+}
+
+export async function streamGraph<N, E>(
+  endpoint: string,
+  handlers: GraphStreamHandlers<N, E>,
+  signal?: AbortSignal
+): Promise<void> {
+  const token = typeof window !== 'undefined' ? localStorage.getItem('token') : null
+  const headers: HeadersInit = { Accept: 'application/x-ndjson' }
+  if (token) {
+    headers['Authorization'] = `Bearer ${token}`
+  }
+
+  const response = await fetch(new URL(endpoint, env.API_BASE_URL).toString(), {
+    headers,
+    credentials: 'include',
+    signal,
+  })
+  if (!response.ok) {
+    throw new Error(`HTTP error! status: ${response.status}`)
+  }
+
+  const reader = response.body?.getReader()
+  if (!reader) {
+    throw new Error('Response body is null')
+  }
+
+  const decoder = new TextDecoder()
+  let buffer = ''
+
+  const dispatch = (lines: string[]) => {
+    const nodes: N[] = []
+    const edges: E[] = []
+    for (const line of lines) {
+      if (!line.trim()) {
+        continue
+      }
+      const event = JSON.parse(line)
+      if (event.type === 'meta') {
+        handlers.onMeta?.(event.data)
+      } else if (event.type === 'node') {
+        nodes.push(event.data)
+      } else if (event.type === 'edge') {
+        edges.push(event.data)
+      }
+    }
+    if (nodes.length > 0) {
+      handlers.onNodes?.(nodes)
+    }
+    if (edges.length > 0) {
+      handlers.onEdges?.(edges)
+    }
+  }
+
+  while (true) {
+    const { done, value } = await reader.read()
+    if (done) {
+      break
+    }
+
+    // 마지막 불완전한 줄은 버퍼에 유지
+    buffer += decoder.decode(value, { stream: true })
+    const lines = buffer.split('\n')
+    buffer = lines.pop() || ''
+    dispatch(lines)
+  }
+
+  buffer += decoder.decode()
+  dispatch([buffer])
+}